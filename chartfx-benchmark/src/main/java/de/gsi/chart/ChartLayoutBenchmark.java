@@ -0,0 +1,78 @@
+package de.gsi.chart;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.gsi.chart.axes.spi.DefaultNumericAxis;
+import de.gsi.chart.benchmark.HeadlessFXUtils;
+import de.gsi.chart.renderer.spi.ErrorDataSetRenderer;
+import de.gsi.dataset.spi.DoubleDataSet;
+
+/**
+ * Benchmark of a complete {@link XYChart#layoutChildren()} pass, ie. axis range update, axis/tick-mark layout and
+ * canvas redraw with all renderers, executed on the (headless) JavaFX application thread. N.B. the benchmark waits for
+ * {@link XYChart#BURST_LIMIT_MS} between invocations since the chart otherwise defers the canvas redraw.
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ChartLayoutBenchmark {
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+    @Param({ "1000", "100000" })
+    private int nSamples;
+    @Param({ "1", "10" })
+    private int nDataSets;
+
+    private XYChart chart;
+
+    @Setup(Level.Trial)
+    public void initialize() {
+        final ErrorDataSetRenderer renderer = new ErrorDataSetRenderer();
+        for (int dataSetIndex = 0; dataSetIndex < nDataSets; dataSetIndex++) {
+            final double[] xValues = new double[nSamples];
+            final double[] yValues = new double[nSamples];
+            for (int i = 0; i < nSamples; i++) {
+                xValues[i] = i;
+                yValues[i] = dataSetIndex + Math.sin(2.0 * Math.PI * (dataSetIndex + 1) * i / nSamples);
+            }
+            renderer.getDatasets().add(new DoubleDataSet("dataSet#" + dataSetIndex, xValues, yValues, nSamples, false)); // NOPMD
+        }
+
+        chart = HeadlessFXUtils.createChart(WIDTH, HEIGHT, () -> {
+            final XYChart xyChart = new XYChart(new DefaultNumericAxis(), new DefaultNumericAxis());
+            xyChart.getRenderers().set(0, renderer);
+            return xyChart;
+        });
+    }
+
+    @Benchmark
+    public XYChart layoutChildren() {
+        return HeadlessFXUtils.runAndWait(() -> {
+            chart.layoutChildren();
+            return chart;
+        });
+    }
+
+    @Setup(Level.Invocation)
+    public void waitForBurstLimit() throws InterruptedException {
+        Thread.sleep(XYChart.BURST_LIMIT_MS + 1L);
+    }
+}
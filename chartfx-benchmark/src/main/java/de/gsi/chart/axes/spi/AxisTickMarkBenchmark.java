@@ -0,0 +1,93 @@
+package de.gsi.chart.axes.spi;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.gsi.chart.benchmark.HeadlessFXUtils;
+import de.gsi.chart.ui.geometry.Side;
+
+/**
+ * Benchmark of the axis range and tick-mark computation ({@link AbstractAxis#autoRange(double, double, double, double)},
+ * {@link AbstractAxis#computeTickMarks(AxisRange, boolean)} and {@link AbstractAxis#recomputeTickMarks(AxisRange)}) for
+ * the common numeric axis implementations. The axis range alternates between two pre-computed ranges in order to
+ * avoid the early-exit for unchanged tick values.
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+public class AxisTickMarkBenchmark {
+    private static final double AXIS_LENGTH = 1920;
+    private static final double[][] AXIS_LIMITS = { { 1.0, 1000.0 }, { 2.5, 1250.0 } };
+    @Param({ "DefaultNumericAxis", "LinearAxis", "LogarithmicAxis" })
+    private String axisType;
+
+    private AbstractAxis axis;
+    private final AxisRange[] ranges = new AxisRange[AXIS_LIMITS.length];
+    private double labelSize;
+    private int rangeIndex;
+
+    @Benchmark
+    public AxisRange autoRange() {
+        final double[] limits = AXIS_LIMITS[nextRangeIndex()];
+        return axis.autoRange(limits[0], limits[1], AXIS_LENGTH, labelSize);
+    }
+
+    @Benchmark
+    public int computeMajorTickMarks() {
+        return axis.computeTickMarks(ranges[nextRangeIndex()], true).size();
+    }
+
+    @Setup(Level.Trial)
+    public void initialize() {
+        HeadlessFXUtils.startToolkit();
+        switch (axisType) {
+        case "LinearAxis":
+            axis = new LinearAxis();
+            break;
+        case "LogarithmicAxis":
+            axis = new LogarithmicAxis();
+            break;
+        case "DefaultNumericAxis":
+        default:
+            axis = new DefaultNumericAxis();
+            break;
+        }
+        // N.B. axis is not part of a showing scene-graph and may thus be modified outside the FX thread
+        axis.setAnimated(false);
+        axis.setAutoRanging(false);
+        axis.setSide(Side.BOTTOM);
+        axis.resize(AXIS_LENGTH, 50);
+        labelSize = axis.getTickLabelFont().getSize() * 1.2;
+        for (int i = 0; i < AXIS_LIMITS.length; i++) {
+            ranges[i] = axis.autoRange(AXIS_LIMITS[i][0], AXIS_LIMITS[i][1], AXIS_LENGTH, labelSize);
+        }
+    }
+
+    @Benchmark
+    public int recomputeTickMarks() {
+        axis.recomputeTickMarks(ranges[nextRangeIndex()]);
+        return axis.getTickMarks().size() + axis.getMinorTickMarks().size();
+    }
+
+    private int nextRangeIndex() {
+        rangeIndex = (rangeIndex + 1) % AXIS_LIMITS.length;
+        return rangeIndex;
+    }
+}
@@ -0,0 +1,94 @@
+package de.gsi.chart.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+
+import de.gsi.chart.XYChart;
+import de.gsi.chart.utils.FXUtils;
+
+/**
+ * Small helper to start the JavaFX toolkit headless (via Monocle and the software pipeline) and to set up charts for
+ * the JMH benchmarks without requiring a display.
+ * <p>
+ * N.B. charts are attached to a {@link Scene} that is never shown. Nodes that are not part of a showing scene-graph may
+ * be modified outside the JavaFX application thread, which allows benchmarking most of the rendering hot-path directly
+ * on the JMH worker thread. Only functions that explicitly assert the FX thread (e.g. {@link XYChart#layoutChildren()})
+ * need to be executed via {@link #runAndWait(Supplier)}.
+ *
+ * @author rstein
+ */
+public final class HeadlessFXUtils {
+    // N.B. need to be set prior to the toolkit initialisation, explicit '-D' JVM arguments take precedence
+    private static final String[] HEADLESS_PROPERTIES = { "java.awt.headless=true", "testfx.headless=true", "glass.platform=Monocle", "monocle.platform=Headless", "prism.order=sw", "prism.text=t2k" };
+    private static boolean started;
+
+    private HeadlessFXUtils() {
+        // utility class
+    }
+
+    /**
+     * Creates a chart with the given size and performs the initial CSS and layout pass on the FX thread
+     *
+     * @param width chart width in pixel
+     * @param height chart height in pixel
+     * @param chartSupplier factory for the chart (invoked on the FX thread)
+     * @param <C> generic chart type
+     * @return the laid-out chart
+     */
+    public static <C extends XYChart> C createChart(final double width, final double height, final Supplier<C> chartSupplier) {
+        startToolkit();
+        return runAndWait(() -> {
+            final C chart = chartSupplier.get();
+            chart.setAnimated(false);
+            new Scene(chart, width, height); // NOPMD -- scene is referenced by the chart
+            chart.applyCss();
+            chart.layout();
+            return chart;
+        });
+    }
+
+    /**
+     * Executes the function on the FX application thread and waits for its result
+     *
+     * @param function to be executed
+     * @param <R> generic return type
+     * @return function result
+     */
+    public static <R> R runAndWait(final Supplier<R> function) {
+        try {
+            return FXUtils.runAndWait(function);
+        } catch (final Exception e) { // NOPMD -- re-thrown as unchecked exception
+            throw new IllegalStateException("could not execute function on FX thread", e);
+        }
+    }
+
+    /**
+     * Starts the JavaFX toolkit in headless mode (Monocle + software rendering) if it is not already running
+     */
+    public static synchronized void startToolkit() {
+        if (started) {
+            return;
+        }
+        for (final String property : HEADLESS_PROPERTIES) {
+            final String[] keyValue = property.split("=", 2);
+            if (System.getProperty(keyValue[0]) == null) {
+                System.setProperty(keyValue[0], keyValue[1]);
+            }
+        }
+        final CountDownLatch latch = new CountDownLatch(1);
+        try {
+            Platform.startup(latch::countDown);
+            latch.await();
+        } catch (final IllegalStateException e) { // NOPMD -- toolkit has already been started elsewhere
+            // nothing to be done
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for the FX toolkit", e);
+        }
+        Platform.setImplicitExit(false);
+        started = true;
+    }
+}
@@ -0,0 +1,149 @@
+package de.gsi.chart.renderer.datareduction;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.gsi.chart.renderer.RendererDataReducer;
+
+/**
+ * Benchmark to compare the M4 data reducer to the existing line-plot data reducers for typical screen widths and large
+ * data sets. The arrays are filled in screen coordinates (as done by CachedDataPoints) and restored prior to each
+ * invocation since the reduction is performed in-place. N.B. the 100M point case requires ~8 GB of heap.
+ * <p>
+ * The Ramer-Douglas-Peucker reducer copies the input into a temporary {@code double[n][2]} (ie. ~40 bytes per point
+ * plus the recursion's partial copies) and is thus benchmarked separately and only up to 10M points: the 100M point
+ * case would mostly measure the allocation of several GB of heap.
+ *
+ * <pre>
+ * java -jar chartfx-benchmark.jar DataReducerBenchmark
+ * </pre>
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms10g", "-Xmx10g" })
+public class DataReducerBenchmark {
+    private static final int SCREEN_WIDTH = 1920;
+    private static final int SCREEN_HEIGHT = 1080;
+    @Param({ "1000000", "10000000", "100000000" })
+    private int nSamples;
+
+    private final RendererDataReducer defaultReducer = new DefaultDataReducer();
+    private final RendererDataReducer maxReducer = new MaxDataReducer();
+    private final RendererDataReducer m4Reducer = new M4DataReducer();
+    private final ReducerInput input = new ReducerInput();
+
+    @Benchmark
+    public int defaultDataReducer() {
+        return input.reduce(defaultReducer);
+    }
+
+    @Setup(Level.Trial)
+    public void initialize() {
+        input.initialize(nSamples);
+    }
+
+    @Benchmark
+    public int m4DataReducer() {
+        return input.reduce(m4Reducer);
+    }
+
+    @Benchmark
+    public int maxDataReducer() {
+        return input.reduce(maxReducer);
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreInput() {
+        input.restore();
+    }
+
+    /**
+     * Ramer-Douglas-Peucker reducer, capped at 10M points (see class description).
+     */
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    @Fork(value = 1, jvmArgsAppend = { "-Xms10g", "-Xmx10g" })
+    public static class RamerDouglasPeucker {
+        @Param({ "1000000", "10000000" })
+        private int nSamples;
+
+        private final RendererDataReducer rdpReducer = new RamanDouglasPeukerDataReducer();
+        private final ReducerInput input = new ReducerInput();
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            input.initialize(nSamples);
+        }
+
+        @Benchmark
+        public int ramanDouglasPeukerDataReducer() {
+            return input.reduce(rdpReducer);
+        }
+
+        @Setup(Level.Invocation)
+        public void restoreInput() {
+            input.restore();
+        }
+    }
+
+    private static class ReducerInput {
+        private int nSamples;
+        private double[] xSource;
+        private double[] ySource;
+        private double[] xValues;
+        private double[] yValues;
+        private double[] yErrorPos;
+        private double[] yErrorNeg;
+        private String[] styles;
+        private boolean[] selected;
+
+        private void initialize(final int nSamples) {
+            this.nSamples = nSamples;
+            final Random random = new Random(42);
+            xSource = new double[nSamples];
+            ySource = new double[nSamples];
+            for (int i = 0; i < nSamples; i++) {
+                xSource[i] = SCREEN_WIDTH * (double) i / nSamples;
+                ySource[i] = 0.5 * SCREEN_HEIGHT * (1.0 + 0.5 * Math.sin(1e-4 * i) + 0.05 * random.nextGaussian());
+            }
+            xValues = new double[nSamples];
+            yValues = new double[nSamples];
+            yErrorPos = new double[nSamples];
+            yErrorNeg = new double[nSamples];
+            styles = new String[nSamples];
+            selected = new boolean[nSamples];
+        }
+
+        private int reduce(final RendererDataReducer reducer) {
+            return reducer.reducePoints(xValues, yValues, null, null, yErrorPos, yErrorNeg, styles, selected, 0, nSamples);
+        }
+
+        private void restore() {
+            System.arraycopy(xSource, 0, xValues, 0, nSamples);
+            System.arraycopy(ySource, 0, yValues, 0, nSamples);
+            System.arraycopy(ySource, 0, yErrorPos, 0, nSamples);
+            System.arraycopy(ySource, 0, yErrorNeg, 0, nSamples);
+        }
+    }
+}
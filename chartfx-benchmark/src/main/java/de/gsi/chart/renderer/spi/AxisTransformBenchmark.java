@@ -0,0 +1,98 @@
+package de.gsi.chart.renderer.spi;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.gsi.chart.axes.Axis;
+import de.gsi.chart.axes.spi.DefaultNumericAxis;
+import de.gsi.chart.benchmark.HeadlessFXUtils;
+import de.gsi.chart.ui.geometry.Side;
+
+/**
+ * Benchmark of the data-to-screen coordinate transform: per-point {@link Axis#getDisplayPosition(double)} calls of a
+ * {@link DefaultNumericAxis} compared to the bulk loop of the {@link AxisTransformSnapshot} used by
+ * {@link CachedDataPoints}.
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class AxisTransformBenchmark {
+    private static final double AXIS_LENGTH = 1920;
+    @Param({ "10000000" })
+    private int nSamples;
+    @Param({ "false", "true" })
+    private boolean logAxis;
+    @Param({ "false", "true" })
+    private boolean invertedAxis;
+
+    private Axis axis;
+    private AxisTransformSnapshot snapshot;
+    private double[] values;
+    private double[] positions;
+
+    @Setup(Level.Trial)
+    public void initialize() {
+        // N.B. stand-alone axis: only the transform is benchmarked, no chart layout (and thus no font rendering) needed
+        HeadlessFXUtils.startToolkit();
+        axis = HeadlessFXUtils.runAndWait(() -> {
+            final StandAloneAxis xAxis = new StandAloneAxis(1.0, 1e4, 1000);
+            xAxis.setAutoRanging(false);
+            xAxis.setSide(Side.BOTTOM);
+            xAxis.setLogAxis(logAxis);
+            xAxis.invertAxis(invertedAxis);
+            xAxis.resize(AXIS_LENGTH, 50);
+            xAxis.updateCache();
+            return xAxis;
+        });
+        snapshot = AxisTransformSnapshot.of(axis);
+
+        final Random rnd = new Random(42);
+        values = new double[nSamples];
+        positions = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            values[i] = 1.0 + 1e4 * rnd.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public double scalarTransform() {
+        for (int i = 0; i < nSamples; i++) {
+            positions[i] = axis.getDisplayPosition(values[i]);
+        }
+        return positions[nSamples - 1];
+    }
+
+    @Benchmark
+    public double snapshotTransform() {
+        snapshot.getDisplayPositions(values, positions, 0, nSamples);
+        return positions[nSamples - 1];
+    }
+
+    private static class StandAloneAxis extends DefaultNumericAxis {
+        protected StandAloneAxis(final double lowerBound, final double upperBound, final double tickUnit) {
+            super(lowerBound, upperBound, tickUnit);
+        }
+
+        protected void updateCache() {
+            updateCachedVariables(); // N.B. normally triggered by the chart layout
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package de.gsi.chart.renderer.spi;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+import static de.gsi.dataset.DataSet.DIM_Z;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.gsi.chart.XYChart;
+import de.gsi.chart.axes.spi.DefaultNumericAxis;
+import de.gsi.chart.benchmark.HeadlessFXUtils;
+import de.gsi.chart.renderer.ContourType;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.spi.DataSetBuilder;
+
+/**
+ * Benchmark of the {@link ContourDataSetRenderer} hot path: sub-frame copy/reduction/quantisation in
+ * {@link ContourDataSetCache}, the z-value to colour/image conversion and the full {@code render(..)} into an off-screen
+ * canvas for different grid sizes, parallel/non-parallel implementations and contour types. The colour mapping is
+ * benchmarked separately for the byte-buffer/{@link javafx.scene.image.PixelWriter} based conversion and the look-up
+ * table based {@link HeatMapImageBuffer} conversion (alternating between two frames to avoid the unchanged-pixel
+ * short-cut of the latter).
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ContourDataSetCacheBenchmark {
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+    @Param({ "256", "1024", "2048" })
+    private int gridSize;
+    @Param({ "false", "true" })
+    private boolean parallel;
+    @Param({ "HEATMAP", "CONTOUR_FAST" })
+    private ContourType contourType;
+
+    private final ObservableList<DataSet> chartDataSets = FXCollections.observableArrayList();
+    private ContourDataSetRenderer renderer;
+    private XYChart chart;
+    private GridDataSet dataSet;
+    private GraphicsContext gc;
+    private final ContourDataSetCache[] frames = new ContourDataSetCache[2];
+    private final HeatMapImageBuffer imageBuffer = new HeatMapImageBuffer();
+    private int frameIndex;
+
+    @Benchmark
+    public int computeCache() {
+        final ContourDataSetCache cache = new ContourDataSetCache(chart, renderer, dataSet);
+        final int size = cache.xSize * cache.ySize;
+        cache.releaseCachedVariables();
+        return size;
+    }
+
+    @Benchmark
+    public WritableImage computeCacheAndConvertToImage() {
+        final ContourDataSetCache cache = new ContourDataSetCache(chart, renderer, dataSet);
+        final WritableImage image = cache.convertDataArrayToImage(cache.reduced, cache.xSize, cache.ySize, renderer.getColorGradient());
+        cache.releaseCachedVariables();
+        return image;
+    }
+
+    @Benchmark
+    public WritableImage convertToImage() {
+        final ContourDataSetCache cache = nextFrame();
+        final WritableImage image = cache.convertDataArrayToImage(cache.reduced, cache.xSize, cache.ySize, renderer.getColorGradient());
+        cache.add(image);
+        return image;
+    }
+
+    @Benchmark
+    public WritableImage convertToPixelBufferImage() {
+        final ContourDataSetCache cache = nextFrame();
+        return cache.convertDataArrayToImage(cache.reduced, cache.xSize, cache.ySize, renderer.getColorGradient(), imageBuffer);
+    }
+
+    @Setup(Level.Trial)
+    public void initialize() {
+        dataSet = createDataSet(0.0);
+
+        renderer = new ContourDataSetRenderer();
+        renderer.setParallelImplementation(parallel);
+        renderer.setContourType(contourType);
+        renderer.getDatasets().add(dataSet);
+
+        chart = HeadlessFXUtils.createChart(WIDTH, HEIGHT, () -> {
+            final XYChart xyChart = new XYChart(new DefaultNumericAxis(), new DefaultNumericAxis());
+            xyChart.getRenderers().set(0, renderer);
+            return xyChart;
+        });
+        // N.B. canvas is not part of the scene graph to avoid interference with the chart's own layout/redraw cycle
+        gc = new Canvas(chart.getXAxis().getWidth(), chart.getYAxis().getHeight()).getGraphicsContext2D();
+
+        frames[0] = new ContourDataSetCache(chart, renderer, dataSet);
+        frames[1] = new ContourDataSetCache(chart, renderer, createDataSet(0.5));
+    }
+
+    private ContourDataSetCache nextFrame() {
+        frameIndex = (frameIndex + 1) % frames.length;
+        return frames[frameIndex];
+    }
+
+    @Benchmark
+    public int render() {
+        // N.B. a full clear also resets the canvas' command buffer which otherwise grows without FX pulses
+        gc.clearRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+        return renderer.render(gc, chart, 0, chartDataSets).size();
+    }
+
+    private GridDataSet createDataSet(final double phase) {
+        final double[] xValues = new double[gridSize];
+        final double[] yValues = new double[gridSize];
+        final double[] zValues = new double[gridSize * gridSize];
+        for (int i = 0; i < gridSize; i++) {
+            xValues[i] = i;
+            yValues[i] = i;
+        }
+        for (int y = 0; y < gridSize; y++) {
+            for (int x = 0; x < gridSize; x++) {
+                final double r = Math.hypot(x - 0.5 * gridSize, y - 0.5 * gridSize) / gridSize;
+                zValues[y * gridSize + x] = Math.sin(20.0 * r + phase) * Math.exp(-2.0 * r);
+            }
+        }
+        return new DataSetBuilder("benchmark").setValues(DIM_X, xValues).setValues(DIM_Y, yValues).setValues(DIM_Z, zValues).build(GridDataSet.class);
+    }
+}
@@ -0,0 +1,119 @@
+package de.gsi.chart.renderer.spi;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.gsi.chart.XYChart;
+import de.gsi.chart.axes.Axis;
+import de.gsi.chart.axes.spi.DefaultNumericAxis;
+import de.gsi.chart.benchmark.HeadlessFXUtils;
+import de.gsi.chart.renderer.ErrorStyle;
+import de.gsi.chart.renderer.datareduction.ReductionType;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleErrorDataSet;
+
+/**
+ * Benchmark of the {@link ErrorDataSetRenderer} hot path: full {@code render(..)} into an off-screen canvas as well as
+ * the isolated {@link CachedDataPoints} screen-coordinate transform and data reduction steps, for different data set
+ * sizes, parallel/non-parallel coordinate transforms and point reduction algorithms ('NONE' disables the reduction).
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ErrorDataSetRendererBenchmark {
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+    private static final String NO_REDUCTION = "NONE";
+    @Param({ "1000", "100000", "1000000" })
+    private int nSamples;
+    @Param({ "false", "true" })
+    private boolean parallel;
+    @Param({ NO_REDUCTION, "AVERAGE", "DOWN_SAMPLE", "M4" })
+    private String reducer;
+
+    private final ObservableList<DataSet> chartDataSets = FXCollections.observableArrayList();
+    private ErrorDataSetRenderer renderer;
+    private XYChart chart;
+    private Axis xAxis;
+    private Axis yAxis;
+    private DataSet dataSet;
+    private GraphicsContext gc;
+
+    @Benchmark
+    public int computeScreenCoordinates() {
+        final CachedDataPoints points = new CachedDataPoints(0, nSamples, nSamples, true);
+        if (parallel) {
+            points.computeScreenCoordinatesInParallel(xAxis, yAxis, dataSet, 0, 0, nSamples, ErrorStyle.ERRORCOMBO, false, false);
+        } else {
+            points.computeScreenCoordinates(xAxis, yAxis, dataSet, 0, 0, nSamples, ErrorStyle.ERRORCOMBO, false, false);
+        }
+        points.reduce(renderer.getRendererDataReducer(), renderer.isReducePoints(), renderer.getMinRequiredReductionSize());
+        final int count = points.actualDataCount;
+        points.release();
+        return count;
+    }
+
+    @Setup(Level.Trial)
+    public void initialize() {
+        final Random random = new Random(42);
+        final double[] xValues = new double[nSamples];
+        final double[] yValues = new double[nSamples];
+        final double[] yErrors = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            xValues[i] = i;
+            yValues[i] = Math.sin(2.0 * Math.PI * 5.0 * i / nSamples) + 0.1 * random.nextGaussian();
+            yErrors[i] = 0.05;
+        }
+        dataSet = new DoubleErrorDataSet("benchmark", xValues, yValues, yErrors, yErrors, nSamples, false);
+
+        renderer = new ErrorDataSetRenderer();
+        renderer.setParallelImplementation(parallel);
+        renderer.setErrorType(ErrorStyle.ERRORCOMBO);
+        if (NO_REDUCTION.equals(reducer)) {
+            renderer.setPointReduction(false);
+        } else {
+            renderer.setRendererDataReducerType(ReductionType.valueOf(reducer));
+        }
+        renderer.getDatasets().add(dataSet);
+
+        chart = HeadlessFXUtils.createChart(WIDTH, HEIGHT, () -> {
+            final XYChart xyChart = new XYChart(new DefaultNumericAxis(), new DefaultNumericAxis());
+            xyChart.getRenderers().set(0, renderer);
+            return xyChart;
+        });
+        xAxis = chart.getXAxis();
+        yAxis = chart.getYAxis();
+        // N.B. canvas is not part of the scene graph to avoid interference with the chart's own layout/redraw cycle
+        gc = new Canvas(xAxis.getWidth(), yAxis.getHeight()).getGraphicsContext2D();
+    }
+
+    @Benchmark
+    public int render() {
+        // N.B. a full clear also resets the canvas' command buffer which otherwise grows without FX pulses
+        gc.clearRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+        return renderer.render(gc, chart, 0, chartDataSets).size();
+    }
+}
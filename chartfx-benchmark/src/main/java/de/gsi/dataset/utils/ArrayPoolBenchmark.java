@@ -0,0 +1,123 @@
+package de.gsi.dataset.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the per-frame temporary array allocation pattern of the {@code ErrorDataSetRenderer} (six double, one
+ * String and one boolean array per data set and frame): plain allocation vs. the exact-size
+ * {@link DoubleArrayCache}/{@link ArrayCache} vs. the size-class based {@link ArrayPool}.
+ * <p>
+ * The frame size grows by a few samples per frame (e.g. a live circular-buffer data set being filled) which defeats
+ * exact-size caching. Run with the GC profiler to obtain the allocation rate per frame ({@code gc.alloc.rate.norm}):
+ *
+ * <pre>
+ * java -jar chartfx-benchmark.jar ArrayPoolBenchmark -prof gc
+ * </pre>
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ArrayPoolBenchmark {
+    private static final String STYLES = "ArrayPoolBenchmark-styles";
+    private static final String SELECTED = "ArrayPoolBenchmark-selected";
+    private static final int N_DOUBLE_ARRAYS = 6;
+    private static final int GROWTH_PER_FRAME = 7;
+    private static final int GROWTH_PERIOD = 4096;
+    @Param({ "1000", "100000", "1000000" })
+    private int nSamples;
+
+    @State(Scope.Thread)
+    public static class Frame {
+        private int frame;
+
+        int nextLength(final int nSamples) {
+            frame = (frame + 1) % GROWTH_PERIOD;
+            return nSamples + frame * GROWTH_PER_FRAME;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public double frameAllocate(final Frame frame) {
+        final int length = frame.nextLength(nSamples);
+        double sum = 0.0;
+        for (int i = 0; i < N_DOUBLE_ARRAYS; i++) {
+            sum += touch(new double[length]);
+        }
+        return sum + new String[length].length + new boolean[length].length;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public double frameArrayCache(final Frame frame) {
+        final int length = frame.nextLength(nSamples);
+        final double[][] arrays = new double[N_DOUBLE_ARRAYS][];
+        double sum = 0.0;
+        for (int i = 0; i < N_DOUBLE_ARRAYS; i++) {
+            arrays[i] = DoubleArrayCache.getInstance().getArrayExact(length);
+            sum += touch(arrays[i]);
+        }
+        final String[] styles = ArrayCache.getCachedStringArray(STYLES, length);
+        final boolean[] selected = ArrayCache.getCachedBooleanArray(SELECTED, length);
+        sum += styles.length + selected.length;
+        for (final double[] array : arrays) {
+            DoubleArrayCache.getInstance().add(array);
+        }
+        ArrayCache.release(STYLES, styles);
+        ArrayCache.release(SELECTED, selected);
+        return sum;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public double frameArrayPool(final Frame frame) {
+        return framePooled(frame.nextLength(nSamples));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public double frameArrayPoolContended(final Frame frame) {
+        return framePooled(frame.nextLength(nSamples));
+    }
+
+    private static double framePooled(final int length) {
+        final double[][] arrays = new double[N_DOUBLE_ARRAYS][];
+        double sum = 0.0;
+        for (int i = 0; i < N_DOUBLE_ARRAYS; i++) {
+            arrays[i] = ArrayPool.DOUBLE.acquire(length);
+            sum += touch(arrays[i]);
+        }
+        final String[] styles = ArrayPool.STRING.acquire(length);
+        final boolean[] selected = ArrayPool.BOOLEAN.acquire(length);
+        sum += styles.length + selected.length;
+        for (final double[] array : arrays) {
+            ArrayPool.DOUBLE.release(array);
+        }
+        ArrayPool.STRING.release(styles);
+        ArrayPool.BOOLEAN.release(selected);
+        return sum;
+    }
+
+    private static double touch(final double[] array) {
+        // minimal access to prevent the JIT from eliding the allocation
+        array[0] = array.length;
+        return array[0];
+    }
+}
@@ -0,0 +1,108 @@
+package de.gsi.dataset.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleErrorDataSet;
+import de.gsi.dataset.utils.ColumnarDataSetFile.ChunkCompression;
+
+/**
+ * Benchmark of reading/writing data sets from/to file: the line-oriented CSV and binary formats of
+ * {@link DataSetUtils} vs. the chunked {@link ColumnarDataSetFile} format (full and x-range restricted reads).
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class DataSetFileBenchmark {
+    private static final String CSV_FILE = "dataSet.csv";
+    private static final String BINARY_FILE = "dataSet.bin";
+    @Param({ "100000", "10000000" })
+    private int nSamples;
+    @Param({ "NONE", "DEFLATE" })
+    private ChunkCompression compression;
+
+    private Path tmpDir;
+    private Path columnarFile;
+    private DataSet dataSet;
+
+    @Benchmark
+    public DataSet readBinary() {
+        return DataSetUtils.readDataSetFromFile(new File(tmpDir.toFile(), BINARY_FILE).getAbsolutePath());
+    }
+
+    @Benchmark
+    public DataSet readColumnar() throws IOException {
+        return ColumnarDataSetFile.read(columnarFile);
+    }
+
+    @Benchmark
+    public DataSet readColumnarRange() throws IOException {
+        // 1% of the samples in the middle of the file
+        return ColumnarDataSetFile.read(columnarFile, 0.495 * nSamples, 0.505 * nSamples);
+    }
+
+    @Benchmark
+    public DataSet readCsv() {
+        return DataSetUtils.readDataSetFromFile(new File(tmpDir.toFile(), CSV_FILE).getAbsolutePath());
+    }
+
+    @Benchmark
+    public String writeBinary() {
+        return DataSetUtils.writeDataSetToFile(dataSet, tmpDir, BINARY_FILE, true);
+    }
+
+    @Benchmark
+    public Path writeColumnar() throws IOException {
+        ColumnarDataSetFile.write(dataSet, columnarFile, compression);
+        return columnarFile;
+    }
+
+    @Setup(Level.Trial)
+    public void initialize() throws IOException {
+        final DoubleErrorDataSet errorDataSet = new DoubleErrorDataSet("benchmark", nSamples);
+        for (int i = 0; i < nSamples; i++) {
+            errorDataSet.add(i, Math.sin(1e-3 * i) + 1e-3 * (i % 17), 0.1, 0.1);
+        }
+        dataSet = errorDataSet;
+
+        tmpDir = Files.createTempDirectory("dataSetFileBenchmark");
+        columnarFile = tmpDir.resolve("dataSet.cfx");
+        DataSetUtils.writeDataSetToFile(dataSet, tmpDir, CSV_FILE, false);
+        DataSetUtils.writeDataSetToFile(dataSet, tmpDir, BINARY_FILE, true);
+        ColumnarDataSetFile.write(dataSet, columnarFile, compression);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(tmpDir)) {
+            for (final Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(tmpDir);
+    }
+}
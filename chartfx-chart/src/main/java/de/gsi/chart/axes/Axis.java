@@ -197,7 +197,7 @@ public interface Axis extends AxisDescription {
      * invoke object within update listener list
      *
      * @param updateEvent the event the listeners are notified with
-     * @param executeParallel {@code true} execute event listener via parallel executor service
+     * @param executeParallel {@code true} notify the listeners asynchronously, see {@link de.gsi.dataset.event.EventSource#invokeListener(UpdateEvent, boolean)}
      */
     @Override
     default void invokeListener(final UpdateEvent updateEvent, final boolean executeParallel) {
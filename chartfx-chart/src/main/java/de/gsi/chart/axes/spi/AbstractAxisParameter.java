@@ -769,7 +769,7 @@ public abstract class AbstractAxisParameter extends Pane implements Axis {
      * invoke object within update listener list
      *
      * @param updateEvent the event the listeners are notified with
-     * @param executeParallel {@code true} execute event listener via parallel executor service
+     * @param executeParallel {@code true} notify the listeners asynchronously, see {@link de.gsi.dataset.event.EventSource#invokeListener(UpdateEvent, boolean)}
      */
     @Override
     public void invokeListener(final UpdateEvent updateEvent, final boolean executeParallel) {
@@ -0,0 +1,135 @@
+package de.gsi.chart.renderer.datareduction;
+
+import de.gsi.chart.renderer.RendererDataReducer;
+import de.gsi.dataset.utils.AssertUtils;
+import de.gsi.dataset.utils.ProcessingProfiler;
+
+/**
+ * M4 data reduction algorithm implementation for the ErrorDataSet Renderer <br>
+ * Keeps the first, last, minimum and maximum point of each pixel column, which renders pixel-perfect line plots from at
+ * most four points per column. Points are retained (ie. not averaged) including their errors, styles and selection
+ * state. Non-finite coordinates are kept as-is to preserve gaps. N.B. numerical complexity: single pass, average =
+ * worst-case = O(n)
+ * <p>
+ * see: U. Jugel et al., "M4: A Visualization-Oriented Time Series Data Aggregation", Proc. VLDB Endow. 7, 10 (2014)
+ *
+ * @author rstein
+ */
+public class M4DataReducer implements RendererDataReducer {
+    @Override
+    public int reducePoints(final double[] xValues, final double[] yValues, final double[] xPointErrorsPos,
+            final double[] xPointErrorsNeg, final double[] yPointErrorsPos, final double[] yPointErrorsNeg,
+            final String[] styles, final boolean[] pointSelected, final int indexMin, final int indexMax) {
+        AssertUtils.nonEmptyArray("xValues", xValues);
+        final int defaultDataLength = xValues.length;
+        AssertUtils.checkArrayDimension("yValues", yValues, defaultDataLength);
+        AssertUtils.checkArrayDimension("pointSelected", pointSelected, defaultDataLength);
+        AssertUtils.gtEqThanZero("indexMin", indexMin);
+        AssertUtils.gtThanZero("indexMax", indexMax);
+        final long start = ProcessingProfiler.getTimeStamp();
+
+        final Columns columns = new Columns(xValues, yValues, xPointErrorsPos, xPointErrorsNeg, yPointErrorsPos,
+                yPointErrorsNeg, styles, pointSelected);
+        int index = indexMin;
+        while (index < indexMax) {
+            final double y = yValues[index];
+            if (!Double.isFinite(xValues[index]) || !Double.isFinite(y)) {
+                columns.move(index++);
+                continue;
+            }
+            final int column = (int) Math.floor(xValues[index]);
+            final int first = index;
+            int minIndex = index;
+            int maxIndex = index;
+            double min = y;
+            double max = y;
+            index++;
+            while (index < indexMax) {
+                final double yi = yValues[index];
+                if (!Double.isFinite(yi) || !Double.isFinite(xValues[index]) || (int) Math.floor(xValues[index]) != column) {
+                    break;
+                }
+                if (yi < min) {
+                    min = yi;
+                    minIndex = index;
+                } else if (yi > max) {
+                    max = yi;
+                    maxIndex = index;
+                }
+                index++;
+            }
+            final int last = index - 1;
+
+            // N.B. 'first <= lower <= upper <= last', retain index order and skip duplicates
+            final int lower = Math.min(minIndex, maxIndex);
+            final int upper = Math.max(minIndex, maxIndex);
+            columns.move(first);
+            if (lower > first) {
+                columns.move(lower);
+            }
+            if (upper > lower) {
+                columns.move(upper);
+            }
+            if (last > upper) {
+                columns.move(last);
+            }
+        }
+
+        if (ProcessingProfiler.getDebugState()) {
+            ProcessingProfiler.getTimeDiff(start,
+                    String.format("data reduction (from %d to %d)", indexMax - indexMin, columns.count));
+        }
+        return columns.count;
+    }
+
+    /**
+     * in-place copy helper, N.B. target index 'count' is always less or equal to the source index
+     */
+    private static class Columns {
+        private final double[] xValues;
+        private final double[] yValues;
+        private final double[] xPointErrorsPos;
+        private final double[] xPointErrorsNeg;
+        private final double[] yPointErrorsPos;
+        private final double[] yPointErrorsNeg;
+        private final String[] styles;
+        private final boolean[] pointSelected;
+        private int count;
+
+        protected Columns(final double[] xValues, final double[] yValues, final double[] xPointErrorsPos,
+                final double[] xPointErrorsNeg, final double[] yPointErrorsPos, final double[] yPointErrorsNeg,
+                final String[] styles, final boolean[] pointSelected) {
+            this.xValues = xValues;
+            this.yValues = yValues;
+            this.xPointErrorsPos = xPointErrorsPos;
+            this.xPointErrorsNeg = xPointErrorsNeg;
+            this.yPointErrorsPos = yPointErrorsPos;
+            this.yPointErrorsNeg = yPointErrorsNeg;
+            this.styles = styles;
+            this.pointSelected = pointSelected;
+        }
+
+        protected void move(final int fromIndex) {
+            xValues[count] = xValues[fromIndex];
+            yValues[count] = yValues[fromIndex];
+            // N.B. error arrays may be null due to a CachedDataPoint optimisation
+            if (xPointErrorsPos != null) {
+                xPointErrorsPos[count] = xPointErrorsPos[fromIndex];
+            }
+            if (xPointErrorsNeg != null) {
+                xPointErrorsNeg[count] = xPointErrorsNeg[fromIndex];
+            }
+            if (yPointErrorsPos != null) {
+                yPointErrorsPos[count] = yPointErrorsPos[fromIndex];
+            }
+            if (yPointErrorsNeg != null) {
+                yPointErrorsNeg[count] = yPointErrorsNeg[fromIndex];
+            }
+            if (styles != null) {
+                styles[count] = styles[fromIndex];
+            }
+            pointSelected[count] = pointSelected[fromIndex];
+            count++;
+        }
+    }
+}
@@ -1,8 +1,18 @@
 package de.gsi.chart.renderer.datareduction;
 
+/**
+ * Data reduction types used by the 2D (image) resampling in {@link DefaultDataReducer3D} and to select the line-plot
+ * {@link de.gsi.chart.renderer.RendererDataReducer} via
+ * {@link de.gsi.chart.renderer.spi.AbstractErrorDataSetRendererParameter#setRendererDataReducerType(ReductionType)}
+ */
 public enum ReductionType {
     MIN,
     MAX,
     AVERAGE,
-    DOWN_SAMPLE;
-}
\ No newline at end of file
+    DOWN_SAMPLE,
+    /**
+     * first/last/min/max per pixel column (see {@link M4DataReducer}), N.B. 2D resampling falls back to
+     * {@link #AVERAGE}
+     */
+    M4;
+}
@@ -17,8 +17,10 @@ import de.gsi.chart.renderer.ErrorStyle;
 import de.gsi.chart.renderer.LineStyle;
 import de.gsi.chart.renderer.RendererDataReducer;
 import de.gsi.chart.renderer.datareduction.DefaultDataReducer;
+import de.gsi.chart.renderer.datareduction.M4DataReducer;
 import de.gsi.chart.renderer.datareduction.MaxDataReducer;
 import de.gsi.chart.renderer.datareduction.RamanDouglasPeukerDataReducer;
+import de.gsi.chart.renderer.datareduction.ReductionType;
 import de.gsi.chart.renderer.datareduction.VisvalingamMaheswariWhyattDataReducer;
 import de.gsi.dataset.utils.AssertUtils;
 
@@ -276,6 +278,7 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
      * <ul>
      * <li>{@link DefaultDataReducer} (default)</li>
      * <li>{@link MaxDataReducer} (a simple down-sampling algorithm, returning fixed number of max. 1000 points)</li>
+     * <li>{@link M4DataReducer} (first/last/min/max per pixel column, pixel-perfect line plots)</li>
      * <li>{@link RamanDouglasPeukerDataReducer}</li>
      * <li>{@code DouglasPeukerDataReducer}</li>
      * <li>{@link VisvalingamMaheswariWhyattDataReducer} (being developed)</li>
@@ -430,6 +433,29 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
         return getThis();
     }
 
+    /**
+     * @see #rendererDataReducerProperty()
+     * @param type the new data reducing algorithm type to be set: {@link ReductionType#AVERAGE} -&gt;
+     *            {@link DefaultDataReducer}, {@link ReductionType#DOWN_SAMPLE} -&gt; {@link MaxDataReducer},
+     *            {@link ReductionType#M4} -&gt; {@link M4DataReducer} (N.B. MIN and MAX are not supported for line plots)
+     * @return itself (fluent design)
+     */
+    public R setRendererDataReducerType(final ReductionType type) {
+        AssertUtils.notNull("type", type);
+        switch (type) {
+        case M4:
+            return setRendererDataReducer(new M4DataReducer());
+        case DOWN_SAMPLE:
+            return setRendererDataReducer(new MaxDataReducer());
+        case AVERAGE:
+            return setRendererDataReducer(new DefaultDataReducer());
+        case MIN:
+        case MAX:
+        default:
+            throw new IllegalArgumentException("reduction type " + type + " not supported for line plots");
+        }
+    }
+
     /**
      * @param state true if bars drawn to the y==0 axis shall be horizontally shifted for each DataSet
      * @return itself (fluent design)
@@ -0,0 +1,141 @@
+package de.gsi.chart.renderer.spi;
+
+import de.gsi.chart.axes.Axis;
+
+/**
+ * Immutable snapshot of the data-to-display coordinate transform of an {@link Axis}.
+ * <p>
+ * The snapshot is taken on the JavaFX thread and may then be used by worker threads to compute screen coordinates
+ * without touching the (mutable, JavaFX-thread confined) axis state. The display position is modelled as affine
+ * function of the data value for linear axes and of its logarithm for logarithmic axes, i.e.
+ * {@code position = offset + scale * (f(value) - f(min))} with {@code f} being the identity or {@code log10}. The
+ * inversion and orientation of the axis are folded into 'offset' and 'scale'. Snapshots are value-based and can thus
+ * be used as part of cache keys.
+ *
+ * @author rstein
+ */
+final class AxisTransformSnapshot {
+    private final double min;
+    private final double max;
+    private final boolean logAxis;
+    private final boolean invertedAxis;
+    private final double lowerBound; // f(min)
+    private final double offset; // display position of 'min'
+    private final double scale; // display pixel per (transformed) data unit
+
+    /**
+     * @param min lower axis range limit
+     * @param max upper axis range limit
+     * @param logAxis {@code true}: logarithmic, {@code false}: linear axis
+     * @param invertedAxis {@code true}: inverted axis
+     * @param offset display position of 'min'
+     * @param scale display pixel per (transformed, ie. log10 for logarithmic axes) data unit
+     */
+    AxisTransformSnapshot(final double min, final double max, final boolean logAxis, final boolean invertedAxis, final double offset, final double scale) { // NOPMD
+        this.min = min;
+        this.max = max;
+        this.logAxis = logAxis;
+        this.invertedAxis = invertedAxis;
+        this.lowerBound = forward(min);
+        this.offset = offset;
+        this.scale = Double.isFinite(scale) ? scale : 0.0; // N.B. zero-length range
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof AxisTransformSnapshot)) {
+            return false;
+        }
+        final AxisTransformSnapshot other = (AxisTransformSnapshot) obj;
+        return Double.compare(min, other.min) == 0 && Double.compare(max, other.max) == 0 && logAxis == other.logAxis
+                && invertedAxis == other.invertedAxis && Double.compare(offset, other.offset) == 0 && Double.compare(scale, other.scale) == 0;
+    }
+
+    /**
+     * @param value data value to work out the display position for
+     * @return display position, N.B. the value is extrapolated if it is outside the axis range
+     */
+    public double getDisplayPosition(final double value) {
+        return offset + scale * (forward(value) - lowerBound);
+    }
+
+    /**
+     * Bulk version of {@link #getDisplayPosition(double)} for the index range [from, to).
+     *
+     * @param values data values to work out the display positions for
+     * @param positions output display positions (may be the same array as 'values')
+     * @param from first index (inclusive)
+     * @param to last index (exclusive)
+     */
+    public void getDisplayPositions(final double[] values, final double[] positions, final int from, final int to) {
+        final double localOffset = offset;
+        final double localScale = scale;
+        final double localLowerBound = lowerBound;
+        if (logAxis) {
+            for (int i = from; i < to; i++) {
+                final double value = values[i];
+                positions[i] = value > 0 ? localOffset + localScale * (Math.log10(value) - localLowerBound) : Double.NaN;
+            }
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            positions[i] = localOffset + localScale * (values[i] - localLowerBound);
+        }
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(min);
+        result = 31 * result + Double.hashCode(max);
+        result = 31 * result + Boolean.hashCode(logAxis);
+        result = 31 * result + Boolean.hashCode(invertedAxis);
+        result = 31 * result + Double.hashCode(offset);
+        return 31 * result + Double.hashCode(scale);
+    }
+
+    public boolean isInvertedAxis() {
+        return invertedAxis;
+    }
+
+    public boolean isLogAxis() {
+        return logAxis;
+    }
+
+    @Override
+    public String toString() {
+        return "AxisTransformSnapshot[min=" + min + ", max=" + max + ", log=" + logAxis + ", inverted=" + invertedAxis + ", offset=" + offset + ", scale=" + scale + ']';
+    }
+
+    private double forward(final double value) {
+        if (!logAxis) {
+            return value;
+        }
+        return value > 0 ? Math.log10(value) : Double.NaN;
+    }
+
+    /**
+     * N.B. needs to be called from the JavaFX thread (or the thread owning the axis)
+     *
+     * @param axis the axis to take the snapshot of
+     * @return immutable snapshot of the current data-to-display transform of the axis
+     */
+    public static AxisTransformSnapshot of(final Axis axis) {
+        final double min = axis.getMin();
+        final double max = axis.getMax();
+        final boolean logAxis = axis.isLogAxis();
+        final double offset = axis.getDisplayPosition(min);
+        final double range = logAxis ? Math.log10(max) - Math.log10(min) : max - min;
+        return new AxisTransformSnapshot(min, max, logAxis, axis.isInvertedAxis(), offset, (axis.getDisplayPosition(max) - offset) / range);
+    }
+}
@@ -17,9 +17,10 @@ import de.gsi.chart.utils.StyleParser;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.DataSetError;
 import de.gsi.dataset.DataSetError.ErrorType;
-import de.gsi.dataset.utils.ArrayCache;
+import de.gsi.dataset.spi.DoubleDataSet;
+import de.gsi.dataset.spi.DoubleErrorDataSet;
+import de.gsi.dataset.utils.ArrayPool;
 import de.gsi.dataset.utils.CachedDaemonThreadFactory;
-import de.gsi.dataset.utils.DoubleArrayCache;
 import de.gsi.dataset.utils.ProcessingProfiler;
 import de.gsi.math.ArrayUtils;
 
@@ -31,8 +32,6 @@ import de.gsi.math.ArrayUtils;
  */
 @SuppressWarnings({ "PMD.TooManyMethods", "PMD.TooManyFields" }) // designated purpose of this class
 class CachedDataPoints {
-    private static final String STYLES2 = "styles";
-    private static final String SELECTED2 = "selected";
     private static final double DEG_TO_RAD = Math.PI / 180.0;
 
     protected double[] xValues;
@@ -69,22 +68,22 @@ class CachedDataPoints {
 
     public CachedDataPoints(final int indexMin, final int indexMax, final int dataLength, final boolean full) {
         maxDataCount = dataLength;
-        xValues = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-        yValues = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-        styles = ArrayCache.getCachedStringArray(STYLES2, dataLength);
+        xValues = ArrayPool.DOUBLE.acquire(maxDataCount);
+        yValues = ArrayPool.DOUBLE.acquire(maxDataCount);
+        styles = ArrayPool.STRING.acquire(dataLength);
         this.indexMin = indexMin;
         this.indexMax = indexMax;
-        errorYNeg = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-        errorYPos = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
+        errorYNeg = ArrayPool.DOUBLE.acquire(maxDataCount);
+        errorYPos = ArrayPool.DOUBLE.acquire(maxDataCount);
         if (full) {
-            errorXNeg = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-            errorXPos = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
+            errorXNeg = ArrayPool.DOUBLE.acquire(maxDataCount);
+            errorXPos = ArrayPool.DOUBLE.acquire(maxDataCount);
         }
-        selected = ArrayCache.getCachedBooleanArray(SELECTED2, dataLength);
+        selected = ArrayPool.BOOLEAN.acquire(dataLength);
         ArrayUtils.fillArray(styles, null);
     }
 
-    protected void computeBoundaryVariables(final Axis xAxis, final Axis yAxis) {
+    protected void computeBoundaryVariables(final AxisTransformSnapshot xAxis, final AxisTransformSnapshot yAxis) {
         xAxisInverted = xAxis.isInvertedAxis();
         yAxisInverted = yAxis.isInvertedAxis();
 
@@ -125,7 +124,7 @@ class CachedDataPoints {
         });
     }
 
-    private void computeFullPolar(final Axis yAxis, final DataSetError dataSet, final int min, final int max) {
+    private void computeFullPolar(final AxisTransformSnapshot yAxis, final DataSetError dataSet, final int min, final int max) {
         dataSet.lock().readLockGuardOptimistic(() -> {
             for (int index = min; index < max; index++) {
                 final double x = dataSet.get(DIM_X, index);
@@ -151,7 +150,7 @@ class CachedDataPoints {
         });
     }
 
-    private void computeNoErrorPolar(final Axis yAxis, final DataSet dataSet, final int min, final int max) {
+    private void computeNoErrorPolar(final AxisTransformSnapshot yAxis, final DataSet dataSet, final int min, final int max) {
         // experimental transform euclidean to polar coordinates
         dataSet.lock().readLockGuardOptimistic(() -> {
             for (int index = min; index < max; index++) {
@@ -175,6 +174,13 @@ class CachedDataPoints {
     protected void computeScreenCoordinates(final Axis xAxis, final Axis yAxis, final DataSet dataSet,
             final int dsIndex, final int min, final int max, final ErrorStyle localRendErrorStyle,
             final boolean isPolarPlot, final boolean doAllowForNaNs) {
+        computeScreenCoordinates(AxisTransformSnapshot.of(xAxis), AxisTransformSnapshot.of(yAxis), dataSet, dsIndex, min, max,
+                localRendErrorStyle, isPolarPlot, doAllowForNaNs);
+    }
+
+    protected void computeScreenCoordinates(final AxisTransformSnapshot xAxis, final AxisTransformSnapshot yAxis, final DataSet dataSet,
+            final int dsIndex, final int min, final int max, final ErrorStyle localRendErrorStyle,
+            final boolean isPolarPlot, final boolean doAllowForNaNs) {
         setBoundaryConditions(xAxis, yAxis, dataSet, dsIndex, min, max, localRendErrorStyle, isPolarPlot,
                 doAllowForNaNs);
 
@@ -182,7 +188,7 @@ class CachedDataPoints {
         computeScreenCoordinatesNonThreaded(xAxis, yAxis, dataSet, min, max);
     }
 
-    private void computeScreenCoordinatesEuclidean(final Axis xAxis, final Axis yAxis, final DataSet dataSet,
+    private void computeScreenCoordinatesEuclidean(final AxisTransformSnapshot xAxis, final AxisTransformSnapshot yAxis, final DataSet dataSet,
             final int min, final int max) {
         for (int dimIndex = 0; dimIndex < 2; dimIndex++) {
             switch (errorType[dimIndex]) {
@@ -211,6 +217,13 @@ class CachedDataPoints {
     protected void computeScreenCoordinatesInParallel(final Axis xAxis, final Axis yAxis, final DataSet dataSet,
             final int dsIndex, final int min, final int max, final ErrorStyle localRendErrorStyle,
             final boolean isPolarPlot, final boolean doAllowForNaNs) {
+        computeScreenCoordinatesInParallel(AxisTransformSnapshot.of(xAxis), AxisTransformSnapshot.of(yAxis), dataSet, dsIndex,
+                min, max, localRendErrorStyle, isPolarPlot, doAllowForNaNs);
+    }
+
+    protected void computeScreenCoordinatesInParallel(final AxisTransformSnapshot xAxis, final AxisTransformSnapshot yAxis, final DataSet dataSet,
+            final int dsIndex, final int min, final int max, final ErrorStyle localRendErrorStyle,
+            final boolean isPolarPlot, final boolean doAllowForNaNs) {
         setBoundaryConditions(xAxis, yAxis, dataSet, dsIndex, min, max, localRendErrorStyle, isPolarPlot,
                 doAllowForNaNs);
 
@@ -218,7 +231,7 @@ class CachedDataPoints {
         computeScreenCoordinatesParallel(xAxis, yAxis, dataSet, min, max);
     }
 
-    protected void computeScreenCoordinatesNonThreaded(final Axis xAxis, final Axis yAxis, final DataSet dataSet,
+    protected void computeScreenCoordinatesNonThreaded(final AxisTransformSnapshot xAxis, final AxisTransformSnapshot yAxis, final DataSet dataSet,
             final int min, final int max) {
         if (polarPlot) {
             computeScreenCoordinatesPolar(yAxis, dataSet, min, max);
@@ -227,7 +240,7 @@ class CachedDataPoints {
         }
     }
 
-    protected void computeScreenCoordinatesParallel(final Axis xAxis, final Axis yAxis, final DataSet dataSet,
+    protected void computeScreenCoordinatesParallel(final AxisTransformSnapshot xAxis, final AxisTransformSnapshot yAxis, final DataSet dataSet,
             final int min, final int max) {
         final int minthreshold = 1000;
         final int divThread = (int) Math
@@ -259,7 +272,7 @@ class CachedDataPoints {
         }
     }
 
-    private void computeScreenCoordinatesPolar(final Axis yAxis, final DataSet dataSet, final int min, final int max) {
+    private void computeScreenCoordinatesPolar(final AxisTransformSnapshot yAxis, final DataSet dataSet, final int min, final int max) {
         if ((errorType[DIM_X] == ErrorType.NO_ERROR) && (errorType[DIM_Y] == ErrorType.NO_ERROR)) {
             computeNoErrorPolar(yAxis, dataSet, min, max);
         } else if (errorType[DIM_X] == ErrorType.NO_ERROR) {
@@ -271,7 +284,7 @@ class CachedDataPoints {
         }
     }
 
-    private void computeWithError(final Axis yAxis, final DataSet dataSet, final int dimIndex, final int min,
+    private void computeWithError(final AxisTransformSnapshot yAxis, final DataSet dataSet, final int dimIndex, final int min,
             final int max) {
         if (dataSet instanceof DataSetError) {
             dataSet.lock().readLockGuardOptimistic(() -> {
@@ -282,17 +295,20 @@ class CachedDataPoints {
                 final DataSetError ds = (DataSetError) dataSet;
                 for (int index = min; index < max; index++) {
                     final double value = dataSet.get(dimIndex, index);
+                    values[index] = value;
+                    valuesEN[index] = value - ds.getErrorNegative(dimIndex, index);
+                    valuesEP[index] = value + ds.getErrorPositive(dimIndex, index);
+                }
+                yAxis.getDisplayPositions(values, values, min, max);
+                yAxis.getDisplayPositions(valuesEN, valuesEN, min, max);
+                yAxis.getDisplayPositions(valuesEP, valuesEP, min, max);
 
-                    values[index] = yAxis.getDisplayPosition(value);
-
-                    if (!Double.isNaN(values[index])) {
-                        valuesEN[index] = yAxis.getDisplayPosition(value - ds.getErrorNegative(dimIndex, index));
-                        valuesEP[index] = yAxis.getDisplayPosition(value + ds.getErrorPositive(dimIndex, index));
-                        continue;
+                for (int index = min; index < max; index++) {
+                    if (Double.isNaN(values[index])) {
+                        values[index] = minValue;
+                        valuesEN[index] = minValue;
+                        valuesEP[index] = minValue;
                     }
-                    values[index] = minValue;
-                    valuesEN[index] = minValue;
-                    valuesEP[index] = minValue;
                 }
             });
             return;
@@ -304,9 +320,10 @@ class CachedDataPoints {
             final double[] valuesEN = dimIndex == DIM_X ? errorXNeg : errorYNeg;
             final double[] valuesEP = dimIndex == DIM_X ? errorXPos : errorYPos;
             final double minValue = dimIndex == DIM_X ? xMin : yMin;
+            copyDataValues(dataSet, dimIndex, values, min, max);
+            yAxis.getDisplayPositions(values, values, min, max);
 
             for (int index = min; index < max; index++) {
-                values[index] = yAxis.getDisplayPosition(dataSet.get(dimIndex, index));
                 if (Double.isFinite(values[index])) {
                     valuesEN[index] = values[index];
                     valuesEP[index] = values[index];
@@ -319,7 +336,7 @@ class CachedDataPoints {
         });
     }
 
-    private void computeWithErrorAllowingNaNs(final Axis yAxis, final DataSet dataSet, final int dimIndex,
+    private void computeWithErrorAllowingNaNs(final AxisTransformSnapshot yAxis, final DataSet dataSet, final int dimIndex,
             final int min, final int max) {
         if (dataSet instanceof DataSetError) {
             dataSet.lock().readLockGuardOptimistic(() -> {
@@ -331,16 +348,20 @@ class CachedDataPoints {
                     final double value = dataSet.get(dimIndex, index);
 
                     if (!Double.isFinite(value)) {
+                        // N.B. NaN is invariant under the axis transform
                         values[index] = Double.NaN;
                         valuesEN[index] = Double.NaN;
                         valuesEP[index] = Double.NaN;
                         continue;
                     }
 
-                    values[index] = yAxis.getDisplayPosition(value);
-                    valuesEN[index] = yAxis.getDisplayPosition(value - ds.getErrorNegative(dimIndex, index));
-                    valuesEP[index] = yAxis.getDisplayPosition(value + ds.getErrorPositive(dimIndex, index));
+                    values[index] = value;
+                    valuesEN[index] = value - ds.getErrorNegative(dimIndex, index);
+                    valuesEP[index] = value + ds.getErrorPositive(dimIndex, index);
                 }
+                yAxis.getDisplayPositions(values, values, min, max);
+                yAxis.getDisplayPositions(valuesEN, valuesEN, min, max);
+                yAxis.getDisplayPositions(valuesEP, valuesEP, min, max);
             });
             return;
         }
@@ -350,10 +371,10 @@ class CachedDataPoints {
             final double[] values = dimIndex == DIM_X ? xValues : yValues;
             final double[] valuesEN = dimIndex == DIM_X ? errorXNeg : errorYNeg;
             final double[] valuesEP = dimIndex == DIM_X ? errorXPos : errorYPos;
+            copyDataValues(dataSet, dimIndex, values, min, max);
+            yAxis.getDisplayPositions(values, values, min, max);
 
             for (int index = min; index < max; index++) {
-                values[index] = yAxis.getDisplayPosition(dataSet.get(dimIndex, index));
-
                 if (Double.isFinite(values[index])) {
                     valuesEN[index] = values[index];
                     valuesEP[index] = values[index];
@@ -366,17 +387,16 @@ class CachedDataPoints {
         });
     }
 
-    private void computeWithNoError(final Axis axis, final DataSet dataSet, final int dimIndex, final int min,
+    private void computeWithNoError(final AxisTransformSnapshot axis, final DataSet dataSet, final int dimIndex, final int min,
             final int max) {
         // no error attached
         dataSet.lock().readLockGuardOptimistic(() -> {
             final double[] values = dimIndex == DIM_X ? xValues : yValues;
             final double minValue = dimIndex == DIM_X ? xMin : yMin;
-            for (int index = min; index < max; index++) {
-                final double value = dataSet.get(dimIndex, index);
-
-                values[index] = axis.getDisplayPosition(value);
+            copyDataValues(dataSet, dimIndex, values, min, max);
+            axis.getDisplayPositions(values, values, min, max);
 
+            for (int index = min; index < max; index++) {
                 if (Double.isNaN(values[index])) {
                     yValues[index] = minValue;
                 }
@@ -389,20 +409,17 @@ class CachedDataPoints {
         });
     }
 
-    private void computeWithNoErrorAllowingNaNs(final Axis axis, final DataSet dataSet, final int dimIndex,
+    private void computeWithNoErrorAllowingNaNs(final AxisTransformSnapshot axis, final DataSet dataSet, final int dimIndex,
             final int min, final int max) {
         // no error attached
         dataSet.lock().readLockGuardOptimistic(() -> {
             final double[] values = dimIndex == DIM_X ? xValues : yValues;
             for (int index = min; index < max; index++) {
                 final double value = dataSet.get(dimIndex, index);
-
-                if (Double.isFinite(value)) {
-                    values[index] = axis.getDisplayPosition(value);
-                } else {
-                    values[index] = Double.NaN;
-                }
+                // N.B. NaN is invariant under the axis transform
+                values[index] = Double.isFinite(value) ? value : Double.NaN;
             }
+            axis.getDisplayPositions(values, values, min, max);
 
             if ((dimIndex == DIM_Y) && (rendererErrorStyle != ErrorStyle.NONE)) {
                 System.arraycopy(values, min, errorYNeg, min, max - min);
@@ -411,7 +428,7 @@ class CachedDataPoints {
         });
     }
 
-    private void computeYonlyPolar(final Axis yAxis, final DataSet dataSet, final int min, final int max) {
+    private void computeYonlyPolar(final AxisTransformSnapshot yAxis, final DataSet dataSet, final int min, final int max) {
         dataSet.lock().readLockGuardOptimistic(() -> {
             for (int index = min; index < max; index++) {
                 final double x = dataSet.get(DIM_X, index);
@@ -514,17 +531,17 @@ class CachedDataPoints {
     }
 
     public void release() {
-        DoubleArrayCache.getInstance().add(xValues);
-        DoubleArrayCache.getInstance().add(yValues);
-        DoubleArrayCache.getInstance().add(errorYNeg);
-        DoubleArrayCache.getInstance().add(errorYPos);
-        DoubleArrayCache.getInstance().add(errorXNeg);
-        DoubleArrayCache.getInstance().add(errorXPos);
-        ArrayCache.release(SELECTED2, selected);
-        ArrayCache.release(STYLES2, styles);
+        ArrayPool.DOUBLE.release(xValues);
+        ArrayPool.DOUBLE.release(yValues);
+        ArrayPool.DOUBLE.release(errorYNeg);
+        ArrayPool.DOUBLE.release(errorYPos);
+        ArrayPool.DOUBLE.release(errorXNeg);
+        ArrayPool.DOUBLE.release(errorXPos);
+        ArrayPool.BOOLEAN.release(selected);
+        ArrayPool.STRING.release(styles);
     }
 
-    private void setBoundaryConditions(final Axis xAxis, final Axis yAxis, final DataSet dataSet, final int dsIndex,
+    private void setBoundaryConditions(final AxisTransformSnapshot xAxis, final AxisTransformSnapshot yAxis, final DataSet dataSet, final int dsIndex,
             final int min, final int max, final ErrorStyle rendererErrorStyle, final boolean isPolarPlot,
             final boolean doAllowForNaNs) {
         indexMin = min;
@@ -576,4 +593,19 @@ class CachedDataPoints {
         dataSetStyleIndex = layoutOffset == null ? 0 : layoutOffset.intValue();
         dataSetIndex = dsIndexLocal == null ? dsIndex : dsIndexLocal.intValue();
     }
+
+    /**
+     * copies the data values of the index range [min, max) into 'dst' using the backing arrays where available
+     * N.B. exact class match since derived classes may override {@code get(..)} without updating the backing arrays
+     */
+    private static void copyDataValues(final DataSet dataSet, final int dimIndex, final double[] dst, final int min, final int max) {
+        final Class<?> dataSetClass = dataSet.getClass();
+        if (dataSetClass == DoubleDataSet.class || dataSetClass == DoubleErrorDataSet.class) {
+            System.arraycopy(dataSet.getValues(dimIndex), min, dst, min, max - min);
+            return;
+        }
+        for (int index = min; index < max; index++) {
+            dst[index] = dataSet.get(dimIndex, index);
+        }
+    }
 }
@@ -0,0 +1,125 @@
+package de.gsi.chart.renderer.spi;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.gsi.chart.utils.FXUtils;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.event.EventListener;
+import de.gsi.dataset.event.UpdateEvent;
+import de.gsi.dataset.utils.CachedDaemonThreadFactory;
+
+/**
+ * Double-buffered, asynchronously prepared {@link CachedDataPoints} (screen coordinates and reduced points) of a single
+ * {@link DataSet}.
+ * <p>
+ * Phase one -- taking the data set read lock, computing the screen coordinates and the point reduction -- is executed
+ * on a shared worker pool whenever the data set notifies an update or the preparation key (axis ranges, canvas size,
+ * renderer settings) changes. Phase two -- the actual {@code GraphicsContext} draw calls -- only uses the last completed
+ * ('front') buffer on the JavaFX thread, thus a slow data set never blocks a frame but is drawn with its previous
+ * state until the new preparation is ready. At most one preparation per data set is in flight; requests issued in the
+ * meantime are coalesced into a single follow-up preparation.
+ * <p>
+ * N.B. apart from {@link #handle(UpdateEvent)} all methods must be called from the JavaFX thread.
+ *
+ * @author rstein
+ */
+final class CachedDataPointsBuffer implements EventListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachedDataPointsBuffer.class);
+    private static final ExecutorService PREPARATION_POOL = Executors.newFixedThreadPool(CachedDaemonThreadFactory.getNumbersOfThreads(), CachedDaemonThreadFactory.getInstance());
+    private final DataSet dataSet;
+    private volatile boolean dirty = true; // NOPMD - set by data set update events from arbitrary threads
+    private CachedDataPoints front;
+    private List<Object> frontKey;
+    private List<Object> requestedKey;
+    private Supplier<Optional<CachedDataPoints>> requestedPreparation;
+    private Runnable requestedOnReady;
+    private boolean inFlight;
+    private boolean disposed;
+
+    CachedDataPointsBuffer(final DataSet dataSet) {
+        this.dataSet = dataSet;
+        dataSet.addListener(this);
+    }
+
+    /**
+     * releases the front buffer and detaches from the data set. Preparations still in flight are discarded once done.
+     */
+    void dispose() {
+        disposed = true;
+        dataSet.removeListener(this);
+        requestedPreparation = null; // NOPMD - release renderer/chart references held by the task
+        requestedOnReady = null; // NOPMD
+        if (front != null) {
+            front.release();
+            front = null;
+        }
+    }
+
+    /**
+     * @return last completed preparation result, or {@code null} if none is available (yet) or there is nothing to be drawn
+     */
+    CachedDataPoints getFront() {
+        return front;
+    }
+
+    @Override
+    public void handle(final UpdateEvent event) {
+        dirty = true;
+    }
+
+    /**
+     * Requests a new preparation if the data set has been updated or the key changed since the last preparation.
+     *
+     * @param key value-based description of all parameters the preparation depends on (axis ranges, settings, ...)
+     * @param preparation preparation task executed on the worker pool (N.B. must not access JavaFX state, e.g. the axes
+     *        are accessed only via their {@link AxisTransformSnapshot})
+     * @param onReady notified on the JavaFX thread once a new front buffer is available (e.g. to request a re-layout)
+     */
+    void request(final List<Object> key, final Supplier<Optional<CachedDataPoints>> preparation, final Runnable onReady) {
+        requestedKey = key;
+        requestedPreparation = preparation;
+        requestedOnReady = onReady;
+        if (inFlight || (!dirty && key.equals(frontKey))) {
+            return;
+        }
+        submit();
+    }
+
+    private void completed(final List<Object> key, final Optional<CachedDataPoints> result, final Throwable exception, final Runnable onReady) {
+        inFlight = false;
+        if (disposed) {
+            result.ifPresent(CachedDataPoints::release);
+            return;
+        }
+        if (exception != null) {
+            LOGGER.atWarn().setCause(exception).addArgument(dataSet.getName()).log("could not prepare data set '{}' for rendering");
+        }
+        final CachedDataPoints oldFront = front;
+        front = result.orElse(null);
+        frontKey = key; // N.B. also on failure to prevent endless re-tries for the same key
+        if (oldFront != null) {
+            oldFront.release();
+        }
+
+        if (dirty || !requestedKey.equals(frontKey)) {
+            submit(); // coalesced follow-up request
+        }
+        onReady.run();
+    }
+
+    private void submit() {
+        inFlight = true;
+        dirty = false; // N.B. reset before taking the snapshot so that concurrent updates trigger a follow-up preparation
+        final List<Object> key = requestedKey;
+        final Runnable onReady = requestedOnReady;
+        CompletableFuture.supplyAsync(requestedPreparation, PREPARATION_POOL).whenComplete((result, exception) -> FXUtils.runFX(() -> completed(key, result == null ? Optional.empty() : result, exception, onReady)));
+    }
+}
@@ -27,10 +27,10 @@ import de.gsi.chart.renderer.spi.utils.ColorGradient;
 import de.gsi.chart.utils.WritableImageCache;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.spi.CircularDoubleGridDataSet;
 import de.gsi.dataset.spi.DataRange;
-import de.gsi.dataset.utils.ByteArrayCache;
+import de.gsi.dataset.utils.ArrayPool;
 import de.gsi.dataset.utils.CachedDaemonThreadFactory;
-import de.gsi.dataset.utils.DoubleArrayCache;
 import de.gsi.dataset.utils.ProcessingProfiler;
 
 /**
@@ -76,6 +76,10 @@ class ContourDataSetCache extends WritableImageCache {
     protected final boolean xInverted;
     protected final boolean yInverted;
     protected final boolean zInverted;
+    protected final boolean parallelImplementation;
+    protected final int quantisationLevels;
+    protected final long rowSequence; // row sequence of streaming data sets showing their full y-range, '-1' otherwise
+    protected final boolean streaming; // only appended rows are mapped into the heat map image, no data buffers
 
     // temp data variables
     protected final double[] dataBuffer;
@@ -107,6 +111,8 @@ class ContourDataSetCache extends WritableImageCache {
         xInverted = xAxis.isInvertedAxis();
         yInverted = yAxis.isInvertedAxis();
         zInverted = zAxis.isInvertedAxis();
+        parallelImplementation = renderer.isParallelImplementation();
+        quantisationLevels = renderer.getNumberQuantisationLevels();
 
         this.xAxisWidth = xAxis.getWidth();
         this.yAxisHeight = yAxis.getHeight();
@@ -141,9 +147,21 @@ class ContourDataSetCache extends WritableImageCache {
         this.indexYMax = Math.max(indexYMinTemp, indexYMaxTemp);
         this.xSize = Math.abs(this.indexXMax - this.indexXMin) + 1;
         this.ySize = Math.abs(this.indexYMax - this.indexYMin) + 1;
+        final boolean fullYRange = indexYMin == 0 && indexYMax == gridDataSet.getShape(DIM_Y) - 1;
+        this.rowSequence = dataSet instanceof CircularDoubleGridDataSet && fullYRange ? ((CircularDoubleGridDataSet) dataSet).getRowSequence() : -1;
+
+        // streaming heat maps: only the rows appended since the last update are copied, quantised and colour-mapped
+        streaming = rowSequence >= 0 && renderer.getContourType() == ContourType.HEATMAP && !isReductionRequired(renderer);
+        if (streaming) {
+            dataBuffer = null;
+            reduced = null;
+            updateStreamingImage(renderer, (CircularDoubleGridDataSet) dataSet);
+            ProcessingProfiler.getTimeDiff(start, "map appended rows");
+            return;
+        }
 
         // copy- transform data
-        dataBuffer = DoubleArrayCache.getInstance().getArrayExact(this.xSize * this.ySize);
+        dataBuffer = ArrayPool.DOUBLE.acquire(this.xSize * this.ySize);
         // TODO: tune this limit
         final int minSizeThreshold = REF_WIDTH_PARALLEL * REF_HEIGHT_PARALLEL;
         final boolean sufficientlyLarge = xSize * ySize < minSizeThreshold;
@@ -170,8 +188,7 @@ class ContourDataSetCache extends WritableImageCache {
         if (axisTransform == null) {
             throw new IllegalArgumentException("zAxis of renderer needs to have an axis transform for its z-Axis");
         }
-        final int nQuant = renderer.getNumberQuantisationLevels();
-        quantizeData(reduced, xSize, ySize, zInverted, zMin, zMax, axisTransform, nQuant);
+        quantizeData(reduced, xSize, ySize, zInverted, zMin, zMax, axisTransform, quantisationLevels);
         ProcessingProfiler.getTimeDiff(start, "quantized data");
     }
 
@@ -190,8 +207,8 @@ class ContourDataSetCache extends WritableImageCache {
     }
 
     public void releaseCachedVariables() {
-        DoubleArrayCache.getInstance().add(dataBuffer);
-        DoubleArrayCache.getInstance().add(tempDataBuffer);
+        ArrayPool.DOUBLE.release(dataBuffer);
+        ArrayPool.DOUBLE.release(tempDataBuffer);
     }
 
     protected double[] reduceDataArray(final double[] input, final int srcWidth, final int srcHeight,
@@ -201,11 +218,9 @@ class ContourDataSetCache extends WritableImageCache {
         final ReductionType reductionType = renderer.getReductionType();
         final double dataPixelSizeX = (double) reductionFactorX * xSize / xAxisWidth;
         final double dataPixelSizeY = (double) reductionFactorY * ySize / yAxisHeight;
-        final boolean mayReduceX = dataPixelSizeX > 1.0 && xSize > 10;
-        final boolean mayReduceY = dataPixelSizeY > 1.0 && ySize > 10;
 
         final double[] reducedData;
-        if ((mayReduceX || mayReduceY) && renderer.isActualReducePoints()) {
+        if (isReductionRequired(renderer)) {
             int targetWidth = (int) (srcWidth / Math.max((dataPixelSizeX), 1));
             int targetHeight = (int) (srcHeight / Math.max((dataPixelSizeY), 1));
 
@@ -221,7 +236,7 @@ class ContourDataSetCache extends WritableImageCache {
 
             //            System.err.printf("image width = %d x %d - reduced from %d x %d\n", targetWidth, targetHeight, xSize, ySize);
 
-            tempDataBuffer = DoubleArrayCache.getInstance().getArrayExact(targetWidth * targetHeight);
+            tempDataBuffer = ArrayPool.DOUBLE.acquire(targetWidth * targetHeight);
 
             DefaultDataReducer3D.resample(input, srcWidth, srcHeight, tempDataBuffer, targetWidth, targetHeight,
                     reductionType);
@@ -236,6 +251,14 @@ class ContourDataSetCache extends WritableImageCache {
         return reducedData;
     }
 
+    protected boolean isReductionRequired(final ContourDataSetRenderer renderer) {
+        final double dataPixelSizeX = (double) Math.max(renderer.getReductionFactorX(), 1) * xSize / xAxisWidth;
+        final double dataPixelSizeY = (double) Math.max(renderer.getReductionFactorY(), 1) * ySize / yAxisHeight;
+        final boolean mayReduceX = dataPixelSizeX > 1.0 && xSize > 10;
+        final boolean mayReduceY = dataPixelSizeY > 1.0 && ySize > 10;
+        return (mayReduceX || mayReduceY) && renderer.isActualReducePoints();
+    }
+
     protected static void computeCoordinates(final GridDataSet dataSet, final double[] dataBuffer, final int dataLength, //
             final boolean xAxisInverted, final int xMinIndex, final int xMaxIndex, //
             final boolean yAxisInverted, final int yMinIndex, final int yMaxIndex, //
@@ -348,7 +371,7 @@ class ContourDataSetCache extends WritableImageCache {
             final ColorGradient colorGradient) {
         final int length = dataWidth * dataHeight;
 
-        final byte[] byteBuffer = ByteArrayCache.getInstance().getArrayExact(length * BGRA_BYTE_SIZE);
+        final byte[] byteBuffer = ArrayPool.BYTE.acquire(length * BGRA_BYTE_SIZE);
         final int rowSizeInBytes = BGRA_BYTE_SIZE * dataWidth;
         final WritableImage image = this.getImage(dataWidth, dataHeight);
         final PixelWriter pixelWriter = image.getPixelWriter();
@@ -377,10 +400,47 @@ class ContourDataSetCache extends WritableImageCache {
 
         pixelWriter.setPixels(0, 0, dataWidth, dataHeight, PixelFormat.getByteBgraPreInstance(), byteBuffer, 0,
                 rowSizeInBytes);
-        ByteArrayCache.getInstance().add(byteBuffer);
+        ArrayPool.BYTE.release(byteBuffer);
         return image;
     }
 
+    /**
+     * Look-up table based alternative to {@link #convertDataArrayToImage(double[], int, int, ColorGradient)} that maps
+     * the quantised data (tiled and in parallel if enabled) directly into the persistent pixel buffer of the given
+     * image buffer.
+     *
+     * @param inputData quantised z-data
+     * @param dataWidth width of the data/image
+     * @param dataHeight height of the data/image
+     * @param colorGradient colour gradient to be used
+     * @param imageBuffer target image buffer (N.B. should be re-used between updates)
+     * @return the updated image
+     */
+    protected WritableImage convertDataArrayToImage(final double[] inputData, final int dataWidth, final int dataHeight,
+            final ColorGradient colorGradient, final HeatMapImageBuffer imageBuffer) {
+        return imageBuffer.update(inputData, dataWidth, dataHeight, colorGradient, quantisationLevels, parallelImplementation);
+    }
+
+    /**
+     * Maps the rows of {@link CircularDoubleGridDataSet}s that are shown over their full y-range without data reduction
+     * into the ring-indexed image of the renderer's image buffer, ie. only the rows appended since the last update are
+     * processed (see {@link HeatMapImageBuffer#updateRows}). For auto-ranging z-axes, the colour scale follows the z-range
+     * of the data set with hysteresis.
+     */
+    private void updateStreamingImage(final ContourDataSetRenderer renderer, final CircularDoubleGridDataSet streamingDataSet) {
+        final AxisTransform axisTransform = zAxis.getAxisTransform();
+        if (axisTransform == null) {
+            throw new IllegalArgumentException("zAxis of renderer needs to have an axis transform for its z-Axis");
+        }
+        final boolean autoScale = zAxis.isAutoRanging() || zAxis.isAutoGrowRanging();
+        if (autoScale) {
+            zMin = dataSet.getAxisDescription(DIM_Z).getMin();
+            zMax = dataSet.getAxisDescription(DIM_Z).getMax();
+        }
+        final int[] lut = renderer.getColorGradient().getColorLookupTable(quantisationLevels);
+        renderer.getHeatMapImageBuffer(dataSet).updateRows(streamingDataSet, indexXMin, indexXMax, xInverted, lut, axisTransform, zMin, zMax, zInverted, autoScale);
+    }
+
     protected static int roundDownEven(double d) {
         return (int) Math.floor(d / 2) * 2;
     }
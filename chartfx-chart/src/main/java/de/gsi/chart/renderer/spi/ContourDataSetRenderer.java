@@ -5,7 +5,9 @@ import static javafx.scene.paint.CycleMethod.NO_CYCLE;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 
 import javafx.collections.ObservableList;
@@ -72,6 +74,7 @@ import de.gsi.dataset.utils.ProcessingProfiler;
 public class ContourDataSetRenderer extends AbstractContourDataSetRendererParameter<ContourDataSetRenderer> implements Renderer {
     private static final Logger LOGGER = LoggerFactory.getLogger(ContourDataSetRenderer.class);
     private ContourDataSetCache localCache;
+    private final Map<DataSet, HeatMapImageBuffer> heatMapImages = new IdentityHashMap<>();
     private Axis zAxis;
     protected final Rectangle gradientRect = new Rectangle();
 
@@ -201,16 +204,27 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
         // N.B. works only since OpenJFX 12!! fall-back for JDK8 is the old implementation
         gc.setImageSmoothing(isSmooth());
 
-        // process z quantisation to colour transform
-        final WritableImage image = localCache.convertDataArrayToImage(lCache.reduced, lCache.xSize, lCache.ySize, getColorGradient());
+        // process z quantisation to colour transform (N.B. streaming data sets are mapped while creating the cache)
+        final HeatMapImageBuffer imageBuffer = getHeatMapImageBuffer(lCache.dataSet);
+        if (!lCache.streaming) {
+            lCache.convertDataArrayToImage(lCache.reduced, lCache.xSize, lCache.ySize, getColorGradient(), imageBuffer);
+        }
         ProcessingProfiler.getTimeDiff(start, "color map");
 
-        gc.drawImage(image, lCache.xDataPixelMin, lCache.yDataPixelMin, lCache.xDataPixelRange, lCache.yDataPixelRange);
+        // new rows of streaming data sets are at the upper end of the y-axis
+        imageBuffer.drawImage(gc, lCache.xDataPixelMin, lCache.yDataPixelMin, lCache.xDataPixelRange, lCache.yDataPixelRange, !lCache.yInverted);
 
-        localCache.add(image);
         ProcessingProfiler.getTimeDiff(start, "drawHeatMap");
     }
 
+    /**
+     * @param dataSet drawn data set
+     * @return persistent heat map image buffer of the given data set
+     */
+    HeatMapImageBuffer getHeatMapImageBuffer(final DataSet dataSet) {
+        return heatMapImages.computeIfAbsent(dataSet, ds -> new HeatMapImageBuffer());
+    }
+
     private void drawHexagonHeatMap(final GraphicsContext gc, final ContourDataSetCache lCache) {
         final long start = ProcessingProfiler.getTimeStamp();
 
@@ -440,6 +454,8 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
             ProcessingProfiler.getTimeDiff(mid, "finished drawing");
 
         } // end of 'dataSetIndex' loop
+        // release image buffers of data sets that are no longer drawn
+        heatMapImages.keySet().removeIf(dataSet -> drawnDataSet.stream().noneMatch(drawn -> drawn == dataSet));
 
         ProcessingProfiler.getTimeDiff(start);
 
@@ -0,0 +1,146 @@
+package de.gsi.chart.renderer.spi;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+import javafx.stage.Window;
+
+import de.gsi.dataset.DataSet;
+
+/**
+ * Per-{@link DataSet} cache of rendered layers (transparent image snapshots) for a single renderer.
+ * <p>
+ * A layer is identified by the data set's {@link DataSet#getModificationCount() modification count} and a value-based key that
+ * describes everything else the drawing depends on (axis ranges, canvas size, renderer and style settings). If both are
+ * unchanged w.r.t. the previous frame the cached image is blitted instead of recomputing and drawing the data set.
+ * Layers are only snapshotted once they have been stable for two consecutive frames, thus continuously updating data
+ * sets are drawn directly without the additional snapshot overhead.
+ * <p>
+ * N.B. all methods must be called from the JavaFX application thread. The snapshots are taken at the render scale of
+ * the window the canvas is shown in (HiDPI) and are invalidated if the latter changes.
+ *
+ * @author rstein
+ */
+final class DataSetLayerCache {
+    private final Map<DataSet, Layer> layers = new HashMap<>();
+    private final Canvas layerCanvas = new Canvas();
+    private final SnapshotParameters snapshotParameters = new SnapshotParameters();
+    private long hits;
+    private long misses;
+
+    DataSetLayerCache() {
+        snapshotParameters.setFill(Color.TRANSPARENT);
+    }
+
+    /**
+     * drops all cached layers
+     */
+    void clear() {
+        layers.clear();
+    }
+
+    /**
+     * @return number of layers that have been blitted from the cache
+     */
+    long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return ratio of cache hits to all layer draw requests, or NaN if there were none
+     */
+    double getHitRate() {
+        final long total = hits + misses;
+        return total == 0 ? Double.NaN : hits / (double) total;
+    }
+
+    /**
+     * @return number of layers that had to be (re-)drawn
+     */
+    long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Draws the layer of the given data set either from the cache or by invoking the painter.
+     *
+     * @param gc graphics context to draw into
+     * @param dataSet the data set the layer belongs to
+     * @param key value-based description of all other parameters the drawing depends on
+     * @param painter draws the data set into the given graphics context (N.B. same coordinate system as 'gc')
+     */
+    void render(final GraphicsContext gc, final DataSet dataSet, final List<Object> key, final Consumer<GraphicsContext> painter) {
+        final Layer layer = layers.computeIfAbsent(dataSet, ds -> new Layer());
+        final long version = dataSet.getModificationCount(); // N.B. read before drawing so that concurrent updates invalidate the layer
+        final Window window = getWindow(gc.getCanvas());
+        final double renderScaleX = window == null ? 1.0 : window.getRenderScaleX();
+        final double renderScaleY = window == null ? 1.0 : window.getRenderScaleY();
+        final boolean unchanged = version == layer.drawnVersion && key.equals(layer.drawnKey) //
+                                  && renderScaleX == layer.renderScaleX && renderScaleY == layer.renderScaleY; // NOPMD NOSONAR - exact comparison intended
+        if (unchanged && layer.image != null) {
+            hits++;
+            gc.drawImage(layer.image, 0, 0, layer.width, layer.height);
+            return;
+        }
+        misses++;
+        if (!unchanged) {
+            // data set or settings still changing -- draw directly
+            layer.drawnVersion = version;
+            layer.drawnKey = key;
+            layer.renderScaleX = renderScaleX;
+            layer.renderScaleY = renderScaleY;
+            layer.image = null;
+            painter.accept(gc);
+            return;
+        }
+
+        // stable for two frames -- draw into the off-screen layer and keep its snapshot
+        final double width = gc.getCanvas().getWidth();
+        final double height = gc.getCanvas().getHeight();
+        layerCanvas.setWidth(width);
+        layerCanvas.setHeight(height);
+        final GraphicsContext layerGc = layerCanvas.getGraphicsContext2D();
+        layerGc.clearRect(0, 0, width, height);
+        painter.accept(layerGc);
+        snapshotParameters.setTransform(Transform.scale(renderScaleX, renderScaleY)); // N.B. snapshot at device resolution
+        layer.image = layerCanvas.snapshot(snapshotParameters, null);
+        layer.width = width;
+        layer.height = height;
+        layerGc.clearRect(0, 0, width, height); // N.B. resets the canvas command buffer
+        gc.drawImage(layer.image, 0, 0, width, height);
+    }
+
+    /**
+     * drops the layers of data sets that are not part of the given collection
+     *
+     * @param dataSets data sets that are still drawn
+     */
+    void retainAll(final Collection<DataSet> dataSets) {
+        layers.keySet().retainAll(dataSets);
+    }
+
+    private static Window getWindow(final Canvas canvas) {
+        final Scene scene = canvas.getScene();
+        return scene == null ? null : scene.getWindow();
+    }
+
+    private static class Layer {
+        private long drawnVersion = -1;
+        private List<Object> drawnKey;
+        private double renderScaleX = 1.0;
+        private double renderScaleY = 1.0;
+        private WritableImage image;
+        private double width;
+        private double height;
+    }
+}
@@ -3,6 +3,8 @@ package de.gsi.chart.renderer.spi;
 import java.security.InvalidParameterException;
 import java.util.*;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.ObservableList;
 import javafx.geometry.Orientation;
 import javafx.scene.canvas.Canvas;
@@ -22,13 +24,17 @@ import de.gsi.chart.marker.DefaultMarker;
 import de.gsi.chart.marker.Marker;
 import de.gsi.chart.renderer.ErrorStyle;
 import de.gsi.chart.renderer.Renderer;
+import de.gsi.chart.renderer.RendererDataReducer;
 import de.gsi.chart.renderer.spi.utils.BezierCurve;
 import de.gsi.chart.renderer.spi.utils.DefaultRenderColorScheme;
+import de.gsi.chart.utils.FXUtils;
 import de.gsi.chart.utils.StyleParser;
 import de.gsi.dataset.DataSet;
+import de.gsi.dataset.DataSetError;
 import de.gsi.dataset.DataSetError.ErrorType;
 import de.gsi.dataset.spi.utils.Triple;
-import de.gsi.dataset.utils.DoubleArrayCache;
+import de.gsi.dataset.utils.ArrayPool;
+import de.gsi.dataset.utils.DataSetPyramid;
 import de.gsi.dataset.utils.ProcessingProfiler;
 
 /**
@@ -38,6 +44,10 @@ import de.gsi.dataset.utils.ProcessingProfiler;
  * <li>bar-type plot
  * <li>polar-axis plotting
  * <li>scatter and/or bubble-chart-type plots
+ * <li>level-of-detail rendering of large sorted data sets with an attached {@link DataSetPyramid} (N.B. only if no errors are drawn)
+ * <li>optional two-phase rendering (see {@link #asyncPreparationProperty()}) that prepares the screen coordinates off
+ * the JavaFX application thread
+ * <li>optional caching of the rendered data set layers (see {@link #layerCachingProperty()}) for static data sets
  * </ul>
  *
  * @author R.J. Steinhagen
@@ -49,6 +59,10 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
     private static final Logger LOGGER = LoggerFactory.getLogger(ErrorDataSetRenderer.class);
     private Marker marker = DefaultMarker.RECTANGLE; // default: rectangle
     private long stopStamp;
+    private final Map<DataSet, CachedDataPointsBuffer> preparedBuffers = new HashMap<>();
+    private final BooleanProperty asyncPreparation = new SimpleBooleanProperty(this, "asyncPreparation", false);
+    private final DataSetLayerCache layerCache = new DataSetLayerCache();
+    private final BooleanProperty layerCaching = new SimpleBooleanProperty(this, "layerCaching", false);
 
     /**
      * Creates new <code>ErrorDataSetRenderer</code>.
@@ -64,6 +78,55 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
      */
     public ErrorDataSetRenderer(final int dashSize) {
         setDashSize(dashSize);
+        asyncPreparation.addListener((ch, o, n) -> {
+            if (Boolean.FALSE.equals(n)) {
+                // N.B. the property may be changed from any thread while the buffers are confined to the FX thread
+                FXUtils.runFX(this::disposePreparedBuffers);
+            }
+        });
+        layerCaching.addListener((ch, o, n) -> {
+            if (Boolean.FALSE.equals(n)) {
+                FXUtils.runFX(layerCache::clear); // N.B. the cache is confined to the FX thread
+            }
+        });
+    }
+
+    /**
+     * Two-phase rendering: if enabled, the data set locking, screen coordinate computation and point reduction (phase
+     * one) are executed on a worker pool whenever the data set or the axis ranges change, while {@link #render} only
+     * issues the draw calls (phase two) for the last completed preparation. A slow or large data set thus no longer
+     * blocks the JavaFX thread but is drawn with its previous state until the new preparation is ready.
+     * <p>
+     * N.B. the chart is re-laid out once a preparation completes. Default: false (synchronous preparation)
+     *
+     * @return property controlling whether the render preparation is executed asynchronously
+     */
+    public BooleanProperty asyncPreparationProperty() {
+        return asyncPreparation;
+    }
+
+    /**
+     * @return number of data set layers that have been blitted from the layer cache
+     * @see #layerCachingProperty()
+     */
+    public long getLayerCacheHits() {
+        return layerCache.getHits();
+    }
+
+    /**
+     * @return ratio of layer cache hits to all (cached) data set draws, NaN if none
+     * @see #layerCachingProperty()
+     */
+    public double getLayerCacheHitRate() {
+        return layerCache.getHitRate();
+    }
+
+    /**
+     * @return number of data set layers that had to be (re-)drawn with the layer cache enabled
+     * @see #layerCachingProperty()
+     */
+    public long getLayerCacheMisses() {
+        return layerCache.getMisses();
     }
 
     /**
@@ -118,6 +181,37 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         return canvas;
     }
 
+    /**
+     * @return {@code true} if the render preparation is executed asynchronously
+     * @see #asyncPreparationProperty()
+     */
+    public boolean isAsyncPreparation() {
+        return asyncPreparationProperty().get();
+    }
+
+    /**
+     * @return {@code true} if the rendered data set layers are cached
+     * @see #layerCachingProperty()
+     */
+    public boolean isLayerCaching() {
+        return layerCachingProperty().get();
+    }
+
+    /**
+     * Layer caching: if enabled, each data set is drawn into its own (transparent) layer whose snapshot is re-used for
+     * as long as the data set has not been updated and the axis ranges, canvas size and renderer settings remain the
+     * same. Static reference traces are thus blitted rather than recomputed if only other data sets change.
+     * <p>
+     * N.B. continuously changing data sets are drawn directly, a layer is only cached after it has been stable for two
+     * consecutive frames. Only applies to the synchronous preparation (see {@link #asyncPreparationProperty()}).
+     * Default: false
+     *
+     * @return property controlling whether the rendered data set layers are cached
+     */
+    public BooleanProperty layerCachingProperty() {
+        return layerCaching;
+    }
+
     /**
      * Returns the marker used by this renderer.
      *
@@ -158,6 +252,9 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         final boolean xAxisInverted = xAxis.isInvertedAxis();
         final double xMin = xAxis.getValueForDisplay(xAxisInverted ? xAxisWidth : 0.0);
         final double xMax = xAxis.getValueForDisplay(xAxisInverted ? 0.0 : xAxisWidth);
+        // immutable copies of the axis transforms, the only axis state the (asynchronous) preparation may access
+        final AxisTransformSnapshot xTransform = AxisTransformSnapshot.of(xAxis);
+        final AxisTransformSnapshot yTransform = AxisTransformSnapshot.of(yAxis);
 
         if (ProcessingProfiler.getDebugState()) {
             ProcessingProfiler.getTimeDiff(start, "init");
@@ -165,7 +262,6 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
 
         List<DataSet> drawnDataSet = new ArrayList<>(localDataSetList.size());
         for (int dataSetIndex = localDataSetList.size() - 1; dataSetIndex >= 0; dataSetIndex--) {
-            final int ldataSetIndex = dataSetIndex;
             stopStamp = ProcessingProfiler.getTimeStamp();
             final DataSet dataSet = localDataSetList.get(dataSetIndex);
 
@@ -186,71 +282,188 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
                 }
             }
 
-            // check for potentially reduced data range we are supposed to plot
-            final Optional<CachedDataPoints> cachedPoints = dataSet.lock().readLockGuard(() -> {
-                int indexMin;
-                int indexMax; /* indexMax is excluded in the drawing */
-                if (isAssumeSortedData()) {
-                    indexMin = Math.max(0, dataSet.getIndex(DataSet.DIM_X, xMin) - 1);
-                    indexMax = Math.min(dataSet.getIndex(DataSet.DIM_X, xMax) + 2, dataSet.getDataCount());
-                } else {
-                    indexMin = 0;
-                    indexMax = dataSet.getDataCount();
-                }
-
-                if (indexMax - indexMin <= 0) {
-                    // zero length/range data set -> nothing to be drawn
-                    return Optional.empty();
+            final int dsIndex = dataSetOffset + dataSetIndex;
+            final boolean isPolarPlot = ((XYChart) chart).isPolarPlot();
+            drawnDataSet.add(dataSet);
+            if (isAsyncPreparation()) {
+                // two-phase rendering: prepare off the FX thread, draw the last completed preparation
+                final CachedDataPointsBuffer buffer = preparedBuffers.computeIfAbsent(dataSet, CachedDataPointsBuffer::new);
+                final List<Object> key = getPreparationKey(xTransform, yTransform, xMin, xMax, xAxisWidth, dsIndex, isPolarPlot);
+                final boolean assumeSorted = isAssumeSortedData();
+                final boolean parallel = isParallelImplementation();
+                final ErrorStyle errorStyle = getErrorType();
+                final boolean allowNaNs = isallowNaNs();
+                final RendererDataReducer reducer = rendererDataReducerProperty().get();
+                final boolean reducePoints = isReducePoints();
+                final int minRequiredReductionSize = getMinRequiredReductionSize();
+                buffer.request(key, () -> {
+                    final Optional<CachedDataPoints> points = prepareCachedPoints(xTransform, yTransform, dataSet, dsIndex, xMin, xMax, xAxisWidth, isPolarPlot, assumeSorted, parallel, errorStyle, allowNaNs);
+                    points.ifPresent(value -> value.reduce(reducer, reducePoints, minRequiredReductionSize));
+                    return points;
+                }, chart::requestLayout);
+                if (buffer.getFront() != null) {
+                    drawChartCompontents(gc, buffer.getFront());
                 }
+                continue;
+            }
 
-                if (ProcessingProfiler.getDebugState()) {
-                    stopStamp = ProcessingProfiler.getTimeDiff(stopStamp,
-                            "get min/max" + String.format(" from:%d to:%d", indexMin, indexMax));
-                }
+            if (isLayerCaching()) {
+                final List<Object> key = getLayerKey(getPreparationKey(xTransform, yTransform, xMin, xMax, xAxisWidth, dsIndex, isPolarPlot), gc, dataSet);
+                layerCache.render(gc, dataSet, key, layerGc -> drawDataSet(layerGc, xTransform, yTransform, dataSet, dsIndex, xMin, xMax, xAxisWidth, isPolarPlot));
+            } else {
+                drawDataSet(gc, xTransform, yTransform, dataSet, dsIndex, xMin, xMax, xAxisWidth, isPolarPlot);
+            }
 
-                final CachedDataPoints localCachedPoints = new CachedDataPoints(indexMin, indexMax,
-                        dataSet.getDataCount(), true);
-                if (ProcessingProfiler.getDebugState()) {
-                    stopStamp = ProcessingProfiler.getTimeDiff(stopStamp, "get CachedPoints");
-                }
+            stopStamp = ProcessingProfiler.getTimeStamp();
 
-                // compute local screen coordinates
-                final boolean isPolarPlot = ((XYChart) chart).isPolarPlot();
-                if (isParallelImplementation()) {
-                    localCachedPoints.computeScreenCoordinatesInParallel(xAxis, yAxis, dataSet,
-                            dataSetOffset + ldataSetIndex, indexMin, indexMax, getErrorType(), isPolarPlot,
-                            isallowNaNs());
-                } else {
-                    localCachedPoints.computeScreenCoordinates(xAxis, yAxis, dataSet, dataSetOffset + ldataSetIndex,
-                            indexMin, indexMax, getErrorType(), isPolarPlot, isallowNaNs());
-                }
-                if (ProcessingProfiler.getDebugState()) {
-                    stopStamp = ProcessingProfiler.getTimeDiff(stopStamp, "computeScreenCoordinates()");
+            if (ProcessingProfiler.getDebugState()) {
+                ProcessingProfiler.getTimeDiff(stopStamp, "localCachedPoints.release()");
+            }
+        } // end of 'dataSetIndex' loop
+        if (isLayerCaching()) {
+            layerCache.retainAll(drawnDataSet);
+        }
+        if (!preparedBuffers.isEmpty()) {
+            // release the preparation buffers of data sets that are no longer drawn
+            final boolean async = isAsyncPreparation();
+            preparedBuffers.entrySet().removeIf(entry -> {
+                final boolean remove = !async || !drawnDataSet.contains(entry.getKey());
+                if (remove) {
+                    entry.getValue().dispose();
                 }
-                return Optional.of(localCachedPoints);
+                return remove;
             });
+        }
+        ProcessingProfiler.getTimeDiff(start);
 
-            drawnDataSet.add(dataSet);
-            cachedPoints.ifPresent(value -> {
-                // invoke data reduction algorithm
-                value.reduce(rendererDataReducerProperty().get(), isReducePoints(),
-                        getMinRequiredReductionSize());
+        return drawnDataSet;
+    }
+
+    private void disposePreparedBuffers() {
+        if (isAsyncPreparation()) {
+            return; // re-enabled in the meantime
+        }
+        preparedBuffers.values().forEach(CachedDataPointsBuffer::dispose);
+        preparedBuffers.clear();
+    }
 
-                // draw individual plot components
-                drawChartCompontents(gc, value);
+    private void drawDataSet(final GraphicsContext gc, final AxisTransformSnapshot xTransform, final AxisTransformSnapshot yTransform, final DataSet dataSet, final int dsIndex, // NOPMD
+            final double xMin, final double xMax, final double xAxisWidth, final boolean isPolarPlot) {
+        // check for potentially reduced data range we are supposed to plot
+        final Optional<CachedDataPoints> cachedPoints = prepareCachedPoints(xTransform, yTransform, dataSet, dsIndex, xMin, xMax, xAxisWidth, isPolarPlot, isAssumeSortedData(), isParallelImplementation(), getErrorType(), isallowNaNs());
+        cachedPoints.ifPresent(value -> {
+            // invoke data reduction algorithm
+            value.reduce(rendererDataReducerProperty().get(), isReducePoints(),
+                    getMinRequiredReductionSize());
 
-                value.release();
-            });
+            // draw individual plot components
+            drawChartCompontents(gc, value);
 
-            stopStamp = ProcessingProfiler.getTimeStamp();
+            value.release();
+        });
+    }
+
+    /**
+     * @return value-based description of all parameters a data set layer depends on in addition to the preparation key
+     */
+    private List<Object> getLayerKey(final List<Object> preparationKey, final GraphicsContext gc, final DataSet dataSet) {
+        final List<Object> key = new ArrayList<>(preparationKey);
+        key.addAll(Arrays.asList(gc.getCanvas().getWidth(), gc.getCanvas().getHeight(), dataSet.getStyle(), getMarker(), //
+                getPolyLineStyle(), isDrawMarker(), getMarkerSize(), isDrawBars(), isDrawBubbles(), getDashSize(), //
+                isShiftBar(), getShiftBarOffset(), isDynamicBarWidth(), getBarWidthPercentage(), getBarWidth(), getIntensityFading()));
+        return key;
+    }
+
+    /**
+     * Phase one of the rendering: computes the screen coordinates (and LOD envelope) of the visible data set range.
+     * N.B. thread-safe as long as the given transforms are snapshots taken on the JavaFX thread
+     */
+    Optional<CachedDataPoints> prepareCachedPoints(final AxisTransformSnapshot xTransform, final AxisTransformSnapshot yTransform, final DataSet dataSet, final int dsIndex, // NOPMD
+            final double xMin, final double xMax, final double xAxisWidth, final boolean isPolarPlot, final boolean assumeSorted,
+            final boolean parallel, final ErrorStyle errorStyle, final boolean allowNaNs) {
+        return dataSet.lock().readLockGuard(() -> {
+            long localStamp = ProcessingProfiler.getTimeStamp();
+            int indexMin;
+            int indexMax; /* indexMax is excluded in the drawing */
+            if (assumeSorted) {
+                indexMin = Math.max(0, dataSet.getIndex(DataSet.DIM_X, xMin) - 1);
+                indexMax = Math.min(dataSet.getIndex(DataSet.DIM_X, xMax) + 2, dataSet.getDataCount());
+            } else {
+                indexMin = 0;
+                indexMax = dataSet.getDataCount();
+            }
+
+            if (indexMax - indexMin <= 0) {
+                // zero length/range data set -> nothing to be drawn
+                return Optional.empty();
+            }
+
+            // use the level-of-detail M4 envelope if the index range exceeds the number of pixels
+            // N.B. the envelope carries no errors -> draw data sets with errors from the raw data
+            final boolean drawErrors = errorStyle != ErrorStyle.NONE && dataSet instanceof DataSetError;
+            final DataSetPyramid pyramid = assumeSorted && !drawErrors ? DataSetPyramid.getAttached(dataSet) : null;
+            final DataSet renderDataSet;
+            if (pyramid != null && indexMax - indexMin > 2 * xAxisWidth) {
+                renderDataSet = pyramid.getEnvelope(indexMin, indexMax, (int) Math.max(1.0, xAxisWidth));
+                indexMin = 0;
+                indexMax = renderDataSet.getDataCount();
+            } else {
+                renderDataSet = dataSet;
+            }
 
             if (ProcessingProfiler.getDebugState()) {
-                ProcessingProfiler.getTimeDiff(stopStamp, "localCachedPoints.release()");
+                localStamp = ProcessingProfiler.getTimeDiff(localStamp,
+                        "get min/max" + String.format(" from:%d to:%d", indexMin, indexMax));
             }
-        } // end of 'dataSetIndex' loop
-        ProcessingProfiler.getTimeDiff(start);
 
-        return drawnDataSet;
+            final CachedDataPoints localCachedPoints = new CachedDataPoints(indexMin, indexMax,
+                    renderDataSet.getDataCount(), true);
+            if (ProcessingProfiler.getDebugState()) {
+                localStamp = ProcessingProfiler.getTimeDiff(localStamp, "get CachedPoints");
+            }
+
+            // compute local screen coordinates
+            if (parallel) {
+                localCachedPoints.computeScreenCoordinatesInParallel(xTransform, yTransform, renderDataSet, dsIndex, indexMin,
+                        indexMax, errorStyle, isPolarPlot, allowNaNs);
+            } else {
+                localCachedPoints.computeScreenCoordinates(xTransform, yTransform, renderDataSet, dsIndex, indexMin, indexMax,
+                        errorStyle, isPolarPlot, allowNaNs);
+            }
+            if (ProcessingProfiler.getDebugState()) {
+                ProcessingProfiler.getTimeDiff(localStamp, "computeScreenCoordinates()");
+            }
+            return Optional.of(localCachedPoints);
+        });
+    }
+
+    /**
+     * @return value-based description of all parameters the (asynchronous) render preparation depends on
+     */
+    private List<Object> getPreparationKey(final AxisTransformSnapshot xTransform, final AxisTransformSnapshot yTransform, final double xMin, final double xMax, // NOPMD
+            final double xAxisWidth, final int dsIndex, final boolean isPolarPlot) {
+        return Arrays.asList(xTransform, yTransform, xMin, xMax, xAxisWidth, dsIndex, isPolarPlot, isAssumeSortedData(), getErrorType(), isallowNaNs(), //
+                rendererDataReducerProperty().get(), isReducePoints(), getMinRequiredReductionSize());
+    }
+
+    /**
+     * @param state {@code true} to execute the render preparation asynchronously
+     * @return itself (fluent design)
+     * @see #asyncPreparationProperty()
+     */
+    public ErrorDataSetRenderer setAsyncPreparation(final boolean state) {
+        asyncPreparationProperty().set(state);
+        return getThis();
+    }
+
+    /**
+     * @param state {@code true} to cache the rendered data set layers
+     * @return itself (fluent design)
+     * @see #layerCachingProperty()
+     */
+    public ErrorDataSetRenderer setLayerCaching(final boolean state) {
+        layerCachingProperty().set(state);
+        return getThis();
     }
 
     /**
@@ -478,8 +691,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
 
         final int nDataCount = localCachedPoints.actualDataCount;
         final int nPolygoneEdges = 2 * nDataCount;
-        final double[] xValuesSurface = DoubleArrayCache.getInstance().getArrayExact(nPolygoneEdges);
-        final double[] yValuesSurface = DoubleArrayCache.getInstance().getArrayExact(nPolygoneEdges);
+        final double[] xValuesSurface = ArrayPool.DOUBLE.acquire(nPolygoneEdges);
+        final double[] yValuesSurface = ArrayPool.DOUBLE.acquire(nPolygoneEdges);
 
         final int xend = nPolygoneEdges - 1;
         for (int i = 0; i < nDataCount; i++) {
@@ -497,8 +710,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         drawMarker(gc, localCachedPoints);
         drawBubbles(gc, localCachedPoints);
 
-        DoubleArrayCache.getInstance().add(xValuesSurface);
-        DoubleArrayCache.getInstance().add(yValuesSurface);
+        ArrayPool.DOUBLE.release(xValuesSurface);
+        ArrayPool.DOUBLE.release(yValuesSurface);
 
         ProcessingProfiler.getTimeDiff(start);
     }
@@ -519,8 +732,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
 
         final int nDataCount = localCachedPoints.actualDataCount;
         final int nPolygoneEdges = 2 * nDataCount;
-        final double[] xValuesSurface = DoubleArrayCache.getInstance().getArrayExact(nPolygoneEdges);
-        final double[] yValuesSurface = DoubleArrayCache.getInstance().getArrayExact(nPolygoneEdges);
+        final double[] xValuesSurface = ArrayPool.DOUBLE.acquire(nPolygoneEdges);
+        final double[] yValuesSurface = ArrayPool.DOUBLE.acquire(nPolygoneEdges);
 
         final int xend = nPolygoneEdges - 1;
         int count = 0;
@@ -537,8 +750,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
                 count++;
             } else if (count != 0) {
                 // remove zeros and plot intermediate segment
-                compactVector(xValuesSurface, count);
-                compactVector(yValuesSurface, count);
+                compactVector(xValuesSurface, nPolygoneEdges, count);
+                compactVector(yValuesSurface, nPolygoneEdges, count);
 
                 gc.fillPolygon(xValuesSurface, yValuesSurface, 2 * count);
                 count = 0;
@@ -547,8 +760,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         if (count > 0) {
             // swap y coordinates at mid-point
             // remove zeros and plot intermediate segment
-            compactVector(xValuesSurface, count);
-            compactVector(yValuesSurface, count);
+            compactVector(xValuesSurface, nPolygoneEdges, count);
+            compactVector(yValuesSurface, nPolygoneEdges, count);
             if (count > 4) {
                 final double yTmp = yValuesSurface[count - 1];
                 yValuesSurface[count - 1] = yValuesSurface[count];
@@ -563,8 +776,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         drawMarker(gc, localCachedPoints);
         drawBubbles(gc, localCachedPoints);
 
-        DoubleArrayCache.getInstance().add(xValuesSurface);
-        DoubleArrayCache.getInstance().add(yValuesSurface);
+        ArrayPool.DOUBLE.release(xValuesSurface);
+        ArrayPool.DOUBLE.release(yValuesSurface);
 
         ProcessingProfiler.getTimeDiff(start);
     }
@@ -731,8 +944,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         }
 
         // need to allocate new array :-(
-        final double[] newX = DoubleArrayCache.getInstance().getArrayExact(n + 2);
-        final double[] newY = DoubleArrayCache.getInstance().getArrayExact(n + 2);
+        final double[] newX = ArrayPool.DOUBLE.acquire(n + 2);
+        final double[] newY = ArrayPool.DOUBLE.acquire(n + 2);
 
         final double zero = localCachedPoints.yZero;
         System.arraycopy(localCachedPoints.xValues, 0, newX, 0, n);
@@ -752,8 +965,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         gc.restore();
 
         // release arrays to cache
-        DoubleArrayCache.getInstance().add(newX);
-        DoubleArrayCache.getInstance().add(newY);
+        ArrayPool.DOUBLE.release(newX);
+        ArrayPool.DOUBLE.release(newY);
     }
 
     protected static void drawPolyLineHistogram(final GraphicsContext gc, final CachedDataPoints localCachedPoints) {
@@ -763,8 +976,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         }
 
         // need to allocate new array :-(
-        final double[] newX = DoubleArrayCache.getInstance().getArrayExact(2 * (n + 1));
-        final double[] newY = DoubleArrayCache.getInstance().getArrayExact(2 * (n + 1));
+        final double[] newX = ArrayPool.DOUBLE.acquire(2 * (n + 1));
+        final double[] newY = ArrayPool.DOUBLE.acquire(2 * (n + 1));
 
         final double xRange = localCachedPoints.xMax - localCachedPoints.xMin;
         double diffLeft;
@@ -803,8 +1016,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         gc.restore();
 
         // release arrays to cache
-        DoubleArrayCache.getInstance().add(newX);
-        DoubleArrayCache.getInstance().add(newY);
+        ArrayPool.DOUBLE.release(newX);
+        ArrayPool.DOUBLE.release(newY);
     }
 
     protected static void drawPolyLineHistogramBezier(final GraphicsContext gc,
@@ -816,10 +1029,10 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         }
 
         // need to allocate new array :-(
-        final double[] xCp1 = DoubleArrayCache.getInstance().getArrayExact(n);
-        final double[] yCp1 = DoubleArrayCache.getInstance().getArrayExact(n);
-        final double[] xCp2 = DoubleArrayCache.getInstance().getArrayExact(n);
-        final double[] yCp2 = DoubleArrayCache.getInstance().getArrayExact(n);
+        final double[] xCp1 = ArrayPool.DOUBLE.acquire(n);
+        final double[] yCp1 = ArrayPool.DOUBLE.acquire(n);
+        final double[] xCp2 = ArrayPool.DOUBLE.acquire(n);
+        final double[] yCp2 = ArrayPool.DOUBLE.acquire(n);
 
         BezierCurve.calcCurveControlPoints(localCachedPoints.xValues, localCachedPoints.yValues, xCp1, yCp1, xCp2, yCp2,
                 localCachedPoints.actualDataCount);
@@ -853,10 +1066,10 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         gc.restore();
 
         // release arrays to Cache
-        DoubleArrayCache.getInstance().add(xCp1);
-        DoubleArrayCache.getInstance().add(yCp1);
-        DoubleArrayCache.getInstance().add(xCp2);
-        DoubleArrayCache.getInstance().add(yCp2);
+        ArrayPool.DOUBLE.release(xCp1);
+        ArrayPool.DOUBLE.release(yCp1);
+        ArrayPool.DOUBLE.release(xCp2);
+        ArrayPool.DOUBLE.release(yCp2);
     }
 
     protected static void drawPolyLineHistogramFilled(final GraphicsContext gc,
@@ -867,8 +1080,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         }
 
         // need to allocate new array :-(
-        final double[] newX = DoubleArrayCache.getInstance().getArrayExact(2 * (n + 1));
-        final double[] newY = DoubleArrayCache.getInstance().getArrayExact(2 * (n + 1));
+        final double[] newX = ArrayPool.DOUBLE.acquire(2 * (n + 1));
+        final double[] newY = ArrayPool.DOUBLE.acquire(2 * (n + 1));
 
         final double xRange = localCachedPoints.xMax - localCachedPoints.xMin;
         double diffLeft;
@@ -901,8 +1114,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         gc.restore();
 
         // release arrays to cache
-        DoubleArrayCache.getInstance().add(newX);
-        DoubleArrayCache.getInstance().add(newY);
+        ArrayPool.DOUBLE.release(newX);
+        ArrayPool.DOUBLE.release(newY);
     }
 
     protected static void drawPolyLineLine(final GraphicsContext gc, final CachedDataPoints localCachedPoints) {
@@ -961,8 +1174,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         }
 
         // need to allocate new array :-(
-        final double[] newX = DoubleArrayCache.getInstance().getArrayExact(2 * n);
-        final double[] newY = DoubleArrayCache.getInstance().getArrayExact(2 * n);
+        final double[] newX = ArrayPool.DOUBLE.acquire(2 * n);
+        final double[] newY = ArrayPool.DOUBLE.acquire(2 * n);
 
         for (int i = 0; i < n - 1; i++) {
             newX[2 * i] = localCachedPoints.xValues[i];
@@ -992,13 +1205,13 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         gc.restore();
 
         // release arrays to cache
-        DoubleArrayCache.getInstance().add(newX);
-        DoubleArrayCache.getInstance().add(newY);
+        ArrayPool.DOUBLE.release(newX);
+        ArrayPool.DOUBLE.release(newY);
     }
 
-    private static void compactVector(final double[] input, final int stopIndex) {
+    private static void compactVector(final double[] input, final int length, final int stopIndex) {
         if (stopIndex >= 0) {
-            System.arraycopy(input, input.length - stopIndex, input, stopIndex, stopIndex);
+            System.arraycopy(input, length - stopIndex, input, stopIndex, stopIndex);
         }
     }
 }
@@ -0,0 +1,380 @@
+package de.gsi.chart.renderer.spi;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import de.gsi.chart.axes.AxisTransform;
+import de.gsi.chart.renderer.spi.utils.ColorGradient;
+import de.gsi.chart.utils.FXUtils;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.spi.CircularDoubleGridDataSet;
+import de.gsi.dataset.utils.CachedDaemonThreadFactory;
+
+/**
+ * Persistent {@link PixelBuffer}-backed image for the quantised z-data to colour mapping of the
+ * {@link ContourDataSetRenderer}.
+ * <p>
+ * The quantised data is mapped via the pre-computed (premultiplied ARGB) look-up table of the {@link ColorGradient}
+ * directly into the shared image buffer, ie. without intermediate per-pixel colour arrays or byte buffer copies. The
+ * mapping is split into horizontal tiles that are processed in parallel for sufficiently large images. Only pixels
+ * that changed w.r.t. the previous frame are written and only their bounding box is reported as dirty region to the
+ * image.
+ * <p>
+ * N.B. as required by the {@link PixelBuffer} contract, all pixel writes (including the parallel tile workers) are
+ * performed within the {@link PixelBuffer#updateBuffer} callback on the JavaFX application thread. Calls from other
+ * threads block until the update has been performed on the JavaFX application thread.
+ * <p>
+ * For streaming data (rows appended at one end of the image, e.g. waterfall plots) the image is used as a ring of rows
+ * that is scrolled while drawing so that only the newly appended rows need to be copied, quantised and colour-mapped.
+ *
+ * @author rstein
+ */
+class HeatMapImageBuffer {
+    private static final String PARALLEL_WORKER_ERROR = "one parallel worker thread finished execution with error";
+    // N.B. the serial mapping costs ~2.8 ns/pixel (measured for 64x64 to 1024x1024 images with all pixels changing)
+    // while dispatching the tiles to the common pool costs ~10-30 us per call: below 256x256 pixels (~180 us) the
+    // overhead exceeds ~10% of the work. Tiles are limited to >= 16k pixels (~45 us) rather than to a number of rows
+    // so that narrow images are not split into tiles that cost less than their scheduling (~5-10 us per task).
+    private static final int MIN_PIXELS_PARALLEL = 256 * 256;
+    private static final int MIN_TILE_PIXELS = 1 << 14;
+    private static final double SCALE_HEADROOM = 0.1; // fraction of the z-range added on either side when re-scaling
+    private static final double MIN_SCALE_OCCUPANCY = 0.5; // re-scale if the z-range covers less than this fraction
+    private int width;
+    private int height;
+    private IntBuffer buffer;
+    private PixelBuffer<IntBuffer> pixelBuffer;
+    private WritableImage image;
+    // ring mode state (see updateRows(..))
+    private int[] lastLut;
+    private AxisTransform lastZTransform;
+    private long lastRowSequence = -1;
+    private int ringRows;
+    private int ringXMin;
+    private boolean ringXInverted;
+    private boolean ringZInverted;
+    private double scaleMin = Double.NaN;
+    private double scaleMax = Double.NaN;
+
+    /**
+     * @return the current image (N.B. {@code null} before the first update)
+     */
+    public WritableImage getImage() {
+        return image;
+    }
+
+    /**
+     * Maps the quantised data onto the image.
+     *
+     * @param inputData quantised z-data (row-major, first row corresponds to the bottom of the image)
+     * @param dataWidth width of the data/image
+     * @param dataHeight height of the data/image
+     * @param colorGradient colour gradient to be used
+     * @param nLevels number of quantisation levels
+     * @param parallel {@code true}: process tiles in parallel for sufficiently large images
+     * @return the updated image
+     */
+    public WritableImage update(final double[] inputData, final int dataWidth, final int dataHeight,
+            final ColorGradient colorGradient, final int nLevels, final boolean parallel) {
+        final boolean newImage = ensureSize(dataWidth, dataHeight);
+        final int[] lut = colorGradient.getColorLookupTable(nLevels);
+        lastRowSequence = -1;
+        lastZTransform = null;
+        final int levels = lut.length - 1;
+
+        final IntBuffer localBuffer = buffer;
+        updateBuffer(newImage, () -> {
+            if (!parallel || dataWidth * dataHeight < MIN_PIXELS_PARALLEL) {
+                return mapTile(inputData, dataWidth, dataHeight, 0, dataHeight, lut, levels, localBuffer);
+            }
+            return mapTilesParallel(inputData, dataWidth, dataHeight, lut, levels, localBuffer);
+        });
+        return image;
+    }
+
+    /**
+     * Maps the rows of a streaming data set into the ring-indexed image. Only rows that have been appended since the
+     * last update are copied, quantised and colour-mapped, ie. the cost scales with the number of new rows rather than
+     * with the size of the grid. All retained rows are re-mapped only if the x-range, the colour look-up table, the z
+     * transform/inversion or the colour scale changed.
+     * <p>
+     * Each row occupies a fixed pixel row of an image whose height corresponds to the maximum row count of the data set,
+     * the image is scrolled by drawing it as two segments starting at the newest row (see
+     * {@link #drawImage(GraphicsContext, double, double, double, double, boolean)}).
+     * <p>
+     * With {@code autoScale} the colour scale is decoupled from the per-row changes of the z-range: it is only re-scaled
+     * (with some headroom) if the z-range exceeds the current scale or shrinks to less than half of it.
+     *
+     * @param dataSet streaming data set (N.B. needs to be read-locked by the caller)
+     * @param xMinIndex first x-index to be mapped
+     * @param xMaxIndex last x-index to be mapped
+     * @param xInverted {@code true}: x-axis is inverted
+     * @param lut colour look-up table (see {@link ColorGradient#getColorLookupTable(int)})
+     * @param zTransform transform of the z-axis
+     * @param zMin lower z limit
+     * @param zMax upper z limit
+     * @param zInverted {@code true}: z-axis is inverted
+     * @param autoScale {@code true}: z limits follow the data and are applied with hysteresis, {@code false}: fixed
+     * @return the updated image
+     */
+    public WritableImage updateRows(final CircularDoubleGridDataSet dataSet, final int xMinIndex, final int xMaxIndex, // NOPMD
+            final boolean xInverted, final int[] lut, final AxisTransform zTransform, final double zMin, final double zMax,
+            final boolean zInverted, final boolean autoScale) {
+        final int dataWidth = xMaxIndex - xMinIndex + 1;
+        final boolean newImage = ensureSize(dataWidth, dataSet.getMaxRowCount());
+        final boolean rescaled = updateColourScale(zTransform, zMin, zMax, autoScale);
+        final long sequence = dataSet.getRowSequence();
+        final int nRows = dataSet.getShape(DataSet.DIM_Y);
+        final long oldest = sequence - nRows;
+        final boolean remapAll = newImage || rescaled || lastRowSequence < 0 || lastRowSequence > sequence || lut != lastLut
+                                 || zTransform != lastZTransform || ringXMin != xMinIndex || ringXInverted != xInverted
+                                 || ringZInverted != zInverted;
+        final long firstRow = remapAll ? oldest : Math.max(lastRowSequence, oldest);
+        lastRowSequence = sequence;
+        lastLut = lut;
+        lastZTransform = zTransform;
+        ringXMin = xMinIndex;
+        ringXInverted = xInverted;
+        ringZInverted = zInverted;
+        ringRows = nRows;
+        if (firstRow >= sequence) {
+            return image;
+        }
+
+        final IntBuffer localBuffer = buffer;
+        updateBuffer(remapAll, () -> {
+            final int[] dirty = { dataWidth, height, -1, -1 };
+            for (long row = firstRow; row < sequence; row++) {
+                final int pixelRow = getRingRow(row);
+                mapRow(dataSet, (int) (row - oldest), pixelRow, localBuffer, lut, zTransform);
+                dirty[0] = 0;
+                dirty[1] = Math.min(dirty[1], pixelRow);
+                dirty[2] = dataWidth - 1;
+                dirty[3] = Math.max(dirty[3], pixelRow);
+            }
+            return dirty;
+        });
+        return image;
+    }
+
+    /**
+     * Draws the image. In ring mode (see {@link #updateRows}) only the rows retained by the data set are drawn, the
+     * newest row at the top for {@code newRowsOnTop} and at the bottom otherwise.
+     *
+     * @param gc graphics context to draw on
+     * @param x left destination coordinate
+     * @param y top destination coordinate
+     * @param w destination width
+     * @param h destination height
+     * @param newRowsOnTop {@code true}: newest row is drawn at the top (ring mode only)
+     */
+    public void drawImage(final GraphicsContext gc, final double x, final double y, final double w, final double h,
+            final boolean newRowsOnTop) {
+        if (image == null) {
+            return;
+        }
+        if (lastZTransform == null) { // N.B. not in ring mode
+            gc.drawImage(image, x, y, w, h);
+            return;
+        }
+        if (ringRows <= 0) {
+            return;
+        }
+        final int newest = getRingRow(lastRowSequence - 1);
+        final int nFirst = Math.min(ringRows, height - newest);
+        final double rowHeight = h / ringRows;
+        gc.save();
+        if (!newRowsOnTop) {
+            // mirror at the horizontal centre line of the destination
+            gc.translate(0, 2 * y + h);
+            gc.scale(1, -1);
+        }
+        gc.drawImage(image, 0, newest, width, nFirst, x, y, w, nFirst * rowHeight);
+        if (nFirst < ringRows) {
+            // older rows wrapped around to the top of the ring
+            gc.drawImage(image, 0, 0, width, ringRows - nFirst, x, y + nFirst * rowHeight, w, (ringRows - nFirst) * rowHeight);
+        }
+        gc.restore();
+    }
+
+    private boolean ensureSize(final int dataWidth, final int dataHeight) {
+        if (image != null && width == dataWidth && height == dataHeight) {
+            return false;
+        }
+        width = dataWidth;
+        height = dataHeight;
+        buffer = ByteBuffer.allocateDirect(Integer.BYTES * dataWidth * dataHeight).order(ByteOrder.nativeOrder()).asIntBuffer();
+        pixelBuffer = new PixelBuffer<>(dataWidth, dataHeight, buffer, PixelFormat.getIntArgbPreInstance());
+        image = new WritableImage(pixelBuffer);
+        return true;
+    }
+
+    /**
+     * @param row row sequence number
+     * @return pixel row of the ring, consecutive rows are stored upwards (N.B. top of the image is pixel row '0')
+     */
+    private int getRingRow(final long row) {
+        return height - 1 - (int) (row % height);
+    }
+
+    private void mapRow(final GridDataSet dataSet, final int yIndex, final int pixelRow, final IntBuffer target,
+            final int[] lut, final AxisTransform zTransform) {
+        final int nLevels = lut.length - 1;
+        final int dataDim = dataSet.getNGrid();
+        final double scaleRangeInv = 1.0 / (scaleMax - scaleMin);
+        final int rowPixelIndex = width * pixelRow;
+        for (int i = 0; i < width; i++) {
+            final int xIndex = ringXInverted ? ringXMin + width - 1 - i : ringXMin + i;
+            final double offset = (zTransform.forward(dataSet.get(dataDim, xIndex, yIndex)) - scaleMin) * scaleRangeInv;
+            final double level = ContourDataSetCache.quantize(ringZInverted ? 1 - offset : offset, nLevels);
+            target.put(rowPixelIndex + i, lookUp(level, lut, nLevels));
+        }
+    }
+
+    /**
+     * @return {@code true} if the colour scale changed and all rows need to be re-mapped
+     */
+    private boolean updateColourScale(final AxisTransform zTransform, final double zMin, final double zMax,
+            final boolean autoScale) {
+        final double min = Math.min(zTransform.forward(zMin), zTransform.forward(zMax));
+        final double max = Math.max(zTransform.forward(zMin), zTransform.forward(zMax));
+        if (!autoScale) {
+            if (min == scaleMin && max == scaleMax) { // NOPMD -- exact comparison intended
+                return false;
+            }
+            scaleMin = min;
+            scaleMax = max;
+            return true;
+        }
+        final double range = max - min;
+        if (min >= scaleMin && max <= scaleMax && range >= MIN_SCALE_OCCUPANCY * (scaleMax - scaleMin)) {
+            return false;
+        }
+        final double headroom = range > 0 ? SCALE_HEADROOM * range : 1.0;
+        scaleMin = min - headroom;
+        scaleMax = max + headroom;
+        return true;
+    }
+
+    /**
+     * performs the pixel writes within the {@link PixelBuffer#updateBuffer} callback on the JavaFX application thread
+     *
+     * @param wholeImage {@code true}: mark the whole image as dirty, {@code false}: only the region reported by the writer
+     * @param writer writes the pixels and returns the dirty region as {xMin, yMin, xMax, yMax} (see
+     *            {@link #mapTile(double[], int, int, int, int, int[], int, IntBuffer)})
+     */
+    private void updateBuffer(final boolean wholeImage, final Supplier<int[]> writer) {
+        final PixelBuffer<IntBuffer> localPixelBuffer = pixelBuffer;
+        final Runnable update = () -> localPixelBuffer.updateBuffer(pb -> {
+            final int[] dirty = writer.get();
+            if (wholeImage) {
+                return null; // N.B. 'null' marks the whole buffer as dirty
+            }
+            return dirty[2] >= dirty[0] ? new Rectangle2D(dirty[0], dirty[1], dirty[2] - dirty[0] + 1.0, dirty[3] - dirty[1] + 1.0) : Rectangle2D.EMPTY;
+        });
+        if (Platform.isFxApplicationThread()) {
+            update.run();
+            return;
+        }
+        try {
+            FXUtils.runAndWait(update);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for the image update", e);
+        } catch (final Exception e) { // NOPMD -- runAndWait contract
+            throw new IllegalStateException("could not update the image", e);
+        }
+    }
+
+    /**
+     * @param value quantised value 'level/nLevels'
+     * @param lut colour look-up table
+     * @param nLevels number of quantisation levels
+     * @return premultiplied ARGB colour, transparent for NaN or values outside [0, 1]
+     */
+    protected static int lookUp(final double value, final int[] lut, final int nLevels) {
+        final double level = value * nLevels;
+        if (!(level >= 0.0 && level <= nLevels)) { // NOPMD -- also catches NaN
+            return 0;
+        }
+        return lut[(int) (level + 0.5)];
+    }
+
+    /**
+     * Maps the data rows [yMin, yMax[ onto the (vertically flipped) pixel buffer
+     *
+     * @return dirty region as {xMin, yMin, xMax, yMax} in pixel coordinates (inclusive, xMax &lt; xMin if unchanged)
+     */
+    protected static int[] mapTile(final double[] inputData, final int dataWidth, final int dataHeight, final int yMin,
+            final int yMax, final int[] lut, final int nLevels, final IntBuffer buffer) {
+        final int[] dirty = { dataWidth, dataHeight, -1, -1 };
+        final int hMinus1 = dataHeight - 1;
+        for (int yIndex = yMin; yIndex < yMax; yIndex++) {
+            final int rowIndex = dataWidth * yIndex;
+            final int pixelRow = hMinus1 - yIndex;
+            final int rowPixelIndex = dataWidth * pixelRow;
+            int rowXMin = dataWidth;
+            int rowXMax = -1;
+            for (int xIndex = 0; xIndex < dataWidth; xIndex++) {
+                final int argb = lookUp(inputData[rowIndex + xIndex], lut, nLevels);
+                if (buffer.get(rowPixelIndex + xIndex) != argb) {
+                    buffer.put(rowPixelIndex + xIndex, argb);
+                    rowXMin = Math.min(rowXMin, xIndex);
+                    rowXMax = xIndex;
+                }
+            }
+            if (rowXMax >= 0) {
+                dirty[0] = Math.min(dirty[0], rowXMin);
+                dirty[1] = Math.min(dirty[1], pixelRow);
+                dirty[2] = Math.max(dirty[2], rowXMax);
+                dirty[3] = Math.max(dirty[3], pixelRow);
+            }
+        }
+        return dirty;
+    }
+
+    protected static int[] mapTilesParallel(final double[] inputData, final int dataWidth, final int dataHeight,
+            final int[] lut, final int nLevels, final IntBuffer buffer) {
+        final int nMaxThreads = CachedDaemonThreadFactory.getNumbersOfThreads();
+        final int minTileHeight = (int) Math.ceil(MIN_TILE_PIXELS / (double) dataWidth);
+        final int tileHeight = Math.max((int) Math.ceil(dataHeight / (double) nMaxThreads), minTileHeight);
+        final List<Callable<int[]>> workers = new ArrayList<>();
+        for (int yMin = 0; yMin < dataHeight; yMin += tileHeight) {
+            final int start = yMin;
+            final int stop = Math.min(yMin + tileHeight, dataHeight);
+            workers.add(() -> mapTile(inputData, dataWidth, dataHeight, start, stop, lut, nLevels, buffer));
+        }
+
+        final int[] dirty = { dataWidth, dataHeight, -1, -1 };
+        try {
+            final List<Future<int[]>> jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(workers);
+            for (final Future<int[]> future : jobs) {
+                final int[] tileDirty = future.get();
+                dirty[0] = Math.min(dirty[0], tileDirty[0]);
+                dirty[1] = Math.min(dirty[1], tileDirty[1]);
+                dirty[2] = Math.max(dirty[2], tileDirty[2]);
+                dirty[3] = Math.max(dirty[3], tileDirty[3]);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(PARALLEL_WORKER_ERROR, e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException(PARALLEL_WORKER_ERROR, e);
+        }
+        return dirty;
+    }
+}
@@ -244,6 +244,11 @@ public class MountainRangeRenderer extends ErrorDataSetRenderer implements Rende
             }
         }
 
+        @Override
+        public long getModificationCount() {
+            return dataSet.getModificationCount();
+        }
+
         @Override
         public String getName() {
             return dataSet.getName() + ":slice#" + yIndex;
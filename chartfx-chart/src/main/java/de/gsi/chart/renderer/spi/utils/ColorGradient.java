@@ -7,7 +7,9 @@ package de.gsi.chart.renderer.spi.utils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.scene.paint.Color;
 import javafx.scene.paint.CycleMethod;
@@ -112,6 +114,7 @@ public class ColorGradient {
     private final String name;
     private final WeakHashMap<Double, Color> colorMap = new WeakHashMap<>();
     private final WeakHashMap<Double, int[]> colorMapBytes = new WeakHashMap<>();
+    private final Map<Integer, int[]> colorLookupTables = new ConcurrentHashMap<>();
 
     /**
      * Creates a new instance of ColorGradient.**
@@ -234,6 +237,26 @@ public class ColorGradient {
         });
     }
 
+    /**
+     * Returns the colour look-up table for quantised offsets 'level/nLevels' with 'level' in [0, nLevels] (see e.g.
+     * {@code ContourDataSetCache#quantize(double, int)}) as premultiplied ARGB integers, e.g. for use with
+     * {@link javafx.scene.image.PixelFormat#getIntArgbPreInstance()}.
+     *
+     * @param nLevels number of quantisation levels
+     * @return look-up table with 'nLevels + 1' entries (N.B. cached, do not modify)
+     */
+    public int[] getColorLookupTable(final int nLevels) {
+        return colorLookupTables.computeIfAbsent(Math.max(nLevels, 1), levels -> {
+            final int[] table = new int[levels + 1];
+            for (int level = 0; level <= levels; level++) {
+                final int[] color = getColorBytes(level / (double) levels);
+                final int alpha = color[0];
+                table[level] = alpha << 24 | premultiply(color[1], alpha) << 16 | premultiply(color[2], alpha) << 8 | premultiply(color[3], alpha);
+            }
+            return table;
+        });
+    }
+
     /**
      * Returns the gradient stops.
      *
@@ -249,6 +272,10 @@ public class ColorGradient {
         return name;
     }
 
+    private static int premultiply(final int colorByte, final int alpha) {
+        return (colorByte * alpha + 127) / 255;
+    }
+
     public static List<ColorGradient> colorGradients() {
         return Arrays.asList(ColorGradient.RAINBOW, ColorGradient.RAINBOW_OPAQUE, ColorGradient.JET, ColorGradient.TOPO, ColorGradient.TOPO_EXT,
                 ColorGradient.WHITE_BLACK, ColorGradient.BLACK_WHITE, ColorGradient.HOT, ColorGradient.SUNRISE,
@@ -0,0 +1,85 @@
+package de.gsi.chart.renderer.datareduction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the M4 (first/last/min/max per pixel column) data reducer
+ *
+ * @author rstein
+ */
+class M4DataReducerTests {
+    @Test
+    void basicReductionTests() {
+        final M4DataReducer reducer = new M4DataReducer();
+        // three pixel columns with 4 points each, plus one single-point column
+        final double[] xValues = { 0.0, 0.25, 0.5, 0.75, 1.0, 1.25, 1.5, 1.75, 2.0, 2.25, 2.5, 2.75, 3.0 };
+        final double[] yValues = { 1.0, 5.0, -3.0, 2.0, 1.0, 1.0, 1.0, 1.0, 0.0, -1.0, -2.0, -3.0, 7.0 };
+        final double[] yErrorPos = Arrays.copyOf(yValues, yValues.length);
+        final String[] styles = new String[xValues.length];
+        styles[2] = "color:red";
+        final boolean[] selected = new boolean[xValues.length];
+        selected[1] = true;
+
+        final int count = reducer.reducePoints(xValues, yValues, null, null, yErrorPos, null, styles, selected, 0, xValues.length);
+        assertEquals(9, count);
+        // column 0: first, max, min, last
+        assertArrayEquals(new double[] { 0.0, 0.25, 0.5, 0.75 }, Arrays.copyOf(xValues, 4));
+        assertArrayEquals(new double[] { 1.0, 5.0, -3.0, 2.0 }, Arrays.copyOf(yValues, 4));
+        assertArrayEquals(new double[] { 1.0, 5.0, -3.0, 2.0 }, Arrays.copyOf(yErrorPos, 4));
+        assertEquals("color:red", styles[2]);
+        assertTrue(selected[1]);
+        // column 1: constant -> first and last only
+        assertArrayEquals(new double[] { 1.0, 1.75 }, Arrays.copyOfRange(xValues, 4, 6));
+        // column 2: monotonic -> first (=max) and last (=min) only
+        assertArrayEquals(new double[] { 2.0, 2.75 }, Arrays.copyOfRange(xValues, 6, 8));
+        assertArrayEquals(new double[] { 0.0, -3.0 }, Arrays.copyOfRange(yValues, 6, 8));
+        // column 3: single point
+        assertEquals(3.0, xValues[8]);
+        assertEquals(7.0, yValues[8]);
+    }
+
+    @Test
+    void largeDataTests() {
+        final M4DataReducer reducer = new M4DataReducer();
+        final int nSamples = 100_000;
+        final int width = 500;
+        final double[] xValues = new double[nSamples];
+        final double[] yValues = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            xValues[i] = width * (double) i / nSamples;
+            yValues[i] = Math.sin(0.01 * i) + (i == 54_321 ? 100.0 : 0.0);
+        }
+        final int indexMin = 10;
+        final int count = reducer.reducePoints(xValues, yValues, null, null, null, null, null, new boolean[nSamples], indexMin, nSamples);
+        assertTrue(count <= 4 * width, "count = " + count);
+        assertTrue(count >= 2 * width, "count = " + count);
+        assertEquals(width * (double) indexMin / nSamples, xValues[0]);
+        assertEquals(width * (double) (nSamples - 1) / nSamples, xValues[count - 1]);
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 1; i < count; i++) {
+            assertTrue(xValues[i] > xValues[i - 1], "order must be preserved");
+            max = Math.max(max, yValues[i]);
+        }
+        assertEquals(100.0 + Math.sin(0.01 * 54_321), max, "spikes must be preserved");
+    }
+
+    @Test
+    void nanTests() {
+        final M4DataReducer reducer = new M4DataReducer();
+        final double[] xValues = { 0.0, 0.2, 0.4, 0.6, 0.8 };
+        final double[] yValues = { 1.0, 2.0, Double.NaN, 3.0, 4.0 };
+        final int count = reducer.reducePoints(xValues, yValues, null, null, null, null, null, new boolean[5], 0, 5);
+        assertEquals(5, count);
+        assertEquals(Double.NaN, yValues[2]);
+
+        assertThrows(IllegalArgumentException.class, () -> reducer.reducePoints(xValues, new double[2], null, null, null, null, null, new boolean[5], 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> reducer.reducePoints(xValues, yValues, null, null, null, null, null, new boolean[5], -1, 5));
+    }
+}
@@ -3,6 +3,7 @@ package de.gsi.chart.renderer.spi;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
@@ -18,7 +19,9 @@ import de.gsi.chart.axes.spi.DefaultNumericAxis;
 import de.gsi.chart.renderer.ErrorStyle;
 import de.gsi.chart.renderer.LineStyle;
 import de.gsi.chart.renderer.datareduction.DefaultDataReducer;
+import de.gsi.chart.renderer.datareduction.M4DataReducer;
 import de.gsi.chart.renderer.datareduction.MaxDataReducer;
+import de.gsi.chart.renderer.datareduction.ReductionType;
 import de.gsi.dataset.DataSet;
 
 /**
@@ -91,6 +94,13 @@ public class AbstractErrorDataSetRendererParameterTests {
         assertEquals(MaxDataReducer.class, renderer.getRendererDataReducer().getClass());
         renderer.setRendererDataReducer(null);
         assertEquals(DefaultDataReducer.class, renderer.getRendererDataReducer().getClass());
+        renderer.setRendererDataReducerType(ReductionType.M4);
+        assertEquals(M4DataReducer.class, renderer.getRendererDataReducer().getClass());
+        renderer.setRendererDataReducerType(ReductionType.DOWN_SAMPLE);
+        assertEquals(MaxDataReducer.class, renderer.getRendererDataReducer().getClass());
+        renderer.setRendererDataReducerType(ReductionType.AVERAGE);
+        assertEquals(DefaultDataReducer.class, renderer.getRendererDataReducer().getClass());
+        assertThrows(IllegalArgumentException.class, () -> renderer.setRendererDataReducerType(ReductionType.MIN));
 
         renderer.setShiftBar(true);
         assertTrue(renderer.isShiftBar());
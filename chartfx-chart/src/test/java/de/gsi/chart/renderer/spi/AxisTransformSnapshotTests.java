@@ -0,0 +1,75 @@
+package de.gsi.chart.renderer.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.chart.axes.spi.DefaultNumericAxis;
+import de.gsi.chart.ui.geometry.Side;
+
+/**
+ * Tests {@link AxisTransformSnapshot}
+ *
+ * @author rstein
+ */
+public class AxisTransformSnapshotTests {
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void displayPositionsTests() {
+        final double[] values = { 0.1, 0.5, 1.0, 2.5, 10.0, 99.0, 100.0, 1e3, Double.NaN, Double.POSITIVE_INFINITY };
+        for (final Side side : new Side[] { Side.BOTTOM, Side.LEFT }) {
+            for (final boolean logAxis : new boolean[] { false, true }) {
+                for (final boolean invertedAxis : new boolean[] { false, true }) {
+                    final String msg = "side = " + side + " log = " + logAxis + " inverted = " + invertedAxis;
+                    final StandAloneAxis axis = new StandAloneAxis();
+                    axis.setSide(side);
+                    axis.setLogAxis(logAxis);
+                    axis.invertAxis(invertedAxis);
+                    axis.resize(side.isVertical() ? 50 : 1000, side.isVertical() ? 1000 : 50);
+                    axis.updateCache();
+
+                    final AxisTransformSnapshot snapshot = AxisTransformSnapshot.of(axis);
+                    assertEquals(logAxis, snapshot.isLogAxis(), msg);
+                    assertEquals(invertedAxis, snapshot.isInvertedAxis(), msg);
+                    final double[] positions = new double[values.length];
+                    snapshot.getDisplayPositions(values, positions, 0, values.length);
+                    for (int i = 0; i < values.length; i++) {
+                        final double expected = axis.getDisplayPosition(values[i]);
+                        assertEquals(expected, snapshot.getDisplayPosition(values[i]), DELTA, msg + " value = " + values[i]);
+                        assertEquals(expected, positions[i], DELTA, msg + " value = " + values[i]);
+                    }
+
+                    // in-place transform of a sub-range
+                    final double[] inPlace = values.clone();
+                    snapshot.getDisplayPositions(inPlace, inPlace, 2, 8);
+                    for (int i = 0; i < values.length; i++) {
+                        assertEquals(i >= 2 && i < 8 ? positions[i] : values[i], inPlace[i], "index " + i);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void logAxisNonPositiveValuesTests() {
+        final AxisTransformSnapshot snapshot = new AxisTransformSnapshot(0.1, 10.0, true, false, 0.0, 100.0);
+        final double[] values = { -1.0, 0.0, 1.0 };
+        snapshot.getDisplayPositions(values, values, 0, values.length);
+        assertEquals(Double.NaN, values[0]);
+        assertEquals(Double.NaN, values[1]);
+        assertEquals(100.0, values[2], DELTA);
+        assertNotEquals(snapshot, new AxisTransformSnapshot(0.1, 10.0, false, false, 0.0, 100.0));
+    }
+
+    private static class StandAloneAxis extends DefaultNumericAxis {
+        protected StandAloneAxis() {
+            super("axis name", 0.1, 100, 1.0);
+        }
+
+        protected void updateCache() {
+            updateCachedVariables(); // N.B. normally triggered by the chart layout
+        }
+    }
+}
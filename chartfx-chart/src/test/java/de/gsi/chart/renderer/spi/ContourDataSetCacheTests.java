@@ -8,11 +8,13 @@ import static de.gsi.dataset.DataSet.DIM_X;
 import static de.gsi.dataset.DataSet.DIM_Y;
 import static de.gsi.dataset.DataSet.DIM_Z;
 
+import java.nio.IntBuffer;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 import de.gsi.chart.axes.AxisTransform;
+import de.gsi.chart.renderer.spi.utils.ColorGradient;
 import de.gsi.dataset.GridDataSet;
 import de.gsi.dataset.spi.DataRange;
 import de.gsi.dataset.spi.DataSetBuilder;
@@ -153,6 +155,41 @@ public class ContourDataSetCacheTests {
         assertArrayEquals(TEST_DATA_Z_QUANT2, inputDataInv, "quantizeData(..) - inverted");
     }
 
+    @Test
+    public void testLookUpTableMapping() {
+        final int nLevels = 10;
+        final int width = TEST_DATA_X.length;
+        final int height = TEST_DATA_Y.length;
+        final int[] lut = ColorGradient.RAINBOW_OPAQUE.getColorLookupTable(nLevels);
+        assertEquals(nLevels + 1, lut.length);
+
+        assertEquals(lut[0], HeatMapImageBuffer.lookUp(0.0, lut, nLevels));
+        assertEquals(lut[3], HeatMapImageBuffer.lookUp(0.3, lut, nLevels));
+        assertEquals(lut[nLevels], HeatMapImageBuffer.lookUp(1.0, lut, nLevels));
+        assertEquals(0, HeatMapImageBuffer.lookUp(-0.1, lut, nLevels), "below range");
+        assertEquals(0, HeatMapImageBuffer.lookUp(1.1, lut, nLevels), "above range");
+        assertEquals(0, HeatMapImageBuffer.lookUp(Double.NaN, lut, nLevels), "NaN");
+
+        final IntBuffer buffer = IntBuffer.allocate(width * height);
+        assertArrayEquals(new int[] { 0, 0, width - 1, height - 1 }, HeatMapImageBuffer.mapTile(TEST_DATA_Z_QUANT1, width, height, 0, height, lut, nLevels, buffer), "dirty region - initial");
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                // N.B. image is vertically flipped w.r.t. data
+                final int expected = HeatMapImageBuffer.lookUp(TEST_DATA_Z_QUANT1[y * width + x], lut, nLevels);
+                assertEquals(expected, buffer.get((height - 1 - y) * width + x), "pixel (" + x + ", " + y + ")");
+            }
+        }
+        assertEquals(-1, HeatMapImageBuffer.mapTile(TEST_DATA_Z_QUANT1, width, height, 0, height, lut, nLevels, buffer)[2], "dirty region - unchanged");
+
+        final double[] modified = Arrays.copyOf(TEST_DATA_Z_QUANT1, TEST_DATA_Z_QUANT1.length);
+        modified[width + 1] = 0.0; // data row 1 -> pixel row 'height - 2'
+        assertArrayEquals(new int[] { 1, height - 2, 1, height - 2 }, HeatMapImageBuffer.mapTile(modified, width, height, 0, height, lut, nLevels, buffer), "dirty region - single pixel");
+
+        final IntBuffer parallelBuffer = IntBuffer.allocate(width * height);
+        HeatMapImageBuffer.mapTilesParallel(modified, width, height, lut, nLevels, parallelBuffer);
+        assertArrayEquals(buffer.array(), parallelBuffer.array(), "parallel vs. serial mapping");
+    }
+
     @Test
     public void testDataTransform() {
         GridDataSet dataSet = new DataSetBuilder().setValues(DIM_X, TEST_DATA_X).setValues(DIM_Y, TEST_DATA_Y).setValues(DIM_Z, TEST_DATA_Z).build(GridDataSet.class);
@@ -1,6 +1,7 @@
 package de.gsi.chart.renderer.spi;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static de.gsi.chart.ui.utils.FuzzyTestImageUtils.compareAndWriteReference;
@@ -9,9 +10,13 @@ import static de.gsi.chart.ui.utils.FuzzyTestImageUtils.writeTestImage;
 import java.io.IOException;
 
 import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
 import javafx.stage.Stage;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -21,6 +26,7 @@ import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.Start;
 
 import de.gsi.chart.XYChart;
+import de.gsi.chart.axes.AxisTransform;
 import de.gsi.chart.axes.spi.DefaultNumericAxis;
 import de.gsi.chart.renderer.ContourType;
 import de.gsi.chart.renderer.spi.utils.ColorGradient;
@@ -29,6 +35,7 @@ import de.gsi.chart.ui.utils.TestFx;
 import de.gsi.chart.utils.FXUtils;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.spi.CircularDoubleGridDataSet;
 import de.gsi.dataset.spi.DataSetBuilder;
 
 /**
@@ -127,13 +134,169 @@ public class ContourDataSetRendererTests {
         }
     }
 
+    @Test
+    public void testHeatMapImageBuffer() throws Exception {
+        final int width = 400; // N.B. large enough for the parallel tile mapping
+        final int height = 200;
+        final int nLevels = 10;
+        final double[] data = new double[width * height];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (i % (nLevels + 1)) / (double) nLevels;
+        }
+        final HeatMapImageBuffer imageBuffer = new HeatMapImageBuffer();
+
+        // non-FX thread: pixels are written within the PixelBuffer callback on the FX thread
+        final WritableImage image = imageBuffer.update(data, width, height, ColorGradient.RAINBOW_OPAQUE, nLevels, true);
+        assertEquals(0, (int) FXUtils.runAndWait(() -> countMismatches(image, data, width, height, nLevels)), "initial image");
+
+        // FX thread: partial update of a single pixel
+        data[width + 1] = 0.0;
+        final WritableImage updated = FXUtils.runAndWait(() -> imageBuffer.update(data, width, height, ColorGradient.RAINBOW_OPAQUE, nLevels, false));
+        assertEquals(image, updated, "image is re-used");
+        assertEquals(0, (int) FXUtils.runAndWait(() -> countMismatches(updated, data, width, height, nLevels)), "updated image");
+    }
+
+    @TestFx
+    public void testStreamingHeatMapImageBuffer() {
+        final int nX = 8;
+        final int nRowsMax = 16;
+        final int nLevels = 10;
+        final int[] lut = ColorGradient.RAINBOW_OPAQUE.getColorLookupTable(nLevels);
+        final AxisTransform transform = renderer.getZAxis().getAxisTransform();
+        final CountingGridDataSet dataSet = new CountingGridDataSet(nX, nRowsMax);
+        final HeatMapImageBuffer imageBuffer = new HeatMapImageBuffer();
+        for (int row = 0; row < 10; row++) {
+            dataSet.appendRow(row, getTestRow(row, nX));
+        }
+
+        // initial update maps all rows
+        imageBuffer.updateRows(dataSet, 0, nX - 1, false, lut, transform, 0.0, 1.0, false, false);
+        assertEquals(10 * nX, dataSet.nGet, "initial mapping reads all rows");
+        assertEquals(0, countRingMismatches(imageBuffer, dataSet, lut, false), "initial image");
+
+        // appended rows are mapped incrementally, also across the wrap-around of the ring
+        for (int row = 10; row < 40; row += 3) {
+            dataSet.nGet = 0;
+            for (int i = 0; i < 3; i++) {
+                dataSet.appendRow(row + i, getTestRow(row + i, nX));
+            }
+            imageBuffer.updateRows(dataSet, 0, nX - 1, false, lut, transform, 0.0, 1.0, false, false);
+            assertEquals(3 * nX, dataSet.nGet, "incremental mapping reads only the new rows");
+            assertEquals(0, countRingMismatches(imageBuffer, dataSet, lut, false), "image after appending row " + row);
+        }
+
+        // changed mapping parameters re-map all retained rows
+        dataSet.nGet = 0;
+        imageBuffer.updateRows(dataSet, 0, nX - 1, true, lut, transform, 0.0, 1.0, false, false);
+        assertEquals(nRowsMax * nX, dataSet.nGet, "x-inversion re-maps all rows");
+        assertEquals(0, countRingMismatches(imageBuffer, dataSet, lut, true), "x-inverted image");
+
+        // auto-scaled colour scale: no re-mapping for z-ranges within the hysteresis band
+        imageBuffer.updateRows(dataSet, 0, nX - 1, false, lut, transform, 0.0, 1.0, false, true);
+        dataSet.nGet = 0;
+        dataSet.appendRow(40, getTestRow(40, nX));
+        imageBuffer.updateRows(dataSet, 0, nX - 1, false, lut, transform, 0.05, 0.95, false, true);
+        assertEquals(nX, dataSet.nGet, "z-range within hysteresis band");
+        dataSet.nGet = 0;
+        dataSet.appendRow(41, getTestRow(41, nX));
+        imageBuffer.updateRows(dataSet, 0, nX - 1, false, lut, transform, 0.0, 2.0, false, true);
+        assertEquals(nRowsMax * nX, dataSet.nGet, "widened z-range re-maps all rows");
+        dataSet.nGet = 0;
+        dataSet.appendRow(42, getTestRow(42, nX));
+        imageBuffer.updateRows(dataSet, 0, nX - 1, false, lut, transform, 0.0, 0.5, false, true);
+        assertEquals(nRowsMax * nX, dataSet.nGet, "shrunk z-range re-maps all rows");
+
+        // ring is drawn oldest to newest with the newest row on top
+        imageBuffer.updateRows(dataSet, 0, nX - 1, false, lut, transform, 0.0, 1.0, false, false);
+        final Canvas canvas = new Canvas(nX, nRowsMax);
+        canvas.getGraphicsContext2D().setImageSmoothing(false);
+        imageBuffer.drawImage(canvas.getGraphicsContext2D(), 0, 0, nX, nRowsMax, true);
+        final PixelReader reader = canvas.snapshot(null, null).getPixelReader();
+        int mismatches = 0;
+        for (int y = 0; y < nRowsMax; y++) {
+            for (int x = 0; x < nX; x++) {
+                if (reader.getArgb(x, y) != getExpectedArgb(dataSet, x, nRowsMax - 1 - y, lut, false)) {
+                    mismatches++;
+                }
+            }
+        }
+        assertEquals(0, mismatches, "drawn ring image");
+    }
+
     @TestFx
     public void test() {
         final ContourDataSetCache cache = new ContourDataSetCache(new XYChart(), new ContourDataSetRenderer(), getTestDataSet());
         assertDoesNotThrow(() -> cache.convertDataArrayToImage(TEST_DATA_Z, TEST_DATA_X.length, TEST_DATA_Y.length, ColorGradient.DEFAULT), "data to colour image conversion");
     }
 
+    private static int countMismatches(final WritableImage image, final double[] data, final int width, final int height, final int nLevels) {
+        final int[] lut = ColorGradient.RAINBOW_OPAQUE.getColorLookupTable(nLevels);
+        final PixelReader reader = image.getPixelReader();
+        int mismatches = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                // N.B. image is vertically flipped w.r.t. data, opaque colours -> premultiplied equals plain ARGB
+                if (reader.getArgb(x, height - 1 - y) != HeatMapImageBuffer.lookUp(data[y * width + x], lut, nLevels)) {
+                    mismatches++;
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    private static int countRingMismatches(final HeatMapImageBuffer imageBuffer, final CircularDoubleGridDataSet dataSet, final int[] lut, final boolean xInverted) {
+        final PixelReader reader = imageBuffer.getImage().getPixelReader();
+        final int nX = dataSet.getShape(DataSet.DIM_X);
+        final int nRows = dataSet.getShape(DataSet.DIM_Y);
+        final int height = dataSet.getMaxRowCount();
+        int mismatches = 0;
+        for (int yIndex = 0; yIndex < nRows; yIndex++) {
+            // N.B. consecutive rows are stored upwards in the ring
+            final int pixelRow = height - 1 - (int) ((dataSet.getRowSequence() - nRows + yIndex) % height);
+            for (int x = 0; x < nX; x++) {
+                if (reader.getArgb(xInverted ? nX - 1 - x : x, pixelRow) != getExpectedArgb(dataSet, x, yIndex, lut, false)) {
+                    mismatches++;
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    private static int getExpectedArgb(final CircularDoubleGridDataSet dataSet, final int xIndex, final int yIndex, final int[] lut, final boolean zInverted) {
+        final int nLevels = lut.length - 1;
+        final double z = dataSet.getZ(xIndex, yIndex);
+        return HeatMapImageBuffer.lookUp(ContourDataSetCache.quantize(zInverted ? 1 - z : z, nLevels), lut, nLevels);
+    }
+
+    private static double[] getTestRow(final int row, final int nX) {
+        final double[] z = new double[nX];
+        for (int x = 0; x < nX; x++) {
+            z[x] = ((row + x) % 11) / 10.0;
+        }
+        return z;
+    }
+
     private static GridDataSet getTestDataSet() {
         return new DataSetBuilder().setValues(DataSet.DIM_X, TEST_DATA_X).setValues(DataSet.DIM_Y, TEST_DATA_Y).setValues(DataSet.DIM_Z, TEST_DATA_Z).build(GridDataSet.class);
     }
+
+    /**
+     * counts the z-value look-ups of the image mapping
+     */
+    private static class CountingGridDataSet extends CircularDoubleGridDataSet {
+        private static final long serialVersionUID = 1L;
+        private int nGet;
+
+        protected CountingGridDataSet(final int nX, final int nRowsMax) {
+            super("counting", nX, nRowsMax);
+        }
+
+        @Override
+        public double get(final int dimIndex, final int... indices) {
+            if (dimIndex == DIM_Z) {
+                nGet++;
+            }
+            return super.get(dimIndex, indices);
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package de.gsi.chart.renderer.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import de.gsi.chart.ui.utils.JavaFXInterceptorUtils.SelectiveJavaFxInterceptor;
+import de.gsi.chart.ui.utils.TestFx;
+import de.gsi.dataset.event.UpdatedDataEvent;
+import de.gsi.dataset.spi.DoubleDataSet;
+
+/**
+ * Tests {@link DataSetLayerCache}
+ *
+ * @author rstein
+ */
+@ExtendWith(ApplicationExtension.class)
+@ExtendWith(SelectiveJavaFxInterceptor.class)
+public class DataSetLayerCacheTests {
+    private static final int WIDTH = 40;
+    private static final int HEIGHT = 30;
+    private Stage stage;
+    private Canvas canvas;
+
+    @Start
+    public void start(final Stage stage) {
+        this.stage = stage;
+        canvas = new Canvas(WIDTH, HEIGHT);
+        stage.setScene(new Scene(new Group(canvas), WIDTH, HEIGHT));
+        stage.show();
+    }
+
+    @TestFx
+    public void renderTests() {
+        final DataSetLayerCache cache = new DataSetLayerCache();
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        final DoubleDataSet dataSet = new DoubleDataSet("test", new double[] { 1, 2, 3 }, new double[] { 4, 5, 6 }, 3, true);
+        final AtomicInteger nPainted = new AtomicInteger();
+        final Consumer<GraphicsContext> painter = layerGc -> {
+            nPainted.incrementAndGet();
+            layerGc.setFill(Color.RED);
+            layerGc.fillRect(5, 5, 10, 10);
+        };
+        final AxisTransformSnapshot xTransform = new AxisTransformSnapshot(0.1, 10.0, false, false, 0.0, WIDTH / 9.9);
+        final List<Object> key = Arrays.asList(xTransform, HEIGHT);
+
+        // first frame: drawn directly, second frame: drawn and snapshotted, third frame: blitted from the cache
+        cache.render(gc, dataSet, key, painter);
+        cache.render(gc, dataSet, key, painter);
+        assertEquals(2, nPainted.get());
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getHits());
+        gc.clearRect(0, 0, WIDTH, HEIGHT);
+        cache.render(gc, dataSet, Arrays.asList(xTransform, HEIGHT), painter);
+        assertEquals(2, nPainted.get(), "third stable frame is not re-painted");
+        assertEquals(1, cache.getHits(), "third stable frame is blitted");
+        assertEquals(Color.RED, getColor(10, 10), "blitted layer content");
+        assertEquals(Color.TRANSPARENT, getColor(20, 20), "blitted layer transparency");
+
+        // data set update
+        dataSet.set(new double[] { 1, 2, 3 }, new double[] { 7, 8, 9 });
+        cache.render(gc, dataSet, key, painter);
+        assertEquals(3, nPainted.get());
+        assertEquals(3, cache.getMisses(), "miss after data set update");
+        stabilise(cache, gc, dataSet, key, painter);
+
+        // externally triggered update (e.g. after in-place modification of the underlying arrays)
+        final long missesBeforeUpdate = cache.getMisses();
+        dataSet.invokeListener(new UpdatedDataEvent(dataSet, "forced update"));
+        cache.render(gc, dataSet, key, painter);
+        assertEquals(missesBeforeUpdate + 1, cache.getMisses(), "miss after externally triggered update");
+        stabilise(cache, gc, dataSet, key, painter);
+
+        // axis change (N.B. same range, logarithmic axis)
+        final AxisTransformSnapshot xLogTransform = new AxisTransformSnapshot(0.1, 10.0, true, false, 0.0, WIDTH / 2.0);
+        final long misses = cache.getMisses();
+        cache.render(gc, dataSet, Arrays.asList(xLogTransform, HEIGHT), painter);
+        assertEquals(misses + 1, cache.getMisses(), "miss after axis change");
+        stabilise(cache, gc, dataSet, Arrays.asList(xLogTransform, HEIGHT), painter);
+
+        // render scale change (HiDPI)
+        stage.setRenderScaleX(2.0);
+        stage.setRenderScaleY(2.0);
+        cache.render(gc, dataSet, Arrays.asList(xLogTransform, HEIGHT), painter);
+        assertEquals(misses + 3, cache.getMisses(), "miss after render scale change");
+        stabilise(cache, gc, dataSet, Arrays.asList(xLogTransform, HEIGHT), painter);
+        gc.clearRect(0, 0, WIDTH, HEIGHT);
+        cache.render(gc, dataSet, Arrays.asList(xLogTransform, HEIGHT), painter);
+        assertEquals(Color.RED, getColor(10, 10), "blitted HiDPI layer content");
+        assertEquals(Color.TRANSPARENT, getColor(20, 20), "blitted HiDPI layer transparency");
+
+        // data sets no longer drawn
+        cache.retainAll(Arrays.asList());
+        cache.render(gc, dataSet, Arrays.asList(xLogTransform, HEIGHT), painter);
+        assertEquals(misses + 5, cache.getMisses(), "miss after layer has been dropped");
+        stage.setRenderScaleX(1.0);
+        stage.setRenderScaleY(1.0);
+    }
+
+    private Color getColor(final int x, final int y) {
+        final SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(parameters, null).getPixelReader().getColor(x, y);
+    }
+
+    private static void stabilise(final DataSetLayerCache cache, final GraphicsContext gc, final DoubleDataSet dataSet, final List<Object> key, final Consumer<GraphicsContext> painter) {
+        final long hits = cache.getHits();
+        cache.render(gc, dataSet, key, painter);
+        cache.render(gc, dataSet, key, painter);
+        assertEquals(hits + 1, cache.getHits(), "hit on the third stable frame");
+    }
+}
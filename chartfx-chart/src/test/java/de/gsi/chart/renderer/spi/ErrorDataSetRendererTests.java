@@ -1,13 +1,20 @@
 package de.gsi.chart.renderer.spi;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static de.gsi.chart.ui.utils.FuzzyTestImageUtils.compareAndWriteReference;
 import static de.gsi.chart.ui.utils.FuzzyTestImageUtils.writeTestImage;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
@@ -27,6 +34,8 @@ import de.gsi.chart.XYChart;
 import de.gsi.chart.axes.spi.DefaultNumericAxis;
 import de.gsi.chart.renderer.ErrorStyle;
 import de.gsi.chart.renderer.LineStyle;
+import de.gsi.chart.renderer.RendererDataReducer;
+import de.gsi.chart.renderer.datareduction.DefaultDataReducer;
 import de.gsi.chart.ui.utils.JavaFXInterceptorUtils.SelectiveJavaFxInterceptor;
 import de.gsi.chart.utils.FXUtils;
 import de.gsi.dataset.DataSet;
@@ -73,6 +82,68 @@ public class ErrorDataSetRendererTests {
         stage.show();
     }
 
+    @Test
+    public void testAsyncPreparation() throws Exception {
+        final DataSet dataSet = getTestDataSet();
+        final RendererDataReducer reducer = new DefaultDataReducer();
+        final CachedDataPointsBuffer buffer = FXUtils.runAndWait(() -> new CachedDataPointsBuffer(dataSet));
+        for (final boolean logAxis : new boolean[] { false, true }) {
+            FXUtils.runAndWait(() -> yAxis.setLogAxis(logAxis));
+            assertTrue(FXUtils.waitForFxTicks(chart.getScene(), WAIT_N_FX_PULSES, MAX_TIMEOUT_MILLIS));
+            final AxisTransformSnapshot xTransform = FXUtils.runAndWait(() -> AxisTransformSnapshot.of(xAxis));
+            final AxisTransformSnapshot yTransform = FXUtils.runAndWait(() -> AxisTransformSnapshot.of(yAxis));
+            FXUtils.runAndWait(() -> {
+                for (final double value : new double[] { 0.5, 1.0, 3.0, 7.0 }) {
+                    assertEquals(xAxis.getDisplayPosition(value), xTransform.getDisplayPosition(value), 1e-6, "x snapshot");
+                    assertEquals(yAxis.getDisplayPosition(value), yTransform.getDisplayPosition(value), 1e-6, "y snapshot");
+                }
+            });
+
+            final CountDownLatch ready = new CountDownLatch(1);
+            FXUtils.runAndWait(() -> {
+                buffer.request(Arrays.asList(xTransform, yTransform), () -> prepare(xTransform, yTransform, dataSet, reducer), ready::countDown);
+                yAxis.invertAxis(true); // N.B. must not affect the preparation in flight
+            });
+            assertTrue(ready.await(MAX_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), "onReady notified");
+            FXUtils.runAndWait(() -> yAxis.invertAxis(false));
+
+            final CachedDataPoints reference = prepare(xTransform, yTransform, dataSet, reducer).orElseThrow();
+            FXUtils.runAndWait(() -> {
+                final CachedDataPoints front = buffer.getFront();
+                assertNotNull(front, "front buffer");
+                final int nPoints = reference.actualDataCount;
+                assertEquals(nPoints, front.actualDataCount);
+                assertTrue(nPoints > 0, "points to be drawn");
+                assertArrayEquals(Arrays.copyOf(reference.xValues, nPoints), Arrays.copyOf(front.xValues, nPoints));
+                assertArrayEquals(Arrays.copyOf(reference.yValues, nPoints), Arrays.copyOf(front.yValues, nPoints));
+                assertArrayEquals(Arrays.copyOf(reference.errorYNeg, nPoints), Arrays.copyOf(front.errorYNeg, nPoints));
+                assertArrayEquals(Arrays.copyOf(reference.errorYPos, nPoints), Arrays.copyOf(front.errorYPos, nPoints));
+            });
+            reference.release();
+        }
+        FXUtils.runAndWait(() -> yAxis.setLogAxis(false));
+        FXUtils.runAndWait(buffer::dispose);
+    }
+
+    @Test
+    public void testLayerCaching() throws Exception {
+        renderer.setLayerCaching(true);
+        FXUtils.runAndWait(() -> renderer.getDatasets().setAll(getTestDataSet()));
+        for (int frame = 0; frame < 3; frame++) {
+            FXUtils.runAndWait(() -> chart.requestLayout());
+            assertTrue(FXUtils.waitForFxTicks(chart.getScene(), WAIT_N_FX_PULSES, MAX_TIMEOUT_MILLIS));
+        }
+        assertTrue(renderer.getLayerCacheHits() > 0, "stable frames are blitted");
+
+        final long misses = renderer.getLayerCacheMisses();
+        FXUtils.runAndWait(() -> xAxis.setLogAxis(true));
+        FXUtils.runAndWait(() -> chart.requestLayout());
+        assertTrue(FXUtils.waitForFxTicks(chart.getScene(), WAIT_N_FX_PULSES, MAX_TIMEOUT_MILLIS));
+        assertTrue(renderer.getLayerCacheMisses() > misses, "x-axis change invalidates the layer");
+        FXUtils.runAndWait(() -> xAxis.setLogAxis(false));
+        renderer.setLayerCaching(false);
+    }
+
     @ParameterizedTest
     @EnumSource(LineStyle.class)
     public void testRendererNominal(final LineStyle lineStyle) throws Exception {
@@ -111,6 +182,13 @@ public class ErrorDataSetRendererTests {
         chart.setPolarPlot(false);
         testRenderer(lineStyle);
         FXUtils.runAndWait(() -> yAxis.setLogAxis(false));
+        renderer.setAsyncPreparation(true);
+        testRenderer(lineStyle);
+        renderer.setAsyncPreparation(false);
+        renderer.setLayerCaching(true);
+        testRenderer(lineStyle);
+        assertTrue(renderer.getLayerCacheHits() + renderer.getLayerCacheMisses() > 0, "layer cache used");
+        renderer.setLayerCaching(false);
 
         // perform NaN only on JDK >= 11 on JDK8 this will crash JavaFX
         final int jdkMajorVersion = Integer.parseInt(System.getProperty("java.version").split("\\.")[0]);
@@ -173,6 +251,13 @@ public class ErrorDataSetRendererTests {
         return referenceFileName + contourTypeString + options + referenceFileExtension;
     }
 
+    private Optional<CachedDataPoints> prepare(final AxisTransformSnapshot xTransform, final AxisTransformSnapshot yTransform, final DataSet dataSet, final RendererDataReducer reducer) {
+        final Optional<CachedDataPoints> points = renderer.prepareCachedPoints(xTransform, yTransform, dataSet, 0, xTransform.getMin(), xTransform.getMax(), //
+                WIDTH, false, true, false, ErrorStyle.ERRORCOMBO, false);
+        points.ifPresent(value -> value.reduce(reducer, true, 5));
+        return points;
+    }
+
     private DataSet getTestDataSet() {
         final DoubleErrorDataSet retVal = (DoubleErrorDataSet) DataSetMath.addFunction(new SineFunction("test-sine", N_SAMPLES), 5.0);
         retVal.setStyle("strokeColor=red;");
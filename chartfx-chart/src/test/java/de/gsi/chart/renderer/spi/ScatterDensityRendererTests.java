@@ -0,0 +1,198 @@
+package de.gsi.chart.renderer.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.stage.Stage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import de.gsi.chart.renderer.spi.utils.ColorGradient;
+import de.gsi.chart.ui.utils.JavaFXInterceptorUtils.SelectiveJavaFxInterceptor;
+import de.gsi.chart.ui.utils.TestFx;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
+
+/**
+ * Tests {@link ScatterDensityRenderer}
+ *
+ * @author rstein
+ */
+@ExtendWith(ApplicationExtension.class)
+@ExtendWith(SelectiveJavaFxInterceptor.class)
+public class ScatterDensityRendererTests {
+    private static final int WIDTH = 64;
+    private static final int HEIGHT = 48;
+    // identity mapping of the data to the screen coordinates, N.B. vertical screen coordinates grow downwards
+    private static final AxisTransformSnapshot X_TRANSFORM = new AxisTransformSnapshot(0.0, WIDTH, false, false, 0.0, 1.0);
+    private static final AxisTransformSnapshot Y_TRANSFORM = new AxisTransformSnapshot(0.0, HEIGHT, false, false, HEIGHT, -1.0);
+
+    @Start
+    public void start(final Stage stage) {
+        stage.show();
+    }
+
+    @Test
+    public void accumulateTests() {
+        final int width = 4;
+        final int height = 3;
+        final double[] x = { 0.0, 0.5, 3.9, 2.0, -0.1, 4.0, 1.0, Double.NaN, 1.0 };
+        final double[] y = { 0.0, 0.9, 2.5, 1.0, 1.0, 1.0, -1.0, 1.0, Double.POSITIVE_INFINITY };
+        final int[] grid = new int[width * height];
+        ScatterDensityRenderer.accumulate(x, y, 0, x.length, grid, width, height);
+
+        // N.B. first grid row corresponds to the bottom of the screen (largest y screen coordinate)
+        final int[] expected = { 0, 0, 0, 1, //
+            0, 0, 1, 0, //
+            2, 0, 0, 0 };
+        assertArrayEquals(expected, grid);
+
+        // sub-range only
+        final int[] grid2 = new int[width * height];
+        ScatterDensityRenderer.accumulate(x, y, 2, 4, grid2, width, height);
+        assertEquals(2, sum(grid2));
+    }
+
+    @Test
+    public void parallelAccumulateTests() {
+        final int nPoints = 5 * 100_000 + 123; // N.B. exceeds the minimum chunk size of the parallel implementation
+        final DataSet dataSet = getRandomDataSet(nPoints);
+
+        // reference: direct accumulation of the screen coordinates
+        final double[] xPositions = dataSet.getValues(DataSet.DIM_X).clone();
+        final double[] yPositions = dataSet.getValues(DataSet.DIM_Y).clone();
+        for (int i = 0; i < nPoints; i++) {
+            yPositions[i] = HEIGHT - yPositions[i];
+        }
+        final int[] expected = new int[WIDTH * HEIGHT];
+        ScatterDensityRenderer.accumulate(xPositions, yPositions, 0, nPoints, expected, WIDTH, HEIGHT);
+        assertTrue(sum(expected) > 0 && sum(expected) < nPoints, "test data partially outside the grid");
+
+        final ScatterDensityRenderer renderer = new ScatterDensityRenderer();
+        for (final boolean parallel : new boolean[] { true, false }) {
+            renderer.setParallelImplementation(parallel);
+            final int[] counts = new int[WIDTH * HEIGHT];
+            renderer.accumulateDataSet(X_TRANSFORM, Y_TRANSFORM, dataSet, counts, WIDTH, HEIGHT);
+            assertArrayEquals(expected, counts, "parallel = " + parallel);
+        }
+    }
+
+    @Test
+    public void propertyTests() {
+        final ScatterDensityRenderer renderer = new ScatterDensityRenderer();
+        assertEquals(ColorGradient.VIRIDIS, renderer.getColorGradient());
+        renderer.setColorGradient(ColorGradient.JET);
+        assertEquals(ColorGradient.JET, renderer.getColorGradient());
+        assertThrows(IllegalArgumentException.class, () -> renderer.setColorGradient(null));
+
+        assertTrue(renderer.isLogarithmicDensity());
+        renderer.setLogarithmicDensity(false);
+        assertFalse(renderer.isLogarithmicDensity());
+
+        assertTrue(renderer.isParallelImplementation());
+        renderer.setParallelImplementation(false);
+        assertFalse(renderer.isParallelImplementation());
+    }
+
+    @Test
+    public void quantiseTests() {
+        final int[] counts = { 0, 1, 10, 100 };
+        final double[] quantised = new double[counts.length];
+
+        ScatterDensityRenderer.quantise(counts, quantised, counts.length, false);
+        assertTrue(Double.isNaN(quantised[0]), "empty pixels are transparent");
+        assertEquals(0.0, quantised[1]);
+        assertEquals(9.0 / 99.0, quantised[2], 1e-12);
+        assertEquals(1.0, quantised[3]);
+
+        ScatterDensityRenderer.quantise(counts, quantised, counts.length, true);
+        assertTrue(Double.isNaN(quantised[0]), "empty pixels are transparent");
+        assertEquals(0.0, quantised[1]);
+        assertEquals(0.5, quantised[2], 1e-12);
+        assertEquals(1.0, quantised[3], 1e-12);
+
+        // single points only
+        final int[] single = { 1, 0 };
+        ScatterDensityRenderer.quantise(single, quantised, single.length, true);
+        assertEquals(0.0, quantised[0]);
+        assertTrue(Double.isNaN(quantised[1]));
+    }
+
+    @TestFx
+    public void renderDensityTests() {
+        final ScatterDensityRenderer renderer = new ScatterDensityRenderer();
+        renderer.setColorGradient(ColorGradient.RAINBOW_OPAQUE);
+        final int[] lut = ColorGradient.RAINBOW_OPAQUE.getColorLookupTable(2);
+
+        // a single point in the top-left pixel and 100 points in pixel (2, 10)
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        dataSet.add(0.5, HEIGHT - 0.5);
+        for (int i = 0; i < 100; i++) {
+            dataSet.add(2.5, HEIGHT - 10.5);
+        }
+        final PixelReader reader = renderer.renderDensity(Collections.singletonList(dataSet), X_TRANSFORM, Y_TRANSFORM, WIDTH, HEIGHT).getPixelReader();
+        assertEquals(2, countNonTransparent(reader), "non-transparent pixels");
+        assertEquals(lut[0], reader.getArgb(0, 0), "lowest density colour");
+        assertEquals(lut[lut.length - 1], reader.getArgb(2, 10), "highest density colour");
+
+        // the parallel chunk merge yields the same image as the sequential implementation
+        final List<DataSet> dataSets = List.of(getRandomDataSet(5 * 100_000 + 123), dataSet);
+        final WritableImage parallelImage = renderer.renderDensity(dataSets, X_TRANSFORM, Y_TRANSFORM, WIDTH, HEIGHT);
+        final int[] parallelPixels = getPixels(parallelImage.getPixelReader());
+        final ScatterDensityRenderer sequentialRenderer = new ScatterDensityRenderer().setColorGradient(ColorGradient.RAINBOW_OPAQUE).setParallelImplementation(false);
+        final int[] sequentialPixels = getPixels(sequentialRenderer.renderDensity(dataSets, X_TRANSFORM, Y_TRANSFORM, WIDTH, HEIGHT).getPixelReader());
+        assertArrayEquals(sequentialPixels, parallelPixels);
+        assertTrue(countNonTransparent(parallelImage.getPixelReader()) > WIDTH * HEIGHT / 2, "dense image");
+    }
+
+    private static int countNonTransparent(final PixelReader reader) {
+        int count = 0;
+        for (final int argb : getPixels(reader)) {
+            if (argb != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int[] getPixels(final PixelReader reader) {
+        final int[] pixels = new int[WIDTH * HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                pixels[y * WIDTH + x] = reader.getArgb(x, y);
+            }
+        }
+        return pixels;
+    }
+
+    private static DataSet getRandomDataSet(final int nPoints) {
+        final Random rnd = new Random(42);
+        final double[] x = new double[nPoints];
+        final double[] y = new double[nPoints];
+        for (int i = 0; i < nPoints; i++) {
+            x[i] = -2.0 + (WIDTH + 4.0) * rnd.nextDouble(); // N.B. some points are outside the grid
+            y[i] = HEIGHT / 2.0 + 0.3 * HEIGHT * rnd.nextGaussian();
+        }
+        return new DoubleDataSet("random", x, y, nPoints, false);
+    }
+
+    private static int sum(final int[] values) {
+        int sum = 0;
+        for (final int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
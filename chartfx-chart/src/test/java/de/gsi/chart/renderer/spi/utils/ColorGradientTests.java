@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -41,6 +42,16 @@ public class ColorGradientTests {
             assertArrayEquals(transparentColorBytes, gradient.getColorBytes(+1.1), " color bytes above range ");
 
             assertNotNull(gradient.toString(), "gradient name");
+
+            final int[] lut = gradient.getColorLookupTable(10);
+            assertEquals(11, lut.length, "look-up table length");
+            assertSame(lut, gradient.getColorLookupTable(10), "look-up table caching");
+            for (int level = 0; level <= 10; level++) {
+                final int[] color = gradient.getColorBytes(level / 10.0);
+                assertEquals(color[0], lut[level] >>> 24, "look-up table alpha");
+                assertEquals((color[1] * color[0] + 127) / 255, (lut[level] >> 16) & 0xFF, "look-up table premultiplied red");
+                assertEquals((color[3] * color[0] + 127) / 255, lut[level] & 0xFF, "look-up table premultiplied blue");
+            }
         }
     }
 }
@@ -75,6 +75,25 @@ public interface DataSet extends EventSource, Serializable {
      */
     int getIndex(final int dimIndex, final double... x);
 
+    /**
+     * Monotonically increasing version stamp of the data. The count is incremented by every operation that modifies
+     * the data, labels or styles and by every data update event that is sent to the listeners (ie. not by axis range or
+     * name changes). It may be used by consumers to skip recomputations in O(1) if the data set has not changed since
+     * they last looked.
+     * <p>
+     * N.B. the count is incremented after the modification has been completed. Consumers should therefore read the
+     * count before (or while holding the read lock for) reading the data: a concurrent modification then results in a
+     * spurious recomputation rather than in stale data. The count is not reset by clearing the data.
+     * <p>
+     * The default implementation does not track modifications and returns a new value on each invocation, ie. it
+     * always forces consumers to recompute. Implementations that fire update events should override it.
+     *
+     * @return number of modifications since the data set has been created
+     */
+    default long getModificationCount() {
+        return ModificationCounter.next();
+    }
+
     /**
      * Gets the name of the data set.
      *
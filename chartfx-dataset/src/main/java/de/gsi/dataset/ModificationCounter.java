@@ -0,0 +1,24 @@
+package de.gsi.dataset;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Source of the version stamps returned by the default {@link DataSet#getModificationCount()} implementation for data
+ * sets that do not track their modifications.
+ *
+ * @author rstein
+ */
+final class ModificationCounter {
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    private ModificationCounter() {
+        // utility class
+    }
+
+    /**
+     * @return a new value on each invocation, ie. consumers comparing it to a previous value always recompute
+     */
+    static long next() {
+        return COUNTER.incrementAndGet();
+    }
+}
@@ -0,0 +1,51 @@
+package de.gsi.dataset.event;
+
+/**
+ * AppendedDataEvent class that is passed along the notification performed by the {@code EventSource} class. Rather
+ * than issuing one event per sample, streaming data sets publish one event describing the range of samples that have
+ * been appended since the last notification, i.e. 'count' samples starting with sequence number 'fromSequence'.
+ *
+ * @see EventSource for details
+ * @see de.gsi.dataset.spi.RingBufferDataSet
+ *
+ * @author rstein
+ */
+public class AppendedDataEvent extends AddedDataEvent {
+    private static final long serialVersionUID = -6306208713469417617L;
+    private final long fromSequence;
+    private final long count;
+
+    /**
+     * generates new update event
+     *
+     * @param source the class issuing the event
+     * @param fromSequence sequence number of the first appended sample
+     * @param count number of samples appended since {@code fromSequence}
+     */
+    public AppendedDataEvent(final EventSource source, final long fromSequence, final long count) {
+        super(source, "appended " + count + " samples since sequence " + fromSequence);
+        this.fromSequence = fromSequence;
+        this.count = count;
+    }
+
+    /**
+     * @return number of samples appended since {@link #getFromSequence()}
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return sequence number of the first appended sample
+     */
+    public long getFromSequence() {
+        return fromSequence;
+    }
+
+    /**
+     * @return sequence number following the last appended sample (exclusive)
+     */
+    public long getToSequence() {
+        return fromSequence + count;
+    }
+}
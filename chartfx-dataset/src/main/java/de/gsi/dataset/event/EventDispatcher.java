@@ -0,0 +1,280 @@
+package de.gsi.dataset.event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.gsi.dataset.utils.AssertUtils;
+import de.gsi.dataset.utils.CachedDaemonThreadFactory;
+
+/**
+ * Asynchronous, coalescing event dispatcher that replaces the former per-listener fan-out of
+ * {@link EventSource#invokeListener(UpdateEvent, boolean) EventSource#invokeListener(event, true)}.
+ * <p>
+ * Events are queued per source and delivered by a single task per source that notifies all listeners in sequence,
+ * ie. without one {@code Future} per listener and without the caller waiting for the listeners. Events of the same
+ * source are delivered one after the other and in the order they have been dispatched. If an event is dispatched while
+ * the last queued (not yet delivered) event of the same source is of the same type, the two are merged:
+ * <ul>
+ * <li>{@link AppendedDataEvent}s covering adjacent sequence ranges are merged into one event spanning both ranges
+ * (non-adjacent ranges are queued separately), so that listeners tracking the appended samples do not miss any,</li>
+ * <li>{@link AxisChangeEvent}s are only merged if they refer to the same dimension,</li>
+ * <li>all other events are replaced by the more recent one.</li>
+ * </ul>
+ * This bounds the notification load for sources that are updated faster than their listeners can process (e.g. many
+ * DataSets updated at 25 Hz) without reordering events of different types.
+ * <p>
+ * Listener exceptions are logged and do not prevent the notification of the remaining listeners. The listener list is
+ * iterated without copying if it is a {@link CopyOnWriteArrayList} (as for the default DataSet and AxisDescription
+ * implementations) or copied under its lock otherwise.
+ * <p>
+ * Basic usage:
+ *
+ * <pre>
+ * {@code
+ *  dataSet.invokeListener(new UpdatedDataEvent(dataSet, "new data"), true);
+ *  // or, equivalently:
+ *  EventDispatcher.getDefault().dispatch(new UpdatedDataEvent(dataSet, "new data"));
+ * }
+ * </pre>
+ *
+ * @author rstein
+ */
+@SuppressWarnings("PMD.DoNotUseThreads") // thread handling is the declared purpose of this class
+public class EventDispatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventDispatcher.class);
+    // N.B. dedicated executor: listeners that synchronously invoke listeners (ie. block on the EventThreadHelper pool)
+    // from within a dispatched task must not be able to starve the pool they are waiting on
+    private static final EventDispatcher DEFAULT_INSTANCE = new EventDispatcher(
+            Executors.newFixedThreadPool(EventThreadHelper.getMaxThreads(), CachedDaemonThreadFactory.getInstance()));
+    private final Map<SourceKey, SourceQueue> pendingQueues = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final LongAdder dispatchedCount = new LongAdder();
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * @param executor the executor the listener notification is performed on
+     */
+    public EventDispatcher(final Executor executor) {
+        AssertUtils.notNull("executor", executor);
+        this.executor = executor;
+    }
+
+    /**
+     * Waits until all dispatched events have been delivered (or coalesced)
+     *
+     * @param timeout maximum time to wait
+     * @param unit time unit of the timeout argument
+     * @return {@code true} if all events have been delivered, {@code false} if the time-out elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitIdle(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!pendingQueues.isEmpty()) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            Thread.sleep(1); // NOPMD -- polling is sufficient for this (test/shutdown) use-case
+        }
+        return true;
+    }
+
+    /**
+     * Queues the event for the asynchronous notification of the listeners of its source. The call does not wait for
+     * the listeners and is a no-op if the source has automatic notification disabled.
+     *
+     * @param updateEvent the event the listeners are notified with (N.B. needs to have a valid {@link EventSource})
+     */
+    public void dispatch(final UpdateEvent updateEvent) {
+        AssertUtils.notNull("updateEvent", updateEvent);
+        if (!(updateEvent.getSource() instanceof EventSource)) {
+            throw new IllegalArgumentException("event source must be an EventSource: " + updateEvent.getSource());
+        }
+        final EventSource source = (EventSource) updateEvent.getSource();
+        if (!source.isAutoNotification() || source.updateEventListener() == null) {
+            return;
+        }
+        dispatchedCount.increment();
+        final SourceKey key = new SourceKey(source);
+        while (true) {
+            final SourceQueue queue = pendingQueues.computeIfAbsent(key, SourceQueue::new);
+            final int state = queue.offer(updateEvent);
+            if (state == SourceQueue.SCHEDULE) {
+                executor.execute(queue);
+                return;
+            }
+            if (state == SourceQueue.COALESCED) {
+                coalescedCount.increment();
+                return;
+            }
+            if (state == SourceQueue.QUEUED) {
+                return;
+            }
+            // queue has been retired in the meantime -> retry with a new queue
+        }
+    }
+
+    /**
+     * @return number of events that have been merged with a preceding queued event of the same source and type before
+     *         being delivered
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * @return number of events that have been delivered to the listeners of their source
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.sum();
+    }
+
+    /**
+     * @return number of events that have been passed to {@link #dispatch(UpdateEvent)}
+     */
+    public long getDispatchedCount() {
+        return dispatchedCount.sum();
+    }
+
+    protected void deliver(final UpdateEvent updateEvent) {
+        final EventSource source = (EventSource) updateEvent.getSource();
+        final List<EventListener> listeners = source.updateEventListener();
+        if (listeners == null) {
+            return;
+        }
+        final List<EventListener> snapshot;
+        if (listeners instanceof CopyOnWriteArrayList) {
+            snapshot = listeners; // iterators operate on an immutable snapshot
+        } else {
+            synchronized (listeners) {
+                snapshot = new ArrayList<>(listeners);
+            }
+        }
+        for (final EventListener listener : snapshot) {
+            try {
+                listener.handle(updateEvent);
+            } catch (final Exception e) { // NOPMD -- listener exceptions must not stop the dispatcher
+                LOGGER.atError().setCause(e).addArgument(listener).addArgument(updateEvent).log("listener '{}' failed to handle event '{}'");
+            }
+        }
+        deliveredCount.increment();
+    }
+
+    /**
+     * @return default instance using a dedicated executor (ie. independent of the {@link EventThreadHelper} pool)
+     */
+    public static EventDispatcher getDefault() {
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * @param queued the last queued, not yet delivered event
+     * @param next the newly dispatched event of the same source
+     * @return the event replacing both or {@code null} if the events cannot be merged
+     */
+    protected static UpdateEvent coalesce(final UpdateEvent queued, final UpdateEvent next) {
+        if (queued.getClass() != next.getClass()) {
+            return null;
+        }
+        if (next instanceof AppendedDataEvent) {
+            final AppendedDataEvent first = (AppendedDataEvent) queued;
+            final AppendedDataEvent second = (AppendedDataEvent) next;
+            if (first.getToSequence() != second.getFromSequence() || next.getClass() != AppendedDataEvent.class) {
+                return null; // N.B. gap in the sequence range or derived event type that cannot be re-created
+            }
+            return new AppendedDataEvent((EventSource) next.getSource(), first.getFromSequence(), first.getCount() + second.getCount());
+        }
+        if (next instanceof AxisChangeEvent && ((AxisChangeEvent) queued).getDimension() != ((AxisChangeEvent) next).getDimension()) {
+            return null;
+        }
+        return next;
+    }
+
+    /**
+     * identity-based source key -- N.B. DataSet's equals/hashCode depend on the (mutable) data content
+     */
+    private static class SourceKey {
+        private final EventSource source;
+
+        protected SourceKey(final EventSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof SourceKey && source == ((SourceKey) obj).source;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(source);
+        }
+    }
+
+    /**
+     * holds the not-yet-delivered events of a source. Queues are removed from the map once drained and marked as
+     * retired so that late offers are redirected to a new queue.
+     */
+    private class SourceQueue implements Runnable {
+        protected static final int SCHEDULE = 0;
+        protected static final int QUEUED = 1;
+        protected static final int COALESCED = 2;
+        protected static final int RETIRED = 3;
+        private final SourceKey key;
+        private final Deque<UpdateEvent> pending = new ArrayDeque<>();
+        private boolean scheduled;
+        private boolean retired;
+
+        protected SourceQueue(final SourceKey key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                final UpdateEvent event;
+                synchronized (this) {
+                    event = pending.pollFirst();
+                    if (event == null) {
+                        scheduled = false;
+                        retired = true;
+                        pendingQueues.remove(key, this);
+                        return;
+                    }
+                }
+                deliver(event);
+            }
+        }
+
+        protected synchronized int offer(final UpdateEvent event) {
+            if (retired) {
+                return RETIRED;
+            }
+            final UpdateEvent last = pending.peekLast();
+            final UpdateEvent merged = last == null ? null : coalesce(last, event);
+            if (merged != null) {
+                pending.pollLast();
+                pending.addLast(merged);
+                return COALESCED;
+            }
+            pending.addLast(event);
+            if (scheduled) {
+                return QUEUED;
+            }
+            scheduled = true;
+            return SCHEDULE;
+        }
+    }
+}
@@ -3,8 +3,7 @@ package de.gsi.dataset.event;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import de.gsi.dataset.utils.AggregateException;
@@ -58,77 +57,55 @@ public interface EventSource {
     }
 
     /**
-     * invoke object within update listener list
+     * invoke object within update listener list, ie. notifies the listeners in sequence in the calling thread
      *
      * @param updateEvent the event the listeners are notified with
      */
     default void invokeListener(final UpdateEvent updateEvent) {
-        invokeListener(updateEvent, true);
+        invokeListener(updateEvent, false);
     }
 
     /**
      * invoke object within update listener list
      *
      * @param updateEvent the event the listeners are notified with
-     * @param executeParallel {@code true} execute event listener via parallel executor service
+     * @param executeParallel {@code true}: notify the listeners asynchronously via the coalescing
+     *            {@link EventDispatcher#getDefault() EventDispatcher} (the call does not wait for the listeners and
+     *            listener exceptions are logged), {@code false}: notify the listeners in sequence in the calling thread
+     *            (listener exceptions are forwarded as {@link AggregateException})
      */
-    @SuppressWarnings("PMD.NPathComplexity") // cannot be further split w/o adding unwanted further public default implementations (N.B. 'private default' ... is forbidden)
     default void invokeListener(final UpdateEvent updateEvent, final boolean executeParallel) {
         if (updateEventListener() == null || !isAutoNotification()) {
             return;
         }
+        if (executeParallel) {
+            EventDispatcher.getDefault().dispatch(updateEvent == null ? new UpdateEvent(this) : updateEvent);
+            return;
+        }
         List<EventListener> eventListener;
-        synchronized (updateEventListener()) {
-            if (!isAutoNotification() || updateEventListener() == null || updateEventListener().isEmpty()) {
+        if (updateEventListener() instanceof CopyOnWriteArrayList) {
+            // N.B. iterators operate on an immutable snapshot -> no need to copy
+            eventListener = updateEventListener();
+            if (eventListener.isEmpty()) {
                 return;
             }
-            eventListener = new ArrayList<>(updateEventListener());
-        }
-        if (!executeParallel || eventListener.size() == 1) {
-            // alt implementation:
-            final AggregateException exceptions = new AggregateException(
-                    EventSource.class.getSimpleName() + "(NonParallel)");
-            for (EventListener listener : eventListener) {
-                try {
-                    listener.handle(updateEvent);
-                } catch (Exception e) { // NOPMD -- necessary since these are forwarded
-                    exceptions.add(e);
+        } else {
+            synchronized (updateEventListener()) {
+                if (!isAutoNotification() || updateEventListener() == null || updateEventListener().isEmpty()) {
+                    return;
                 }
+                eventListener = new ArrayList<>(updateEventListener());
             }
-            if (!exceptions.isEmpty()) {
-                throw exceptions;
-            }
-            return;
         }
-
-        // execute event listeners in parallel
-        final UpdateEvent event = updateEvent == null ? new UpdateEvent(this) : updateEvent;
         final AggregateException exceptions = new AggregateException(
-                EventSource.class.getSimpleName() + "(Parallel)");
-        final ExecutorService es = EventThreadHelper.getExecutorService();
-        final List<Future<Boolean>> jobs = new ArrayList<>(eventListener.size());
+                EventSource.class.getSimpleName() + "(NonParallel)");
         for (EventListener listener : eventListener) {
-            jobs.add(es.submit(() -> {
-                try {
-                    listener.handle(event);
-                    return Boolean.TRUE;
-                } catch (Exception e) { // NOPMD -- necessary since these are forwarded
-                    exceptions.add(e);
-                    exceptions.fillInStackTrace();
-                }
-                return Boolean.FALSE;
-            }));
-        }
-
-        try {
-            // wait for submitted tasks to complete
-            for (final Future<Boolean> future : jobs) {
-                future.get();
+            try {
+                listener.handle(updateEvent);
+            } catch (Exception e) { // NOPMD -- necessary since these are forwarded
+                exceptions.add(e);
             }
-        } catch (final Exception e) { // NOPMD -- necessary since these are forwarded
-            exceptions.add(new IllegalStateException("one parallel worker thread finished execution with error", e));
         }
-        // all submitted tasks are completed
         if (!exceptions.isEmpty()) {
             throw exceptions;
         }
@@ -1,12 +1,12 @@
 package de.gsi.dataset.spi;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntToDoubleFunction;
 
 import de.gsi.dataset.AxisDescription;
@@ -48,7 +48,7 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
     private String name;
     protected int dimension;
     private final List<AxisDescription> axesDescriptions = new ArrayList<>();
-    private final transient List<EventListener> updateListeners = Collections.synchronizedList(new LinkedList<>());
+    private final transient List<EventListener> updateListeners = new CopyOnWriteArrayList<>();
     private final transient DataSetLock<? extends DataSet> lock = new DefaultDataSetLock<>(this);
     private StringHashMapList dataLabels = new StringHashMapList();
     private StringHashMapList dataStyles = new StringHashMapList();
@@ -58,6 +58,7 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
     private transient EditConstraints editConstraints;
     private final Map<String, String> metaInfoMap = new ConcurrentHashMap<>();
     private final transient AtomicBoolean axisUpdating = new AtomicBoolean(false);
+    private final transient AtomicLong modificationCount = new AtomicLong();
     protected final transient EventListener axisListener = e -> {
         if (!isAutoNotification() || !(e instanceof AxisChangeEvent) || axisUpdating.get()) {
             return;
@@ -401,6 +402,22 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
         return axesDescriptions;
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount.get();
+    }
+
+    /**
+     * Unless the event is an {@link AxisChangeEvent} this also increments the {@link #getModificationCount()}, also if
+     * the automatic notification is disabled. This permits external code to force dependent data sets to be
+     * recomputed via e.g. {@code invokeListener(new UpdatedDataEvent(dataSet, "..."))}.
+     */
+    @Override
+    public void invokeListener(final UpdateEvent updateEvent, final boolean executeParallel) {
+        incrementModificationCount(updateEvent);
+        super.invokeListener(updateEvent, executeParallel);
+    }
+
     /**
      * Returns label of a data point specified by the index. The label can be used as a category name if
      * CategoryStepsDefinition is used or for annotations displayed for data points.
@@ -541,6 +558,13 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
         return getThis();
     }
 
+    @Override
+    public D setStyle(final String style) {
+        super.setStyle(style);
+        modificationCount.incrementAndGet();
+        return getThis();
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
@@ -722,4 +746,74 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
             this.getAxisDescription(dimIndex).set(other.getAxisDescription(dimIndex));
         }
     }
+
+    /**
+     * Incrementally extends the limits of the given dimension by newly added or modified values. N.B. limits that have
+     * been invalidated before are left undefined (and lazily recomputed) unless the new values are the only data points.
+     *
+     * @param dimIndex the dimension index
+     * @param values the new values
+     * @param length number of values to be taken into account
+     */
+    protected void extendLimits(final int dimIndex, final double[] values, final int length) {
+        final AxisDescription axisDescription = getAxisDescription(dimIndex);
+        if (axisDescription.isDefined() || getDataCount() <= length) {
+            axisDescription.add(values, length);
+        }
+    }
+
+    /**
+     * Incrementally extends the limits of the given dimension by a newly added or modified value. N.B. limits that have
+     * been invalidated before are left undefined (and lazily recomputed) unless the new value is the only data point.
+     *
+     * @param dimIndex the dimension index
+     * @param value the new value
+     */
+    protected void extendLimits(final int dimIndex, final double value) {
+        final AxisDescription axisDescription = getAxisDescription(dimIndex);
+        if (axisDescription.isDefined() || getDataCount() <= 1) {
+            axisDescription.add(value);
+        }
+    }
+
+    private void incrementModificationCount(final UpdateEvent updateEvent) {
+        if (!(updateEvent instanceof AxisChangeEvent)) { // N.B. axis range/name changes do not modify the data
+            modificationCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Invalidates the limits of those dimensions for which the data points within the given index range (that are about
+     * to be removed or overwritten) contain an extremum. Limits remain valid otherwise, which avoids the full
+     * {@link #recomputeLimits(int)} scan.
+     *
+     * @param fromIndex start index (inclusive)
+     * @param toIndex stop index (exclusive)
+     */
+    protected void invalidateLimits(final int fromIndex, final int toIndex) {
+        for (int dimIndex = 0; dimIndex < getDimension(); dimIndex++) {
+            final AxisDescription axisDescription = getAxisDescription(dimIndex);
+            if (!axisDescription.isDefined()) {
+                continue;
+            }
+            for (int index = fromIndex; index < toIndex; index++) {
+                if (isLimitValue(dimIndex, index, axisDescription.getMin(), axisDescription.getMax())) {
+                    axisDescription.clear();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param dimIndex the dimension index
+     * @param index data point index
+     * @param min current range minimum
+     * @param max current range maximum
+     * @return {@code true} if the data point is located on (or outside) the given range limits
+     */
+    protected boolean isLimitValue(final int dimIndex, final int index, final double min, final double max) {
+        final double value = get(dimIndex, index);
+        return value <= min || value >= max;
+    }
 }
@@ -114,4 +114,14 @@ public abstract class AbstractErrorDataSet<D extends AbstractErrorDataSet<D>> ex
         this.errorType[dimIndex] = errorType;
         return getThis();
     }
+
+    @Override
+    protected boolean isLimitValue(final int dimIndex, final int index, final double min, final double max) {
+        if (getErrorType(dimIndex) == ErrorType.NO_ERROR) {
+            return super.isLimitValue(dimIndex, index, min, max);
+        }
+        final double value = get(dimIndex, index);
+        final double errorNeg = getErrorType(dimIndex) == ErrorType.ASYMMETRIC ? getErrorNegative(dimIndex, index) : getErrorPositive(dimIndex, index);
+        return value - errorNeg <= min || value + getErrorPositive(dimIndex, index) >= max;
+    }
 }
@@ -9,8 +9,15 @@ import de.gsi.dataset.event.RemovedDataEvent;
 import de.gsi.dataset.utils.AssertUtils;
 import de.gsi.dataset.utils.CircularBuffer;
 import de.gsi.dataset.utils.DoubleCircularBuffer;
+import de.gsi.dataset.utils.SlidingWindowMinMax;
 
 /**
+ * Circular-buffer based DataSet with asymmetric vertical errors.
+ * <p>
+ * The axis limits are maintained by {@link SlidingWindowMinMax} monotonic-deque trackers, ie. are updated in O(1)
+ * (amortised) for each new sample rather than being recomputed over the whole buffer once the oldest samples are
+ * overwritten.
+ *
  * @author rstein
  */
 public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDoubleErrorDataSet> implements DataSetError, DataSet2D {
@@ -21,6 +28,8 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
     protected DoubleCircularBuffer yErrorsNeg;
     protected CircularBuffer<String> dataLabels;
     protected CircularBuffer<String> dataStyles;
+    protected transient SlidingWindowMinMax xLimits; // N.B. lazily re-initialised from the buffers, see initLimits()
+    protected transient SlidingWindowMinMax yLimits;
 
     /**
      * Creates a new instance of <code>CircularDoubleErrorDataSet</code>.
@@ -38,6 +47,7 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
         yErrorsNeg = new DoubleCircularBuffer(initalSize);
         dataLabels = new CircularBuffer<>(initalSize);
         dataStyles = new CircularBuffer<>(initalSize);
+        initLimits();
     }
 
     /**
@@ -81,6 +91,7 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
     public CircularDoubleErrorDataSet add(final double x, final double y, final double yErrorNeg, final double yErrorPos, final String label,
             final String style) {
         lock().writeLockGuard(() -> {
+            initLimits(); // N.B. before adding the new samples to the buffers
             xValues.put(x);
             yValues.put(y);
             yErrorsPos.put(yErrorPos);
@@ -88,8 +99,9 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
             dataLabels.put(label);
             dataStyles.put(style);
 
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            xLimits.add(x);
+            yLimits.add(y - yErrorNeg, y + yErrorPos);
+            updateLimits();
         });
 
         return fireInvalidated(new AddedDataEvent(this));
@@ -117,6 +129,7 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
         AssertUtils.equalDoubleArrays(xVals, yErrPos);
 
         lock().writeLockGuard(() -> {
+            initLimits(); // N.B. before adding the new samples to the buffers
             this.xValues.put(xVals, xVals.length);
             this.yValues.put(yVals, yVals.length);
             this.yErrorsNeg.put(yErrNeg, yErrNeg.length);
@@ -124,11 +137,11 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
             dataLabels.put(new String[yErrPos.length], yErrPos.length);
             dataStyles.put(new String[yErrPos.length], yErrPos.length);
 
-            getAxisDescription(DIM_X).add(xVals);
             for (int i = 0; i < yVals.length; i++) {
-                getAxisDescription(DIM_Y).add(yVals[i] + yErrPos[i]);
-                getAxisDescription(DIM_Y).add(yVals[i] - yErrNeg[i]);
+                xLimits.add(xVals[i]);
+                yLimits.add(yVals[i] - yErrNeg[i], yVals[i] + yErrPos[i]);
             }
+            updateLimits();
         });
 
         return fireInvalidated(new AddedDataEvent(this));
@@ -174,6 +187,15 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
         throw new UnsupportedOperationException("Adding data styles later is not supported, supply labels to add()");
     }
 
+    @Override
+    public CircularDoubleErrorDataSet recomputeLimits(final int dimIndex) {
+        lock().readLockGuard(() -> {
+            initLimits();
+            applyLimits(dimIndex, dimIndex == DIM_X ? xLimits : yLimits);
+        });
+        return getThis();
+    }
+
     @Override
     public String removeStyle(int index) {
         throw new UnsupportedOperationException("Removing data styles is not supported for this type of DataSet");
@@ -197,6 +219,8 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
             yErrorsPos.reset();
             dataLabels.reset();
             dataStyles.reset();
+            xLimits = null; // NOPMD -- re-initialised (empty) with the next access
+            yLimits = null; // NOPMD
             getAxisDescriptions().forEach(AxisDescription::clear);
         });
 
@@ -207,4 +231,41 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
     public DataSet set(final DataSet other, final boolean copy) {
         throw new UnsupportedOperationException("copy setting transposed data set is not implemented");
     }
+
+    private void applyLimits(final int dimIndex, final SlidingWindowMinMax limits) {
+        if (limits.isEmpty()) {
+            getAxisDescription(dimIndex).clear();
+        } else {
+            getAxisDescription(dimIndex).set(limits.getMin(), limits.getMax());
+        }
+    }
+
+    /**
+     * (re-)initialises the limit trackers from the present buffer content if needed (ie. after construction, reset or
+     * de-serialisation, since the trackers are not serialised)
+     */
+    private void initLimits() {
+        if (xLimits != null && yLimits != null) {
+            return;
+        }
+        xLimits = new SlidingWindowMinMax(Math.max(1, xValues.capacity()));
+        yLimits = new SlidingWindowMinMax(Math.max(1, xValues.capacity()));
+        final int dataCount = getDataCount();
+        for (int i = 0; i < dataCount; i++) {
+            xLimits.add(xValues.get(i));
+            yLimits.add(yValues.get(i) - yErrorsNeg.get(i), yValues.get(i) + yErrorsPos.get(i));
+        }
+    }
+
+    /**
+     * drops the samples that have been overwritten in the circular buffers from the limit trackers and updates the
+     * axis ranges accordingly
+     */
+    private void updateLimits() {
+        final long firstSequence = xLimits.getSequence() - getDataCount();
+        xLimits.removeBefore(firstSequence);
+        yLimits.removeBefore(firstSequence);
+        applyLimits(DIM_X, xLimits);
+        applyLimits(DIM_Y, yLimits);
+    }
 }
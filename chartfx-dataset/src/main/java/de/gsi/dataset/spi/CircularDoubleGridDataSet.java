@@ -0,0 +1,259 @@
+package de.gsi.dataset.spi;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import de.gsi.dataset.AxisDescription;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.DataSet3D;
+import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.event.AppendedDataEvent;
+import de.gsi.dataset.event.UpdatedDataEvent;
+import de.gsi.dataset.utils.AssertUtils;
+import de.gsi.dataset.utils.SlidingWindowMinMax;
+
+/**
+ * Streaming (waterfall/spectrogram-type) 3D grid data set that keeps a fixed number of rows in a circular buffer.
+ * <p>
+ * New rows are appended at the upper end of the y-axis and -- once the buffer is full -- replace the oldest row at the
+ * lower end, ie. the y-axis moves with the appended rows. Appending a row does not allocate: the z-values are copied
+ * into the circular row storage, the y-grid is shifted in place and the x/y/z limits are maintained incrementally.
+ * <p>
+ * Listeners are notified via {@link AppendedDataEvent}s whose sequence numbers refer to rows, ie. renderers may use
+ * {@link #getRowSequence()} to determine the number of rows that have been appended since their last update.
+ *
+ * @author rstein
+ */
+@SuppressWarnings({ "java:S2160" }) // equals is still valid because of DataSet interface
+public class CircularDoubleGridDataSet extends AbstractGridDataSet<CircularDoubleGridDataSet> implements DataSet3D {
+    private static final long serialVersionUID = -6634624003417306585L;
+    private final int nRowsMax;
+    protected transient double[] xGrid; // x-grid values
+    protected transient double[] yGrid; // y-grid values, sorted from oldest to newest row
+    protected transient double[] zValues; // circular row storage [nRowsMax][nX]
+    protected transient int[] shape; // [nX, nRows]
+    protected transient long rowSequence; // number of rows appended since creation
+    private final transient SlidingWindowMinMax yLimits;
+    private final transient SlidingWindowMinMax zLimits;
+
+    /**
+     * Creates a new instance of <code>CircularDoubleGridDataSet</code> with the x-grid initialised to {0, 1, ..., nX-1}.
+     *
+     * @param name name of this DataSet.
+     * @param nX number of samples per row
+     * @param nRowsMax maximum number of rows kept in the circular buffer
+     * @throws IllegalArgumentException if {@code name} is {@code null} or sizes are not strictly positive
+     */
+    public CircularDoubleGridDataSet(final String name, final int nX, final int nRowsMax) {
+        this(name, IntStream.range(0, Math.max(nX, 0)).asDoubleStream().toArray(), nRowsMax);
+    }
+
+    /**
+     * Creates a new instance of <code>CircularDoubleGridDataSet</code>.
+     *
+     * @param name name of this DataSet.
+     * @param xGrid x-grid values (N.B. the array is copied)
+     * @param nRowsMax maximum number of rows kept in the circular buffer
+     * @throws IllegalArgumentException if {@code name} is {@code null} or sizes are not strictly positive
+     */
+    public CircularDoubleGridDataSet(final String name, final double[] xGrid, final int nRowsMax) {
+        super(name, 3);
+        AssertUtils.nonEmptyArray("xGrid", xGrid);
+        AssertUtils.gtThanZero("nRowsMax", nRowsMax);
+        this.nRowsMax = nRowsMax;
+        this.xGrid = xGrid.clone();
+        this.yGrid = new double[nRowsMax];
+        this.zValues = new double[xGrid.length * nRowsMax];
+        this.shape = new int[] { xGrid.length, 0 };
+        this.yLimits = new SlidingWindowMinMax(nRowsMax);
+        this.zLimits = new SlidingWindowMinMax(nRowsMax);
+        getAxisDescription(DIM_X).clear();
+        for (final double x : this.xGrid) {
+            getAxisDescription(DIM_X).add(x);
+        }
+    }
+
+    /**
+     * Appends a new row at the upper end of the y-axis (replacing the oldest row if the buffer is full).
+     *
+     * @param y y-coordinate of the new row (N.B. should be larger than the previously appended one)
+     * @param z z-values of the new row, length must be equal to the number of x-grid points
+     * @return itself (fluent design)
+     */
+    public CircularDoubleGridDataSet appendRow(final double y, final double[] z) {
+        final int nX = shape[DIM_X];
+        AssertUtils.checkArrayDimension("z", z, nX);
+        lock().writeLockGuard(() -> {
+            final int nRows = shape[DIM_Y];
+            if (nRows < nRowsMax) {
+                shape[DIM_Y] = nRows + 1;
+            } else {
+                System.arraycopy(yGrid, 1, yGrid, 0, nRows - 1);
+            }
+            yGrid[shape[DIM_Y] - 1] = y;
+            System.arraycopy(z, 0, zValues, getPhysicalRow(rowSequence) * nX, nX);
+
+            double zMin = Double.MAX_VALUE;
+            double zMax = -Double.MAX_VALUE;
+            for (int i = 0; i < nX; i++) {
+                final double value = z[i];
+                if (Double.isFinite(value)) {
+                    zMin = Math.min(zMin, value);
+                    zMax = Math.max(zMax, value);
+                }
+            }
+            if (zMin <= zMax) {
+                zLimits.add(zMin, zMax);
+            } else {
+                zLimits.add(Double.NaN); // keeps the sequence of the limit tracker in sync with the rows
+            }
+            yLimits.add(y);
+            rowSequence++;
+            updateLimits();
+        });
+        fireInvalidated(new AppendedDataEvent(this, rowSequence - 1, 1));
+        return this;
+    }
+
+    @Override
+    public double get(final int dimIndex, final int index) {
+        final int nX = shape[DIM_X];
+        return get(dimIndex, index % nX, index / nX);
+    }
+
+    @Override
+    public double get(final int dimIndex, final int... indices) {
+        switch (dimIndex) {
+        case DIM_X:
+            return xGrid[indices[DIM_X]];
+        case DIM_Y:
+            return getGrid(DIM_Y, indices[DIM_Y]);
+        case DIM_Z:
+            return getZ(indices[DIM_X], indices[DIM_Y]);
+        default:
+            throw new IndexOutOfBoundsException("dim index out of bounds: " + dimIndex);
+        }
+    }
+
+    @Override
+    public int getDataCount() {
+        return shape[DIM_X] * shape[DIM_Y];
+    }
+
+    @Override
+    public double getGrid(final int dimIndex, final int index) {
+        switch (dimIndex) {
+        case DIM_X:
+            return xGrid[index];
+        case DIM_Y:
+            if (index < 0 || index >= shape[DIM_Y]) {
+                throw new IndexOutOfBoundsException("row index " + index + " out of bounds [0, " + shape[DIM_Y] + "[");
+            }
+            return yGrid[index];
+        default:
+            throw new IndexOutOfBoundsException("Grid index out of bounds");
+        }
+    }
+
+    @Override
+    public double[] getGridValues(final int dimIndex) {
+        switch (dimIndex) {
+        case DIM_X:
+            return xGrid;
+        case DIM_Y:
+            return Arrays.copyOf(yGrid, shape[DIM_Y]);
+        default:
+            throw new IndexOutOfBoundsException("Grid index out of bounds");
+        }
+    }
+
+    /**
+     * @return maximum number of rows kept in the circular buffer
+     */
+    public int getMaxRowCount() {
+        return nRowsMax;
+    }
+
+    /**
+     * @return number of rows appended since creation (N.B. monotonically increasing, also across {@link #reset()})
+     */
+    public long getRowSequence() {
+        return rowSequence;
+    }
+
+    @Override
+    public int[] getShape() {
+        return shape;
+    }
+
+    @Override
+    public int getShape(final int dimIndex) {
+        return shape[dimIndex];
+    }
+
+    @Override
+    public double getZ(final int xIndex, final int yIndex) {
+        final int nX = shape[DIM_X];
+        if (xIndex < 0 || xIndex >= nX || yIndex < 0 || yIndex >= shape[DIM_Y]) {
+            throw new IndexOutOfBoundsException("index (" + xIndex + ", " + yIndex + ") out of bounds " + Arrays.toString(shape));
+        }
+        return zValues[getPhysicalRow(rowSequence - shape[DIM_Y] + yIndex) * nX + xIndex];
+    }
+
+    @Override
+    public DataSet recomputeLimits(final int dimIndex) {
+        if (dimIndex == DIM_X) {
+            return super.recomputeLimits(dimIndex);
+        }
+        lock().readLockGuard(() -> applyLimits(dimIndex, dimIndex == DIM_Y ? yLimits : zLimits));
+        return getThis();
+    }
+
+    /**
+     * clears all rows (N.B. the x-grid is retained)
+     *
+     * @return itself (fluent design)
+     */
+    public CircularDoubleGridDataSet reset() {
+        lock().writeLockGuard(() -> {
+            // N.B. the row sequence is not reset to keep it monotonic for listeners that track the appended rows
+            shape[DIM_Y] = 0;
+            yLimits.removeBefore(rowSequence);
+            zLimits.removeBefore(rowSequence);
+            getAxisDescription(DIM_Y).clear();
+            getAxisDescription(DIM_Z).clear();
+        });
+        fireInvalidated(new UpdatedDataEvent(this, "reset"));
+        return this;
+    }
+
+    @Override
+    public GridDataSet set(final DataSet another, final boolean copy) {
+        throw new UnsupportedOperationException("setting the full data of a circular grid data set is not supported, use appendRow(..) instead");
+    }
+
+    private void applyLimits(final int dimIndex, final SlidingWindowMinMax limits) {
+        final AxisDescription axisDescription = getAxisDescription(dimIndex);
+        if (limits.isEmpty()) {
+            axisDescription.clear();
+        } else {
+            axisDescription.set(limits.getMin(), limits.getMax());
+        }
+    }
+
+    private int getPhysicalRow(final long sequence) {
+        return (int) (sequence % nRowsMax);
+    }
+
+    /**
+     * drops the rows that have been overwritten in the circular buffer from the limit trackers and updates the axis
+     * ranges accordingly
+     */
+    private void updateLimits() {
+        final long oldest = rowSequence - shape[DIM_Y];
+        yLimits.removeBefore(oldest);
+        zLimits.removeBefore(oldest);
+        applyLimits(DIM_Y, yLimits);
+        applyLimits(DIM_Z, zLimits);
+    }
+}
@@ -34,6 +34,7 @@ public class DimReductionDataSet extends DoubleDataSet implements EventListener
     private int maxIndex;
     private double minValue;
     private double maxValue;
+    private long sourceModificationCount = -1; // source modification count at the last recomputation
 
     /**
      * Reduces 3D grid data to 2D DataSet either via slicing, min, mean, max or integration
@@ -82,7 +83,12 @@ public class DimReductionDataSet extends DoubleDataSet implements EventListener
 
     @Override
     public void handle(UpdateEvent event) {
+        if (event != null && event.getSource() == source && source.getModificationCount() == sourceModificationCount) {
+            // source data has not been modified since the last recomputation (e.g. axis range updates)
+            return;
+        }
         lock().writeLockGuard(() -> source.lock().readLockGuard(() -> {
+            sourceModificationCount = source.getModificationCount();
             this.getWarningList().clear();
             if (source instanceof DataSetMetaData) {
                 this.getWarningList().addAll(((DataSetMetaData) source).getWarningList());
@@ -109,8 +109,8 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
                 addDataLabel(xValues.size() - 1, label);
             }
 
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, y);
         });
         return fireInvalidated(new UpdatedDataEvent(this, "add"));
     }
@@ -134,8 +134,8 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             xValues.setElements(addAt, xValuesNew);
             yValues.setElements(addAt, yValuesNew);
 
-            getAxisDescription(DIM_X).add(xValuesNew);
-            getAxisDescription(DIM_Y).add(yValuesNew);
+            extendLimits(DIM_X, xValuesNew, newElements);
+            extendLimits(DIM_Y, yValuesNew, newElements);
         });
 
         return fireInvalidated(new AddedDataEvent(this));
@@ -182,8 +182,8 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             yValues.add(indexAt, y);
             getDataLabelMap().addValueAndShiftKeys(indexAt, xValues.size(), label);
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, y);
         });
         return fireInvalidated(new AddedDataEvent(this));
     }
@@ -206,8 +206,8 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             final int indexAt = Math.max(0, Math.min(index, getDataCount() + 1));
             xValues.addElements(indexAt, x, 0, min);
             yValues.addElements(indexAt, y, 0, min);
-            getAxisDescription(DIM_X).add(x, min);
-            getAxisDescription(DIM_Y).add(y, min);
+            extendLimits(DIM_X, x, min);
+            extendLimits(DIM_Y, y, min);
             getDataLabelMap().shiftKeys(indexAt, xValues.size());
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
         });
@@ -291,15 +291,14 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             AssertUtils.indexOrder(fromIndex, "fromIndex", toIndex, "toIndex");
 
             final int clampedToIndex = Math.min(toIndex, getDataCount());
+            // invalidate ranges (only if the removed points contain an extremum)
+            invalidateLimits(fromIndex, clampedToIndex);
             xValues.removeElements(fromIndex, clampedToIndex);
             yValues.removeElements(fromIndex, clampedToIndex);
 
             // remove old label and style keys
             getDataLabelMap().remove(fromIndex, clampedToIndex);
             getDataStyleMap().remove(fromIndex, clampedToIndex);
-
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
         });
         return fireInvalidated(new RemovedDataEvent(this));
     }
@@ -437,7 +436,10 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
      */
     public DoubleDataSet set(final int index, final double x, final double y) {
         lock().writeLockGuard(() -> {
-            final int dataCount = Math.max(index + 1, this.getDataCount());
+            final int oldDataCount = this.getDataCount();
+            final int dataCount = Math.max(index + 1, oldDataCount);
+            // invalidate ranges (only if the overwritten point is an extremum)
+            invalidateLimits(index, Math.min(index + 1, oldDataCount));
             xValues.size(dataCount);
             yValues.size(dataCount);
             xValues.elements()[index] = x;
@@ -445,22 +447,35 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             getDataLabelMap().remove(index);
             getDataStyleMap().remove(index);
 
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            if (dataCount > oldDataCount + 1) {
+                // zero-padded data points
+                getAxisDescriptions().forEach(AxisDescription::clear);
+            } else {
+                extendLimits(DIM_X, x);
+                extendLimits(DIM_Y, y);
+            }
         });
         return fireInvalidated(new UpdatedDataEvent(this, "set - single"));
     }
 
     public DoubleDataSet set(final int index, final double[] x, final double[] y) {
         lock().writeLockGuard(() -> {
+            final int oldDataCount = getDataCount();
+            // invalidate ranges (only if the overwritten points contain an extremum)
+            invalidateLimits(index, Math.min(index + x.length, oldDataCount));
             resize(Math.max(index + x.length, xValues.size()));
             System.arraycopy(x, 0, xValues.elements(), index, x.length);
             System.arraycopy(y, 0, yValues.elements(), index, y.length);
             getDataLabelMap().remove(index, index + x.length);
             getDataStyleMap().remove(index, index + x.length);
 
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            if (index > oldDataCount) {
+                // zero-padded data points
+                getAxisDescriptions().forEach(AxisDescription::clear);
+            } else {
+                extendLimits(DIM_X, x, x.length);
+                extendLimits(DIM_Y, y, y.length);
+            }
         });
         return fireInvalidated(new UpdatedDataEvent(this, "set - via arrays"));
     }
@@ -133,9 +133,9 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
                 addDataLabel(xValues.size() - 1, label);
             }
 
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y - yErrorNeg);
-            getAxisDescription(DIM_Y).add(y + yErrorPos);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, y - yErrorNeg);
+            extendLimits(DIM_Y, y + yErrorPos);
         });
         return fireInvalidated(new UpdatedDataEvent(this, "add"));
     }
@@ -166,8 +166,8 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             yErrorsNeg.setElements(addAt, yErrorsNegNew, 0, newElements);
             yErrorsPos.setElements(addAt, yErrorsPosNew, 0, newElements);
 
-            getAxisDescription(DIM_X).add(xValuesNew);
-            getAxisDescription(DIM_Y).add(yValuesNew);
+            extendLimits(DIM_X, xValuesNew, newElements);
+            extendLimits(DIM_Y, yValuesNew, newElements);
         });
         return fireInvalidated(new AddedDataEvent(this));
     }
@@ -234,9 +234,9 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             yErrorsPos.add(indexAt, yErrorPos);
             getDataLabelMap().addValueAndShiftKeys(indexAt, xValues.size(), label);
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y - yErrorNeg);
-            getAxisDescription(DIM_Y).add(y + yErrorPos);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, y - yErrorNeg);
+            extendLimits(DIM_Y, y + yErrorPos);
         });
         return fireInvalidated(new AddedDataEvent(this));
     }
@@ -268,8 +268,8 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             yErrorsPos.addElements(indexAt, yErrorPos, 0, min);
 
             // recompute ranges
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            extendLimits(DIM_X, x, min);
+            extendLimits(DIM_Y, y, min);
 
             getDataLabelMap().shiftKeys(indexAt, xValues.size());
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
@@ -371,6 +371,8 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             AssertUtils.indexOrder(fromIndex, "fromIndex", toIndex, "toIndex");
 
             final int clampedToIndex = Math.min(toIndex, getDataCount());
+            // invalidate ranges (only if the removed points contain an extremum)
+            invalidateLimits(fromIndex, clampedToIndex);
             xValues.removeElements(fromIndex, clampedToIndex);
             yValues.removeElements(fromIndex, clampedToIndex);
             yErrorsNeg.removeElements(fromIndex, clampedToIndex);
@@ -379,9 +381,6 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             // remove old label and style keys
             getDataLabelMap().remove(fromIndex, clampedToIndex);
             getDataLabelMap().remove(fromIndex, clampedToIndex);
-
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
         });
         return fireInvalidated(new RemovedDataEvent(this));
     }
@@ -567,7 +566,10 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
      */
     public DoubleErrorDataSet set(final int index, final double x, final double y, final double yErrorNeg, final double yErrorPos) {
         lock().writeLockGuard(() -> {
-            final int dataCount = Math.max(index + 1, this.getDataCount());
+            final int oldDataCount = this.getDataCount();
+            final int dataCount = Math.max(index + 1, oldDataCount);
+            // invalidate ranges (only if the overwritten point is an extremum)
+            invalidateLimits(index, Math.min(index + 1, oldDataCount));
             xValues.size(dataCount);
             yValues.size(dataCount);
             xValues.elements()[index] = x;
@@ -579,8 +581,14 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             getDataLabelMap().remove(index);
             getDataStyleMap().remove(index);
 
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            if (dataCount > oldDataCount + 1) {
+                // zero-padded data points
+                getAxisDescriptions().forEach(AxisDescription::clear);
+            } else {
+                extendLimits(DIM_X, x);
+                extendLimits(DIM_Y, y - yErrorNeg);
+                extendLimits(DIM_Y, y + yErrorPos);
+            }
         });
 
         return fireInvalidated(new UpdatedDataEvent(this, "set - single"));
@@ -588,6 +596,9 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
 
     public DoubleErrorDataSet set(final int index, final double[] x, final double[] y, final double[] yErrorNeg, final double[] yErrorPos) {
         lock().writeLockGuard(() -> {
+            final int oldDataCount = getDataCount();
+            // invalidate ranges (only if the overwritten points contain an extremum)
+            invalidateLimits(index, Math.min(index + x.length, oldDataCount));
             resize(Math.max(index + x.length, xValues.size()));
             System.arraycopy(x, 0, xValues.elements(), index, x.length);
             System.arraycopy(y, 0, yValues.elements(), index, y.length);
@@ -596,8 +607,16 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             getDataLabelMap().remove(index, index + x.length);
             getDataStyleMap().remove(index, index + x.length);
 
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            if (index > oldDataCount) {
+                // zero-padded data points
+                getAxisDescriptions().forEach(AxisDescription::clear);
+            } else {
+                extendLimits(DIM_X, x, x.length);
+                for (int i = 0; i < y.length; i++) {
+                    extendLimits(DIM_Y, y[i] - yErrorNeg[i]);
+                    extendLimits(DIM_Y, y[i] + yErrorPos[i]);
+                }
+            }
         });
         return fireInvalidated(new UpdatedDataEvent(this, "set - via arrays"));
     }
@@ -11,10 +11,13 @@ import de.gsi.dataset.event.AddedDataEvent;
 import de.gsi.dataset.event.RemovedDataEvent;
 import de.gsi.dataset.spi.utils.DoublePointError;
 import de.gsi.dataset.utils.LimitedQueue;
+import de.gsi.dataset.utils.SlidingWindowMinMax;
 
 /**
  * Limited Fifo DoubleErrorDataSet.
- * Maximum number of samples and maximum horizontal span are configurable
+ * Maximum number of samples and maximum horizontal span are configurable.
+ * The axis limits are maintained by {@link SlidingWindowMinMax} monotonic-deque trackers, ie. are updated in O(1)
+ * (amortised) for each new sample and for samples dropped at the head of the queue.
  * @author rstein
  */
 public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet> implements DataSetError, DataSet2D {
@@ -22,6 +25,8 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
     private static final long serialVersionUID = -7153702141838930486L;
     protected final transient LimitedQueue<DataBlob> data;
     protected double maxDistance = Double.MAX_VALUE;
+    protected final transient SlidingWindowMinMax xLimits;
+    protected final transient SlidingWindowMinMax yLimits;
 
     /**
      * Creates a new instance of <code>FifoDoubleErrorDataSet</code>.
@@ -52,6 +57,8 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
         }
         this.maxDistance = maxDistance;
         data = new LimitedQueue<>(initalSize);
+        xLimits = new SlidingWindowMinMax(initalSize);
+        yLimits = new SlidingWindowMinMax(initalSize);
     }
 
     /**
@@ -96,10 +103,14 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
     public FifoDoubleErrorDataSet add(final double x, final double y, final double yErrorNeg, final double yErrorPos,
             final String tag, final String style) {
         lock().writeLockGuard(() -> {
-            data.add(new DataBlob(x, y, yErrorNeg, yErrorPos, tag, style));
-            this.getAxisDescription(DIM_X).add(x);
-            this.getAxisDescription(DIM_Y).add(y - yErrorNeg);
-            this.getAxisDescription(DIM_Y).add(y + yErrorPos);
+            final DataBlob blob = new DataBlob(x, y, yErrorNeg, yErrorPos, tag, style);
+            blob.sequence = xLimits.add(x);
+            yLimits.add(y - yErrorNeg, y + yErrorPos);
+            data.add(blob);
+            // the limited queue may have dropped its oldest samples
+            xLimits.removeBefore(data.getFirst().sequence);
+            yLimits.removeBefore(data.getFirst().sequence);
+            updateLimits();
 
             // remove old fields if necessary
             expire(x);
@@ -151,9 +162,9 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
             }
 
             if (!toRemoveList.isEmpty()) {
-                // remove elements and invalidate ranges if necessary
+                // remove elements and update ranges
                 data.removeAll(toRemoveList);
-                getAxisDescriptions().forEach(AxisDescription::clear);
+                removeExpiredLimits();
             }
             return toRemoveList.size();
         });
@@ -211,7 +222,12 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
      * remove all data points
      */
     public void reset() {
-        data.clear();
+        lock().writeLockGuard(() -> {
+            data.clear();
+            xLimits.clear();
+            yLimits.clear();
+            getAxisDescriptions().forEach(AxisDescription::clear);
+        });
         fireInvalidated(new RemovedDataEvent(this, "reset"));
     }
 
@@ -222,9 +238,46 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
         this.maxDistance = maxDistance;
     }
 
+    private void applyLimits(final int dimIndex, final SlidingWindowMinMax limits) {
+        if (limits.isEmpty()) {
+            getAxisDescription(dimIndex).clear();
+        } else {
+            getAxisDescription(dimIndex).set(limits.getMin(), limits.getMax());
+        }
+    }
+
+    /**
+     * updates the limit trackers after (not necessarily the oldest) samples have been removed from the queue
+     */
+    private void removeExpiredLimits() {
+        if (data.isEmpty()) {
+            xLimits.clear();
+            yLimits.clear();
+        } else if (data.getLast().sequence == xLimits.getSequence() - 1 && data.getLast().sequence - data.getFirst().sequence + 1 == data.size()) {
+            // only the oldest samples have been removed
+            xLimits.removeBefore(data.getFirst().sequence);
+            yLimits.removeBefore(data.getFirst().sequence);
+        } else {
+            // samples have been removed in-between -> rebuild trackers
+            xLimits.clear();
+            yLimits.clear();
+            for (final DataBlob blob : data) {
+                blob.sequence = xLimits.add(blob.getX());
+                yLimits.add(blob.getY() - blob.getErrorX(), blob.getY() + blob.getErrorY());
+            }
+        }
+        updateLimits();
+    }
+
+    private void updateLimits() {
+        applyLimits(DIM_X, xLimits);
+        applyLimits(DIM_Y, yLimits);
+    }
+
     protected class DataBlob extends DoublePointError {
         protected String style;
         protected String tag;
+        protected long sequence;
 
         protected DataBlob(final double x, final double y, final double errorYNeg, final double errorYPos, final String tag,
                 final String style) {
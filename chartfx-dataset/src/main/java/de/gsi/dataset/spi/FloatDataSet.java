@@ -111,8 +111,8 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
                 addDataLabel(xValues.size() - 1, label);
             }
 
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, y);
         });
         return fireInvalidated(new AddedDataEvent(this));
     }
@@ -136,12 +136,8 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
             xValues.addElements(xValues.size(), xValuesNew);
             yValues.addElements(yValues.size(), yValuesNew);
 
-            for (int i = 0; i < xValuesNew.length; i++) {
-                getAxisDescription(DIM_X).add(xValuesNew[i]);
-            }
-            for (int i = 0; i < yValuesNew.length; i++) {
-                getAxisDescription(DIM_Y).add(yValuesNew[i]);
-            }
+            extendLimits(DIM_X, xValuesNew, xValuesNew.length);
+            extendLimits(DIM_Y, yValuesNew, yValuesNew.length);
         });
         return fireInvalidated(new AddedDataEvent(this));
     }
@@ -187,8 +183,8 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
             yValues.add(indexAt, y);
             getDataLabelMap().addValueAndShiftKeys(indexAt, xValues.size(), label);
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, y);
         });
         return fireInvalidated(new AddedDataEvent(this));
     }
@@ -211,10 +207,8 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
             final int indexAt = Math.max(0, Math.min(index, getDataCount() + 1));
             xValues.addElements(indexAt, x, 0, min);
             yValues.addElements(indexAt, y, 0, min);
-            for (int i = 0; i < min; i++) {
-                getAxisDescription(DIM_X).add(x[i]);
-                getAxisDescription(DIM_Y).add(y[i]);
-            }
+            extendLimits(DIM_X, x, min);
+            extendLimits(DIM_Y, y, min);
 
             getDataLabelMap().shiftKeys(indexAt, xValues.size());
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
@@ -294,16 +288,15 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
             AssertUtils.indexOrder(fromIndex, "fromIndex", toIndex, "toIndex");
 
             final int clampedToIndex = Math.min(toIndex, getDataCount());
+            // invalidate ranges (only if the removed points contain an extremum)
+            // -> fireInvalidated calls computeLimits for autoNotification
+            invalidateLimits(fromIndex, clampedToIndex);
             xValues.removeElements(fromIndex, clampedToIndex);
             yValues.removeElements(fromIndex, clampedToIndex);
 
             // remove old label and style keys
             getDataLabelMap().remove(fromIndex, clampedToIndex);
             getDataLabelMap().remove(fromIndex, clampedToIndex);
-
-            // invalidate ranges
-            // -> fireInvalidated calls computeLimits for autoNotification
-            this.getAxisDescriptions().forEach(AxisDescription::clear);
         });
         return fireInvalidated(new RemovedDataEvent(this));
     }
@@ -438,15 +431,23 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
 
     public FloatDataSet set(final int index, final double x, final double y) {
         lock().writeLockGuard(() -> {
-            final int dataCount = Math.max(index + 1, this.getDataCount());
+            final int oldDataCount = this.getDataCount();
+            final int dataCount = Math.max(index + 1, oldDataCount);
+            // invalidate ranges (only if the overwritten point is an extremum)
+            // -> fireInvalidated calls computeLimits for autoNotification
+            invalidateLimits(index, Math.min(index + 1, oldDataCount));
             xValues.size(dataCount);
             yValues.size(dataCount);
             xValues.elements()[index] = (float) x;
             yValues.elements()[index] = (float) y;
 
-            // invalidate ranges
-            // -> fireInvalidated calls computeLimits for autoNotification
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            if (dataCount > oldDataCount + 1) {
+                // zero-padded data points
+                getAxisDescriptions().forEach(AxisDescription::clear);
+            } else {
+                extendLimits(DIM_X, (float) x);
+                extendLimits(DIM_Y, (float) y);
+            }
         });
 
         return fireInvalidated(new UpdatedDataEvent(this));
@@ -454,14 +455,24 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
 
     public FloatDataSet set(final int index, final double[] x, final double[] y) {
         lock().writeLockGuard(() -> {
+            final int oldDataCount = getDataCount();
+            // invalidate ranges (only if the overwritten points contain an extremum)
+            invalidateLimits(index, Math.min(index + x.length, oldDataCount));
+            final float[] xFloats = MathUtils.toFloats(x);
+            final float[] yFloats = MathUtils.toFloats(y);
             resize(Math.max(index + x.length, xValues.size()));
-            System.arraycopy(MathUtils.toFloats(x), 0, xValues.elements(), index, x.length);
-            System.arraycopy(MathUtils.toFloats(y), 0, yValues.elements(), index, y.length);
+            System.arraycopy(xFloats, 0, xValues.elements(), index, x.length);
+            System.arraycopy(yFloats, 0, yValues.elements(), index, y.length);
             getDataLabelMap().remove(index, index + x.length);
             getDataStyleMap().remove(index, index + x.length);
 
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            if (index > oldDataCount) {
+                // zero-padded data points
+                getAxisDescriptions().forEach(AxisDescription::clear);
+            } else {
+                extendLimits(DIM_X, xFloats, x.length);
+                extendLimits(DIM_Y, yFloats, y.length);
+            }
         });
         return fireInvalidated(new UpdatedDataEvent(this));
     }
@@ -504,4 +515,20 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
     public float[] getYFloatValues() {
         return getFloatValues(DIM_Y);
     }
+
+    /**
+     * float-array variant of {@link #extendLimits(int, double[], int)}
+     *
+     * @param dimIndex the dimension index
+     * @param values the new values
+     * @param length number of values to be taken into account
+     */
+    protected void extendLimits(final int dimIndex, final float[] values, final int length) {
+        final AxisDescription axisDescription = getAxisDescription(dimIndex);
+        if (axisDescription.isDefined() || getDataCount() <= length) {
+            for (int i = 0; i < length; i++) {
+                axisDescription.add(values[i]);
+            }
+        }
+    }
 }
@@ -0,0 +1,503 @@
+package de.gsi.dataset.spi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import de.gsi.dataset.AxisDescription;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.DataSet2D;
+import de.gsi.dataset.EditableDataSet;
+import de.gsi.dataset.event.AddedDataEvent;
+import de.gsi.dataset.event.RemovedDataEvent;
+import de.gsi.dataset.event.UpdatedDataEvent;
+import de.gsi.dataset.utils.AssertUtils;
+
+/**
+ * Implementation of the {@code DataSet} interface which stores x,y values off-heap in a memory-mapped file. This
+ * permits data sets that are (much) larger than the available heap (e.g. long post-mortem captures) to be opened
+ * instantly with the operating system paging-in the data lazily on first access, and without adding to the GC pressure.
+ * <p>
+ * File layout (little-endian): a fixed-size header (magic, version, dimension, chunk size, data count, axis limits)
+ * followed by a sequence of chunks, each containing {@code chunkSize} x- followed by {@code chunkSize} y-coordinates.
+ * Appending data beyond the present capacity maps additional chunks (ie. grows the file) without moving existing data.
+ * The axis limits are stored in the header by {@link #force()} and invalidated by any modification. They are thus only
+ * recomputed (ie. the whole file paged-in) for files that have been modified but not been flushed/closed properly.
+ * <p>
+ * N.B. {@link #getValues(int)} needs to honour the {@code double[]} contract and returns a heap copy of the data. Use
+ * {@link #get(int, int)} or the zero-copy {@link #getValuesView(int, int, int)} for large data sets. The file is
+ * released via {@link #close()}.
+ *
+ * @see DoubleDataSet for the heap-based equivalent
+ * @author rstein
+ */
+@SuppressWarnings("PMD.TooManyMethods") // part of the flexible class nature
+public class MappedDoubleDataSet extends AbstractDataSet<MappedDoubleDataSet> implements EditableDataSet, DataSet2D, AutoCloseable {
+    private static final long serialVersionUID = -2816489138466453231L;
+    private static final long MAGIC = 0x4348_4658_4D4D_4150L; // "CHFXMMAP"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 64;
+    private static final int OFFSET_VERSION = 8;
+    private static final int OFFSET_DIMENSION = 12;
+    private static final int OFFSET_CHUNK_SHIFT = 16;
+    private static final int OFFSET_DATA_COUNT = 24;
+    private static final int OFFSET_LIMITS = 32; // [min, max] per dimension, NaN: not stored
+    private static final int MAX_CHUNK_SHIFT = 26; // N.B. 2 x 8 bytes x 2^26 -> 1 GB per mapped chunk
+    private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    /** default number of samples per dimension and mapped file chunk */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    private static final String X_COORDINATES = "X coordinates";
+    private static final String Y_COORDINATES = "Y coordinates";
+    private final transient Path file;
+    private final transient FileChannel channel;
+    private final transient MappedByteBuffer header;
+    private final int chunkShift;
+    private final int chunkSize;
+    private final int chunkMask;
+    private transient MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+    private transient DoubleBuffer[][] chunkValues = new DoubleBuffer[0][]; // [chunk][dimIndex]
+    private int dataCount;
+
+    /**
+     * Opens an existing or creates a new memory-mapped data set using the {@link #DEFAULT_CHUNK_SIZE}
+     *
+     * @param name name of this DataSet.
+     * @param file the file backing this data set
+     * @throws IOException in case the file could not be opened or has an incompatible format
+     */
+    public MappedDoubleDataSet(final String name, final Path file) throws IOException {
+        this(name, file, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Opens an existing or creates a new memory-mapped data set
+     *
+     * @param name name of this DataSet.
+     * @param file the file backing this data set
+     * @param chunkSize number of samples per dimension and mapped file chunk (power of two, N.B. ignored for existing
+     *            files)
+     * @throws IOException in case the file could not be opened or has an incompatible format
+     */
+    public MappedDoubleDataSet(final String name, final Path file, final int chunkSize) throws IOException {
+        super(name, 2);
+        AssertUtils.notNull("file", file);
+        AssertUtils.gtThanZero("chunkSize", chunkSize);
+        if (Integer.bitCount(chunkSize) != 1 || Integer.numberOfTrailingZeros(chunkSize) > MAX_CHUNK_SHIFT) {
+            throw new IllegalArgumentException("chunkSize = " + chunkSize + " must be a power of two <= 2^" + MAX_CHUNK_SHIFT);
+        }
+        this.file = file;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final boolean isNewFile = channel.size() == 0;
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.order(BYTE_ORDER);
+        if (isNewFile) {
+            header.putLong(0, MAGIC);
+            header.putInt(OFFSET_VERSION, VERSION);
+            header.putInt(OFFSET_DIMENSION, getDimension());
+            header.putInt(OFFSET_CHUNK_SHIFT, Integer.numberOfTrailingZeros(chunkSize));
+            header.putLong(OFFSET_DATA_COUNT, 0L);
+            invalidateStoredLimits();
+        } else if (header.getLong(0) != MAGIC || header.getInt(OFFSET_VERSION) != VERSION || header.getInt(OFFSET_DIMENSION) != getDimension()) {
+            channel.close();
+            throw new IOException("incompatible file format for '" + file + "'");
+        }
+        chunkShift = header.getInt(OFFSET_CHUNK_SHIFT);
+        final long storedDataCount = header.getLong(OFFSET_DATA_COUNT);
+        if (chunkShift < 0 || chunkShift > MAX_CHUNK_SHIFT || storedDataCount < 0 || storedDataCount > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IOException("corrupt header for '" + file + "': chunkShift = " + chunkShift + " dataCount = " + storedDataCount);
+        }
+        this.chunkSize = 1 << chunkShift;
+        chunkMask = this.chunkSize - 1;
+        dataCount = (int) storedDataCount;
+        ensureCapacity(dataCount);
+        // N.B. no limit recomputation to avoid paging-in the whole file -- undefined limits are recomputed on first use
+        for (int dimIndex = 0; dimIndex < getDimension(); dimIndex++) {
+            final double min = header.getDouble(OFFSET_LIMITS + 2 * dimIndex * Double.BYTES);
+            final double max = header.getDouble(OFFSET_LIMITS + (2 * dimIndex + 1) * Double.BYTES);
+            if (dataCount > 0 && min <= max) { // N.B. false for NaN
+                getAxisDescription(dimIndex).set(min, max);
+            }
+        }
+    }
+
+    /**
+     * Add point to the end of the data set
+     *
+     * @param x horizontal coordinate of the new data point
+     * @param y vertical coordinate of the new data point
+     * @return itself (fluent design)
+     */
+    public MappedDoubleDataSet add(final double x, final double y) {
+        lock().writeLockGuard(() -> {
+            ensureCapacity(dataCount + 1);
+            put(DIM_X, dataCount, x);
+            put(DIM_Y, dataCount, y);
+            setDataCount(dataCount + 1);
+
+            extendLimits(DIM_X, x);
+            extendLimits(DIM_Y, y);
+        });
+        return fireInvalidated(new AddedDataEvent(this));
+    }
+
+    /**
+     * Add array vectors to the end of the data set.
+     *
+     * @param xValuesNew X coordinates
+     * @param yValuesNew Y coordinates
+     * @return itself (fluent design)
+     */
+    public MappedDoubleDataSet add(final double[] xValuesNew, final double[] yValuesNew) {
+        AssertUtils.notNull(X_COORDINATES, xValuesNew);
+        AssertUtils.notNull(Y_COORDINATES, yValuesNew);
+        AssertUtils.equalDoubleArrays(xValuesNew, yValuesNew);
+
+        lock().writeLockGuard(() -> {
+            final int addAt = dataCount;
+            ensureCapacity(addAt + xValuesNew.length);
+            put(DIM_X, addAt, xValuesNew, 0, xValuesNew.length);
+            put(DIM_Y, addAt, yValuesNew, 0, yValuesNew.length);
+            setDataCount(addAt + xValuesNew.length);
+
+            extendLimits(DIM_X, xValuesNew, xValuesNew.length);
+            extendLimits(DIM_Y, yValuesNew, yValuesNew.length);
+        });
+        return fireInvalidated(new AddedDataEvent(this));
+    }
+
+    /**
+     * add point to the data set
+     *
+     * @param index data point index at which the new data point should be added
+     * @param newValue new data point coordinate
+     * @return itself (fluent design)
+     */
+    @Override
+    public MappedDoubleDataSet add(final int index, final double... newValue) {
+        AssertUtils.checkArrayDimension("newValue", newValue, 2);
+        lock().writeLockGuard(() -> {
+            final int indexAt = Math.max(0, Math.min(index, dataCount));
+            ensureCapacity(dataCount + 1);
+            move(indexAt, indexAt + 1, dataCount - indexAt);
+            put(DIM_X, indexAt, newValue[DIM_X]);
+            put(DIM_Y, indexAt, newValue[DIM_Y]);
+            setDataCount(dataCount + 1);
+            getDataLabelMap().shiftKeys(indexAt, dataCount);
+            getDataStyleMap().shiftKeys(indexAt, dataCount);
+
+            extendLimits(DIM_X, newValue[DIM_X]);
+            extendLimits(DIM_Y, newValue[DIM_Y]);
+        });
+        return fireInvalidated(new AddedDataEvent(this));
+    }
+
+    /**
+     * clear all data points (N.B. does not shrink the file)
+     *
+     * @return itself (fluent design)
+     */
+    public MappedDoubleDataSet clearData() {
+        lock().writeLockGuard(() -> {
+            setDataCount(0);
+            getDataLabelMap().clear();
+            getDataStyleMap().clear();
+            getAxisDescriptions().forEach(AxisDescription::clear);
+        });
+        return fireInvalidated(new RemovedDataEvent(this, "clearData()"));
+    }
+
+    /**
+     * Writes outstanding changes to the storage device and releases the file. N.B. the mapped memory is released once
+     * the data set has been garbage-collected.
+     *
+     * @throws IOException in case the file could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        lock().writeLockGuard(() -> {
+            force();
+            chunks = new MappedByteBuffer[0];
+            chunkValues = new DoubleBuffer[0][];
+        });
+        channel.close();
+    }
+
+    /**
+     * Writes outstanding changes and the present axis limits (if defined) to the storage device
+     *
+     * @return itself (fluent design)
+     */
+    public MappedDoubleDataSet force() {
+        lock().writeLockGuard(() -> {
+            for (int dimIndex = 0; dimIndex < getDimension(); dimIndex++) {
+                final AxisDescription axis = getAxisDescription(dimIndex);
+                final boolean defined = axis.isDefined();
+                header.putDouble(OFFSET_LIMITS + 2 * dimIndex * Double.BYTES, defined ? axis.getMin() : Double.NaN);
+                header.putDouble(OFFSET_LIMITS + (2 * dimIndex + 1) * Double.BYTES, defined ? axis.getMax() : Double.NaN);
+            }
+            header.force();
+            for (final MappedByteBuffer chunk : chunks) {
+                chunk.force();
+            }
+        });
+        return getThis();
+    }
+
+    @Override
+    public final double get(final int dimIndex, final int index) {
+        return chunkValues[index >>> chunkShift][dimIndex].get(index & chunkMask);
+    }
+
+    /**
+     * @return storage capacity of dataset (ie. number of mapped chunks times the chunk size)
+     */
+    public int getCapacity() {
+        return (int) Math.min(Integer.MAX_VALUE, (long) chunks.length << chunkShift);
+    }
+
+    /**
+     * @return number of samples per dimension and mapped file chunk
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public int getDataCount() {
+        return dataCount;
+    }
+
+    /**
+     * @return the file backing this data set
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * N.B. the returned array is a heap copy of the mapped data, use {@link #getValuesView(int, int, int)} to access
+     * large data sets w/o copying
+     *
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @return copy of the values
+     */
+    @Override
+    public double[] getValues(final int dimIndex) {
+        return lock().readLockGuardOptimistic(() -> {
+            final double[] retValues = new double[dataCount];
+            get(dimIndex, 0, retValues, 0, dataCount);
+            return retValues;
+        });
+    }
+
+    /**
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @param fromIndex first sample index
+     * @param length number of samples
+     * @return zero-copy view onto the mapped data if the range does not cross chunk boundaries, a (heap) copy
+     *         otherwise. N.B. the view is valid only as long as the data set is not closed
+     */
+    public DoubleBuffer getValuesView(final int dimIndex, final int fromIndex, final int length) {
+        AssertUtils.gtEqThanZero("length", length);
+        AssertUtils.indexInBounds(fromIndex, dataCount + 1, "fromIndex");
+        AssertUtils.indexInBounds(fromIndex + length, dataCount + 1, "fromIndex + length");
+        return lock().readLockGuardOptimistic(() -> {
+            final int chunk = fromIndex >>> chunkShift;
+            final int offset = fromIndex & chunkMask;
+            if (offset + length <= chunkSize) {
+                final DoubleBuffer view = chunkValues[chunk][dimIndex].duplicate();
+                view.position(offset).limit(offset + length);
+                return view.slice().asReadOnlyBuffer();
+            }
+            final double[] copy = new double[length];
+            get(dimIndex, fromIndex, copy, 0, length);
+            return DoubleBuffer.wrap(copy).asReadOnlyBuffer();
+        });
+    }
+
+    /**
+     * remove point from data set
+     *
+     * @param index data point which should be removed
+     * @return itself (fluent design)
+     */
+    @Override
+    public MappedDoubleDataSet remove(final int index) {
+        return remove(index, index + 1);
+    }
+
+    /**
+     * removes sub-range of data points
+     *
+     * @param fromIndex start index
+     * @param toIndex stop index
+     * @return itself (fluent design)
+     */
+    public MappedDoubleDataSet remove(final int fromIndex, final int toIndex) {
+        lock().writeLockGuard(() -> {
+            AssertUtils.indexInBounds(fromIndex, getDataCount(), "fromIndex");
+            AssertUtils.indexOrder(fromIndex, "fromIndex", toIndex, "toIndex");
+
+            final int clampedToIndex = Math.min(toIndex, dataCount);
+            // invalidate ranges (only if the removed points contain an extremum)
+            invalidateLimits(fromIndex, clampedToIndex);
+            move(clampedToIndex, fromIndex, dataCount - clampedToIndex);
+            setDataCount(dataCount - (clampedToIndex - fromIndex));
+
+            // remove old label and style keys
+            getDataLabelMap().remove(fromIndex, clampedToIndex);
+            getDataStyleMap().remove(fromIndex, clampedToIndex);
+        });
+        return fireInvalidated(new RemovedDataEvent(this));
+    }
+
+    /**
+     * clear old data and overwrite with data from 'other' data set
+     *
+     * @param other the source data set
+     * @param copy ignored, data is always copied into the mapped file
+     * @return itself (fluent design)
+     */
+    @Override
+    public MappedDoubleDataSet set(final DataSet other, final boolean copy) {
+        lock().writeLockGuard(() -> other.lock().writeLockGuard(() -> {
+            final int count = other.getDataCount();
+            ensureCapacity(count);
+            for (int dimIndex = 0; dimIndex < getDimension(); dimIndex++) {
+                put(dimIndex, 0, other.getValues(dimIndex), 0, count);
+            }
+            setDataCount(count);
+
+            copyMetaData(other);
+            copyDataLabelsAndStyles(other, true);
+            copyAxisDescription(other);
+        }));
+        return fireInvalidated(new UpdatedDataEvent(this));
+    }
+
+    /**
+     * replaces point coordinate of existing data point
+     *
+     * @param index data point index at which the new data point should be added
+     * @param newValue new data point coordinate
+     * @return itself (fluent design)
+     */
+    @Override
+    public MappedDoubleDataSet set(final int index, final double... newValue) {
+        AssertUtils.checkArrayDimension("newValue", newValue, 2);
+        lock().writeLockGuard(() -> {
+            final int oldDataCount = dataCount;
+            final int newDataCount = Math.max(index + 1, oldDataCount);
+            // invalidate ranges (only if the overwritten point is an extremum)
+            invalidateLimits(index, Math.min(index + 1, oldDataCount));
+            ensureCapacity(newDataCount);
+            put(DIM_X, index, newValue[DIM_X]);
+            put(DIM_Y, index, newValue[DIM_Y]);
+            setDataCount(newDataCount);
+            getDataLabelMap().remove(index);
+            getDataStyleMap().remove(index);
+
+            if (newDataCount > oldDataCount + 1) {
+                // undefined padded data points
+                getAxisDescriptions().forEach(AxisDescription::clear);
+            } else {
+                extendLimits(DIM_X, newValue[DIM_X]);
+                extendLimits(DIM_Y, newValue[DIM_Y]);
+            }
+        });
+        return fireInvalidated(new UpdatedDataEvent(this, "set - single"));
+    }
+
+    private void ensureCapacity(final int size) {
+        final int nChunks = (int) (((long) size + chunkMask) >>> chunkShift);
+        if (nChunks <= chunks.length) {
+            return;
+        }
+        final long chunkBytes = (long) getDimension() * chunkSize * Double.BYTES;
+        final MappedByteBuffer[] newChunks = Arrays.copyOf(chunks, nChunks);
+        final DoubleBuffer[][] newChunkValues = Arrays.copyOf(chunkValues, nChunks);
+        try {
+            for (int chunk = chunks.length; chunk < nChunks; chunk++) {
+                newChunks[chunk] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + chunk * chunkBytes, chunkBytes);
+                newChunkValues[chunk] = new DoubleBuffer[getDimension()];
+                for (int dimIndex = 0; dimIndex < getDimension(); dimIndex++) {
+                    newChunks[chunk].position(dimIndex * chunkSize * Double.BYTES);
+                    newChunkValues[chunk][dimIndex] = newChunks[chunk].slice().order(BYTE_ORDER).asDoubleBuffer();
+                }
+                newChunks[chunk].position(0);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("could not map chunk for '" + file + "'", e);
+        }
+        chunkValues = newChunkValues;
+        chunks = newChunks;
+    }
+
+    private void get(final int dimIndex, final int fromIndex, final double[] target, final int targetOffset, final int length) {
+        int index = fromIndex;
+        int copied = 0;
+        while (copied < length) {
+            final int offset = index & chunkMask;
+            final int n = Math.min(length - copied, chunkSize - offset);
+            final DoubleBuffer buffer = chunkValues[index >>> chunkShift][dimIndex].duplicate();
+            buffer.position(offset);
+            buffer.get(target, targetOffset + copied, n);
+            copied += n;
+            index += n;
+        }
+    }
+
+    private void invalidateStoredLimits() {
+        if (!Double.isNaN(header.getDouble(OFFSET_LIMITS))) {
+            for (int i = 0; i < 2 * getDimension(); i++) {
+                header.putDouble(OFFSET_LIMITS + i * Double.BYTES, Double.NaN);
+            }
+        }
+    }
+
+    private void move(final int fromIndex, final int toIndex, final int length) {
+        // N.B. element-wise move in the direction that does not overwrite not yet moved data
+        for (int dimIndex = 0; dimIndex < getDimension(); dimIndex++) {
+            if (toIndex > fromIndex) {
+                for (int i = length - 1; i >= 0; i--) {
+                    put(dimIndex, toIndex + i, get(dimIndex, fromIndex + i));
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    put(dimIndex, toIndex + i, get(dimIndex, fromIndex + i));
+                }
+            }
+        }
+    }
+
+    private void put(final int dimIndex, final int index, final double value) {
+        chunkValues[index >>> chunkShift][dimIndex].put(index & chunkMask, value);
+    }
+
+    private void put(final int dimIndex, final int toIndex, final double[] source, final int sourceOffset, final int length) {
+        int index = toIndex;
+        int copied = 0;
+        while (copied < length) {
+            final int offset = index & chunkMask;
+            final int n = Math.min(length - copied, chunkSize - offset);
+            final DoubleBuffer buffer = chunkValues[index >>> chunkShift][dimIndex].duplicate();
+            buffer.position(offset);
+            buffer.put(source, sourceOffset + copied, n);
+            copied += n;
+            index += n;
+        }
+    }
+
+    private void setDataCount(final int newDataCount) {
+        dataCount = newDataCount;
+        header.putLong(OFFSET_DATA_COUNT, newDataCount);
+        invalidateStoredLimits(); // N.B. all modifications pass through here
+    }
+}
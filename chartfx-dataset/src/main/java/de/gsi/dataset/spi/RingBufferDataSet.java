@@ -0,0 +1,390 @@
+package de.gsi.dataset.spi;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import de.gsi.dataset.AxisDescription;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.DataSet2D;
+import de.gsi.dataset.event.AppendedDataEvent;
+import de.gsi.dataset.event.RemovedDataEvent;
+import de.gsi.dataset.locks.DataSetLock;
+import de.gsi.dataset.locks.DefaultDataSetLock;
+import de.gsi.dataset.utils.AssertUtils;
+
+/**
+ * Lock-free single-writer/multi-reader ring-buffer DataSet intended for high-rate acquisition streams.
+ * <p>
+ * Every appended sample is identified by a monotonically increasing sequence number. The (single) writer thread appends
+ * samples without acquiring the DataSet write lock following a seqlock-style protocol: it first announces the sequence
+ * range it is going to overwrite ('claim'), writes the samples and finally publishes them ('write'). Readers acquiring
+ * the read lock (or using any of the read-lock guards) copy the published samples into a reader snapshot and verify
+ * afterwards against the claimed sequence that none of the copied slots have been overwritten in the meantime. Samples
+ * that may have been overwritten are dropped from the snapshot. Thus, while the read lock is held, {@link #get(int, int)},
+ * {@link #getValues(int)} and {@link #getDataCount()} refer to a consistent snapshot and readers never block the writer.
+ * <p>
+ * Listeners are notified via batched {@link AppendedDataEvent}s containing the sequence number of the first sample and
+ * the number of samples appended since the last notification, rather than one event per sample (see
+ * {@link #setNotificationBatchSize(int)} and {@link #flush()}).
+ * <p>
+ * N.B. only one thread may append to this data set at any given time. Data labels and styles are not supported.
+ *
+ * @see CircularDoubleErrorDataSet for a locking implementation with error support
+ * @author rstein
+ */
+@SuppressWarnings("PMD.TooManyMethods") // part of the flexible class nature
+public class RingBufferDataSet extends AbstractDataSet<RingBufferDataSet> implements DataSet2D {
+    private static final long serialVersionUID = 5346416283829475925L;
+    private final int capacity;
+    private final double[] xValues;
+    private final double[] yValues;
+    private volatile long firstSequence; // NOPMD -- sequence of first valid sample (updated on reset)
+    private volatile long claimSequence; // NOPMD -- upper bound of the sequences presently being written
+    private volatile long writeSequence; // NOPMD -- upper bound (exclusive) of the published sequences
+    private long lastNotifiedSequence;
+    private int notificationBatchSize = 1;
+
+    // reader snapshot
+    private final transient Object snapshotGuard = new Object();
+    private final double[] xSnapshot;
+    private final double[] ySnapshot;
+    private volatile int pinCount; // NOPMD -- modified only within 'snapshotGuard'
+    private int snapshotCount;
+    private long snapshotSequence;
+    private final transient SnapshotLock snapshotLock = new SnapshotLock();
+
+    /**
+     * Creates a new instance of <code>RingBufferDataSet</code>.
+     *
+     * @param name name of this DataSet.
+     * @param capacity maximum ring buffer capacity
+     */
+    public RingBufferDataSet(final String name, final int capacity) {
+        super(name, 2);
+        AssertUtils.gtThanZero("capacity", capacity);
+        this.capacity = capacity;
+        xValues = new double[capacity];
+        yValues = new double[capacity];
+        xSnapshot = new double[capacity];
+        ySnapshot = new double[capacity];
+    }
+
+    /**
+     * Appends a sample to the ring buffer. N.B. to be called only from the single writer thread.
+     *
+     * @param x the new x coordinate
+     * @param y the new y coordinate
+     * @return itself (fluent design)
+     */
+    public RingBufferDataSet add(final double x, final double y) {
+        final long sequence = writeSequence;
+        claimSequence = sequence + 1;
+        VarHandle.storeStoreFence(); // claim must be visible before the slot is overwritten
+        final int index = (int) (sequence % capacity);
+        xValues[index] = x;
+        yValues[index] = y;
+        writeSequence = sequence + 1;
+        return notifyAppended();
+    }
+
+    /**
+     * Appends samples to the ring buffer. N.B. to be called only from the single writer thread. If {@code length}
+     * exceeds the capacity only the last {@code capacity} samples are retained.
+     *
+     * @param xVals the new x coordinates
+     * @param yVals the new y coordinates
+     * @param length number of samples to be taken from the arrays
+     * @return itself (fluent design)
+     */
+    public RingBufferDataSet add(final double[] xVals, final double[] yVals, final int length) {
+        AssertUtils.notNull("X coordinates", xVals);
+        AssertUtils.notNull("Y coordinates", yVals);
+        AssertUtils.indexInBounds(length, xVals.length + 1, "xVals bounds");
+        AssertUtils.indexInBounds(length, yVals.length + 1, "yVals bounds");
+        if (length == 0) {
+            return getThis();
+        }
+
+        final long sequence = writeSequence;
+        claimSequence = sequence + length;
+        VarHandle.storeStoreFence(); // claim must be visible before the slots are overwritten
+        final int skip = Math.max(0, length - capacity);
+        copyInto(xVals, skip, xValues, sequence + skip, length - skip);
+        copyInto(yVals, skip, yValues, sequence + skip, length - skip);
+        writeSequence = sequence + length;
+        return notifyAppended();
+    }
+
+    /**
+     * Appends samples to the ring buffer. N.B. to be called only from the single writer thread.
+     *
+     * @param xVals the new x coordinates
+     * @param yVals the new y coordinates
+     * @return itself (fluent design)
+     */
+    public RingBufferDataSet add(final double[] xVals, final double[] yVals) {
+        AssertUtils.notNull("X coordinates", xVals);
+        AssertUtils.equalDoubleArrays(xVals, yVals);
+        return add(xVals, yVals, xVals.length);
+    }
+
+    @Override
+    public String addDataLabel(final int index, final String label) {
+        throw new UnsupportedOperationException("data labels are not supported for this type of DataSet");
+    }
+
+    @Override
+    public String addDataStyle(final int index, final String style) {
+        throw new UnsupportedOperationException("data styles are not supported for this type of DataSet");
+    }
+
+    /**
+     * Notifies listeners about all samples appended since the last notification irrespective of the notification batch
+     * size. N.B. to be called only from the single writer thread.
+     *
+     * @return itself (fluent design)
+     */
+    public RingBufferDataSet flush() {
+        final long toSequence = writeSequence;
+        final long fromSequence = Math.max(lastNotifiedSequence, firstSequence);
+        lastNotifiedSequence = toSequence;
+        if (toSequence <= fromSequence) {
+            return getThis();
+        }
+        // invalidate ranges -- lazily recomputed by the readers
+        lock().writeLockGuard(() -> getAxisDescriptions().forEach(AxisDescription::clear));
+        return fireInvalidated(new AppendedDataEvent(this, fromSequence, toSequence - fromSequence));
+    }
+
+    @Override
+    public double get(final int dimIndex, final int index) {
+        if (pinCount > 0) {
+            return dimIndex == DIM_X ? xSnapshot[index] : ySnapshot[index];
+        }
+        // unguarded live access -- may race with the writer
+        final long end = writeSequence;
+        final long start = Math.max(firstSequence, end - capacity);
+        final int ringIndex = (int) ((start + index) % capacity);
+        return dimIndex == DIM_X ? xValues[ringIndex] : yValues[ringIndex];
+    }
+
+    /**
+     * @return maximum ring buffer capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public int getDataCount() {
+        if (pinCount > 0) {
+            return snapshotCount;
+        }
+        final long end = writeSequence;
+        return (int) (end - Math.max(firstSequence, end - capacity));
+    }
+
+    /**
+     * @return number of samples that are accumulated before listeners are notified
+     */
+    public int getNotificationBatchSize() {
+        return notificationBatchSize;
+    }
+
+    /**
+     * @return total number of samples appended to this data set (ie. the sequence number of the next sample)
+     */
+    public long getSequence() {
+        return writeSequence;
+    }
+
+    /**
+     * @return sequence number of the first sample of the present reader snapshot (N.B. valid only while holding the
+     *         read lock)
+     */
+    public long getSnapshotSequence() {
+        return snapshotSequence;
+    }
+
+    /**
+     * @param dimIndex the dimension index (ie. '0' equals 'X', '1' equals 'Y')
+     * @return consistent snapshot of the values (N.B. internal array while holding the read lock, a copy otherwise)
+     */
+    @Override
+    public double[] getValues(final int dimIndex) {
+        if (pinCount > 0) {
+            return dimIndex == DIM_X ? xSnapshot : ySnapshot;
+        }
+        return lock().readLockGuard(() -> Arrays.copyOf(dimIndex == DIM_X ? xSnapshot : ySnapshot, snapshotCount));
+    }
+
+    @Override
+    public DataSetLock<RingBufferDataSet> lock() {
+        return snapshotLock;
+    }
+
+    @Override
+    public RingBufferDataSet recomputeLimits(final int dimIndex) {
+        lock().readLockGuard(() -> super.recomputeLimits(dimIndex));
+        return getThis();
+    }
+
+    @Override
+    public String removeDataLabel(final int index) {
+        throw new UnsupportedOperationException("data labels are not supported for this type of DataSet");
+    }
+
+    @Override
+    public String removeStyle(final int index) {
+        throw new UnsupportedOperationException("data styles are not supported for this type of DataSet");
+    }
+
+    /**
+     * resets all data. N.B. to be called only from the single writer thread.
+     *
+     * @return itself (fluent design)
+     */
+    public RingBufferDataSet reset() {
+        lock().writeLockGuard(() -> {
+            firstSequence = writeSequence;
+            lastNotifiedSequence = writeSequence;
+            getAxisDescriptions().forEach(AxisDescription::clear);
+        });
+        return fireInvalidated(new RemovedDataEvent(this, "reset"));
+    }
+
+    @Override
+    public RingBufferDataSet set(final DataSet other, final boolean copy) {
+        final double[][] values = other.lock().readLockGuard(() -> {
+            final int count = other.getDataCount();
+            return new double[][] { Arrays.copyOf(other.getValues(DIM_X), count), Arrays.copyOf(other.getValues(DIM_Y), count) };
+        });
+        final boolean oldAutoNotification = autoNotification().getAndSet(false);
+        try {
+            reset();
+            add(values[DIM_X], values[DIM_Y]);
+        } finally {
+            autoNotification().set(oldAutoNotification);
+        }
+        lastNotifiedSequence = firstSequence; // notify about all copied samples
+        copyMetaData(other);
+        return flush();
+    }
+
+    /**
+     * @param batchSize number of samples to be accumulated before listeners are notified (default: '1', ie. notify on
+     *            every call to {@code add(...)})
+     * @return itself (fluent design)
+     */
+    public RingBufferDataSet setNotificationBatchSize(final int batchSize) {
+        AssertUtils.gtThanZero("batchSize", batchSize);
+        notificationBatchSize = batchSize;
+        return getThis();
+    }
+
+    private void copyInto(final double[] src, final int srcPos, final double[] ring, final long sequence, final int length) {
+        final int ringIndex = (int) (sequence % capacity);
+        final int lengthUpperHalf = Math.min(length, capacity - ringIndex);
+        System.arraycopy(src, srcPos, ring, ringIndex, lengthUpperHalf);
+        System.arraycopy(src, srcPos + lengthUpperHalf, ring, 0, length - lengthUpperHalf);
+    }
+
+    private void copyOut(final double[] ring, final long sequence, final double[] dst, final int length) {
+        final int ringIndex = (int) (sequence % capacity);
+        final int lengthUpperHalf = Math.min(length, capacity - ringIndex);
+        System.arraycopy(ring, ringIndex, dst, 0, lengthUpperHalf);
+        System.arraycopy(ring, 0, dst, lengthUpperHalf, length - lengthUpperHalf);
+    }
+
+    private RingBufferDataSet notifyAppended() {
+        if (writeSequence - lastNotifiedSequence < notificationBatchSize) {
+            return getThis();
+        }
+        return flush();
+    }
+
+    private void pinSnapshot() {
+        synchronized (snapshotGuard) {
+            if (pinCount == 0) {
+                takeSnapshot();
+            }
+            pinCount++; // NOPMD -- guarded by 'snapshotGuard'
+        }
+    }
+
+    /**
+     * seqlock-style read: copies the published samples and drops those that may have been overwritten during the copy
+     */
+    private void takeSnapshot() {
+        while (true) {
+            final long end = writeSequence;
+            final long start = Math.max(firstSequence, end - capacity);
+            final int length = (int) (end - start);
+            if (length == 0) {
+                // N.B. the writer may already have claimed further samples -> nothing to validate
+                snapshotCount = 0;
+                snapshotSequence = start;
+                return;
+            }
+            copyOut(xValues, start, xSnapshot, length);
+            copyOut(yValues, start, ySnapshot, length);
+            VarHandle.acquireFence(); // copied data must be read before the claim is validated
+            final long validStart = Math.max(start, claimSequence - capacity);
+            if (validStart < end) {
+                final int skip = (int) (validStart - start);
+                if (skip > 0) {
+                    System.arraycopy(xSnapshot, skip, xSnapshot, 0, length - skip);
+                    System.arraycopy(ySnapshot, skip, ySnapshot, 0, length - skip);
+                }
+                snapshotCount = length - skip;
+                snapshotSequence = validStart;
+                return;
+            }
+            // writer lapped the entire buffer while copying -- retry
+        }
+    }
+
+    private void unpinSnapshot() {
+        synchronized (snapshotGuard) {
+            if (pinCount > 0) {
+                pinCount--; // NOPMD -- guarded by 'snapshotGuard'
+            }
+        }
+    }
+
+    /**
+     * read lock that pins a consistent reader snapshot for as long as it is held. Optimistic reads are mapped onto
+     * snapshot reads since the lock-free writer does not invalidate optimistic lock stamps.
+     */
+    private class SnapshotLock extends DefaultDataSetLock<RingBufferDataSet> {
+        private static final long serialVersionUID = -2946164519312342813L;
+
+        protected SnapshotLock() {
+            super(RingBufferDataSet.this);
+        }
+
+        @Override
+        public RingBufferDataSet readLock() {
+            final RingBufferDataSet dataSet = super.readLock();
+            pinSnapshot();
+            return dataSet;
+        }
+
+        @Override
+        public RingBufferDataSet readLockGuardOptimistic(final Runnable reading) { // NOPMD -- runnable not used in a thread context
+            return readLockGuard(reading);
+        }
+
+        @Override
+        public <R> R readLockGuardOptimistic(final Supplier<R> reading) {
+            return readLockGuard(reading);
+        }
+
+        @Override
+        public RingBufferDataSet readUnLock() {
+            unpinSnapshot();
+            return super.readUnLock();
+        }
+    }
+}
@@ -14,6 +14,7 @@ import de.gsi.dataset.DataSet;
 import de.gsi.dataset.GridDataSet;
 import de.gsi.dataset.event.AxisChangeEvent;
 import de.gsi.dataset.event.EventListener;
+import de.gsi.dataset.event.UpdateEvent;
 import de.gsi.dataset.locks.DataSetLock;
 import de.gsi.dataset.utils.AssertUtils;
 
@@ -31,6 +32,7 @@ public class TransposedDataSet implements DataSet {
     protected final int nDims;
     protected int[] permutation;
     private boolean transposed;
+    private long permutationCount; // number of permutation/transposition changes
 
     private TransposedDataSet(final DataSet dataSet, final boolean transposed) {
         if (dataSet == null) {
@@ -110,6 +112,12 @@ public class TransposedDataSet implements DataSet {
         return dataSet.getIndex(permutation[dimIndex], value);
     }
 
+    @Override
+    public long getModificationCount() {
+        // N.B. a changed permutation modifies the data as seen through this view
+        return dataSet.getModificationCount() + permutationCount;
+    }
+
     @Override
     public String getName() {
         return dataSet.getName();
@@ -138,6 +146,12 @@ public class TransposedDataSet implements DataSet {
         return dataSet.getValues(permutation[dimIndex]);
     }
 
+    @Override
+    public void invokeListener(final UpdateEvent updateEvent, final boolean executeParallel) {
+        // N.B. shares the listeners and modification count of the source data set
+        dataSet.invokeListener(updateEvent, executeParallel);
+    }
+
     public boolean isTransposed() {
         return transposed;
     }
@@ -168,6 +182,7 @@ public class TransposedDataSet implements DataSet {
             }
 
             this.permutation = Arrays.copyOf(permutation, dataSet.getDimension());
+            permutationCount++;
             if (transposed) {
                 final int tmp = this.permutation[1];
                 this.permutation[1] = this.permutation[0];
@@ -202,6 +217,7 @@ public class TransposedDataSet implements DataSet {
                 this.permutation[1] = this.permutation[0];
                 this.permutation[0] = tmp;
                 this.transposed = transposed;
+                permutationCount++;
             }
         });
         this.invokeListener(new AxisChangeEvent(this, "(Un)transposed", -1));
@@ -20,7 +20,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * ArrayCache.release(UNIQUE_IDENTIFIER, 100);
  * </pre>
  * 
- * N.B. for other simple caching needs see @see Cache
+ * N.B. for other simple caching needs see @see Cache and for a bounded, size-class based pool see @see ArrayPool
  * 
  * @author rstein
  *
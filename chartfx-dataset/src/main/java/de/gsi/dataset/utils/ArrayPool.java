@@ -0,0 +1,377 @@
+package de.gsi.dataset.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded, size-class based pool for recurring (large) temporary arrays, e.g. the per-frame screen-coordinate buffers
+ * of the renderers or the serialiser byte buffers.
+ * <p>
+ * Array lengths are rounded up to the next power of two (minimum {@value #MIN_POOLED_LENGTH} elements) so that
+ * slightly varying request sizes (e.g. a data set growing by a few samples between frames) map onto the same recycled
+ * array. Equal requests thus always yield arrays of equal length, e.g. for the column buffers of one data set. Released
+ * arrays are kept in two tiers:
+ * <ul>
+ * <li>a per-thread slot per size class for small arrays (up to {@value #THREAD_LOCAL_MAX_BYTES} bytes) that is
+ * accessed without any synchronisation, and</li>
+ * <li>a shared, lock-striped set of bounded queues per size class for everything else (or if the thread-local slot is
+ * taken).</li>
+ * </ul>
+ * The memory retained by the shared tier is bounded by {@link #getMaxRetainedBytes()}, surplus arrays are left to the
+ * garbage collector. The pool keeps hit/miss/drop metrics and optionally tracks the origin of arrays that have been
+ * acquired but not yet released (see {@link #setLeakTracking(boolean)}).
+ * <p>
+ * usage example:
+ *
+ * <pre>
+ * {@code
+ *     final double[] buffer = ArrayPool.DOUBLE.acquire(nSamples); // N.B. buffer.length >= nSamples
+ *     // [...] do short-lived computation on buffer[0, nSamples[
+ *     ArrayPool.DOUBLE.release(buffer); // return ownership to pool
+ * }
+ * </pre>
+ *
+ * N.B. acquired arrays are not cleared and may be longer than requested. Arrays must not be accessed after they have
+ * been released. For simple name-keyed exact-size caching needs see {@link ArrayCache}.
+ *
+ * @author rstein
+ * @param <T> array type, e.g. {@code double[]}
+ */
+@SuppressWarnings("PMD.TooManyMethods") // metrics getters
+public final class ArrayPool<T> {
+    /** minimum length of pooled arrays */
+    public static final int MIN_POOLED_LENGTH = 16;
+    /** maximum byte size of arrays that are kept in the thread-local tier */
+    public static final int THREAD_LOCAL_MAX_BYTES = 64 * 1024;
+    /** default upper limit of bytes retained by the shared tier of each pool */
+    public static final long DEFAULT_MAX_RETAINED_BYTES = 64L * 1024 * 1024;
+    private static final int MIN_SIZE_CLASS = Integer.numberOfTrailingZeros(MIN_POOLED_LENGTH);
+    private static final int MAX_SIZE_CLASS = 30;
+    private static final int N_STRIPES = Math.min(16, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors())));
+    private static final int MAX_ARRAYS_PER_STRIPE = 8;
+
+    public static final ArrayPool<boolean[]> BOOLEAN = new ArrayPool<>("boolean[]", boolean[]::new, a -> a.length, 1);
+    public static final ArrayPool<byte[]> BYTE = new ArrayPool<>("byte[]", byte[]::new, a -> a.length, Byte.BYTES);
+    public static final ArrayPool<double[]> DOUBLE = new ArrayPool<>("double[]", double[]::new, a -> a.length, Double.BYTES);
+    public static final ArrayPool<float[]> FLOAT = new ArrayPool<>("float[]", float[]::new, a -> a.length, Float.BYTES);
+    public static final ArrayPool<int[]> INT = new ArrayPool<>("int[]", int[]::new, a -> a.length, Integer.BYTES);
+    public static final ArrayPool<String[]> STRING = new ArrayPool<>("String[]", String[]::new, a -> a.length, Long.BYTES);
+
+    private final String name;
+    private final IntFunction<T> allocator;
+    private final ToIntFunction<T> lengthFunction;
+    private final int bytesPerElement;
+    private final int maxThreadLocalSizeClass;
+    private final ThreadLocal<Object[]> threadLocalSlots;
+    private final Stripe[][] sharedStripes = new Stripe[MAX_SIZE_CLASS + 1][N_STRIPES]; // [size class][stripe]
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder releases = new LongAdder();
+    private final LongAdder drops = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final Map<Object, Throwable> outstanding = Collections.synchronizedMap(new IdentityHashMap<>());
+    private volatile long maxRetainedBytes = DEFAULT_MAX_RETAINED_BYTES;
+    private volatile boolean leakTracking;
+
+    /**
+     * @param name pool name (used for diagnostics)
+     * @param allocator array allocator, e.g. {@code double[]::new}
+     * @param lengthFunction array length accessor, e.g. {@code a -> a.length}
+     * @param bytesPerElement (approximate) element size used for the memory bound
+     */
+    public ArrayPool(final String name, final IntFunction<T> allocator, final ToIntFunction<T> lengthFunction, final int bytesPerElement) {
+        AssertUtils.notNull("name", name);
+        AssertUtils.notNull("allocator", allocator);
+        AssertUtils.notNull("lengthFunction", lengthFunction);
+        AssertUtils.gtThanZero("bytesPerElement", bytesPerElement);
+        this.name = name;
+        this.allocator = allocator;
+        this.lengthFunction = lengthFunction;
+        this.bytesPerElement = bytesPerElement;
+        this.maxThreadLocalSizeClass = 31 - Integer.numberOfLeadingZeros(Math.max(1, THREAD_LOCAL_MAX_BYTES / bytesPerElement));
+        this.threadLocalSlots = ThreadLocal.withInitial(() -> new Object[maxThreadLocalSizeClass + 1]);
+        for (int sizeClass = MIN_SIZE_CLASS; sizeClass <= MAX_SIZE_CLASS; sizeClass++) {
+            for (int stripe = 0; stripe < N_STRIPES; stripe++) {
+                sharedStripes[sizeClass][stripe] = new Stripe();
+            }
+        }
+    }
+
+    /**
+     * @param minLength minimum required array length
+     * @return recycled or newly allocated array with {@code length >= minLength} (N.B. content is not cleared)
+     */
+    public T acquire(final int minLength) {
+        AssertUtils.gtEqThanZero("minLength", minLength);
+        final int sizeClass = ceilSizeClass(minLength);
+        if (sizeClass > MAX_SIZE_CLASS) {
+            // too large to be pooled
+            return track(allocate(minLength));
+        }
+
+        T array = null;
+        if (sizeClass <= maxThreadLocalSizeClass) {
+            final Object[] slots = threadLocalSlots.get();
+            array = cast(slots[sizeClass]);
+            slots[sizeClass] = null;
+        }
+        if (array == null) {
+            array = pollShared(sizeClass);
+        }
+        if (array == null) {
+            return track(allocate(1 << sizeClass));
+        }
+        hits.increment();
+        return track(array);
+    }
+
+    /**
+     * Drops all arrays retained by the shared tier and the calling thread's local tier.
+     */
+    public void clear() {
+        final Object[] slots = threadLocalSlots.get();
+        for (int sizeClass = 0; sizeClass < slots.length; sizeClass++) {
+            slots[sizeClass] = null;
+        }
+        for (int sizeClass = MIN_SIZE_CLASS; sizeClass <= MAX_SIZE_CLASS; sizeClass++) {
+            for (final Stripe stripe : sharedStripes[sizeClass]) {
+                stripe.lock.lock();
+                try {
+                    for (final Object array : stripe.arrays) {
+                        retainedBytes.addAndGet(-(long) lengthFunction.applyAsInt(cast(array)) * bytesPerElement);
+                    }
+                    stripe.arrays.clear();
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return total number of bytes that had to be newly allocated since the pool has been created
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    /**
+     * @return number of released arrays that have been discarded (memory bound exceeded, full stripe or not a size-class
+     *         length)
+     */
+    public long getDrops() {
+        return drops.sum();
+    }
+
+    /**
+     * @return number of {@link #acquire(int)} calls that have been served from the pool
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the acquisition stack traces of all arrays that have been acquired but not released since leak tracking
+     *         was enabled (N.B. copy)
+     */
+    public List<Throwable> getLeakTraces() {
+        synchronized (outstanding) {
+            return new ArrayList<>(outstanding.values());
+        }
+    }
+
+    public long getMaxRetainedBytes() {
+        return maxRetainedBytes;
+    }
+
+    /**
+     * @return number of {@link #acquire(int)} calls that required a new allocation
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of arrays currently held by the caller(s), i.e. acquired minus released (N.B. only meaningful if
+     *         no foreign arrays are released to the pool)
+     */
+    public long getOutstanding() {
+        return hits.sum() + misses.sum() - releases.sum();
+    }
+
+    /**
+     * @return number of {@link #release(Object)} calls
+     */
+    public long getReleases() {
+        return releases.sum();
+    }
+
+    /**
+     * @return number of bytes currently retained by the shared tier (N.B. the thread-local tier is bounded per thread
+     *         by construction and not included)
+     */
+    public long getRetainedBytes() {
+        return retainedBytes.get();
+    }
+
+    public boolean isLeakTracking() {
+        return leakTracking;
+    }
+
+    /**
+     * Returns ownership of the array to the pool. Arrays not obtained via {@link #acquire(int)} are accepted as well if
+     * their length matches a size class (power of two), {@code null} is ignored.
+     *
+     * @param array to be recycled (N.B. must not be used afterwards by the caller)
+     */
+    public void release(final T array) {
+        if (array == null) {
+            return;
+        }
+        releases.increment();
+        if (leakTracking) {
+            outstanding.remove(array);
+        }
+        final int length = lengthFunction.applyAsInt(array);
+        if (length < MIN_POOLED_LENGTH || Integer.bitCount(length) != 1) {
+            // N.B. only exact size-class lengths are pooled so that equal requests yield equal array lengths
+            drops.increment();
+            return;
+        }
+        final int sizeClass = Integer.numberOfTrailingZeros(length);
+        if (sizeClass <= maxThreadLocalSizeClass) {
+            final Object[] slots = threadLocalSlots.get();
+            if (slots[sizeClass] == null) {
+                slots[sizeClass] = array;
+                return;
+            }
+        }
+        if (!offerShared(sizeClass, array, (long) length * bytesPerElement)) {
+            drops.increment();
+        }
+    }
+
+    /**
+     * @param enable {@code true}: record the acquisition stack trace of every array until it is released (N.B. costly,
+     *            intended for debugging/unit-tests)
+     */
+    public void setLeakTracking(final boolean enable) {
+        leakTracking = enable;
+        if (!enable) {
+            outstanding.clear();
+        }
+    }
+
+    /**
+     * @param maxRetainedBytes upper limit of bytes retained by the shared tier
+     */
+    public void setMaxRetainedBytes(final long maxRetainedBytes) {
+        AssertUtils.gtEqThanZero("maxRetainedBytes", maxRetainedBytes);
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "ArrayPool{" + name + ", hits=" + getHits() + ", misses=" + getMisses() + ", releases=" + getReleases() + ", drops=" + getDrops() //
+                + ", outstanding=" + getOutstanding() + ", retainedBytes=" + getRetainedBytes() + ", maxRetainedBytes=" + getMaxRetainedBytes() + '}';
+    }
+
+    private T allocate(final int length) {
+        misses.increment();
+        allocatedBytes.add((long) length * bytesPerElement);
+        return allocator.apply(length);
+    }
+
+    private boolean offerShared(final int sizeClass, final T array, final long nBytes) {
+        if (retainedBytes.addAndGet(nBytes) > maxRetainedBytes) {
+            retainedBytes.addAndGet(-nBytes);
+            return false;
+        }
+        final Stripe[] stripes = sharedStripes[sizeClass];
+        final int start = stripeIndex();
+        for (int i = 0; i < N_STRIPES; i++) {
+            final Stripe stripe = stripes[(start + i) & (N_STRIPES - 1)];
+            if (i == 0) {
+                stripe.lock.lock();
+            } else if (!stripe.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (stripe.arrays.size() < MAX_ARRAYS_PER_STRIPE) {
+                    stripe.arrays.addLast(array);
+                    return true;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        retainedBytes.addAndGet(-nBytes);
+        return false;
+    }
+
+    private T pollShared(final int sizeClass) {
+        final Stripe[] stripes = sharedStripes[sizeClass];
+        final int start = stripeIndex();
+        for (int i = 0; i < N_STRIPES; i++) {
+            final Stripe stripe = stripes[(start + i) & (N_STRIPES - 1)];
+            if (i == 0) {
+                stripe.lock.lock();
+            } else if (!stripe.lock.tryLock()) {
+                continue;
+            }
+            try {
+                final Object array = stripe.arrays.pollLast();
+                if (array != null) {
+                    retainedBytes.addAndGet(-(long) lengthFunction.applyAsInt(cast(array)) * bytesPerElement);
+                    return cast(array);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return null;
+    }
+
+    private T track(final T array) {
+        if (leakTracking) {
+            outstanding.put(array, new Throwable(name + " array acquired but not released")); // NOPMD - only used to record the stack trace
+        }
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(final Object array) {
+        return (T) array;
+    }
+
+    private static int ceilSizeClass(final int length) {
+        if (length <= MIN_POOLED_LENGTH) {
+            return MIN_SIZE_CLASS;
+        }
+        return 32 - Integer.numberOfLeadingZeros(length - 1);
+    }
+
+    private static int stripeIndex() {
+        final long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) & (N_STRIPES - 1);
+    }
+
+    private static class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Object> arrays = new ArrayDeque<>(MAX_ARRAYS_PER_STRIPE);
+    }
+}
@@ -0,0 +1,318 @@
+package de.gsi.dataset.utils;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.gsi.dataset.AxisDescription;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.DataSetError;
+import de.gsi.dataset.DataSetMetaData;
+import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.spi.DoubleErrorDataSet;
+import de.gsi.dataset.spi.DoubleGridDataSet;
+import de.gsi.dataset.utils.DataSetUtils.Compression;
+
+/**
+ * Asynchronous, non-blocking export of data sets to file using the same file format as
+ * {@link DataSetUtils#writeDataSetToFile(DataSet, Path, String, Compression, boolean)}.
+ * <p>
+ * The calling (e.g. acquisition) thread only takes a snapshot of the data set under its read lock, i.e. the values are
+ * copied into {@link ArrayPool} arrays and the meta data and axis descriptions are copied. Formatting, compression and
+ * file IO are performed on a fixed-size background pool. The number of snapshots in flight is bounded (back-pressure):
+ * if the limit is reached, submitting blocks until a previous export has completed, which in turn bounds the memory
+ * held by pending snapshots.
+ * <p>
+ * N.B. {@link GridDataSet}s and data sets with more than two dimensions are deep-copied rather than pooled.
+ *
+ * @author rstein
+ */
+public class DataSetExportService implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataSetExportService.class);
+    public static final int DEFAULT_N_THREADS = 2;
+    public static final int DEFAULT_MAX_PENDING = 64;
+    private final ExecutorService executor;
+    private final Semaphore pendingSlots;
+    private final int maxPending;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder snapshotNanos = new LongAdder();
+    private final LongAdder exportNanos = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    /**
+     * @param nThreads number of background threads formatting, compressing and writing the files
+     * @param maxPending maximum number of snapshots in flight before submitting blocks
+     */
+    public DataSetExportService(final int nThreads, final int maxPending) {
+        AssertUtils.gtThanZero("nThreads", nThreads);
+        AssertUtils.gtThanZero("maxPending", maxPending);
+        this.maxPending = maxPending;
+        this.pendingSlots = new Semaphore(maxPending);
+        this.executor = Executors.newFixedThreadPool(nThreads, CachedDaemonThreadFactory.getInstance());
+    }
+
+    /**
+     * Waits for all pending exports to complete and shuts down the background pool.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                LOGGER.atDebug().addArgument(getPendingCount()).log("waiting for {} pending exports to complete");
+            }
+        } catch (final InterruptedException e) {
+            LOGGER.atError().setCause(e).log("interrupted while waiting for pending exports");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return average export throughput in bytes (uncompressed) per second of background processing time
+     */
+    public double getAverageThroughput() {
+        final long nanos = exportNanos.sum();
+        return nanos <= 0 ? 0.0 : bytesWritten.sum() * 1e9 / nanos;
+    }
+
+    /**
+     * @param unit time unit of the return value
+     * @return average time between submission and completion of an export
+     */
+    public double getAverageLatency(final TimeUnit unit) {
+        final long count = completed.sum() + failed.sum();
+        return count <= 0 ? 0.0 : (double) latencyNanos.sum() / count / unit.toNanos(1);
+    }
+
+    /**
+     * @param unit time unit of the return value
+     * @return average time the submitting thread has been blocked for taking the snapshot
+     */
+    public double getAverageSnapshotTime(final TimeUnit unit) {
+        final long count = submitted.sum();
+        return count <= 0 ? 0.0 : (double) snapshotNanos.sum() / count / unit.toNanos(1);
+    }
+
+    /**
+     * @return number of (uncompressed) bytes written
+     */
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * @return number of successfully completed exports
+     */
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    /**
+     * @return number of failed exports
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * @param unit time unit of the return value
+     * @return maximum time between submission and completion of an export
+     */
+    public double getMaxLatency(final TimeUnit unit) {
+        return (double) maxLatencyNanos.get() / unit.toNanos(1);
+    }
+
+    /**
+     * @return maximum number of snapshots in flight before submitting blocks
+     */
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    /**
+     * @return number of snapshots in flight (i.e. submitted but not yet written)
+     */
+    public int getPendingCount() {
+        return maxPending - pendingSlots.availablePermits();
+    }
+
+    /**
+     * @return number of successfully submitted exports
+     */
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "DataSetExportService{submitted=" + getSubmittedCount() + ", completed=" + getCompletedCount() + ", failed=" + getFailedCount() //
+                + ", pending=" + getPendingCount() + ", bytes=" + getBytesWritten() + ", throughput[MB/s]=" + getAverageThroughput() / 1e6 //
+                + ", snapshot[us]=" + getAverageSnapshotTime(TimeUnit.MICROSECONDS) + ", latency[ms]=" + getAverageLatency(TimeUnit.MILLISECONDS) + '}';
+    }
+
+    /**
+     * Exports the contents of the supplied dataSet asynchronously. The file name placeholders (see
+     * {@link DataSetUtils#writeDataSetToFile(DataSet, Path, String, Compression, boolean)}) are resolved at the time of
+     * submission. Blocks only for taking the snapshot or, if {@link #getMaxPending()} snapshots are in flight, until a
+     * previous export has completed.
+     *
+     * @param dataSet The DataSet to export
+     * @param path Path to the location of the file
+     * @param fileName Filename (with "{metadatafield;type;format}" placeholders for variables)
+     * @param compression Compression of the file (GZIP, ZIP or NONE). Supply AUTO to use file extension.
+     * @param binary true: whether to store data as binary or string
+     * @return future completing with the actual name of the file that was written (or exceptionally in case of errors)
+     */
+    public CompletableFuture<String> writeDataSetToFile(final DataSet dataSet, final Path path, final String fileName,
+            final Compression compression, final boolean binary) {
+        AssertUtils.notNull("dataSet", dataSet);
+        AssertUtils.notNull("path", path);
+        AssertUtils.notNull("compression", compression);
+        if ((fileName == null) || fileName.isEmpty()) {
+            throw new IllegalArgumentException("fileName must not be null or empty");
+        }
+
+        try {
+            pendingSlots.acquire(); // back-pressure
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        final long submitTime = System.nanoTime();
+        final Snapshot snapshot;
+        final File file;
+        try {
+            file = new File(path.toFile(), dataSet.lock().readLockGuard(() -> DataSetUtils.getFileName(dataSet, fileName))).getAbsoluteFile();
+            snapshot = new Snapshot(dataSet);
+        } catch (final RuntimeException e) {
+            pendingSlots.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        final Compression fileCompression = compression == Compression.AUTO ? DataSetUtils.evaluateAutoCompression(fileName) : compression;
+        snapshotNanos.add(System.nanoTime() - submitTime);
+
+        final CompletableFuture<String> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> export(snapshot, file, fileCompression, binary), executor);
+        } catch (final RejectedExecutionException e) {
+            snapshot.release();
+            pendingSlots.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        submitted.increment();
+
+        return future.whenComplete((name, exception) -> {
+            snapshot.release();
+            pendingSlots.release();
+            final long latency = System.nanoTime() - submitTime;
+            latencyNanos.add(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+            if (exception == null) {
+                completed.increment();
+            } else {
+                failed.increment();
+                LOGGER.atError().setCause(exception).addArgument(file).log("could not write to file: '{}'");
+            }
+        });
+    }
+
+    private String export(final Snapshot snapshot, final File file, final Compression compression, final boolean binary) {
+        final long start = System.nanoTime();
+        try {
+            bytesWritten.add(DataSetUtils.writeDataSetToFile(snapshot.dataSet, file, compression, binary));
+            return file.getPath();
+        } catch (final Exception e) { // NOPMD - propagated via the future
+            throw new CompletionException(e);
+        } finally {
+            exportNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return lazily initialised shared export service with {@link #DEFAULT_N_THREADS} daemon threads and
+     *         {@link #DEFAULT_MAX_PENDING} snapshots in flight
+     */
+    public static DataSetExportService getDefault() {
+        return DefaultInstanceHolder.INSTANCE;
+    }
+
+    private static final class DefaultInstanceHolder {
+        private static final DataSetExportService INSTANCE = new DataSetExportService(DEFAULT_N_THREADS, DEFAULT_MAX_PENDING);
+    }
+
+    /**
+     * copy of the data set's values, meta data and axis descriptions taken under its read lock
+     */
+    private static final class Snapshot {
+        private final DataSet dataSet;
+        private final double[][] pooledArrays;
+
+        private Snapshot(final DataSet source) {
+            if (source instanceof GridDataSet || source.getDimension() != 2) {
+                // N.B. copies lock the source themselves
+                dataSet = source instanceof GridDataSet ? new DoubleGridDataSet((GridDataSet) source) : DataSetUtils.copyDataSet(source);
+                pooledArrays = null;
+                return;
+            }
+            final double[][] arrays = new double[4][];
+            dataSet = source.lock().readLockGuard(() -> {
+                final int nSamples = source.getDataCount();
+                for (int i = 0; i < arrays.length; i++) {
+                    arrays[i] = ArrayPool.DOUBLE.acquire(nSamples);
+                }
+                System.arraycopy(source.getValues(DIM_X), 0, arrays[0], 0, nSamples);
+                System.arraycopy(source.getValues(DIM_Y), 0, arrays[1], 0, nSamples);
+                if (source instanceof DataSetError) {
+                    System.arraycopy(((DataSetError) source).getErrorsNegative(DIM_Y), 0, arrays[2], 0, nSamples);
+                    System.arraycopy(((DataSetError) source).getErrorsPositive(DIM_Y), 0, arrays[3], 0, nSamples);
+                } else {
+                    Arrays.fill(arrays[2], 0, nSamples, 0.0);
+                    Arrays.fill(arrays[3], 0, nSamples, 0.0);
+                }
+                final DoubleErrorDataSet copy = new DoubleErrorDataSet(source.getName(), arrays[0], arrays[1], arrays[2], arrays[3], nSamples, false);
+                if (source instanceof DataSetMetaData) {
+                    final DataSetMetaData metaData = (DataSetMetaData) source;
+                    copy.getInfoList().addAll(metaData.getInfoList());
+                    copy.getWarningList().addAll(metaData.getWarningList());
+                    copy.getErrorList().addAll(metaData.getErrorList());
+                    copy.getMetaInfo().putAll(metaData.getMetaInfo());
+                }
+                for (int dim = 0; dim < 2; dim++) {
+                    final AxisDescription axis = source.getAxisDescription(dim);
+                    copy.getAxisDescription(dim).set(axis.getName(), axis.getUnit(), axis.getMin(), axis.getMax());
+                }
+                return copy;
+            });
+            pooledArrays = arrays;
+        }
+
+        private void release() {
+            if (pooledArrays == null) {
+                return;
+            }
+            for (final double[] array : pooledArrays) {
+                ArrayPool.DOUBLE.release(array);
+            }
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package de.gsi.dataset.utils;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.event.AddedDataEvent;
+import de.gsi.dataset.event.EventListener;
+import de.gsi.dataset.event.UpdateEvent;
+import de.gsi.dataset.event.UpdatedDataEvent;
+import de.gsi.dataset.spi.DoubleDataSet;
+
+/**
+ * Multi-resolution min/max/mean pyramid (level-of-detail index) of the y-coordinates of a sorted-X {@code DataSet}.
+ * <p>
+ * Level 'k' holds the min, max and sum of consecutive buckets of 2^k samples. Buckets are aligned to absolute sample
+ * positions so that appends to growing as well as rolling (ie. circular or FIFO) data sets update the pyramid
+ * incrementally in O(m + log n) for 'm' new samples. Arbitrary index ranges are aggregated in O(log n) by decomposing
+ * them into the largest fully-covered buckets.
+ * <p>
+ * The pyramid registers itself as listener to the data set and synchronises lazily with the next query after
+ * {@link AddedDataEvent}s. Appended and evicted samples are detected by locating the previously last sample (binary
+ * search on the sorted x-coordinate); any other data modification (or inconsistency) triggers a full rebuild.
+ * <p>
+ * Usage example:
+ *
+ * <pre>
+ * {@code
+ * DataSetPyramid.attach(dataSet); // ErrorDataSetRenderer uses the attached pyramid for large index ranges
+ * final DataSet envelope = DataSetPyramid.getAttached(dataSet).getEnvelope(0, dataSet.getDataCount(), 1000);
+ * }
+ * </pre>
+ *
+ * @author rstein
+ */
+public class DataSetPyramid implements EventListener {
+    private static final int MIN_LEVEL_CAPACITY = 16;
+    private final DataSet dataSet;
+    private final List<Level> levels = new ArrayList<>();
+    private boolean dirty = true;
+    private long origin; // absolute position of data set index '0'
+    private long end; // absolute position following the last indexed sample
+    private double lastX;
+    private double lastY;
+    // aggregation result of last 'aggregate(..)' call
+    private double aggMin;
+    private double aggMax;
+    private double aggSum;
+    private long aggCount;
+    private long aggMinPos; // absolute position of the (first) minimum
+    private long aggMaxPos; // absolute position of the (first) maximum
+
+    /**
+     * @param dataSet the sorted-X data set to be indexed (N.B. use {@link #attach(DataSet)} for automatic updates)
+     */
+    public DataSetPyramid(final DataSet dataSet) {
+        AssertUtils.notNull("dataSet", dataSet);
+        this.dataSet = dataSet;
+    }
+
+    /**
+     * Removes the pyramid from the data set's listener list
+     */
+    public void detach() {
+        dataSet.removeListener(this);
+    }
+
+    /**
+     * @return the indexed data set
+     */
+    public DataSet getDataSet() {
+        return dataSet;
+    }
+
+    /**
+     * Computes a reduced M4 envelope of the data set's index range [fromIndex, toIndex) containing the first, minimum,
+     * maximum and last sample (in index order and at their original x-coordinates, duplicates omitted) of each of the at
+     * most {@code 2 * nBins} buckets. The bucket size is chosen as the largest power of two that yields at least
+     * {@code nBins} buckets. N.B. the envelope contains only x- and y-coordinates, ie. no errors.
+     *
+     * @param fromIndex first data set index (inclusive)
+     * @param toIndex last data set index (exclusive)
+     * @param nBins minimum number of buckets (typically the pixel width of the axis)
+     * @return new data set containing the envelope (inherits name and style of the source data set)
+     */
+    public DataSet getEnvelope(final int fromIndex, final int toIndex, final int nBins) {
+        AssertUtils.gtThanZero("nBins", nBins);
+        return dataSet.lock().readLockGuard(() -> {
+            synchronized (this) {
+                update();
+                AssertUtils.indexOrder(fromIndex, "fromIndex", toIndex, "toIndex");
+                AssertUtils.indexInBounds(toIndex, dataSet.getDataCount() + 1, "toIndex");
+                final int level = getLevel(toIndex - fromIndex, nBins);
+                final long bucketSize = 1L << level;
+                final int nBuckets = (int) (((origin + toIndex - 1) >> level) - ((origin + fromIndex) >> level) + 1);
+                final double[] xValues = new double[4 * nBuckets];
+                final double[] yValues = new double[4 * nBuckets];
+                final long[] positions = new long[4];
+                int count = 0;
+                long start = origin + fromIndex;
+                while (start < origin + toIndex) {
+                    final long stop = Math.min(((start >> level) + 1) * bucketSize, origin + toIndex);
+                    aggregate(start, stop);
+                    if (aggCount > 0) {
+                        positions[0] = start;
+                        positions[1] = Math.min(aggMinPos, aggMaxPos);
+                        positions[2] = Math.max(aggMinPos, aggMaxPos);
+                        positions[3] = stop - 1;
+                        long lastPos = -1;
+                        for (final long position : positions) {
+                            final int index = (int) (position - origin);
+                            if (position == lastPos || !Double.isFinite(dataSet.get(DIM_Y, index))) {
+                                continue;
+                            }
+                            xValues[count] = dataSet.get(DIM_X, index);
+                            yValues[count++] = dataSet.get(DIM_Y, index);
+                            lastPos = position;
+                        }
+                    }
+                    start = stop;
+                }
+                final DoubleDataSet envelope = new DoubleDataSet(dataSet.getName(), xValues, yValues, count, false);
+                envelope.setStyle(dataSet.getStyle());
+                return envelope;
+            }
+        });
+    }
+
+    /**
+     * @param fromIndex first data set index (inclusive)
+     * @param toIndex last data set index (exclusive)
+     * @return maximum y-value within the given index range (NaN if no finite values)
+     */
+    public double getMax(final int fromIndex, final int toIndex) {
+        return query(fromIndex, toIndex, 1);
+    }
+
+    /**
+     * @param fromIndex first data set index (inclusive)
+     * @param toIndex last data set index (exclusive)
+     * @return mean y-value within the given index range (NaN if no finite values)
+     */
+    public double getMean(final int fromIndex, final int toIndex) {
+        return query(fromIndex, toIndex, 2);
+    }
+
+    /**
+     * @param fromIndex first data set index (inclusive)
+     * @param toIndex last data set index (exclusive)
+     * @return minimum y-value within the given index range (NaN if no finite values)
+     */
+    public double getMin(final int fromIndex, final int toIndex) {
+        return query(fromIndex, toIndex, 0);
+    }
+
+    /**
+     * @return number of pyramid levels (excluding the raw data)
+     */
+    public int getNumberOfLevels() {
+        return dataSet.lock().readLockGuard(() -> {
+            synchronized (this) {
+                update();
+                return levels.size();
+            }
+        });
+    }
+
+    @Override
+    public void handle(final UpdateEvent event) {
+        if (event instanceof UpdatedDataEvent && !(event instanceof AddedDataEvent)) {
+            // N.B. appended data is synchronised incrementally with the next query (ie. at most once per rendered frame)
+            synchronized (this) {
+                dirty = true;
+            }
+        }
+    }
+
+    private void aggregate(final long from, final long to) {
+        aggMin = Double.POSITIVE_INFINITY;
+        aggMax = Double.NEGATIVE_INFINITY;
+        aggSum = 0.0;
+        aggCount = 0;
+        long position = from;
+        while (position < to) {
+            int level = Math.min(Long.numberOfTrailingZeros(position), levels.size());
+            while (level > 0 && position + (1L << level) > to) {
+                level--;
+            }
+            if (level == 0) {
+                addRawValue(position);
+            } else {
+                final Level bucketLevel = levels.get(level - 1);
+                final int index = bucketLevel.index(position >> level);
+                if (bucketLevel.count[index] > 0) {
+                    addExtrema(bucketLevel.min[index], bucketLevel.minPos[index], bucketLevel.max[index], bucketLevel.maxPos[index]);
+                    aggSum += bucketLevel.sum[index];
+                    aggCount += bucketLevel.count[index];
+                }
+            }
+            position += 1L << level;
+        }
+    }
+
+    private void addExtrema(final double minValue, final long minPos, final double maxValue, final long maxPos) {
+        // N.B. strict comparison keeps the first occurrence (positions are added in ascending order)
+        if (minValue < aggMin) {
+            aggMin = minValue;
+            aggMinPos = minPos;
+        }
+        if (maxValue > aggMax) {
+            aggMax = maxValue;
+            aggMaxPos = maxPos;
+        }
+    }
+
+    private void addRawValue(final long position) {
+        final double value = dataSet.get(DIM_Y, (int) (position - origin));
+        if (Double.isFinite(value)) {
+            addExtrema(value, position, value, position);
+            aggSum += value;
+            aggCount++;
+        }
+    }
+
+    private void append(final long newEnd) {
+        final long oldEnd = end;
+        end = newEnd;
+        for (final Level level : levels) {
+            level.trim(origin);
+            computeBuckets(level, oldEnd, end);
+        }
+        // add levels required for the new data count
+        final int nLevels = 63 - Long.numberOfLeadingZeros(Math.max(1, end - origin));
+        while (levels.size() < nLevels) {
+            final Level level = new Level(levels.size() + 1);
+            levels.add(level);
+            // N.B. compute all complete buckets within the live range
+            computeBuckets(level, origin, end);
+        }
+    }
+
+    private void computeBuckets(final Level level, final long from, final long to) {
+        final int shift = level.shift;
+        // buckets that are completed by samples in ]from, to] and fully within the live range
+        final long firstBucket = Math.max(from >> shift, (origin + (1L << shift) - 1) >> shift);
+        final long lastBucket = (to >> shift) - 1;
+        for (long bucket = firstBucket; bucket <= lastBucket; bucket++) {
+            final long start = bucket << shift;
+            if (shift == 1) {
+                aggMin = Double.POSITIVE_INFINITY;
+                aggMax = Double.NEGATIVE_INFINITY;
+                aggSum = 0.0;
+                aggCount = 0;
+                addRawValue(start);
+                addRawValue(start + 1);
+            } else {
+                final Level child = levels.get(shift - 2);
+                final int left = child.index(2 * bucket);
+                final int right = child.index(2 * bucket + 1);
+                aggMin = Double.POSITIVE_INFINITY;
+                aggMax = Double.NEGATIVE_INFINITY;
+                if (child.count[left] > 0) {
+                    addExtrema(child.min[left], child.minPos[left], child.max[left], child.maxPos[left]);
+                }
+                if (child.count[right] > 0) {
+                    addExtrema(child.min[right], child.minPos[right], child.max[right], child.maxPos[right]);
+                }
+                aggSum = child.sum[left] + child.sum[right];
+                aggCount = (long) child.count[left] + child.count[right];
+            }
+            level.add(bucket, aggMin, aggMinPos, aggMax, aggMaxPos, aggSum, (int) aggCount);
+        }
+    }
+
+    private int getLevel(final int length, final int nBins) {
+        final int bucketSize = Math.max(1, length / nBins);
+        return Math.min(31 - Integer.numberOfLeadingZeros(bucketSize), levels.size());
+    }
+
+    private double query(final int fromIndex, final int toIndex, final int type) {
+        return dataSet.lock().readLockGuard(() -> {
+            synchronized (this) {
+                update();
+                AssertUtils.indexOrder(fromIndex, "fromIndex", toIndex, "toIndex");
+                AssertUtils.indexInBounds(toIndex, dataSet.getDataCount() + 1, "toIndex");
+                aggregate(origin + fromIndex, origin + toIndex);
+                if (aggCount == 0) {
+                    return Double.NaN;
+                }
+                switch (type) {
+                case 0:
+                    return aggMin;
+                case 1:
+                    return aggMax;
+                case 2:
+                default:
+                    return aggSum / aggCount;
+                }
+            }
+        });
+    }
+
+    private void rebuild() {
+        levels.clear();
+        origin = 0;
+        end = 0;
+        append(dataSet.getDataCount());
+    }
+
+    /**
+     * synchronises pyramid with the data set, N.B. needs to be called while holding the data set's read lock
+     */
+    private void update() {
+        final int dataCount = dataSet.getDataCount();
+        final int oldCount = (int) (end - origin);
+        if (dirty || oldCount == 0 || dataCount == 0) {
+            dirty = false;
+            rebuild();
+        } else {
+            // locate previously last sample: same position (unmodified or appended) or shifted (rolling buffers)
+            int lastIndex = Math.min(oldCount, dataCount) - 1;
+            if (!isLastSample(lastIndex)) {
+                lastIndex = dataSet.getIndex(DIM_X, lastX);
+                if (!isLastSample(lastIndex)) {
+                    rebuild();
+                    updateLastSample();
+                    return;
+                }
+            }
+            final int nAppended = dataCount - 1 - lastIndex;
+            final int nEvicted = oldCount + nAppended - dataCount;
+            if (nEvicted < 0) {
+                rebuild();
+            } else if (nAppended > 0 || nEvicted > 0) {
+                origin += nEvicted;
+                append(end + nAppended);
+            }
+        }
+        updateLastSample();
+    }
+
+    private boolean isLastSample(final int index) {
+        return index >= 0 && index < dataSet.getDataCount() && Double.compare(dataSet.get(DIM_X, index), lastX) == 0
+                && Double.compare(dataSet.get(DIM_Y, index), lastY) == 0;
+    }
+
+    private void updateLastSample() {
+        final int dataCount = dataSet.getDataCount();
+        lastX = dataCount == 0 ? Double.NaN : dataSet.get(DIM_X, dataCount - 1);
+        lastY = dataCount == 0 ? Double.NaN : dataSet.get(DIM_Y, dataCount - 1);
+    }
+
+    /**
+     * Attaches a new pyramid to the given data set or returns the already attached one
+     *
+     * @param dataSet the sorted-X data set to be indexed
+     * @return the attached pyramid
+     */
+    public static DataSetPyramid attach(final DataSet dataSet) {
+        AssertUtils.notNull("dataSet", dataSet);
+        synchronized (dataSet.updateEventListener()) {
+            final DataSetPyramid attached = getAttached(dataSet);
+            if (attached != null) {
+                return attached;
+            }
+            final DataSetPyramid pyramid = new DataSetPyramid(dataSet);
+            dataSet.addListener(pyramid);
+            return pyramid;
+        }
+    }
+
+    /**
+     * @param dataSet the data set to be checked
+     * @return the pyramid attached to the data set or {@code null} if none
+     */
+    public static DataSetPyramid getAttached(final DataSet dataSet) {
+        if (dataSet == null || dataSet.updateEventListener() == null) {
+            return null;
+        }
+        synchronized (dataSet.updateEventListener()) {
+            for (final EventListener listener : dataSet.updateEventListener()) {
+                if (listener instanceof DataSetPyramid) {
+                    return (DataSetPyramid) listener;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * storage of the consecutive buckets of one pyramid level
+     */
+    private static class Level {
+        private final int shift;
+        private double[] min = new double[MIN_LEVEL_CAPACITY];
+        private double[] max = new double[MIN_LEVEL_CAPACITY];
+        private long[] minPos = new long[MIN_LEVEL_CAPACITY];
+        private long[] maxPos = new long[MIN_LEVEL_CAPACITY];
+        private double[] sum = new double[MIN_LEVEL_CAPACITY];
+        private int[] count = new int[MIN_LEVEL_CAPACITY];
+        private long firstBucket; // bucket index stored at array index 'head'
+        private int head;
+        private int size;
+
+        protected Level(final int shift) {
+            this.shift = shift;
+        }
+
+        protected void add(final long bucket, final double minValue, final long minPosition, final double maxValue, final long maxPosition, // NOPMD
+                final double sumValue, final int nValues) {
+            if (size == 0 || bucket != firstBucket + size) {
+                // first or non-contiguous bucket (ie. all previous buckets have been evicted)
+                firstBucket = bucket;
+                head = 0;
+                size = 0;
+            }
+            if (head + size == min.length) {
+                if (2 * size <= min.length) {
+                    // compact
+                    System.arraycopy(min, head, min, 0, size);
+                    System.arraycopy(max, head, max, 0, size);
+                    System.arraycopy(minPos, head, minPos, 0, size);
+                    System.arraycopy(maxPos, head, maxPos, 0, size);
+                    System.arraycopy(sum, head, sum, 0, size);
+                    System.arraycopy(count, head, count, 0, size);
+                } else {
+                    final int capacity = 2 * min.length;
+                    min = grow(min, head, size, capacity);
+                    max = grow(max, head, size, capacity);
+                    minPos = grow(minPos, head, size, capacity);
+                    maxPos = grow(maxPos, head, size, capacity);
+                    sum = grow(sum, head, size, capacity);
+                    final int[] newCount = new int[capacity];
+                    System.arraycopy(count, head, newCount, 0, size);
+                    count = newCount;
+                }
+                head = 0;
+            }
+            final int index = head + size;
+            min[index] = minValue;
+            max[index] = maxValue;
+            minPos[index] = minPosition;
+            maxPos[index] = maxPosition;
+            sum[index] = sumValue;
+            count[index] = nValues;
+            size++;
+        }
+
+        protected int index(final long bucket) {
+            return head + (int) (bucket - firstBucket);
+        }
+
+        protected void trim(final long origin) {
+            // drop buckets that are (partially) evicted
+            final long firstValid = (origin + (1L << shift) - 1) >> shift;
+            final int nDrop = (int) Math.min(size, Math.max(0, firstValid - firstBucket));
+            head += nDrop;
+            size -= nDrop;
+            firstBucket += nDrop;
+        }
+
+        private static double[] grow(final double[] array, final int head, final int size, final int capacity) {
+            final double[] newArray = new double[capacity];
+            System.arraycopy(array, head, newArray, 0, size);
+            return newArray;
+        }
+
+        private static long[] grow(final long[] array, final int head, final int size, final int capacity) {
+            final long[] newArray = new long[capacity];
+            System.arraycopy(array, head, newArray, 0, size);
+            return newArray;
+        }
+    }
+}
@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
@@ -433,6 +434,38 @@ public class DataSetUtils extends DataSetUtilsHelper {
         return dataSet;
     }
 
+    /**
+     * Read a DataSet from a chunked columnar binary file written by
+     * {@link #writeDataSetToColumnarFile(DataSet, Path, boolean)}.
+     *
+     * @param file Path of the file
+     * @return DataSet with the data and metadata read from the file or {@code null} in case of errors
+     * @see ColumnarDataSetFile
+     */
+    public static DataSet readDataSetFromColumnarFile(final Path file) {
+        return readDataSetFromColumnarFile(file, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Read the samples within the given x-range from a chunked columnar binary file written by
+     * {@link #writeDataSetToColumnarFile(DataSet, Path, boolean)}. Only the chunks overlapping the range are loaded.
+     *
+     * @param file Path of the file
+     * @param xMin minimum x-value (inclusive)
+     * @param xMax maximum x-value (inclusive)
+     * @return DataSet with the data and metadata read from the file or {@code null} in case of errors
+     * @see ColumnarDataSetFile
+     */
+    public static DataSet readDataSetFromColumnarFile(final Path file, final double xMin, final double xMax) {
+        AssertUtils.notNull("file", file);
+        try {
+            return ColumnarDataSetFile.read(file, xMin, xMax);
+        } catch (final IOException e) {
+            LOGGER.atError().setCause(e).addArgument(file).log("could not open/parse file: '{}'");
+            return null;
+        }
+    }
+
     /**
      * Read a Dataset from a file containing comma separated values.<br>
      * Automatically determines compression from the file extension.<br>
@@ -888,31 +921,102 @@ public class DataSetUtils extends DataSetUtilsHelper {
 
         try {
             final String realFileName = getFileName(dataSet, fileName);
-            final String longFileName = new File(path.toFile(), realFileName).getAbsolutePath();
-            final File file = new File(longFileName);
-            if (file.getParentFile() != null && file.getParentFile().mkdirs()) {
-                LOGGER.atInfo().addArgument(longFileName).log("needed to create directory for file: {}");
+            final File file = new File(path.toFile(), realFileName).getAbsoluteFile();
+            try {
+                writeDataSetToFile(dataSet, file, compression == Compression.AUTO ? evaluateAutoCompression(fileName) : compression, binary);
+            } catch (final IOException e) {
+                LOGGER.error("could not write to file: '" + fileName + "'", e);
             }
+            return file.getPath();
+        } catch (final Exception e) {
+            LOGGER.error("could not write to file: '" + fileName + "'", e);
+            return null;
+        }
+    }
 
-            // create OutputStream
-            final ByteArrayOutputStream byteOutput = new ByteArrayOutputStream(8192);
-            // TODO: cache ByteArrayOutputStream
-            try (OutputStream outputfile = openDatasetFileOutput(file,
-                         compression == Compression.AUTO ? evaluateAutoCompression(fileName) : compression)) {
-                writeDataSetToByteArray(dataSet, byteOutput, binary, useFloat32BinaryStandard());
+    /**
+     * Asynchronous version of {@link #writeDataSetToFile(DataSet, Path, String)} using the default
+     * {@link DataSetExportService}: only the data set snapshot is taken on the calling thread, while formatting,
+     * compression and file IO are performed in the background.
+     *
+     * @param dataSet The DataSet to export
+     * @param path Path to the location of the file
+     * @param fileName Filename (with "{metadatafield;type;format}" placeholders for variables)
+     * @return future completing with the actual name of the file that was written (or exceptionally in case of errors)
+     */
+    public static CompletableFuture<String> writeDataSetToFileAsync(final DataSet dataSet, final Path path, final String fileName) {
+        return writeDataSetToFileAsync(dataSet, path, fileName, Compression.AUTO, false);
+    }
 
-                byteOutput.writeTo(outputfile);
+    /**
+     * Asynchronous version of {@link #writeDataSetToFile(DataSet, Path, String, Compression, boolean)} using the default
+     * {@link DataSetExportService}: only the data set snapshot is taken on the calling thread, while formatting,
+     * compression and file IO are performed in the background.
+     *
+     * @param dataSet The DataSet to export
+     * @param path Path to the location of the file
+     * @param fileName Filename (with "{metadatafield;type;format}" placeholders for variables)
+     * @param compression Compression of the file (GZIP, ZIP or NONE). Supply AUTO to use file extension.
+     * @param binary true: whether to store data as binary or string
+     * @return future completing with the actual name of the file that was written (or exceptionally in case of errors)
+     */
+    public static CompletableFuture<String> writeDataSetToFileAsync(final DataSet dataSet, final Path path, final String fileName,
+            final Compression compression, final boolean binary) {
+        return DataSetExportService.getDefault().writeDataSetToFile(dataSet, path, fileName, compression, binary);
+    }
 
-                // automatically closing writer connection
-            } catch (final IOException e) {
-                LOGGER.error("could not write to file: '" + fileName + "'", e);
-            }
+    /**
+     * @param dataSet The DataSet to export
+     * @param file resolved file (parent directories are created if needed)
+     * @param compression compression type (N.B. AUTO is not resolved)
+     * @param binary true: whether to store data as binary or string
+     * @return number of (uncompressed) bytes written
+     * @throws IOException in case the file could not be written
+     */
+    protected static long writeDataSetToFile(final DataSet dataSet, final File file, final Compression compression,
+            final boolean binary) throws IOException {
+        if (file.getParentFile() != null && file.getParentFile().mkdirs()) {
+            LOGGER.atInfo().addArgument(file).log("needed to create directory for file: {}");
+        }
 
-            LOGGER.atDebug().addArgument(dataSet.getName()).addArgument(longFileName).log("write data set '{}' to {}");
+        // create OutputStream
+        final ByteArrayOutputStream byteOutput = new ByteArrayOutputStream(8192);
+        // TODO: cache ByteArrayOutputStream
+        try (OutputStream outputfile = openDatasetFileOutput(file, compression)) {
+            writeDataSetToByteArray(dataSet, byteOutput, binary, useFloat32BinaryStandard());
 
-            return longFileName;
-        } catch (final Exception e) {
-            LOGGER.error("could not write to file: '" + fileName + "'", e);
+            byteOutput.writeTo(outputfile);
+
+            // automatically closing writer connection
+        }
+
+        LOGGER.atDebug().addArgument(dataSet.getName()).addArgument(file).log("write data set '{}' to {}");
+        return byteOutput.size();
+    }
+
+    /**
+     * Export the contents of the supplied (non-grid) dataSet to a chunked columnar binary file with a footer index that
+     * allows to read only a given x-range and to decode the columns in parallel.
+     *
+     * @param dataSet The DataSet to export
+     * @param file Path of the file (will be overwritten)
+     * @param compressed {@code true}: deflate-compress the individual column blocks
+     * @return actual name of the file that was written or {@code null} in case of errors
+     * @see ColumnarDataSetFile
+     */
+    public static String writeDataSetToColumnarFile(final DataSet dataSet, final Path file, final boolean compressed) {
+        AssertUtils.notNull("dataSet", dataSet);
+        AssertUtils.notNull("file", file);
+        try {
+            final File parent = file.toAbsolutePath().getParent().toFile();
+            if (parent.mkdirs()) {
+                LOGGER.atInfo().addArgument(file).log("needed to create directory for file: {}");
+            }
+            ColumnarDataSetFile.write(dataSet, file, compressed ? ColumnarDataSetFile.ChunkCompression.DEFLATE : ColumnarDataSetFile.ChunkCompression.NONE);
+            LOGGER.atDebug().addArgument(dataSet.getName()).addArgument(file).log("write data set '{}' to {}");
+            return file.toAbsolutePath().toString();
+        } catch (final IOException e) {
+            LOGGER.atError().setCause(e).addArgument(file).log("could not write to file: '{}'");
             return null;
         }
     }
@@ -942,11 +1046,14 @@ public class DataSetUtils extends DataSetUtilsHelper {
             } else {
                 try {
                     // write some statistics for the human readable benefit when opening the file with standard text-based viewers
+                    // N.B. value arrays may be larger than the data count (e.g. spare capacity or pooled snapshot arrays)
+                    final double[] yValues = dataSet.getValues(DIM_Y);
+                    final int nSamples = Math.min(dataSet.getDataCount(), yValues.length);
                     buffer.append("#integral : ").append(integralSimple(dataSet)) //
                             .append("\n#mean : ")
-                            .append(mean(dataSet.getValues(DIM_Y))) //
+                            .append(mean(yValues, nSamples)) //
                             .append("\n#rms : ")
-                            .append(rootMeanSquare(dataSet.getValues(DIM_Y)))
+                            .append(rootMeanSquare(yValues, nSamples))
                             .append('\n');
                 } catch (final Exception e) {
                     LOGGER.atError().addArgument(dataSet.getName()).setCause(e).log("writeHeaderDataToFile - compute Math error for dataSet = '{}'");
@@ -83,13 +83,22 @@ public class DataSetUtilsHelper {
      * @param data the input vector
      * @return average of vector elements
      */
-    protected static synchronized double mean(final double[] data) {
-        if (data.length <= 0) {
+    protected static double mean(final double[] data) {
+        return mean(data, data.length);
+    }
+
+    /**
+     * @param data the input vector
+     * @param length number of elements to be taken into account (e.g. data count of a data set with spare capacity)
+     * @return average of vector elements
+     */
+    protected static synchronized double mean(final double[] data, final int length) {
+        if (length <= 0) {
             return Double.NaN;
         }
-        final double norm = 1.0 / (data.length);
+        final double norm = 1.0 / length;
         double val = 0.0;
-        for (int i = 0; i < data.length; i++) {
+        for (int i = 0; i < length; i++) {
             val += norm * data[i];
         }
         return val;
@@ -140,15 +149,24 @@ public class DataSetUtilsHelper {
      * @param data the input vector
      * @return un-biased r.m.s. of vector elements
      */
-    protected static synchronized double rootMeanSquare(final double[] data) {
-        if (data.length <= 0) {
+    protected static double rootMeanSquare(final double[] data) {
+        return rootMeanSquare(data, data.length);
+    }
+
+    /**
+     * @param data the input vector
+     * @param length number of elements to be taken into account (e.g. data count of a data set with spare capacity)
+     * @return un-biased r.m.s. of vector elements
+     */
+    protected static synchronized double rootMeanSquare(final double[] data, final int length) {
+        if (length <= 0) {
             return Double.NaN;
         }
 
-        final double norm = 1.0 / (data.length);
+        final double norm = 1.0 / length;
         double val1 = 0.0;
         double val2 = 0.0;
-        for (int i = 0; i < data.length; i++) {
+        for (int i = 0; i < length; i++) {
             val1 += data[i];
             val2 += data[i] * data[i];
         }
@@ -0,0 +1,190 @@
+package de.gsi.dataset.utils;
+
+import java.util.Arrays;
+
+/**
+ * Sliding-window minimum/maximum tracker based on two monotonic deques, providing O(1) amortised updates and O(1)
+ * queries for FIFO-type buffers (e.g. circular buffers) where the oldest samples are dropped first.
+ * <p>
+ * Each added sample is assigned a consecutive sequence number. Samples are removed from the window by calling
+ * {@link #removeBefore(long)} with the sequence number of the oldest sample that is still contained in the buffer.
+ * The minimum is tracked over the 'low' and the maximum over the 'high' values, which allows to include e.g.
+ * negative/positive errors. Non-finite values are ignored (consistent with {@link de.gsi.dataset.spi.DataRange}).
+ * <p>
+ * Basic usage for a circular buffer with the given capacity:
+ *
+ * <pre>
+ * {@code
+ *  final SlidingWindowMinMax range = new SlidingWindowMinMax(capacity);
+ *  buffer.put(value);
+ *  range.add(value);
+ *  range.removeBefore(range.getSequence() - capacity);
+ *  final double min = range.getMin();
+ * }
+ * </pre>
+ *
+ * @author rstein
+ */
+public class SlidingWindowMinMax {
+    private final Deque minDeque;
+    private final Deque maxDeque;
+    private long sequence;
+
+    /**
+     * @param initialCapacity initial deque capacity (N.B. deques are enlarged if necessary)
+     */
+    public SlidingWindowMinMax(final int initialCapacity) {
+        AssertUtils.gtThanZero("initialCapacity", initialCapacity);
+        minDeque = new Deque(initialCapacity);
+        maxDeque = new Deque(initialCapacity);
+    }
+
+    /**
+     * @param value new sample value
+     * @return sequence number assigned to the new sample
+     */
+    public long add(final double value) {
+        return add(value, value);
+    }
+
+    /**
+     * @param low new sample value to be used for the minimum (e.g. 'value - negative error')
+     * @param high new sample value to be used for the maximum (e.g. 'value + positive error')
+     * @return sequence number assigned to the new sample
+     */
+    public long add(final double low, final double high) {
+        final long index = sequence++;
+        if (Double.isFinite(low)) {
+            // drop samples that can never become the minimum again
+            while (!minDeque.isEmpty() && minDeque.lastValue() >= low) {
+                minDeque.removeLast();
+            }
+            minDeque.addLast(index, low);
+        }
+        if (Double.isFinite(high)) {
+            // drop samples that can never become the maximum again
+            while (!maxDeque.isEmpty() && maxDeque.lastValue() <= high) {
+                maxDeque.removeLast();
+            }
+            maxDeque.addLast(index, high);
+        }
+        return index;
+    }
+
+    /**
+     * removes all samples and resets the sequence counter
+     */
+    public void clear() {
+        minDeque.clear();
+        maxDeque.clear();
+        sequence = 0;
+    }
+
+    /**
+     * @return maximum of the samples within the window, or {@code NaN} if there are no finite samples
+     */
+    public double getMax() {
+        return maxDeque.isEmpty() ? Double.NaN : maxDeque.firstValue();
+    }
+
+    /**
+     * @return minimum of the samples within the window, or {@code NaN} if there are no finite samples
+     */
+    public double getMin() {
+        return minDeque.isEmpty() ? Double.NaN : minDeque.firstValue();
+    }
+
+    /**
+     * @return sequence number that will be assigned to the next sample (ie. total number of added samples)
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return {@code true} if the window contains no finite samples
+     */
+    public boolean isEmpty() {
+        return minDeque.isEmpty() && maxDeque.isEmpty();
+    }
+
+    /**
+     * removes all samples with a sequence number smaller than the given one from the window
+     *
+     * @param firstSequence sequence number of the oldest sample that remains within the window
+     */
+    public void removeBefore(final long firstSequence) {
+        while (!minDeque.isEmpty() && minDeque.firstIndex() < firstSequence) {
+            minDeque.removeFirst();
+        }
+        while (!maxDeque.isEmpty() && maxDeque.firstIndex() < firstSequence) {
+            maxDeque.removeFirst();
+        }
+    }
+
+    /**
+     * growable ring-buffer based deque of (sequence, value) pairs
+     */
+    private static class Deque {
+        private long[] indices;
+        private double[] values;
+        private int head;
+        private int size;
+
+        protected Deque(final int capacity) {
+            indices = new long[capacity];
+            values = new double[capacity];
+        }
+
+        protected void addLast(final long index, final double value) {
+            if (size == values.length) {
+                grow();
+            }
+            final int tail = (head + size) % values.length;
+            indices[tail] = index;
+            values[tail] = value;
+            size++;
+        }
+
+        protected void clear() {
+            head = 0;
+            size = 0;
+        }
+
+        protected long firstIndex() {
+            return indices[head];
+        }
+
+        protected double firstValue() {
+            return values[head];
+        }
+
+        protected boolean isEmpty() {
+            return size == 0;
+        }
+
+        protected double lastValue() {
+            return values[(head + size - 1) % values.length];
+        }
+
+        protected void removeFirst() {
+            head = (head + 1) % values.length;
+            size--;
+        }
+
+        protected void removeLast() {
+            size--;
+        }
+
+        private void grow() {
+            final int capacity = values.length;
+            final long[] newIndices = Arrays.copyOf(indices, 2 * capacity);
+            final double[] newValues = Arrays.copyOf(values, 2 * capacity);
+            // unwrap: move the wrapped-around part behind the old end
+            System.arraycopy(indices, 0, newIndices, capacity, head);
+            System.arraycopy(values, 0, newValues, capacity, head);
+            indices = newIndices;
+            values = newValues;
+        }
+    }
+}
@@ -16,6 +16,8 @@ import org.openjdk.jmh.infra.Blackhole;
  * - all same thread
  * - spawn new handlers in new threads
  * - all handlers have threads polling events
+ * - parallel: asynchronous coalescing dispatch via {@link EventDispatcher} (caller does not wait, repeated events are
+ * merged, N.B. the listeners thus must not use the benchmark thread's Blackhole), otherwise: all in the same thread
  * Measure throughput, latency
  * 
  * @author Alexander Krimm
@@ -28,6 +30,7 @@ public class EventBenchmark {
     private TestEventSource es1;
     private TestEventSource es2;
     private TestEventSource es3;
+    private final TestEventSource[] manySources = new TestEventSource[100];
 
     // private TestEventSource es1b;
     // private TestEventSource es2b;
@@ -39,11 +42,7 @@ public class EventBenchmark {
     public void initialize() {
         // 1on1r
         es1 = new TestEventSource();
-        es1.addListener(event -> {
-            Blackhole hole = (Blackhole) event.getPayLoad();
-            Blackhole.consumeCPU(100);
-            hole.consume(event);
-        });
+        es1.addListener(event -> Blackhole.consumeCPU(100));
         // // 1on1r, preallocated
         // es1b = new TestEventSource();
         // es1b.addListener(event -> {
@@ -56,12 +55,7 @@ public class EventBenchmark {
         es2 = new TestEventSource();
         final int nListeners = 10;
         for (int i = 0; i < nListeners; i++) {
-            final int index = i;
-            es2.addListener(event -> {
-                Blackhole hole = (Blackhole) event.getPayLoad();
-                Blackhole.consumeCPU(100);
-                hole.consume(index);
-            });
+            es2.addListener(event -> Blackhole.consumeCPU(100));
         }
         // // 1 to many, preallocated
         // es2b = new TestEventSource();
@@ -84,13 +78,18 @@ public class EventBenchmark {
                         es3.invokeListener(new UpdateEvent(es3, "test", val), parallel);
                     }
                 });
+        // many sources to one listener each
+        for (int i = 0; i < manySources.length; i++) {
+            manySources[i] = new TestEventSource();
+            manySources[i].addListener(event -> Blackhole.consumeCPU(100));
+        }
     }
 
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void oneToOne(Blackhole blackhole) {
-        es1.invokeListener(new UpdateEvent(es1, "test", blackhole), parallel);
+    public void oneToOne() {
+        es1.invokeListener(new UpdateEvent(es1, "test"), parallel);
     }
 
     // @Benchmark
@@ -104,8 +103,17 @@ public class EventBenchmark {
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void oneToMany(Blackhole blackhole) {
-        es2.invokeListener(new UpdateEvent(es2, "test", blackhole), parallel);
+    public void oneToMany() {
+        es2.invokeListener(new UpdateEvent(es2, "test"), parallel);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void manySources() {
+        for (final TestEventSource source : manySources) {
+            source.invokeListener(new UpdateEvent(source, "test"), parallel);
+        }
     }
 
     // @Benchmark
@@ -119,7 +127,7 @@ public class EventBenchmark {
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void recursive(Blackhole blackhole) {
+    public void recursive() {
         es3.invokeListener(new UpdateEvent(es3, "test", 0), parallel);
     }
 
@@ -0,0 +1,238 @@
+package de.gsi.dataset.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.gsi.dataset.spi.DoubleDataSet;
+import de.gsi.dataset.utils.CachedDaemonThreadFactory;
+
+/**
+ * Tests the asynchronous coalescing {@link EventDispatcher}
+ *
+ * @author rstein
+ */
+class EventDispatcherTests {
+    private static final long TIMEOUT_MILLIS = 5000;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void createExecutor() {
+        executor = Executors.newFixedThreadPool(4, CachedDaemonThreadFactory.getInstance());
+    }
+
+    @AfterEach
+    void shutdownExecutor() throws InterruptedException {
+        executor.shutdownNow();
+        assertTrue(executor.awaitTermination(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void basicTests() throws InterruptedException {
+        final EventDispatcher dispatcher = new EventDispatcher(executor);
+        assertThrows(IllegalArgumentException.class, () -> new EventDispatcher(null));
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.dispatch(null));
+
+        final TestEventSource evtSource = new TestEventSource();
+        final AtomicInteger updateCount = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            evtSource.addListener(evt -> updateCount.incrementAndGet());
+        }
+        evtSource.addListener(evt -> {
+            throw new IllegalStateException("listener exceptions must not affect other listeners");
+        });
+        final CountDownLatch lastListener = new CountDownLatch(1);
+        evtSource.addListener(evt -> lastListener.countDown());
+
+        dispatcher.dispatch(new UpdateEvent(evtSource, "test"));
+        assertTrue(lastListener.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertTrue(dispatcher.awaitIdle(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(3, updateCount.get());
+        assertEquals(1, dispatcher.getDispatchedCount());
+        assertEquals(1, dispatcher.getDeliveredCount());
+
+        // disabled auto-notification
+        evtSource.autoNotification().set(false);
+        dispatcher.dispatch(new UpdateEvent(evtSource, "test"));
+        assertTrue(dispatcher.awaitIdle(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(3, updateCount.get());
+        assertEquals(1, dispatcher.getDispatchedCount());
+    }
+
+    @Test
+    void coalescingTests() throws InterruptedException {
+        final EventDispatcher dispatcher = new EventDispatcher(executor);
+        final TestEventSource evtSource = new TestEventSource();
+        final CountDownLatch listenerBlocked = new CountDownLatch(1);
+        final CountDownLatch releaseListener = new CountDownLatch(1);
+        final List<UpdateEvent> received = Collections.synchronizedList(new ArrayList<>());
+        evtSource.addListener(evt -> {
+            received.add(evt);
+            listenerBlocked.countDown();
+            try {
+                assertTrue(releaseListener.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        dispatcher.dispatch(new UpdateEvent(evtSource, "first"));
+        assertTrue(listenerBlocked.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        // first event is in flight -> following events of the same type are merged
+        UpdateEvent last = null;
+        for (int i = 0; i < 10; i++) {
+            last = new UpdateEvent(evtSource, "update#" + i);
+            dispatcher.dispatch(last);
+        }
+        final UpdateEvent otherType = new AxisChangeEvent(evtSource, "axis", 0);
+        dispatcher.dispatch(otherType);
+        releaseListener.countDown();
+
+        assertTrue(dispatcher.awaitIdle(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(3, received.size(), "first, latest coalesced and other-type event");
+        assertEquals("first", received.get(0).getMessage());
+        assertTrue(received.contains(last));
+        assertTrue(received.contains(otherType));
+        assertEquals(12, dispatcher.getDispatchedCount());
+        assertEquals(9, dispatcher.getCoalescedCount());
+        assertEquals(3, dispatcher.getDeliveredCount());
+    }
+
+    @Test
+    void appendedDataEventTests() throws InterruptedException {
+        final EventDispatcher dispatcher = new EventDispatcher(executor);
+        final TestEventSource evtSource = new TestEventSource();
+        final CountDownLatch listenerBlocked = new CountDownLatch(1);
+        final CountDownLatch releaseListener = new CountDownLatch(1);
+        final List<UpdateEvent> received = Collections.synchronizedList(new ArrayList<>());
+        evtSource.addListener(evt -> {
+            received.add(evt);
+            listenerBlocked.countDown();
+            try {
+                assertTrue(releaseListener.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        dispatcher.dispatch(new AppendedDataEvent(evtSource, 0, 10));
+        assertTrue(listenerBlocked.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        // adjacent ranges are merged, non-adjacent ranges are kept
+        dispatcher.dispatch(new AppendedDataEvent(evtSource, 10, 5));
+        dispatcher.dispatch(new AppendedDataEvent(evtSource, 15, 5));
+        dispatcher.dispatch(new AppendedDataEvent(evtSource, 100, 3));
+        releaseListener.countDown();
+
+        assertTrue(dispatcher.awaitIdle(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(3, received.size());
+        final AppendedDataEvent merged = (AppendedDataEvent) received.get(1);
+        assertSame(evtSource, merged.getSource());
+        assertEquals(10, merged.getFromSequence());
+        assertEquals(20, merged.getToSequence());
+        final AppendedDataEvent separate = (AppendedDataEvent) received.get(2);
+        assertEquals(100, separate.getFromSequence());
+        assertEquals(3, separate.getCount());
+        assertEquals(1, dispatcher.getCoalescedCount());
+    }
+
+    @Test
+    void axisChangeEventTests() {
+        final TestEventSource evtSource = new TestEventSource();
+        final AxisChangeEvent xChange = new AxisChangeEvent(evtSource, "x", 0);
+        final AxisChangeEvent xChange2 = new AxisChangeEvent(evtSource, "x", 0);
+        final AxisChangeEvent yChange = new AxisChangeEvent(evtSource, "y", 1);
+        assertSame(xChange2, EventDispatcher.coalesce(xChange, xChange2));
+        assertNull(EventDispatcher.coalesce(xChange, yChange), "changes of different dimensions are kept");
+        assertNull(EventDispatcher.coalesce(xChange, new AxisRangeChangeEvent(evtSource, 0)), "different event types are kept");
+    }
+
+    @Test
+    void orderingTests() throws InterruptedException {
+        final EventDispatcher dispatcher = new EventDispatcher(executor);
+        final TestEventSource evtSource = new TestEventSource();
+        final AtomicInteger concurrentDeliveries = new AtomicInteger();
+        final AtomicInteger maxConcurrentDeliveries = new AtomicInteger();
+        final List<String> received = Collections.synchronizedList(new ArrayList<>());
+        evtSource.addListener(evt -> {
+            maxConcurrentDeliveries.accumulateAndGet(concurrentDeliveries.incrementAndGet(), Math::max);
+            received.add(evt.getMessage());
+            try {
+                Thread.sleep(1); // NOPMD -- give other workers the chance to overlap
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrentDeliveries.decrementAndGet();
+        });
+
+        // alternating event types of the same source must neither be reordered nor delivered concurrently
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final String message = "event#" + i;
+            expected.add(message);
+            dispatcher.dispatch(i % 2 == 0 ? new UpdatedDataEvent(evtSource, message) : new AddedDataEvent(evtSource, message));
+        }
+        assertTrue(dispatcher.awaitIdle(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(expected, received);
+        assertEquals(1, maxConcurrentDeliveries.get(), "per-source delivery is serialised");
+    }
+
+    @Test
+    void defaultExecutorTests() throws InterruptedException {
+        // saturate the pool of the synchronous parallel listener notification
+        final int nThreads = 2 * EventThreadHelper.getMaxThreads();
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch blocked = new CountDownLatch(nThreads);
+        for (int i = 0; i < nThreads; i++) {
+            EventThreadHelper.getExecutorService().execute(() -> {
+                blocked.countDown();
+                try {
+                    release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        try {
+            assertTrue(blocked.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            final TestEventSource evtSource = new TestEventSource();
+            final CountDownLatch delivered = new CountDownLatch(1);
+            evtSource.addListener(evt -> delivered.countDown());
+            EventDispatcher.getDefault().dispatch(new UpdateEvent(evtSource, "test"));
+            assertTrue(delivered.await(TIMEOUT_MILLIS / 2, TimeUnit.MILLISECONDS), "dispatcher must not depend on the saturated pool");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void dataSetTests() throws InterruptedException {
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<UpdateEvent> received = Collections.synchronizedList(new ArrayList<>());
+        dataSet.addListener(evt -> {
+            received.add(evt);
+            latch.countDown();
+        });
+        final UpdatedDataEvent event = new UpdatedDataEvent(dataSet, "async");
+        dataSet.invokeListener(event, true);
+        assertTrue(latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertTrue(EventDispatcher.getDefault().awaitIdle(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(1, received.size());
+        assertSame(event, received.get(0));
+    }
+}
@@ -1,5 +1,6 @@
 package de.gsi.dataset.event;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -7,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
@@ -22,9 +24,10 @@ import de.gsi.dataset.utils.AggregateException;
  */
 class EventSourceTests {
     private static final Logger LOGGER = LoggerFactory.getLogger(EventSourceTests.class);
+    private static final long TIMEOUT_MILLIS = 5000;
 
     @Test
-    void basicTests() {
+    void basicTests() throws InterruptedException {
         final TestEventSource evtSource = new TestEventSource();
         final AtomicInteger updateCount = new AtomicInteger();
         final Object payLoad = new Object();
@@ -60,13 +63,18 @@ class EventSourceTests {
         evtSource.invokeListener(updateEvent, false);
         assertEquals(6, updateCount.get(), "invokeListener()");
 
+        // asynchronous notification via the EventDispatcher
+        evtSource.invokeListener(updateEvent, true);
+        assertTrue(EventDispatcher.getDefault().awaitIdle(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(9, updateCount.get(), "invokeListener(.., true)");
+
         // check autonotification
         assertTrue(evtSource.isAutoNotification(), "initial autonotification()");
         evtSource.autoNotification.set(false);
         assertFalse(evtSource.isAutoNotification(), "false autonotification()");
         evtSource.invokeListener(updateEvent, false);
         // N.B. notification count should not increase
-        assertEquals(6, updateCount.get(), "invokeListener()");
+        assertEquals(9, updateCount.get(), "invokeListener()");
         evtSource.autoNotification.set(true);
 
         // clear event listener and add exception throwing listener
@@ -77,12 +85,9 @@ class EventSourceTests {
         evtSource.addListener(evt -> exceptionThrowingFunctionA());
         evtSource.addListener(evt -> exceptionThrowingFunctionB());
         assertThrows(AggregateException.class, evtSource::invokeListener);
-        try {
-            // check exception handling for parallel execution
-            evtSource.invokeListener(updateEvent, true);
-        } catch (AggregateException e) {
-            assertEquals(3, e.getThrowableList().size());
-        }
+        // asynchronous execution: exceptions are logged and not forwarded to the caller
+        assertDoesNotThrow(() -> evtSource.invokeListener(updateEvent, true));
+        assertTrue(EventDispatcher.getDefault().awaitIdle(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
 
         try {
             // check exception handling for non-parallel execution
@@ -76,4 +76,49 @@ public class CircularDoubleErrorDataSetTests {
         assertThrows(UnsupportedOperationException.class, () -> dataSet.addDataLabel(0, "addedLabel"));
         assertThrows(UnsupportedOperationException.class, () -> dataSet.addDataStyle(0, "color:green"));
     }
+
+    @Test
+    public void limitTests() {
+        final int capacity = 5;
+        CircularDoubleErrorDataSet dataSet = new CircularDoubleErrorDataSet("test", capacity);
+        for (int i = 0; i < 3 * capacity; i++) {
+            // rising and falling sections to check the sliding window limits
+            final double y = i < 2 * capacity ? i : 3 * capacity - i;
+            dataSet.add(i, y, 0.5, 1.0);
+
+            final int first = Math.max(0, i - capacity + 1);
+            double yMin = Double.MAX_VALUE;
+            double yMax = -Double.MAX_VALUE;
+            for (int j = first; j <= i; j++) {
+                final double yj = j < 2 * capacity ? j : 3 * capacity - j;
+                yMin = Math.min(yMin, yj - 0.5);
+                yMax = Math.max(yMax, yj + 1.0);
+            }
+            assertEquals(first, dataSet.getAxisDescription(DIM_X).getMin(), "x-min @" + i);
+            assertEquals(i, dataSet.getAxisDescription(DIM_X).getMax(), "x-max @" + i);
+            assertEquals(yMin, dataSet.getAxisDescription(DIM_Y).getMin(), "y-min @" + i);
+            assertEquals(yMax, dataSet.getAxisDescription(DIM_Y).getMax(), "y-max @" + i);
+        }
+
+        dataSet.add(new double[] { 100, 101, 102, 103, 104, 105 }, new double[] { 6, 5, 4, 3, 2, 1 }, new double[6], new double[6]);
+        assertEquals(101, dataSet.getAxisDescription(DIM_X).getMin());
+        assertEquals(105, dataSet.getAxisDescription(DIM_X).getMax());
+        assertEquals(1, dataSet.getAxisDescription(DIM_Y).getMin());
+        assertEquals(5, dataSet.getAxisDescription(DIM_Y).getMax());
+
+        // trackers are transient -> re-initialised from the buffer content (e.g. after de-serialisation)
+        dataSet.xLimits = null;
+        dataSet.yLimits = null;
+        dataSet.add(106, 0, 0.0, 0.0);
+        assertEquals(102, dataSet.getAxisDescription(DIM_X).getMin());
+        assertEquals(106, dataSet.getAxisDescription(DIM_X).getMax());
+        assertEquals(0, dataSet.getAxisDescription(DIM_Y).getMin());
+        assertEquals(4, dataSet.getAxisDescription(DIM_Y).getMax());
+
+        dataSet.reset();
+        assertEquals(false, dataSet.getAxisDescription(DIM_X).isDefined());
+        dataSet.add(-1.0, -2.0, 0.0, 0.0);
+        assertEquals(-1.0, dataSet.getAxisDescription(DIM_X).getMin());
+        assertEquals(-2.0, dataSet.getAxisDescription(DIM_Y).getMax());
+    }
 }
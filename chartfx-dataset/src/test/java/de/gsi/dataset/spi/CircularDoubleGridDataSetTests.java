@@ -0,0 +1,163 @@
+package de.gsi.dataset.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+import static de.gsi.dataset.DataSet.DIM_Z;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.dataset.event.AppendedDataEvent;
+import de.gsi.dataset.event.UpdateEvent;
+
+/**
+ * Tests for the CircularDoubleGridDataSet
+ *
+ * @author rstein
+ */
+class CircularDoubleGridDataSetTests {
+    @Test
+    public void testConstructors() {
+        assertThrows(IllegalArgumentException.class, () -> new CircularDoubleGridDataSet("test", 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> new CircularDoubleGridDataSet("test", 3, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CircularDoubleGridDataSet("test", null, 3));
+
+        final CircularDoubleGridDataSet dataSet = new CircularDoubleGridDataSet("test", new double[] { 1, 2, 4 }, 5);
+        assertEquals("test", dataSet.getName());
+        assertEquals(3, dataSet.getDimension());
+        assertEquals(2, dataSet.getNGrid());
+        assertEquals(5, dataSet.getMaxRowCount());
+        assertArrayEquals(new int[] { 3, 0 }, dataSet.getShape());
+        assertEquals(0, dataSet.getDataCount());
+        assertEquals(0, dataSet.getRowSequence());
+        assertArrayEquals(new double[] { 1, 2, 4 }, dataSet.getGridValues(DIM_X));
+        assertArrayEquals(new double[0], dataSet.getGridValues(DIM_Y));
+        assertEquals(1.0, dataSet.getAxisDescription(DIM_X).getMin());
+        assertEquals(4.0, dataSet.getAxisDescription(DIM_X).getMax());
+        assertThrows(IndexOutOfBoundsException.class, () -> dataSet.getGrid(DIM_Z, 0));
+        assertThrows(UnsupportedOperationException.class, () -> dataSet.set(new DoubleGridDataSet("other", 3)));
+    }
+
+    @Test
+    public void testAppendRows() {
+        final int nX = 4;
+        final int nRowsMax = 3;
+        final CircularDoubleGridDataSet dataSet = new CircularDoubleGridDataSet("test", nX, nRowsMax);
+        final List<UpdateEvent> events = new ArrayList<>();
+        dataSet.addListener(events::add);
+        dataSet.autoNotification().set(true);
+
+        assertThrows(IllegalArgumentException.class, () -> dataSet.appendRow(0.0, new double[nX + 1]));
+        assertThrows(IllegalArgumentException.class, () -> dataSet.appendRow(0.0, null));
+
+        for (int row = 0; row < 7; row++) {
+            dataSet.appendRow(10.0 * row, getRow(nX, row));
+            final int nRows = Math.min(row + 1, nRowsMax);
+            final int oldest = row + 1 - nRows;
+
+            assertEquals(row + 1, dataSet.getRowSequence());
+            assertArrayEquals(new int[] { nX, nRows }, dataSet.getShape());
+            assertEquals(nX * nRows, dataSet.getDataCount());
+            for (int yIndex = 0; yIndex < nRows; yIndex++) {
+                assertEquals(10.0 * (oldest + yIndex), dataSet.getGrid(DIM_Y, yIndex));
+                for (int xIndex = 0; xIndex < nX; xIndex++) {
+                    final double expected = getRow(nX, oldest + yIndex)[xIndex];
+                    assertEquals(expected, dataSet.getZ(xIndex, yIndex), "row " + row + " (" + xIndex + ", " + yIndex + ")");
+                    assertEquals(expected, dataSet.get(DIM_Z, xIndex + nX * yIndex));
+                    assertEquals(xIndex, dataSet.get(DIM_X, xIndex + nX * yIndex));
+                    assertEquals(10.0 * (oldest + yIndex), dataSet.get(DIM_Y, xIndex + nX * yIndex));
+                }
+            }
+            assertEquals(nRows - 1, dataSet.getGridIndex(DIM_Y, 10.0 * row));
+            assertEquals(10.0 * oldest, dataSet.getAxisDescription(DIM_Y).getMin());
+            assertEquals(10.0 * row, dataSet.getAxisDescription(DIM_Y).getMax());
+
+            assertEquals(1, events.size());
+            final AppendedDataEvent event = (AppendedDataEvent) events.get(0);
+            assertEquals(row, event.getFromSequence());
+            assertEquals(1, event.getCount());
+            events.clear();
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> dataSet.getZ(nX, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> dataSet.getZ(0, nRowsMax));
+        assertThrows(IndexOutOfBoundsException.class, () -> dataSet.getGrid(DIM_Y, nRowsMax));
+        assertThrows(IndexOutOfBoundsException.class, () -> dataSet.get(3, 0));
+
+        dataSet.reset();
+        assertEquals(7, dataSet.getRowSequence());
+        assertEquals(0, dataSet.getDataCount());
+        assertArrayEquals(new int[] { nX, 0 }, dataSet.getShape());
+        assertEquals(1, events.size());
+
+        dataSet.appendRow(70.0, getRow(nX, 7));
+        assertEquals(8, dataSet.getRowSequence());
+        assertArrayEquals(new int[] { nX, 1 }, dataSet.getShape());
+        assertEquals(700.0, dataSet.getZ(0, 0));
+        assertEquals(70.0, dataSet.getAxisDescription(DIM_Y).getMin());
+        assertEquals(70.0, dataSet.getAxisDescription(DIM_Y).getMax());
+        assertEquals(700.0, dataSet.getAxisDescription(DIM_Z).getMin());
+        assertEquals(703.0, dataSet.getAxisDescription(DIM_Z).getMax());
+    }
+
+    @Test
+    public void testLimits() {
+        final Random rnd = new Random(42);
+        final int nX = 16;
+        final int nRowsMax = 10;
+        final CircularDoubleGridDataSet dataSet = new CircularDoubleGridDataSet("test", nX, nRowsMax);
+        for (int row = 0; row < 100; row++) {
+            final double[] z = new double[nX];
+            for (int i = 0; i < nX; i++) {
+                z[i] = row % 13 == 0 && i % 2 == 0 ? Double.NaN : rnd.nextGaussian() * row;
+            }
+            dataSet.appendRow(row, z);
+
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (int yIndex = 0; yIndex < dataSet.getShape(DIM_Y); yIndex++) {
+                for (int xIndex = 0; xIndex < nX; xIndex++) {
+                    final double value = dataSet.getZ(xIndex, yIndex);
+                    if (Double.isFinite(value)) {
+                        min = Math.min(min, value);
+                        max = Math.max(max, value);
+                    }
+                }
+            }
+            assertEquals(min, dataSet.getAxisDescription(DIM_Z).getMin(), "row " + row);
+            assertEquals(max, dataSet.getAxisDescription(DIM_Z).getMax(), "row " + row);
+            assertTrue(dataSet.getAxisDescription(DIM_Z).isDefined());
+        }
+
+        // recompute needs to yield the same result as the incrementally maintained limits
+        final double zMin = dataSet.getAxisDescription(DIM_Z).getMin();
+        final double zMax = dataSet.getAxisDescription(DIM_Z).getMax();
+        dataSet.getAxisDescription(DIM_Z).clear();
+        dataSet.recomputeLimits(DIM_Z);
+        assertEquals(zMin, dataSet.getAxisDescription(DIM_Z).getMin());
+        assertEquals(zMax, dataSet.getAxisDescription(DIM_Z).getMax());
+        dataSet.getAxisDescription(DIM_Y).clear();
+        dataSet.recomputeLimits(DIM_Y);
+        assertEquals(90.0, dataSet.getAxisDescription(DIM_Y).getMin());
+        assertEquals(99.0, dataSet.getAxisDescription(DIM_Y).getMax());
+
+        dataSet.reset();
+        assertTrue(!dataSet.getAxisDescription(DIM_Z).isDefined());
+        assertTrue(!dataSet.getAxisDescription(DIM_Y).isDefined());
+    }
+
+    private static double[] getRow(final int nX, final int row) {
+        final double[] z = new double[nX];
+        for (int i = 0; i < nX; i++) {
+            z[i] = 100.0 * row + i;
+        }
+        return z;
+    }
+}
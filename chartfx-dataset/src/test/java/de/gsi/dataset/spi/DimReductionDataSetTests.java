@@ -299,7 +299,7 @@ public class DimReductionDataSetTests {
         GridDataSet testData = new DoubleGridDataSet("test", false, new double[][] { { 1, 2, 3 } }, new double[] { 6, 7, 8 });
 
         DimReductionDataSet sliceDataSetX = new DimReductionDataSet(testData, DIM_X, Option.SLICE);
-        testData.invokeListener(new UpdateEvent(testData, "testX"), true);
+        testData.invokeListener(new UpdateEvent(testData, "testX"), false);
         assertEquals("input data set not 3 dim grid data set", sliceDataSetX.getWarningList().get(0));
     }
 }
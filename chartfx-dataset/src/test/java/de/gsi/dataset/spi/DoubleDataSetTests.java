@@ -13,6 +13,9 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.gsi.dataset.event.AxisChangeEvent;
+import de.gsi.dataset.event.UpdatedDataEvent;
+
 /**
  * Checks for DoubleDataSet interfaces and constructors.
  * 
@@ -216,6 +219,57 @@ public class DoubleDataSetTests extends EditableDataSetTests {
         assertEquals(firstDataSet, thirdDataSet);
     }
 
+    @Test
+    public void modificationCountTests() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test", testCoordinate[0], testCoordinate[1], n, true);
+        long count = dataSet.getModificationCount();
+
+        dataSet.add(4.0, 8.0);
+        assertTrue(dataSet.getModificationCount() > count, "count after add");
+        count = dataSet.getModificationCount();
+
+        dataSet.set(0, 1.5, 3.0);
+        assertTrue(dataSet.getModificationCount() > count, "count after set");
+        count = dataSet.getModificationCount();
+
+        dataSet.remove(0, 1);
+        assertTrue(dataSet.getModificationCount() > count, "count after remove");
+        count = dataSet.getModificationCount();
+
+        dataSet.autoNotification().set(false);
+        dataSet.add(5.0, 10.0);
+        dataSet.autoNotification().set(true);
+        assertTrue(dataSet.getModificationCount() > count, "count after add w/o notification");
+        count = dataSet.getModificationCount();
+
+        dataSet.setStyle("strokeColor=red");
+        assertTrue(dataSet.getModificationCount() > count, "count after style change");
+        count = dataSet.getModificationCount();
+
+        // externally triggered updates force dependent data sets to be recomputed
+        dataSet.invokeListener(new UpdatedDataEvent(dataSet, "forced update"));
+        assertTrue(dataSet.getModificationCount() > count, "count after external update event");
+        count = dataSet.getModificationCount();
+
+        // axis changes do not modify the data
+        dataSet.invokeListener(new AxisChangeEvent(dataSet, "axis change", DIM_X));
+        dataSet.getAxisDescription(DIM_X).set("new name", "new unit");
+        dataSet.recomputeLimits(DIM_Y);
+        dataSet.getValues(DIM_X);
+        assertEquals(count, dataSet.getModificationCount(), "count after axis change and read access");
+
+        final TransposedDataSet transposed = TransposedDataSet.transpose(dataSet, false);
+        count = transposed.getModificationCount();
+        transposed.setTransposed(true);
+        assertTrue(transposed.getModificationCount() > count, "count after transposition");
+        count = transposed.getModificationCount();
+        dataSet.add(6.0, 12.0);
+        assertTrue(transposed.getModificationCount() > count, "count after source modification");
+        count = dataSet.getModificationCount();
+        transposed.invokeListener(new UpdatedDataEvent(transposed, "forced update"));
+        assertTrue(dataSet.getModificationCount() > count, "source count after external update event of the view");
+    }
+
     @Test
     public void getterTests() {
         final DoubleDataSet dataSet = new DoubleDataSet("test", testCoordinate[0], testCoordinate[1], n, true);
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.fail;
 import static de.gsi.dataset.DataSet.DIM_X;
 import static de.gsi.dataset.DataSet.DIM_Y;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 import de.gsi.dataset.DataSetError;
@@ -39,6 +41,13 @@ public class EditableDataSetTests {
         assertTrue(true, "reached the end w/o failures");
     }
 
+    @Test
+    public void testIncrementalLimits() {
+        checkIncrementalLimits(new DoubleDataSet("default"));
+        checkIncrementalLimits(new DoubleErrorDataSet("default"));
+        checkIncrementalLimits(new FloatDataSet("default"));
+    }
+
     public static void checkAddDataPointsToBack(final EditableDataSet dataSet, final int nCount) {
         final String dsType = dataSet.getClass().getSimpleName();
 
@@ -157,6 +166,40 @@ public class EditableDataSetTests {
                 "check '" + dsType + "' EditConstraints isEditable identities");
     }
 
+    public static void checkIncrementalLimits(final EditableDataSet dataSet) {
+        final String dsType = dataSet.getClass().getSimpleName();
+        final Random rnd = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            final int dataCount = dataSet.getDataCount();
+            final int operation = dataCount < 10 ? 0 : rnd.nextInt(3);
+            final double x = rnd.nextGaussian();
+            final double y = rnd.nextGaussian();
+            switch (operation) {
+            case 0:
+                dataSet.add(rnd.nextInt(dataCount + 1), x, y);
+                break;
+            case 1:
+                dataSet.set(rnd.nextInt(dataCount), x, y);
+                break;
+            case 2:
+            default:
+                dataSet.remove(rnd.nextInt(dataCount));
+                break;
+            }
+
+            for (int dim = 0; dim < dataSet.getDimension(); dim++) {
+                double min = Double.MAX_VALUE;
+                double max = -Double.MAX_VALUE;
+                for (int index = 0; index < dataSet.getDataCount(); index++) {
+                    min = Math.min(min, dataSet.get(dim, index));
+                    max = Math.max(max, dataSet.get(dim, index));
+                }
+                assertEquals(min, dataSet.getAxisDescription(dim).getMin(), dsType + " min - dim = " + dim + " operation #" + i);
+                assertEquals(max, dataSet.getAxisDescription(dim).getMax(), dsType + " max - dim = " + dim + " operation #" + i);
+            }
+        }
+    }
+
     public static void checkInsertDataPointsInFront(final EditableDataSet dataSet, final int nCount,
             final boolean withErrors) {
         final String dsType = dataSet.getClass().getSimpleName();
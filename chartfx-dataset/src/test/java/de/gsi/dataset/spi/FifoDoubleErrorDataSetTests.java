@@ -70,4 +70,39 @@ public class FifoDoubleErrorDataSetTests {
         testDataSet.expire(10.0001);
         assertEquals(0, testDataSet.getDataCount());
     }
+
+    @Test
+    public void testLimits() {
+        FifoDoubleErrorDataSet testDataSet = new FifoDoubleErrorDataSet("test data set", 4, 10.0);
+        testDataSet.add(new double[] { 1, 2, 3, 4 }, new double[] { 5, 1, 2, 3 }, new double[] { 0.5, 0.5, 0.5, 0.5 }, new double[] { 1, 1, 1, 1 });
+        assertEquals(1.0, testDataSet.getAxisDescription(DataSet.DIM_X).getMin());
+        assertEquals(4.0, testDataSet.getAxisDescription(DataSet.DIM_X).getMax());
+        assertEquals(0.5, testDataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+        assertEquals(6.0, testDataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        // queue limit drops the first (maximum) sample
+        testDataSet.add(5, 2, 0.5, 1.0);
+        assertEquals(4, testDataSet.getDataCount());
+        assertEquals(2.0, testDataSet.getAxisDescription(DataSet.DIM_X).getMin());
+        assertEquals(5.0, testDataSet.getAxisDescription(DataSet.DIM_X).getMax());
+        assertEquals(0.5, testDataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+        assertEquals(4.0, testDataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        // expiry drops samples by horizontal distance
+        testDataSet.add(14.5, 3, 0.5, 1.0);
+        assertEquals(2, testDataSet.getDataCount());
+        assertEquals(5.0, testDataSet.getAxisDescription(DataSet.DIM_X).getMin());
+        assertEquals(14.5, testDataSet.getAxisDescription(DataSet.DIM_X).getMax());
+        assertEquals(1.5, testDataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+        assertEquals(4.0, testDataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        // non-finite samples are dropped immediately
+        testDataSet.add(Double.NaN, 100, 0.5, 1.0);
+        assertEquals(2, testDataSet.getDataCount());
+        assertEquals(4.0, testDataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        testDataSet.reset();
+        assertEquals(false, testDataSet.getAxisDescription(DataSet.DIM_X).isDefined());
+        assertEquals(false, testDataSet.getAxisDescription(DataSet.DIM_Y).isDefined());
+    }
 }
@@ -0,0 +1,152 @@
+package de.gsi.dataset.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks for MappedDoubleDataSet interfaces, chunk handling and persistence
+ *
+ * @author rstein
+ */
+class MappedDoubleDataSetTests {
+    private static final int CHUNK_SIZE = 4;
+
+    @Test
+    void defaultTests(@TempDir final Path tmpDir) throws IOException {
+        final Path file = tmpDir.resolve("test.mmap");
+        try (MappedDoubleDataSet dataSet = new MappedDoubleDataSet("test", file, CHUNK_SIZE)) {
+            assertEquals("test", dataSet.getName());
+            assertEquals(2, dataSet.getDimension());
+            assertEquals(0, dataSet.getDataCount());
+            assertEquals(CHUNK_SIZE, dataSet.getChunkSize());
+            assertEquals(file, dataSet.getFile());
+
+            dataSet.add(1.0, 2.0);
+            assertEquals(1, dataSet.getDataCount());
+            assertEquals(CHUNK_SIZE, dataSet.getCapacity());
+
+            // crosses chunk boundaries
+            dataSet.add(new double[] { 2, 3, 4, 5, 6, 7, 8, 9, 10 }, new double[] { 4, 6, 8, 10, 12, 14, 16, 18, 20 });
+            assertEquals(10, dataSet.getDataCount());
+            assertEquals(3 * CHUNK_SIZE, dataSet.getCapacity());
+            assertArrayEquals(new double[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 }, dataSet.getValues(DIM_X));
+            assertEquals(20.0, dataSet.get(DIM_Y, 9));
+            assertEquals(1.0, dataSet.getAxisDescription(DIM_X).getMin());
+            assertEquals(20.0, dataSet.getAxisDescription(DIM_Y).getMax());
+
+            dataSet.add(0, -1.0, -2.0);
+            assertEquals(11, dataSet.getDataCount());
+            assertArrayEquals(new double[] { -1, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 }, dataSet.getValues(DIM_X));
+            assertEquals(-2.0, dataSet.get(DIM_Y, 0));
+            assertEquals(20.0, dataSet.get(DIM_Y, 10));
+
+            dataSet.remove(0);
+            dataSet.remove(2, 4);
+            assertArrayEquals(new double[] { 1, 2, 5, 6, 7, 8, 9, 10 }, dataSet.getValues(DIM_X));
+            assertArrayEquals(new double[] { 2, 4, 10, 12, 14, 16, 18, 20 }, dataSet.getValues(DIM_Y));
+
+            dataSet.set(1, 42.0, 43.0);
+            assertEquals(42.0, dataSet.get(DIM_X, 1));
+            assertEquals(43.0, dataSet.getAxisDescription(DIM_Y).getMax());
+
+            assertThrows(IllegalArgumentException.class, () -> dataSet.set(0, 1.0));
+            assertThrows(IndexOutOfBoundsException.class, () -> dataSet.remove(10));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new MappedDoubleDataSet("test", tmpDir.resolve("other"), 3));
+        final Path invalid = tmpDir.resolve("invalid");
+        Files.write(invalid, new byte[128]);
+        assertThrows(IOException.class, () -> new MappedDoubleDataSet("test", invalid));
+
+        // valid magic and version but corrupt chunk size
+        final Path corrupt = tmpDir.resolve("corrupt");
+        try (MappedDoubleDataSet dataSet = new MappedDoubleDataSet("test", corrupt, CHUNK_SIZE)) {
+            dataSet.add(1.0, 2.0);
+        }
+        final byte[] bytes = Files.readAllBytes(corrupt);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(16, 42);
+        Files.write(corrupt, bytes);
+        assertThrows(IOException.class, () -> new MappedDoubleDataSet("test", corrupt));
+    }
+
+    @Test
+    void storedLimitsTests(@TempDir final Path tmpDir) throws IOException {
+        final Path file = tmpDir.resolve("test.mmap");
+        try (MappedDoubleDataSet dataSet = new MappedDoubleDataSet("test", file, CHUNK_SIZE)) {
+            dataSet.add(new double[] { 1, 2, 3 }, new double[] { 4, 5, 6 });
+        }
+
+        // modify raw file data behind the data set's back: stored limits must be used w/o scanning the data
+        final byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putDouble(64, -100.0); // first x-coordinate
+        Files.write(file, bytes);
+        try (MappedDoubleDataSet dataSet = new MappedDoubleDataSet("reopened", file)) {
+            assertEquals(-100.0, dataSet.get(DIM_X, 0));
+            assertEquals(1.0, dataSet.getAxisDescription(DIM_X).getMin());
+            assertEquals(6.0, dataSet.getAxisDescription(DIM_Y).getMax());
+
+            // modification w/o flush: limits are recomputed lazily when re-opened
+            dataSet.add(10.0, 20.0);
+            try (MappedDoubleDataSet reopened = new MappedDoubleDataSet("reopened2", file)) {
+                assertEquals(-100.0, reopened.getAxisDescription(DIM_X).getMin());
+                assertEquals(20.0, reopened.getAxisDescription(DIM_Y).getMax());
+            }
+        }
+    }
+
+    @Test
+    void persistenceTests(@TempDir final Path tmpDir) throws IOException {
+        final Path file = tmpDir.resolve("test.mmap");
+        final DoubleDataSet source = new DoubleDataSet("source", new double[] { 1, 2, 3, 4, 5, 6 }, new double[] { 6, 5, 4, 3, 2, 1 }, 6, true);
+        try (MappedDoubleDataSet dataSet = new MappedDoubleDataSet("test", file, CHUNK_SIZE)) {
+            dataSet.set(source);
+            assertEquals("source", dataSet.getName());
+            dataSet.force();
+        }
+
+        // re-open existing file: chunk size and data are taken from the file
+        try (MappedDoubleDataSet dataSet = new MappedDoubleDataSet("reopened", file)) {
+            assertEquals(CHUNK_SIZE, dataSet.getChunkSize());
+            assertEquals(6, dataSet.getDataCount());
+            assertArrayEquals(new double[] { 1, 2, 3, 4, 5, 6 }, dataSet.getValues(DIM_X));
+            assertArrayEquals(new double[] { 6, 5, 4, 3, 2, 1 }, dataSet.getValues(DIM_Y));
+            assertEquals(1.0, dataSet.getAxisDescription(DIM_Y).getMin());
+            assertEquals(6.0, dataSet.getAxisDescription(DIM_Y).getMax());
+
+            // zero-copy view within a chunk
+            final DoubleBuffer view = dataSet.getValuesView(DIM_X, 0, 3);
+            assertEquals(3, view.remaining());
+            assertEquals(3.0, view.get(2));
+            assertTrue(view.isDirect());
+
+            // copy across chunk boundaries
+            final DoubleBuffer copy = dataSet.getValuesView(DIM_Y, 2, 4);
+            assertEquals(4, copy.remaining());
+            assertEquals(1.0, copy.get(3));
+
+            assertThrows(IndexOutOfBoundsException.class, () -> dataSet.getValuesView(DIM_X, 4, 3));
+
+            dataSet.clearData();
+            assertEquals(0, dataSet.getDataCount());
+        }
+
+        try (MappedDoubleDataSet dataSet = new MappedDoubleDataSet("reopened", file)) {
+            assertEquals(0, dataSet.getDataCount());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package de.gsi.dataset.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.dataset.event.AppendedDataEvent;
+
+/**
+ * Checks for RingBufferDataSet interfaces, sequence handling and snapshot consistency
+ *
+ * @author rstein
+ */
+class RingBufferDataSetTests {
+    @Test
+    void defaultTests() {
+        final RingBufferDataSet dataSet = new RingBufferDataSet("test", 5);
+        assertEquals("test", dataSet.getName());
+        assertEquals(2, dataSet.getDimension());
+        assertEquals(5, dataSet.getCapacity());
+        assertEquals(0, dataSet.getDataCount());
+        assertEquals(0, dataSet.getSequence());
+
+        dataSet.add(1.0, 2.0);
+        assertEquals(1, dataSet.getDataCount());
+        assertEquals(1.0, dataSet.get(DIM_X, 0));
+        assertEquals(2.0, dataSet.get(DIM_Y, 0));
+
+        dataSet.add(new double[] { 2.0, 3.0, 4.0 }, new double[] { 4.0, 6.0, 8.0 });
+        assertEquals(4, dataSet.getDataCount());
+        assertArrayEquals(new double[] { 1.0, 2.0, 3.0, 4.0 }, dataSet.getValues(DIM_X));
+        assertArrayEquals(new double[] { 2.0, 4.0, 6.0, 8.0 }, dataSet.getValues(DIM_Y));
+
+        // wrap-around
+        dataSet.add(new double[] { 5.0, 6.0, 7.0 }, new double[] { 10.0, 12.0, 14.0 });
+        assertEquals(5, dataSet.getDataCount());
+        assertEquals(7, dataSet.getSequence());
+        assertArrayEquals(new double[] { 3.0, 4.0, 5.0, 6.0, 7.0 }, dataSet.getValues(DIM_X));
+        assertArrayEquals(new double[] { 6.0, 8.0, 10.0, 12.0, 14.0 }, dataSet.getValues(DIM_Y));
+        assertEquals(3.0, dataSet.getAxisDescription(DIM_X).getMin());
+        assertEquals(14.0, dataSet.getAxisDescription(DIM_Y).getMax());
+
+        // more samples than capacity
+        dataSet.add(new double[] { 8, 9, 10, 11, 12, 13, 14 }, new double[7]);
+        assertEquals(14, dataSet.getSequence());
+        assertArrayEquals(new double[] { 10, 11, 12, 13, 14 }, dataSet.getValues(DIM_X));
+
+        dataSet.lock().readLockGuard(() -> {
+            assertEquals(5, dataSet.getDataCount());
+            assertEquals(9, dataSet.getSnapshotSequence());
+            assertEquals(10.0, dataSet.get(DIM_X, 0));
+        });
+
+        dataSet.reset();
+        assertEquals(0, dataSet.getDataCount());
+        assertEquals(14, dataSet.getSequence());
+        dataSet.add(42.0, 43.0);
+        assertArrayEquals(new double[] { 42.0 }, dataSet.getValues(DIM_X));
+
+        final RingBufferDataSet copy = new RingBufferDataSet("copy", 3);
+        copy.set(new DoubleDataSet("source", new double[] { 1, 2, 3, 4 }, new double[] { 5, 6, 7, 8 }, 4, true));
+        assertEquals("source", copy.getName());
+        assertArrayEquals(new double[] { 2, 3, 4 }, copy.getValues(DIM_X));
+        assertArrayEquals(new double[] { 6, 7, 8 }, copy.getValues(DIM_Y));
+
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferDataSet("test", 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> dataSet.add(new double[2], new double[2], 3));
+        assertThrows(UnsupportedOperationException.class, () -> dataSet.addDataLabel(0, "label"));
+        assertThrows(UnsupportedOperationException.class, () -> dataSet.addDataStyle(0, "color:red"));
+        assertThrows(UnsupportedOperationException.class, () -> dataSet.removeDataLabel(0));
+        assertThrows(UnsupportedOperationException.class, () -> dataSet.removeStyle(0));
+    }
+
+    @Test
+    void batchedNotificationTests() {
+        final RingBufferDataSet dataSet = new RingBufferDataSet("test", 100);
+        final List<AppendedDataEvent> events = new ArrayList<>();
+        dataSet.addListener(evt -> events.add((AppendedDataEvent) evt));
+
+        dataSet.add(0.0, 0.0);
+        assertEquals(1, events.size());
+        events.clear();
+
+        dataSet.setNotificationBatchSize(10);
+        assertEquals(10, dataSet.getNotificationBatchSize());
+        for (int i = 1; i < 25; i++) {
+            dataSet.add(i, i);
+        }
+        assertEquals(2, events.size());
+        assertEquals(1, events.get(0).getFromSequence());
+        assertEquals(10, events.get(0).getCount());
+        assertEquals(11, events.get(1).getFromSequence());
+        assertEquals(21, events.get(1).getToSequence());
+
+        dataSet.flush();
+        assertEquals(3, events.size());
+        assertEquals(21, events.get(2).getFromSequence());
+        assertEquals(4, events.get(2).getCount());
+
+        dataSet.flush(); // nothing pending
+        assertEquals(3, events.size());
+
+        assertThrows(IllegalArgumentException.class, () -> dataSet.setNotificationBatchSize(0));
+    }
+
+    @Test
+    void concurrentSnapshotTests() throws InterruptedException {
+        final int capacity = 1000;
+        final RingBufferDataSet dataSet = new RingBufferDataSet("test", capacity);
+        dataSet.setNotificationBatchSize(capacity);
+        final AtomicBoolean run = new AtomicBoolean(true);
+        final Thread writer = new Thread(() -> {
+            long counter = 0;
+            while (run.get()) {
+                dataSet.add(counter, -counter);
+                counter++;
+            }
+        });
+        writer.start();
+
+        for (int reads = 0; reads < 1000; reads++) {
+            dataSet.lock().readLockGuard(() -> {
+                final int count = dataSet.getDataCount();
+                assertTrue(count <= capacity);
+                final double[] xValues = dataSet.getValues(DIM_X);
+                final double[] yValues = dataSet.getValues(DIM_Y);
+                for (int i = 0; i < count; i++) {
+                    // snapshot must be contiguous in sequence and x/y pairs must belong to the same sample
+                    assertEquals(dataSet.getSnapshotSequence() + i, xValues[i]);
+                    assertEquals(0.0, xValues[i] + yValues[i]); // N.B. avoids -0.0 != 0.0 for the first sample
+                }
+            });
+        }
+        run.set(false);
+        writer.join();
+        assertDoesNotThrow(() -> dataSet.recomputeLimits(DIM_X));
+    }
+
+    @Test
+    void flushWaitsForReadersTests() throws InterruptedException {
+        final RingBufferDataSet dataSet = new RingBufferDataSet("test", 100);
+        dataSet.add(1.0, 2.0);
+        final CountDownLatch flushed = new CountDownLatch(1);
+        final Thread writer = new Thread(() -> {
+            dataSet.add(3.0, 4.0); // N.B. notification batch size '1' -> flush
+            flushed.countDown();
+        });
+
+        dataSet.lock().readLock();
+        try {
+            dataSet.recomputeLimits(DIM_X);
+            writer.start();
+            // the axis ranges must not be invalidated while readers hold the lock
+            assertFalse(flushed.await(200, TimeUnit.MILLISECONDS), "flush completed while the read lock is held");
+            assertEquals(1.0, dataSet.getAxisDescription(DIM_X).getMax());
+        } finally {
+            dataSet.lock().readUnLock();
+        }
+        assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        writer.join();
+        assertEquals(3.0, dataSet.recomputeLimits(DIM_X).getAxisDescription(DIM_X).getMax());
+    }
+}
@@ -0,0 +1,150 @@
+package de.gsi.dataset.utils;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Regression testing for @see ArrayPool
+ *
+ * @author rstein
+ */
+public class ArrayPoolTests {
+    @Test
+    public void testBasicFunction() {
+        final ArrayPool<double[]> pool = new ArrayPool<>("test", double[]::new, a -> a.length, Double.BYTES);
+
+        final double[] small = pool.acquire(3);
+        assertEquals(ArrayPool.MIN_POOLED_LENGTH, small.length, "minimum size class");
+        final double[] array = pool.acquire(1000);
+        assertEquals(1024, array.length, "power-of-two size class");
+        assertEquals(0, pool.getHits());
+        assertEquals(2, pool.getMisses());
+        assertEquals(2, pool.getOutstanding());
+
+        pool.release(array);
+        final double[] recycled = pool.acquire(1001);
+        assertSame(array, recycled, "recycled from thread-local tier");
+        pool.release(recycled);
+        assertSame(array, pool.acquire(600), "lower requests within the same size class are served");
+        pool.release(array);
+        assertNotSame(array, pool.acquire(1025), "next size class");
+        assertSame(array, pool.acquire(1024));
+
+        assertDoesNotThrow(() -> pool.release(null));
+        pool.release(new double[3]);
+        assertTrue(pool.getDrops() > 0, "not-poolable array");
+
+        // foreign arrays are accepted only if they match a size class
+        final long drops = pool.getDrops();
+        pool.release(new double[1500]);
+        assertEquals(drops + 1, pool.getDrops());
+        final double[] foreign = new double[1024];
+        pool.release(foreign);
+        assertSame(foreign, pool.acquire(1000));
+
+        assertThrows(IllegalArgumentException.class, () -> pool.acquire(-1));
+        assertThrows(IllegalArgumentException.class, () -> pool.setMaxRetainedBytes(-1));
+        assertNotNull(pool.toString());
+        assertEquals("test", pool.getName());
+        assertNotNull(ArrayPool.DOUBLE);
+        assertNotNull(ArrayPool.BYTE);
+    }
+
+    @Test
+    public void testLeakTracking() {
+        final ArrayPool<byte[]> pool = new ArrayPool<>("leaks", byte[]::new, a -> a.length, Byte.BYTES);
+        assertFalse(pool.isLeakTracking());
+        pool.setLeakTracking(true);
+        assertTrue(pool.isLeakTracking());
+
+        final byte[] released = pool.acquire(100);
+        final byte[] leaked = pool.acquire(100);
+        pool.release(released);
+        assertEquals(1, pool.getLeakTraces().size());
+        assertEquals(1, pool.getOutstanding());
+        assertNotNull(pool.getLeakTraces().get(0).getStackTrace());
+
+        pool.release(leaked);
+        assertEquals(0, pool.getLeakTraces().size());
+
+        pool.acquire(100);
+        pool.setLeakTracking(false);
+        assertEquals(0, pool.getLeakTraces().size());
+    }
+
+    @Test
+    public void testRetainedMemoryBound() {
+        final ArrayPool<byte[]> pool = new ArrayPool<>("bounded", byte[]::new, a -> a.length, Byte.BYTES);
+        final int length = 2 * ArrayPool.THREAD_LOCAL_MAX_BYTES; // exceeds thread-local tier
+        pool.setMaxRetainedBytes(3L * length);
+        assertEquals(3L * length, pool.getMaxRetainedBytes());
+
+        final List<byte[]> arrays = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            arrays.add(pool.acquire(length));
+        }
+        arrays.forEach(pool::release);
+        assertEquals(3L * length, pool.getRetainedBytes());
+        assertEquals(2, pool.getDrops());
+
+        assertEquals(length, pool.acquire(length).length);
+        assertEquals(2L * length, pool.getRetainedBytes());
+        assertEquals(1, pool.getHits());
+
+        pool.clear();
+        assertEquals(0, pool.getRetainedBytes());
+        final long misses = pool.getMisses();
+        pool.acquire(length);
+        assertEquals(misses + 1, pool.getMisses());
+        assertEquals(6L * length, pool.getAllocatedBytes());
+    }
+
+    @Test
+    public void testSharedAcrossThreads() throws Exception {
+        final ArrayPool<double[]> pool = new ArrayPool<>("shared", double[]::new, a -> a.length, Double.BYTES);
+        final int length = 100_000; // exceeds thread-local tier
+        final double[] array = pool.acquire(length);
+        pool.release(array);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Future<double[]> other = executor.submit(() -> pool.acquire(length));
+            assertSame(array, other.get(), "shared tier visible to other threads");
+
+            final List<Future<Boolean>> jobs = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                jobs.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        final double[] local = pool.acquire(length);
+                        local[0] = j;
+                        pool.release(local);
+                    }
+                    return Boolean.TRUE;
+                }));
+            }
+            for (final Future<Boolean> job : jobs) {
+                assertTrue(job.get());
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, pool.getOutstanding(), "only the array held by the first job");
+        assertTrue(pool.getHits() > pool.getMisses());
+    }
+}
@@ -0,0 +1,181 @@
+package de.gsi.dataset.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+import static de.gsi.dataset.DataSet.DIM_Z;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.DataSetError;
+import de.gsi.dataset.spi.DoubleDataSet;
+import de.gsi.dataset.spi.DoubleErrorDataSet;
+import de.gsi.dataset.spi.DoubleGridDataSet;
+import de.gsi.dataset.spi.MultiDimDoubleDataSet;
+import de.gsi.dataset.utils.ColumnarDataSetFile.ChunkCompression;
+
+/**
+ * Unit testing for {@link de.gsi.dataset.utils.ColumnarDataSetFile} implementation.
+ *
+ * @author rstein
+ */
+class ColumnarDataSetFileTests {
+    private static final int N_SAMPLES = 1000;
+    private static final int CHUNK_SIZE = 64;
+
+    @ParameterizedTest
+    @EnumSource(ChunkCompression.class)
+    void testErrorDataSetRoundTrip(final ChunkCompression compression, @TempDir final Path tmpDir) throws IOException {
+        final DoubleErrorDataSet dataSet = getErrorDataSet();
+        final Path file = tmpDir.resolve("errorDataSet.cfx");
+        ColumnarDataSetFile.write(dataSet, file, CHUNK_SIZE, compression);
+
+        final DataSet readBack = ColumnarDataSetFile.read(file);
+        assertTrue(readBack instanceof DoubleErrorDataSet);
+        assertEquals(dataSet.getName(), readBack.getName());
+        assertEquals(N_SAMPLES, readBack.getDataCount());
+        assertArrayEquals(dataSet.getValues(DIM_X), Arrays.copyOf(readBack.getValues(DIM_X), N_SAMPLES));
+        assertArrayEquals(dataSet.getValues(DIM_Y), Arrays.copyOf(readBack.getValues(DIM_Y), N_SAMPLES));
+        assertArrayEquals(dataSet.getErrorsNegative(DIM_Y), Arrays.copyOf(((DataSetError) readBack).getErrorsNegative(DIM_Y), N_SAMPLES));
+        assertArrayEquals(dataSet.getErrorsPositive(DIM_Y), Arrays.copyOf(((DataSetError) readBack).getErrorsPositive(DIM_Y), N_SAMPLES));
+        assertEquals("time", readBack.getAxisDescription(DIM_X).getName());
+        assertEquals("s", readBack.getAxisDescription(DIM_X).getUnit());
+        assertEquals("amplitude", readBack.getAxisDescription(DIM_Y).getName());
+        assertEquals("V", readBack.getAxisDescription(DIM_Y).getUnit());
+        assertEquals("value", ((DoubleErrorDataSet) readBack).getMetaInfo().get("key"));
+        assertEquals(dataSet.getMetaInfo().get("long \u00b5-key"), ((DoubleErrorDataSet) readBack).getMetaInfo().get("long \u00b5-key"), "long non-ASCII meta info");
+        assertEquals(dataSet.getInfoList(), ((DoubleErrorDataSet) readBack).getInfoList());
+        assertEquals(dataSet.getWarningList(), ((DoubleErrorDataSet) readBack).getWarningList());
+        assertEquals(dataSet.getErrorList(), ((DoubleErrorDataSet) readBack).getErrorList());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ChunkCompression.class)
+    void testParallelRead(final ChunkCompression compression, @TempDir final Path tmpDir) throws IOException {
+        final int nSamples = 70_000; // N.B. exceeds the parallel decoding limits of both compressions
+        final double[] x = new double[nSamples];
+        final double[] y = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            x[i] = i;
+            y[i] = Math.sin(0.001 * i);
+        }
+        final Path file = tmpDir.resolve("parallelDataSet.cfx");
+        ColumnarDataSetFile.write(new DoubleDataSet("parallel", x, y, nSamples, false), file, 4096, compression);
+
+        final DataSet readBack = ColumnarDataSetFile.read(file);
+        assertEquals(nSamples, readBack.getDataCount());
+        assertArrayEquals(x, Arrays.copyOf(readBack.getValues(DIM_X), nSamples));
+        assertArrayEquals(y, Arrays.copyOf(readBack.getValues(DIM_Y), nSamples));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ChunkCompression.class)
+    void testRangeRead(final ChunkCompression compression, @TempDir final Path tmpDir) throws IOException {
+        final DoubleErrorDataSet dataSet = getErrorDataSet();
+        final Path file = tmpDir.resolve("rangeDataSet.cfx");
+        ColumnarDataSetFile.write(dataSet, file, CHUNK_SIZE, compression);
+
+        final DataSet range = ColumnarDataSetFile.read(file, 100.0, 199.5);
+        assertEquals(100, range.getDataCount());
+        for (int i = 0; i < range.getDataCount(); i++) {
+            assertEquals(100.0 + i, range.get(DIM_X, i));
+            assertEquals(dataSet.get(DIM_Y, 100 + i), range.get(DIM_Y, i));
+            assertEquals(dataSet.getErrorPositive(DIM_Y, 100 + i), ((DataSetError) range).getErrorPositive(DIM_Y, i));
+        }
+
+        assertEquals(0, ColumnarDataSetFile.read(file, 2.0 * N_SAMPLES, 3.0 * N_SAMPLES).getDataCount());
+        assertEquals(1, ColumnarDataSetFile.read(file, N_SAMPLES - 1.0, N_SAMPLES - 1.0).getDataCount());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ChunkCompression.class)
+    void testOtherDataSetTypes(final ChunkCompression compression, @TempDir final Path tmpDir) throws IOException {
+        final double[] x = new double[N_SAMPLES];
+        final double[] y = new double[N_SAMPLES];
+        final double[] z = new double[N_SAMPLES];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            x[i] = i;
+            y[i] = Math.sin(0.1 * i);
+            z[i] = i % 7 == 0 ? Double.NaN : Math.cos(0.1 * i);
+        }
+
+        final Path file2D = tmpDir.resolve("dataSet2D.cfx");
+        ColumnarDataSetFile.write(new DoubleDataSet("2D", x, y, N_SAMPLES, true), file2D, CHUNK_SIZE, compression);
+        final DataSet readBack2D = ColumnarDataSetFile.read(file2D);
+        assertTrue(readBack2D instanceof DoubleDataSet);
+        assertArrayEquals(y, Arrays.copyOf(readBack2D.getValues(DIM_Y), N_SAMPLES));
+
+        final Path file3D = tmpDir.resolve("dataSet3D.cfx");
+        ColumnarDataSetFile.write(new MultiDimDoubleDataSet("3D", true, x, y, z), file3D, compression);
+        final DataSet readBack3D = ColumnarDataSetFile.read(file3D, 10.0, 19.0);
+        assertTrue(readBack3D instanceof MultiDimDoubleDataSet);
+        assertEquals(3, readBack3D.getDimension());
+        assertEquals(10, readBack3D.getDataCount());
+        assertArrayEquals(Arrays.copyOfRange(z, 10, 20), readBack3D.getValues(DIM_Z));
+
+        final Path emptyFile = tmpDir.resolve("empty.cfx");
+        ColumnarDataSetFile.write(new DoubleDataSet("empty"), emptyFile, compression);
+        assertEquals(0, ColumnarDataSetFile.read(emptyFile).getDataCount());
+    }
+
+    @Test
+    void testFailureCases(@TempDir final Path tmpDir) throws IOException {
+        final Path file = tmpDir.resolve("failure.cfx");
+        assertThrows(IllegalArgumentException.class, () -> ColumnarDataSetFile.write(null, file, ChunkCompression.NONE));
+        assertThrows(IllegalArgumentException.class, () -> ColumnarDataSetFile.write(new DoubleDataSet("test"), file, 0, ChunkCompression.NONE));
+        assertThrows(IllegalArgumentException.class, () -> ColumnarDataSetFile.write(new DoubleGridDataSet("grid", 3), file, ChunkCompression.NONE));
+        assertThrows(IllegalArgumentException.class, () -> ColumnarDataSetFile.read(null));
+
+        Files.write(file, "#no columnar file format, but a long enough comment".getBytes());
+        assertThrows(IOException.class, () -> ColumnarDataSetFile.read(file));
+        Files.write(file, new byte[4]);
+        assertThrows(IOException.class, () -> ColumnarDataSetFile.read(file));
+
+        // corrupt compression ordinal in the footer
+        ColumnarDataSetFile.write(new DoubleDataSet("test"), file, ChunkCompression.NONE);
+        final byte[] bytes = Files.readAllBytes(file);
+        final int footerOffset = (int) ByteBuffer.wrap(bytes, bytes.length - Long.BYTES - Integer.BYTES, Long.BYTES).getLong();
+        // N.B. footer: name (length-prefixed), nDims, nColumns, hasErrors, compression
+        final int compressionOffset = footerOffset + Integer.BYTES + "test".length() + 2 * Integer.BYTES + 1;
+        assertEquals(ChunkCompression.NONE.ordinal(), bytes[compressionOffset]);
+        bytes[compressionOffset] = (byte) ChunkCompression.values().length;
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> ColumnarDataSetFile.read(file));
+        bytes[compressionOffset] = -1;
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> ColumnarDataSetFile.read(file));
+    }
+
+    private static DoubleErrorDataSet getErrorDataSet() {
+        final DoubleErrorDataSet dataSet = new DoubleErrorDataSet("errorDataSet", N_SAMPLES);
+        for (int i = 0; i < N_SAMPLES; i++) {
+            dataSet.add(i, Math.sin(0.01 * i), 0.1 + 0.001 * i, 0.2 + 0.001 * i);
+        }
+        dataSet.getAxisDescription(DIM_X).set("time", "s");
+        dataSet.getAxisDescription(DIM_Y).set("amplitude", "V");
+        dataSet.getMetaInfo().put("key", "value");
+        final StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 30_000; i++) {
+            longValue.append("\u00b5\u20ac"); // N.B. exceeds the 64 kB limit of DataOutputStream#writeUTF
+        }
+        dataSet.getMetaInfo().put("long \u00b5-key", longValue.toString());
+        dataSet.getInfoList().add("info");
+        dataSet.getWarningList().add("warning");
+        dataSet.getErrorList().add("error");
+        return dataSet;
+    }
+}
@@ -0,0 +1,150 @@
+package de.gsi.dataset.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.CircularDoubleErrorDataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
+
+/**
+ * Checks for DataSetPyramid range queries, incremental updates and envelope generation
+ *
+ * @author rstein
+ */
+class DataSetPyramidTests {
+    private static final Random RANDOM = new Random(42);
+
+    @Test
+    void attachTests() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        assertNull(DataSetPyramid.getAttached(dataSet));
+        assertNull(DataSetPyramid.getAttached(null));
+
+        final DataSetPyramid pyramid = DataSetPyramid.attach(dataSet);
+        assertSame(dataSet, pyramid.getDataSet());
+        assertSame(pyramid, DataSetPyramid.getAttached(dataSet));
+        assertSame(pyramid, DataSetPyramid.attach(dataSet));
+        assertEquals(0, pyramid.getNumberOfLevels());
+        assertEquals(Double.NaN, pyramid.getMin(0, 0));
+
+        pyramid.detach();
+        assertNull(DataSetPyramid.getAttached(dataSet));
+        assertThrows(IllegalArgumentException.class, () -> new DataSetPyramid(null));
+    }
+
+    @Test
+    void growingDataSetTests() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        final DataSetPyramid pyramid = DataSetPyramid.attach(dataSet);
+        int count = 0;
+        for (int block = 0; block < 20; block++) {
+            final int nSamples = 1 + RANDOM.nextInt(100);
+            for (int i = 0; i < nSamples; i++) {
+                dataSet.add(count++, RANDOM.nextGaussian());
+            }
+            checkRandomRanges(pyramid, dataSet);
+        }
+        assertEquals(31 - Integer.numberOfLeadingZeros(count), pyramid.getNumberOfLevels());
+
+        // non-append modifications -> rebuild
+        dataSet.set(5, 5, 1000.0);
+        assertEquals(1000.0, pyramid.getMax(0, count));
+        dataSet.remove(3, 10);
+        checkRandomRanges(pyramid, dataSet);
+        dataSet.add(2, 2.5, -1000.0); // insertion
+        assertEquals(-1000.0, pyramid.getMin(0, dataSet.getDataCount()));
+        checkRandomRanges(pyramid, dataSet);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> pyramid.getMin(0, dataSet.getDataCount() + 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> pyramid.getMin(10, 5));
+    }
+
+    @Test
+    void rollingDataSetTests() {
+        final CircularDoubleErrorDataSet dataSet = new CircularDoubleErrorDataSet("test", 500);
+        final DataSetPyramid pyramid = DataSetPyramid.attach(dataSet);
+        int count = 0;
+        for (int block = 0; block < 50; block++) {
+            final int nSamples = 1 + RANDOM.nextInt(150);
+            for (int i = 0; i < nSamples; i++) {
+                dataSet.add(count++, RANDOM.nextGaussian(), 0.0, 0.0);
+            }
+            checkRandomRanges(pyramid, dataSet);
+        }
+        assertEquals(500, dataSet.getDataCount());
+        assertEquals(8, pyramid.getNumberOfLevels());
+    }
+
+    @Test
+    void envelopeTests() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        dataSet.setStyle("color:red");
+        final int nSamples = 100_000;
+        for (int i = 0; i < nSamples; i++) {
+            dataSet.add(i, i == 12_345 ? 100.0 : Math.sin(0.001 * i));
+        }
+        final DataSetPyramid pyramid = DataSetPyramid.attach(dataSet);
+
+        final int nBins = 1000;
+        final DataSet envelope = pyramid.getEnvelope(0, nSamples, nBins);
+        assertEquals("test", envelope.getName());
+        assertEquals("color:red", envelope.getStyle());
+        assertTrue(envelope.getDataCount() >= 2 * nBins, "data count = " + envelope.getDataCount());
+        assertTrue(envelope.getDataCount() <= 8 * nBins, "data count = " + envelope.getDataCount());
+        double max = Double.NEGATIVE_INFINITY;
+        double maxX = Double.NaN;
+        for (int i = 0; i < envelope.getDataCount(); i++) {
+            if (envelope.get(DIM_Y, i) > max) {
+                max = envelope.get(DIM_Y, i);
+                maxX = envelope.get(DIM_X, i);
+            }
+            if (i > 0) {
+                assertTrue(envelope.get(DIM_X, i) > envelope.get(DIM_X, i - 1));
+            }
+            // M4: all points are original samples
+            final int index = (int) envelope.get(DIM_X, i);
+            assertEquals(dataSet.get(DIM_Y, index), envelope.get(DIM_Y, i), "sample at x = " + index);
+        }
+        assertEquals(100.0, max, "peaks must be preserved");
+        assertEquals(12_345.0, maxX, "peaks must be kept at their original x-coordinate");
+
+        // unaligned sub-range
+        final DataSet subRange = pyramid.getEnvelope(1001, 2999, 10);
+        assertEquals(1001.0, subRange.get(DIM_X, 0));
+        assertEquals(2998.0, subRange.get(DIM_X, subRange.getDataCount() - 1));
+
+        // fewer samples than bins -> raw data
+        assertEquals(10, pyramid.getEnvelope(0, 10, 100).getDataCount());
+    }
+
+    private static void checkRandomRanges(final DataSetPyramid pyramid, final DataSet dataSet) {
+        final int dataCount = dataSet.getDataCount();
+        for (int test = 0; test < 20; test++) {
+            final int from = RANDOM.nextInt(dataCount);
+            final int to = from + 1 + RANDOM.nextInt(dataCount - from);
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            double sum = 0.0;
+            for (int i = from; i < to; i++) {
+                final double value = dataSet.get(DIM_Y, i);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                sum += value;
+            }
+            assertEquals(min, pyramid.getMin(from, to), "min for range [" + from + ", " + to + "[");
+            assertEquals(max, pyramid.getMax(from, to), "max for range [" + from + ", " + to + "[");
+            assertEquals(sum / (to - from), pyramid.getMean(from, to), 1e-9, "mean for range [" + from + ", " + to + "[");
+        }
+    }
+}
@@ -15,10 +15,16 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PushbackInputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -29,6 +35,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.DataSetError;
+import de.gsi.dataset.DataSetMetaData;
 import de.gsi.dataset.spi.DataSetBuilder;
 import de.gsi.dataset.spi.DefaultDataSet;
 import de.gsi.dataset.spi.DoubleErrorDataSet;
@@ -171,6 +178,85 @@ class DataSetUtilsTest {
         }
     }
 
+    @DisplayName("Asynchronously export DataSets to file")
+    @ParameterizedTest(name = "binary: {0}, filename: {1}")
+    @CsvSource({ "false, dataset{index}.csv", "true, dataset{index}.bin.gz" })
+    void writeDataSetToFileAsync(boolean binary, String filename, @TempDir Path tmpdir) throws IOException {
+        final DoubleErrorDataSet dataSet = new DoubleErrorDataSet("TestAsync", 100); // N.B. capacity > data count
+        for (int i = 0; i < 10; i++) {
+            dataSet.add(i, Math.sin(i), 0.1, 0.2);
+        }
+        dataSet.getAxisDescription(DIM_Y).set("Voltage", "V");
+        dataSet.getMetaInfo().put("test", "asdf");
+
+        final int nExports = 20;
+        final List<CompletableFuture<String>> futures = new ArrayList<>();
+        try (DataSetExportService service = new DataSetExportService(2, 4)) {
+            assertThrows(IllegalArgumentException.class, () -> service.writeDataSetToFile(dataSet, tmpdir, "", Compression.AUTO, binary));
+            for (int i = 0; i < nExports; i++) {
+                dataSet.getMetaInfo().put("index", Integer.toString(i));
+                futures.add(service.writeDataSetToFile(dataSet, tmpdir, filename, Compression.AUTO, binary));
+                assertTrue(service.getPendingCount() <= service.getMaxPending(), "back-pressure");
+            }
+            dataSet.set(0, 42.0, 42.0); // modifications after submission must not affect the export
+            for (int i = 0; i < nExports; i++) {
+                assertEquals(tmpdir.resolve(filename.replace("{index}", Integer.toString(i))).toAbsolutePath().toString(), futures.get(i).join());
+            }
+            assertEquals(nExports, service.getSubmittedCount());
+            assertEquals(nExports, service.getCompletedCount());
+            assertEquals(0, service.getFailedCount());
+            assertEquals(0, service.getPendingCount());
+            assertTrue(service.getBytesWritten() > 0);
+            assertTrue(service.getAverageThroughput() > 0);
+            assertTrue(service.getMaxLatency(TimeUnit.NANOSECONDS) >= service.getAverageLatency(TimeUnit.NANOSECONDS));
+        }
+
+        final DataSet dataSetRead = DataSetUtils.readDataSetFromFile(tmpdir.resolve(filename.replace("{index}", "7")).toString());
+        assertEquals(10, dataSetRead.getDataCount());
+        assertEquals(0.0, dataSetRead.get(DIM_X, 0), EPSILON);
+        assertEquals(Math.sin(3), dataSetRead.get(DIM_Y, 3), binary ? 1e-6 : EPSILON);
+        assertEquals(0.2, ((DataSetError) dataSetRead).getErrorPositive(DIM_Y, 3), binary ? 1e-6 : EPSILON);
+        assertEquals("Voltage", dataSetRead.getAxisDescription(DIM_Y).getName());
+        assertEquals("7", ((DataSetMetaData) dataSetRead).getMetaInfo().get("index"));
+
+        if (!binary) { // identical to synchronous export (N.B. up to the meta-info map iteration order)
+            dataSet.set(0, 0.0, 0.0);
+            dataSet.getMetaInfo().put("index", "sync");
+            final Path syncFile = Path.of(DataSetUtils.writeDataSetToFile(dataSet, tmpdir, filename));
+            final Path asyncFile = Path.of(DataSetUtils.writeDataSetToFileAsync(dataSet, tmpdir, "async.csv").join());
+            assertEquals(Files.readAllLines(syncFile).stream().sorted().collect(Collectors.toList()), Files.readAllLines(asyncFile).stream().sorted().collect(Collectors.toList()));
+        }
+    }
+
+    @DisplayName("Serialize and Deserialize DataSet into columnar file and back")
+    @ParameterizedTest(name = "compressed: {0}")
+    @CsvSource({ "false", "true" })
+    void readAndWriteColumnarFile(boolean compressed, @TempDir Path tmpdir) {
+        final DataSet dataSet = new DataSetBuilder() //
+                                        .setName("TestColumnar") //
+                                        .setValuesNoCopy(DIM_X, new double[] { 1.0, 2.0, 3.0, 4.0, 5.0 }) //
+                                        .setValuesNoCopy(DIM_Y, new double[] { 1.3, 3.7, 4.2, 2.3, 1.8 }) //
+                                        .setAxisName(DIM_Y, "Voltage")
+                                        .setAxisUnit(DIM_Y, "V") //
+                                        .setMetaInfoMap(Map.of("test", "asdf")) //
+                                        .build();
+        final Path file = tmpdir.resolve("sub").resolve("dataset.cfx");
+        assertEquals(file.toAbsolutePath().toString(), DataSetUtils.writeDataSetToColumnarFile(dataSet, file, compressed));
+
+        final DataSet dataSetRead = DataSetUtils.readDataSetFromColumnarFile(file);
+        assertEquals(dataSet.getName(), dataSetRead.getName());
+        assertEquals(dataSet.getDataCount(), dataSetRead.getDataCount());
+        assertArrayEquals(dataSet.getValues(DIM_Y), Arrays.copyOf(dataSetRead.getValues(DIM_Y), dataSet.getDataCount()));
+        assertEquals("Voltage", dataSetRead.getAxisDescription(DIM_Y).getName());
+        assertEquals("asdf", ((DataSetMetaData) dataSetRead).getMetaInfo().get("test"));
+
+        final DataSet rangeRead = DataSetUtils.readDataSetFromColumnarFile(file, 2.0, 3.0);
+        assertEquals(2, rangeRead.getDataCount());
+        assertEquals(3.7, rangeRead.get(DIM_Y, 0));
+
+        assertEquals(null, DataSetUtils.readDataSetFromColumnarFile(tmpdir.resolve("nonExisting.cfx")));
+    }
+
     @Test
     void testFailureCases() {
         assertThrows(IllegalArgumentException.class, () -> DataSetUtils.readDataSetFromByteArray(null));
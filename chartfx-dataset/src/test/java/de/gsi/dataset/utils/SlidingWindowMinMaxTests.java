@@ -0,0 +1,71 @@
+package de.gsi.dataset.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit testing for {@link de.gsi.dataset.utils.SlidingWindowMinMax} implementation.
+ *
+ * @author rstein
+ */
+public class SlidingWindowMinMaxTests {
+    @Test
+    public void basicTests() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowMinMax(0));
+
+        final SlidingWindowMinMax range = new SlidingWindowMinMax(2);
+        assertTrue(range.isEmpty());
+        assertEquals(Double.NaN, range.getMin());
+        assertEquals(Double.NaN, range.getMax());
+
+        assertEquals(0, range.add(3.0));
+        assertEquals(1, range.add(Double.NaN));
+        assertEquals(2, range.add(1.0, 5.0));
+        assertEquals(3, range.getSequence());
+        assertFalse(range.isEmpty());
+        assertEquals(1.0, range.getMin());
+        assertEquals(5.0, range.getMax());
+
+        range.removeBefore(3);
+        assertTrue(range.isEmpty());
+
+        range.add(Double.POSITIVE_INFINITY);
+        assertTrue(range.isEmpty());
+
+        range.clear();
+        assertEquals(0, range.getSequence());
+        assertTrue(range.isEmpty());
+    }
+
+    @Test
+    public void slidingWindowTests() {
+        final Random rnd = new Random(42);
+        final int nSamples = 1000;
+        final double[] values = new double[nSamples];
+        for (int windowLength : new int[] { 1, 3, 17, 100 }) {
+            // small initial capacity to cover the internal deque growth
+            final SlidingWindowMinMax range = new SlidingWindowMinMax(1);
+            for (int i = 0; i < nSamples; i++) {
+                // monotonic sections are the worst case for the deque length
+                values[i] = i < nSamples / 2 ? rnd.nextGaussian() : nSamples - i;
+                range.add(values[i]);
+                range.removeBefore(range.getSequence() - windowLength);
+
+                double min = Double.MAX_VALUE;
+                double max = -Double.MAX_VALUE;
+                for (int j = Math.max(0, i - windowLength + 1); j <= i; j++) {
+                    min = Math.min(min, values[j]);
+                    max = Math.max(max, values[j]);
+                }
+                assertEquals(min, range.getMin(), "min - window = " + windowLength + " index = " + i);
+                assertEquals(max, range.getMax(), "max - window = " + windowLength + " index = " + i);
+            }
+        }
+    }
+}
@@ -36,6 +36,7 @@ public class MathDataSet extends DoubleErrorDataSet {
     private final transient long minUpdatePeriod; // NOPMD
     private final transient UpdateStrategy updateStrategy; // NOPMD
     private final transient String transformName;
+    private transient long sourceModificationCount = -1; // sum of the sources' modification counts at the last update
 
     /**
      * @param transformName String defining the prefix of the name of the calculated DataSet
@@ -191,7 +192,14 @@ public class MathDataSet extends DoubleErrorDataSet {
         if (event == null || !isKnownEvent) {
             return;
         }
+        // N.B. read before recomputing so that concurrent source updates trigger a further recomputation
+        final long modificationCount = sourceDataSets.stream().mapToLong(DataSet::getModificationCount).sum();
+        if (event.getSource() != this && modificationCount == sourceModificationCount) {
+            // sources have not been modified since the last update (e.g. duplicate or rate-limited events)
+            return;
+        }
         this.lock().writeLockGuard(() -> {
+            sourceModificationCount = modificationCount;
             if (dataSetFunction != null) {
                 set(dataSetFunction.transform(sourceDataSets.get(0)));
             } else if (dataSetsFunction != null) {
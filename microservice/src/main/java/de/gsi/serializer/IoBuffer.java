@@ -1,5 +1,7 @@
 package de.gsi.serializer;
 
+import java.nio.ByteOrder;
+
 /**
  * Interface definition in line with the jdk Buffer abstract class. This definition is needed to allow for redirect or
  * different buffer implementations.
@@ -8,6 +10,11 @@ package de.gsi.serializer;
  */
 @SuppressWarnings("PMD.TooManyMethods") // NOPMD - these are short-hand convenience methods
 public interface IoBuffer extends IoBufferHeader {
+    /**
+     * @return byte order in which the primitives are encoded in this buffer
+     */
+    ByteOrder byteOrder();
+
     /**
      * @return underlying raw byte[] array buffer (if available)
      */
@@ -69,6 +76,27 @@ public interface IoBuffer extends IoBufferHeader {
 
     double[] getDoubleArray(final double[] dst, final int length);
 
+    /**
+     * Reads a strided double array whose elements are encoded in the given byte order, e.g. to read payloads of peers
+     * with a different endianness. N.B. the strided-array size prefix is always encoded in the buffer's own byte order.
+     *
+     * @param dst optional destination array (re-used if it matches the stored array size)
+     * @param length requested length, or negative to always allocate a new array
+     * @param byteOrder byte order of the stored elements
+     * @return the decoded array
+     */
+    default double[] getDoubleArray(final double[] dst, final int length, final ByteOrder byteOrder) {
+        if (byteOrder == byteOrder()) {
+            return getDoubleArray(dst, length);
+        }
+        final int arraySize = getInt(); // strided-array size
+        final double[] ret = dst == null || length < 0 || dst.length != arraySize ? new double[arraySize] : dst;
+        for (int i = 0; i < arraySize; i++) {
+            ret[i] = Double.longBitsToDouble(Long.reverseBytes(getLong()));
+        }
+        return ret;
+    }
+
     float getFloat(int position);
 
     float getFloat();
@@ -83,6 +111,44 @@ public interface IoBuffer extends IoBufferHeader {
 
     float[] getFloatArray(final float[] dst, final int length);
 
+    /**
+     * Reads a strided float array whose elements are encoded in the given byte order (see
+     * {@link #getDoubleArray(double[], int, ByteOrder)}).
+     *
+     * @param dst optional destination array (re-used if it matches the stored array size)
+     * @param length requested length, or negative to always allocate a new array
+     * @param byteOrder byte order of the stored elements
+     * @return the decoded array
+     */
+    default float[] getFloatArray(final float[] dst, final int length, final ByteOrder byteOrder) {
+        if (byteOrder == byteOrder()) {
+            return getFloatArray(dst, length);
+        }
+        final int arraySize = getInt(); // strided-array size
+        final float[] ret = dst == null || length < 0 || dst.length != arraySize ? new float[arraySize] : dst;
+        for (int i = 0; i < arraySize; i++) {
+            ret[i] = Float.intBitsToFloat(Integer.reverseBytes(getInt()));
+        }
+        return ret;
+    }
+
+    /**
+     * Reads a strided float array as written by {@link #putFloatArray(float[], int)} and widens it to doubles without
+     * an intermediate float[] copy.
+     *
+     * @param dst optional destination array (re-used if it matches the stored array size)
+     * @param length requested length, or negative to always allocate a new array
+     * @return the widened array
+     */
+    default double[] getFloatArrayAsDouble(final double[] dst, final int length) {
+        final int arraySize = getInt(); // strided-array size
+        final double[] ret = dst == null || length < 0 || dst.length != arraySize ? new double[arraySize] : dst;
+        for (int i = 0; i < arraySize; i++) {
+            ret[i] = getFloat();
+        }
+        return ret;
+    }
+
     int getInt(int position);
 
     int getInt();
@@ -163,6 +229,16 @@ public interface IoBuffer extends IoBufferHeader {
 
     void putByteArray(final byte[] src, final int n);
 
+    /**
+     * Bulk-copies raw bytes, i.e. without the strided-array size prefix written by {@link #putByteArray(byte[], int)},
+     * e.g. to write pre-encoded header sequences.
+     *
+     * @param src source array
+     * @param offset index of the first byte in {@code src} to be copied
+     * @param length number of bytes to be copied
+     */
+    void putRawBytes(final byte[] src, final int offset, final int length);
+
     void putChar(int position, char value);
 
     void putChar(char value);
@@ -175,12 +251,74 @@ public interface IoBuffer extends IoBufferHeader {
 
     void putDoubleArray(final double[] src, final int n);
 
+    /**
+     * Writes a strided double array with the elements encoded in the given byte order (see
+     * {@link #getDoubleArray(double[], int, ByteOrder)}).
+     *
+     * @param src source array
+     * @param n number of elements to be written, or negative for all
+     * @param byteOrder byte order of the written elements
+     */
+    default void putDoubleArray(final double[] src, final int n, final ByteOrder byteOrder) {
+        if (byteOrder == byteOrder()) {
+            putDoubleArray(src, n);
+            return;
+        }
+        final int srcSize = src == null ? 0 : src.length;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(Integer.BYTES + nElements * Double.BYTES);
+        putInt(nElements); // strided-array size
+        for (int i = 0; i < nElements; i++) {
+            putLong(Long.reverseBytes(Double.doubleToRawLongBits(src[i])));
+        }
+    }
+
+    /**
+     * Narrows the doubles and writes them as a strided float array, i.e. wire-compatible to
+     * {@link #putFloatArray(float[], int)} of the narrowed values, without an intermediate float[] copy.
+     *
+     * @param src source array
+     * @param offset index of the first element in {@code src} to be written
+     * @param n number of elements to be written, or negative for all remaining elements
+     */
+    default void putDoubleArrayAsFloat(final double[] src, final int offset, final int n) {
+        final int srcSize = src == null ? 0 : src.length - offset;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(Integer.BYTES + nElements * Float.BYTES);
+        putInt(nElements); // strided-array size
+        for (int i = 0; i < nElements; i++) {
+            putFloat((float) src[offset + i]);
+        }
+    }
+
     void putFloat(int position, float value);
 
     void putFloat(float value);
 
     void putFloatArray(final float[] src, final int n);
 
+    /**
+     * Writes a strided float array with the elements encoded in the given byte order (see
+     * {@link #getDoubleArray(double[], int, ByteOrder)}).
+     *
+     * @param src source array
+     * @param n number of elements to be written, or negative for all
+     * @param byteOrder byte order of the written elements
+     */
+    default void putFloatArray(final float[] src, final int n, final ByteOrder byteOrder) {
+        if (byteOrder == byteOrder()) {
+            putFloatArray(src, n);
+            return;
+        }
+        final int srcSize = src == null ? 0 : src.length;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(Integer.BYTES + nElements * Float.BYTES);
+        putInt(nElements); // strided-array size
+        for (int i = 0; i < nElements; i++) {
+            putInt(Integer.reverseBytes(Float.floatToRawIntBits(src[i])));
+        }
+    }
+
     void putInt(int position, int value);
 
     void putInt(int value);
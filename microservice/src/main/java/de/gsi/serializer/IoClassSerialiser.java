@@ -5,11 +5,13 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -18,10 +20,12 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.gsi.dataset.utils.ArrayPool;
 import de.gsi.dataset.utils.ByteArrayCache;
 import de.gsi.serializer.spi.BinarySerialiser;
 import de.gsi.serializer.spi.ClassFieldDescription;
 import de.gsi.serializer.spi.CmwLightSerialiser;
+import de.gsi.serializer.spi.DirectByteBuffer;
 import de.gsi.serializer.spi.JsonSerialiser;
 import de.gsi.serializer.spi.WireDataFieldDescription;
 import de.gsi.serializer.spi.iobuffer.FieldBoxedValueArrayHelper;
@@ -42,15 +46,21 @@ import de.gsi.serializer.utils.ClassUtils;
 public class IoClassSerialiser {
     private static final Logger LOGGER = LoggerFactory.getLogger(IoClassSerialiser.class);
     private static final Map<String, Constructor<Object>> CLASS_CONSTRUCTOR_MAP = new ConcurrentHashMap<>();
+    // writer (lambda) classes of the default primitive, String and array serialisers -- N.B. identified by class since the
+    // FieldSerialisers assigned to the (globally cached) ClassFieldDescriptions may stem from any IoClassSerialiser instance
+    private static final Set<Class<?>> DEFAULT_VALUE_WRITERS = ConcurrentHashMap.newKeySet();
     protected final List<IoSerialiser> ioSerialisers = new ArrayList<>();
     private final Map<Type, List<FieldSerialiser<?>>> classMap = new HashMap<>();
     private final Map<FieldSerialiserKey, FieldSerialiserValue> cachedFieldMatch = new HashMap<>();
+    private final Map<Class<?>, WriterPlan> cachedWriterPlans = new HashMap<>();
+    private final Map<Class<?>, WriterPlan> cachedCompiledPlans = new HashMap<>();
     protected IoSerialiser matchedIoSerialiser;
     protected IoBuffer dataBuffer;
     protected Consumer<FieldDescription> startMarkerFunction;
     protected Consumer<FieldDescription> endMarkerFunction;
     private boolean autoMatchSerialiser = true;
     private boolean useCustomJsonSerialiser = false;
+    private boolean useWriterPlan = true;
 
     /**
      * Initialises new IoBuffer-backed object serialiser
@@ -77,6 +87,8 @@ public class IoClassSerialiser {
         // register primitive and boxed data type handlers
         FieldPrimitiveValueHelper.register(this);
         FieldPrimitveValueArrayHelper.register(this);
+        // N.B. only fields written by these may be substituted by pre-encoded fields (see CmwLightSerialiser#setUseCompiledSchema)
+        knownClasses().values().forEach(list -> list.forEach(serialiser -> DEFAULT_VALUE_WRITERS.add(serialiser.getWriterFunction().getClass())));
         FieldBoxedValueHelper.register(this);
         FieldBoxedValueArrayHelper.register(this);
         FieldCollectionsHelper.register(this);
@@ -111,6 +123,9 @@ public class IoClassSerialiser {
                 list.add(serialiser);
             }
         }
+        // serialiser assignments of already compiled writer plans may have changed
+        cachedWriterPlans.clear();
+        cachedCompiledPlans.clear();
     }
 
     /**
@@ -212,20 +227,58 @@ public class IoClassSerialiser {
         return deserialiseObject(fieldRoot, obj);
     }
 
+    /**
+     * Deserialises only the selected fields into the given object, leaving all other fields untouched.
+     * <p>
+     * For the {@link BinarySerialiser} non-selected fields and sub-classes are skipped on the wire using their encoded
+     * data sizes (see {@link BinarySerialiser#parseIoStream(boolean, Collection)}), other wire-formats are fully
+     * parsed and the resulting field tree pruned. N.B. custom-serialised fields (e.g. DataSets) are always decoded as
+     * a whole when selected.
+     *
+     * @param obj the object to deserialise into
+     * @param fieldPaths the dot-separated field paths (e.g. {@code "inner.values"}) relative to the root object
+     * @return the deserialised object
+     */
+    public Object deserialiseObject(final Object obj, final Collection<String> fieldPaths) {
+        if (obj == null) {
+            throw new IllegalArgumentException("obj must not be null (yet)");
+        }
+        return deserialiseObject(parseWireFormat(fieldPaths), obj);
+    }
+
+    /**
+     * Returns the byte array backing the current {@link IoBuffer} to the shared {@link ArrayPool#BYTE} pool and detaches
+     * the buffer from this and the underlying serialisers. A new buffer needs to be set prior to the next
+     * (de-)serialisation, e.g. {@code setDataBuffer(FastByteBuffer.wrap(ArrayPool.BYTE.acquire(size)))}.
+     */
+    public void finaliseBuffer() {
+        finaliseBuffer(ArrayPool.BYTE::release);
+    }
+
+    /**
+     * @param arrayCache legacy cache the backing byte array is returned to ({@code null}: shared {@link ArrayPool#BYTE}
+     *            pool)
+     * @see #finaliseBuffer()
+     */
     public void finaliseBuffer(ByteArrayCache arrayCache) {
-        try {
-            if (arrayCache == null) {
-                ByteArrayCache.getInstance().add(dataBuffer.elements());
-            } else {
-                arrayCache.add(dataBuffer.elements());
-            }
-            // return buffer to cache
-            dataBuffer = null;
-            for (IoSerialiser serialiser : ioSerialisers) {
-                serialiser.setBuffer(null);
-            }
-        } catch (Exception e) {
-            // do nothing
+        if (arrayCache == null) {
+            finaliseBuffer();
+        } else {
+            finaliseBuffer(arrayCache::add);
+        }
+    }
+
+    private void finaliseBuffer(final Consumer<byte[]> recycler) {
+        if (dataBuffer == null) {
+            return; // already finalised
+        }
+        if (!(dataBuffer instanceof DirectByteBuffer)) {
+            // return buffer to cache, N.B. off-heap buffers have no backing array and are only detached
+            recycler.accept(dataBuffer.elements());
+        }
+        dataBuffer = null;
+        for (IoSerialiser serialiser : ioSerialisers) {
+            serialiser.setBuffer(null);
         }
     }
 
@@ -321,6 +374,13 @@ public class IoClassSerialiser {
         return useCustomJsonSerialiser;
     }
 
+    /**
+     * @return {@code true} if POJOs are serialised using the flat, once-per-class compiled writer plan rather than by recursively walking the {@link ClassFieldDescription} tree
+     */
+    public boolean isUseWriterPlan() {
+        return useWriterPlan;
+    }
+
     public Map<Type, List<FieldSerialiser<?>>> knownClasses() {
         return classMap;
     }
@@ -332,6 +392,25 @@ public class IoClassSerialiser {
         return matchedIoSerialiser.parseIoStream(true);
     }
 
+    /**
+     * @param fieldPaths the dot-separated field paths (e.g. {@code "inner.values"}) to retain
+     * @return field header tree containing only the selected fields and their enclosing (sub-)class markers
+     */
+    public WireDataFieldDescription parseWireFormat(final Collection<String> fieldPaths) {
+        autoUpdateSerialiser();
+        if (matchedIoSerialiser instanceof JsonSerialiser) {
+            throw new UnsupportedOperationException("field projection is not supported for " + JsonSerialiser.class.getSimpleName());
+        }
+        if (matchedIoSerialiser instanceof BinarySerialiser) {
+            return ((BinarySerialiser) matchedIoSerialiser).parseIoStream(true, fieldPaths);
+        }
+        final WireDataFieldDescription fieldRoot = matchedIoSerialiser.parseIoStream(true);
+        for (final FieldDescription classRoot : fieldRoot.getChildren()) {
+            pruneFieldTree(classRoot, "", fieldPaths);
+        }
+        return fieldRoot;
+    }
+
     public void serialiseObject(final Object rootObj, final ClassFieldDescription classField, final int recursionDepth) {
         final FieldSerialiser<?> existingSerialiser = classField.getFieldSerialiser();
         final FieldSerialiser fieldSerialiser = existingSerialiser == null ? cacheFindFieldSerialiser(classField.getType(), classField.getActualTypeArguments()) : existingSerialiser;
@@ -401,7 +480,13 @@ public class IoClassSerialiser {
 
         if (fieldSerialiser == null) {
             matchedIoSerialiser.putHeaderInfo(classField);
-            serialiseObject(obj, classField, 0);
+            if (useWriterPlan) {
+                final boolean compiled = matchedIoSerialiser instanceof CmwLightSerialiser && ((CmwLightSerialiser) matchedIoSerialiser).isUseCompiledSchema();
+                final Map<Class<?>, WriterPlan> writerPlans = compiled ? cachedCompiledPlans : cachedWriterPlans;
+                writerPlans.computeIfAbsent(obj.getClass(), key -> new WriterPlan(classField, compiled)).serialise(obj);
+            } else {
+                serialiseObject(obj, classField, 0);
+            }
             matchedIoSerialiser.putEndMarker(classField);
         } else {
             if (existingSerialiser == null) {
@@ -421,6 +506,7 @@ public class IoClassSerialiser {
 
     public void setDataBuffer(final IoBuffer dataBuffer) {
         this.dataBuffer = dataBuffer;
+        ioSerialisers.forEach(s -> s.setBuffer(dataBuffer));
     }
 
     public void setMatchedIoSerialiser(final Class<? extends IoSerialiser> serialiserTemplate) {
@@ -441,6 +527,14 @@ public class IoClassSerialiser {
         this.useCustomJsonSerialiser = useCustomJsonSerialiser;
     }
 
+    /**
+     * @param useWriterPlan {@code true}: serialise POJOs using a flat writer plan that is compiled once per class (default),
+     *        {@code false}: recursively walk the {@link ClassFieldDescription} tree (see {@link #serialiseObject(Object, ClassFieldDescription, int)})
+     */
+    public void setUseWriterPlan(final boolean useWriterPlan) {
+        this.useWriterPlan = useWriterPlan;
+    }
+
     protected boolean checkClassCompatibility(final List<Type> ref1, final List<Type> ref2) {
         if (ref1.size() != ref2.size()) {
             return false;
@@ -527,6 +621,23 @@ public class IoClassSerialiser {
         LOGGER.atTrace().addArgument(matchedIoSerialiser).log("setMatchedIoSerialiser to {}");
     }
 
+    private static void pruneFieldTree(final FieldDescription fieldRoot, final String prefix, final Collection<String> fieldPaths) {
+        fieldRoot.getChildren().removeIf(child -> {
+            if (child.getDataType() == DataType.END_MARKER) {
+                return false;
+            }
+            final String path = prefix + child.getFieldName();
+            if (fieldPaths.contains(path)) {
+                return false; // selected including all its sub-fields
+            }
+            if (fieldPaths.stream().noneMatch(p -> p.startsWith(path + '.'))) {
+                return true;
+            }
+            pruneFieldTree(child, path + '.', fieldPaths);
+            return false;
+        });
+    }
+
     public static int computeHashCode(final Class<?> classPrototype, List<Type> classGenericArguments) {
         final int prime = 31;
         int result = 1;
@@ -603,6 +714,148 @@ public class IoClassSerialiser {
         }
     }
 
+    /**
+     * flat, non-recursive equivalent of {@link #serialiseObject(Object, ClassFieldDescription, int)}.
+     * The {@link ClassFieldDescription} tree is resolved once per class into a linear sequence of write, enter (start marker)
+     * and exit (end marker) operations with their {@link FieldSerialiser}s already looked-up, so that serialising an object
+     * only iterates over flat arrays and keeps the current parent objects on a small explicit stack.
+     * <p>
+     * The compiled variant (only for the {@link CmwLightSerialiser}, see {@link CmwLightSerialiser#setUseCompiledSchema(boolean)})
+     * additionally pre-encodes the headers of the fields that would be written by the default primitive, String and array
+     * serialisers and accounts for their entries once per nested object rather than once per field. Fields with any
+     * other (e.g. user-defined) {@link FieldSerialiser} are written through the latter as in the non-compiled variant.
+     */
+    private class WriterPlan {
+        private static final byte OP_WRITE = 0;
+        private static final byte OP_ENTER = 1;
+        private static final byte OP_EXIT = 2;
+        private static final byte OP_WRITE_COMPILED = 3;
+        private final byte[] operations;
+        private final ClassFieldDescription[] fields;
+        private final FieldSerialiser<?>[] serialisers;
+        private final CmwLightSerialiser.FieldHeader[] headers; // for OP_WRITE_COMPILED: pre-encoded field header
+        private final int[] exitIndices; // for OP_ENTER: index of the matching OP_EXIT operation
+        private final boolean compiled;
+        private final int maxDepth;
+
+        private WriterPlan(final ClassFieldDescription rootField, final boolean compiled) {
+            this.compiled = compiled;
+            final List<Byte> operationList = new ArrayList<>();
+            final List<ClassFieldDescription> fieldList = new ArrayList<>();
+            final List<FieldSerialiser<?>> serialiserList = new ArrayList<>();
+            final List<Integer> exitIndexList = new ArrayList<>();
+            maxDepth = compile(rootField, 0, operationList, fieldList, serialiserList, exitIndexList);
+
+            final int nOperations = operationList.size();
+            operations = new byte[nOperations];
+            exitIndices = new int[nOperations];
+            headers = new CmwLightSerialiser.FieldHeader[nOperations];
+            for (int i = 0; i < nOperations; i++) {
+                operations[i] = operationList.get(i);
+                exitIndices[i] = exitIndexList.get(i);
+                if (operations[i] == OP_WRITE_COMPILED) {
+                    headers[i] = new CmwLightSerialiser.FieldHeader(fieldList.get(i));
+                }
+            }
+            fields = fieldList.toArray(new ClassFieldDescription[0]);
+            serialisers = serialiserList.toArray(new FieldSerialiser<?>[0]);
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private void serialise(final Object rootObj) {
+            final Object[] parents = new Object[maxDepth + 1];
+            final int[] compiledEntries = new int[maxDepth + 1]; // pre-encoded fields not yet accounted for per level
+            final CmwLightSerialiser cmwLightSerialiser = compiled ? (CmwLightSerialiser) matchedIoSerialiser : null;
+            parents[0] = rootObj;
+            int depth = 0;
+            for (int i = 0; i < operations.length; i++) {
+                final ClassFieldDescription field = fields[i];
+                switch (operations[i]) {
+                case OP_ENTER:
+                    final Object child = field.getField().get(parents[depth]);
+                    if (child == null) {
+                        // only follow and serialise non-null references of sub-classes
+                        i = exitIndices[i];
+                        break;
+                    }
+                    if (startMarkerFunction != null) {
+                        startMarkerFunction.accept(field);
+                    }
+                    parents[++depth] = child;
+                    compiledEntries[depth] = 0;
+                    break;
+                case OP_EXIT:
+                    if (cmwLightSerialiser != null) {
+                        cmwLightSerialiser.addDataEntryCount(compiledEntries[depth]);
+                    }
+                    if (endMarkerFunction != null) {
+                        endMarkerFunction.accept(field);
+                    }
+                    parents[depth--] = null;
+                    break;
+                case OP_WRITE_COMPILED:
+                    if (cmwLightSerialiser.putField(headers[i], field, parents[depth])) { // NOPMD - non-null for compiled plans
+                        compiledEntries[depth]++;
+                    }
+                    break;
+                case OP_WRITE:
+                default:
+                    final Object parent = parents[depth];
+                    if (!field.isPrimitive() && field.getField().get(parent) == null) {
+                        // only follow and serialise non-null references of sub-classes
+                        break;
+                    }
+                    final FieldSerialiser fieldSerialiser = serialisers[i];
+                    if (field.getDataType() == DataType.OTHER) {
+                        final WireDataFieldDescription header = matchedIoSerialiser.putFieldHeader(field.getFieldName(), field.getDataType());
+                        fieldSerialiser.getWriterFunction().accept(matchedIoSerialiser, parent, field);
+                        matchedIoSerialiser.updateDataEndMarker(header);
+                    } else {
+                        fieldSerialiser.getWriterFunction().accept(matchedIoSerialiser, parent, field);
+                    }
+                    break;
+                }
+            }
+            if (cmwLightSerialiser != null) {
+                cmwLightSerialiser.addDataEntryCount(compiledEntries[0]);
+            }
+        }
+
+        private int compile(final ClassFieldDescription classField, final int depth, final List<Byte> operationList, final List<ClassFieldDescription> fieldList, final List<FieldSerialiser<?>> serialiserList, final List<Integer> exitIndexList) {
+            int maxChildDepth = depth;
+            for (final FieldDescription fieldDescription : classField.getChildren()) {
+                final ClassFieldDescription field = (ClassFieldDescription) fieldDescription;
+                final FieldSerialiser<?> existingSerialiser = field.getFieldSerialiser();
+                final FieldSerialiser<?> fieldSerialiser = existingSerialiser == null ? cacheFindFieldSerialiser(field.getType(), field.getActualTypeArguments()) : existingSerialiser;
+                if (fieldSerialiser != null) {
+                    if (existingSerialiser == null) {
+                        field.setFieldSerialiser(fieldSerialiser);
+                    }
+                    final boolean preEncoded = compiled && DEFAULT_VALUE_WRITERS.contains(fieldSerialiser.getWriterFunction().getClass()) && CmwLightSerialiser.FieldHeader.isSupported(field);
+                    add(preEncoded ? OP_WRITE_COMPILED : OP_WRITE, field, fieldSerialiser, operationList, fieldList, serialiserList, exitIndexList);
+                    continue;
+                }
+                if (field.getChildren().isEmpty()) {
+                    // cannot serialise field and no further children
+                    continue;
+                }
+                final int enterIndex = operationList.size();
+                add(OP_ENTER, field, null, operationList, fieldList, serialiserList, exitIndexList);
+                maxChildDepth = Math.max(maxChildDepth, compile(field, depth + 1, operationList, fieldList, serialiserList, exitIndexList));
+                exitIndexList.set(enterIndex, operationList.size());
+                add(OP_EXIT, field, null, operationList, fieldList, serialiserList, exitIndexList);
+            }
+            return maxChildDepth;
+        }
+
+        private void add(final byte operation, final ClassFieldDescription field, final FieldSerialiser<?> fieldSerialiser, final List<Byte> operationList, final List<ClassFieldDescription> fieldList, final List<FieldSerialiser<?>> serialiserList, final List<Integer> exitIndexList) { // NOPMD - many arguments
+            operationList.add(operation);
+            fieldList.add(field);
+            serialiserList.add(fieldSerialiser);
+            exitIndexList.add(-1);
+        }
+    }
+
     private static class FieldSerialiserValue {
         private final FieldSerialiser<?> fieldSerialiser;
 
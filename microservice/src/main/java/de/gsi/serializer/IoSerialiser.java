@@ -97,6 +97,26 @@ public interface IoSerialiser {
 
     float[] getFloatArray(final float[] dst, final int length);
 
+    default double[] getFloatArrayAsDouble(final double[] dst) {
+        return getFloatArrayAsDouble(dst, dst == null ? -1 : dst.length);
+    }
+
+    /**
+     * Reads a FLOAT_ARRAY field and widens it to double precision.
+     *
+     * @param dst optional destination array (re-used if it matches the stored array size)
+     * @param length requested length, or negative to always allocate a new array
+     * @return the widened array
+     */
+    default double[] getFloatArrayAsDouble(final double[] dst, final int length) {
+        final float[] values = getFloatArray();
+        final double[] ret = dst == null || length < 0 || dst.length != values.length ? new double[values.length] : dst;
+        for (int i = 0; i < values.length; i++) {
+            ret[i] = values[i];
+        }
+        return ret;
+    }
+
     int getInt();
 
     default int[] getIntArray() {
@@ -329,6 +349,25 @@ public interface IoSerialiser {
 
     void put(String fieldName, float[] values, int[] dims);
 
+    /**
+     * Writes a FLOAT_ARRAY field from double-precision values, i.e. wire-compatible to
+     * {@link #put(String, float[], int)} of the narrowed values.
+     *
+     * @param fieldName field name
+     * @param values source array
+     * @param offset index of the first element in {@code values} to be written
+     * @param n number of elements to be written, or negative for all remaining elements
+     */
+    default void putDoubleArrayAsFloat(final String fieldName, final double[] values, final int offset, final int n) {
+        final int valuesSize = values == null ? 0 : values.length - offset;
+        final int nElements = n >= 0 ? Math.min(n, valuesSize) : valuesSize;
+        final float[] floats = new float[nElements];
+        for (int i = 0; i < nElements; i++) {
+            floats[i] = (float) values[offset + i]; // NOPMD NOSONAR -- null checked via nElements
+        }
+        put(fieldName, floats, nElements);
+    }
+
     void put(String fieldName, int value);
 
     void put(String fieldName, int[] values, int n);
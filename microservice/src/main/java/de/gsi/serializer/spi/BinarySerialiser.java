@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -122,6 +123,7 @@ public class BinarySerialiser implements IoSerialiser {
     public static final String VS_ARRAY = " vs. array = ";
     private static final Logger LOGGER = LoggerFactory.getLogger(BinarySerialiser.class);
     private static final int ADDITIONAL_HEADER_INFO_SIZE = 1000;
+    private static final int MIN_FIELD_HEADER_SIZE = 13; // 1 byte dataType + 3 x 4 bytes for hashCode, dataOffset, dataSize
     private static final DataType[] byteToDataType = new DataType[256];
     private static final Byte[] dataTypeToByte = new Byte[256];
     public static final String VS_SHOULD_BE = "' vs. should be '";
@@ -216,6 +218,16 @@ public class BinarySerialiser implements IoSerialiser {
         buffer.position(dataStartPosition);
     }
 
+    /**
+     * Wraps a primitive array field as a lazy view onto the underlying buffer, i.e. without copying/materialising the data.
+     *
+     * @param fieldDescription parsed field header (e.g. from {@link #parseIoStream(boolean, Collection)})
+     * @return view onto the encoded array data, valid as long as the buffer content is not modified
+     */
+    public PrimitiveArrayView getArrayView(final WireDataFieldDescription fieldDescription) {
+        return PrimitiveArrayView.wrap(buffer, fieldDescription);
+    }
+
     @Override
     public int[] getArraySizeDescriptor() {
         final int nDims = buffer.getInt(); // number of dimensions
@@ -484,6 +496,12 @@ public class BinarySerialiser implements IoSerialiser {
         return buffer.getFloatArray(dst, length);
     }
 
+    @Override
+    public double[] getFloatArrayAsDouble(final double[] dst, final int length) {
+        getArraySizeDescriptor();
+        return buffer.getFloatArrayAsDouble(dst, length);
+    }
+
     @Override
     public int getInt() {
         return buffer.getInt();
@@ -783,6 +801,33 @@ public class BinarySerialiser implements IoSerialiser {
         return fieldRoot;
     }
 
+    /**
+     * Parses the wire-format but retains only the fields selected by the given field paths (and the (sub-)class start
+     * markers leading to them). Non-selected fields and whole non-selected sub-classes are skipped using their encoded
+     * data sizes without decoding their headers or content.
+     * <p>
+     * Paths are dot-separated field names relative to the serialised root object (e.g. {@code "inner.values"}). A path
+     * pointing to a sub-class selects the whole sub-class. Paths may also descend into custom-serialised
+     * ({@link DataType#OTHER}) fields that encode their content as an anonymous nested sub-class, whose children are
+     * then addressed directly (e.g. {@code "dataSet.array1"} for a DataSet written by
+     * {@link de.gsi.serializer.spi.iobuffer.DataSetSerialiser}). Large primitive arrays of
+     * the resulting tree can be accessed without copying via {@link #getArrayView(WireDataFieldDescription)}.
+     *
+     * @param readHeader whether the protocol header should be parsed
+     * @param fieldPaths the dot-separated field paths to retain
+     * @return the (pruned) field header tree
+     */
+    public WireDataFieldDescription parseIoStream(final boolean readHeader, final Collection<String> fieldPaths) {
+        AssertUtils.notNull("fieldPaths", fieldPaths);
+        final FieldProjection projection = FieldProjection.compile(fieldPaths);
+        final WireDataFieldDescription fieldRoot = getRootElement();
+        parent = fieldRoot;
+        final WireDataFieldDescription headerRoot = readHeader ? checkHeaderInfo().getFieldHeader() : getFieldHeader();
+        buffer.position(headerRoot.getDataStartPosition());
+        parseIoStream(headerRoot, projection, 0);
+        return fieldRoot;
+    }
+
     public void parseIoStream(final WireDataFieldDescription fieldRoot, final int recursionDepth) {
         if (fieldRoot.getParent() == null) {
             parent = lastFieldHeader = fieldRoot;
@@ -810,6 +855,75 @@ public class BinarySerialiser implements IoSerialiser {
         }
     }
 
+    private void parseIoStream(final WireDataFieldDescription fieldRoot, final FieldProjection projection, final int recursionDepth) {
+        WireDataFieldDescription field;
+        while ((field = getFieldHeader()) != null) {
+            final DataType dataType = field.getDataType();
+            if (dataType == DataType.END_MARKER) {
+                // reached end of (sub-)class - close nested hierarchy
+                break;
+            }
+            final FieldProjection selection = projection.get(field.getFieldName());
+
+            if (dataType == DataType.START_MARKER) {
+                if (selection == null) {
+                    skipSubClass(fieldRoot, field, recursionDepth);
+                } else if (selection.isLeaf()) {
+                    parseIoStream(field, recursionDepth + 1);
+                } else {
+                    parseIoStream(field, selection, recursionDepth + 1);
+                }
+                continue;
+            }
+
+            final int dataSize = field.getDataSize();
+            if (dataSize < 0) {
+                throw new IllegalStateException("FieldDescription for '" + field.getFieldName() + "' type '" + dataType + "' has negative dataSize = " + dataSize);
+            }
+            if (selection == null) {
+                removeLastChild(fieldRoot, field);
+            } else if (dataType == DataType.OTHER && !selection.isLeaf()) {
+                parseCustomData(field, selection, recursionDepth + 1);
+                parent = fieldRoot;
+            }
+            buffer.position(field.getDataStartPosition() + dataSize);
+        }
+    }
+
+    private void parseCustomData(final WireDataFieldDescription field, final FieldProjection projection, final int recursionDepth) {
+        // N.B. custom field serialisers (e.g. DataSetSerialiser) may encode their content as an anonymous nested sub-class
+        final int nestedStart = field.getDataStartPosition();
+        if (field.getDataSize() < MIN_FIELD_HEADER_SIZE || getDataType(buffer.getByte(nestedStart)) != DataType.START_MARKER) {
+            return;
+        }
+        final int nestedDataOffset = buffer.getInt(nestedStart + 5); // 5 bytes = 1 byte for dataType, 4 bytes for fieldNameHashCode
+        final int nestedDataSize = buffer.getInt(nestedStart + 9); // 9 bytes = 4 bytes for dataOffset in addition
+        if (nestedDataOffset < MIN_FIELD_HEADER_SIZE || nestedDataSize < 0 || nestedDataOffset + nestedDataSize > field.getDataSize()) {
+            return; // opaque custom data
+        }
+        buffer.position(nestedStart);
+        parent = field;
+        final WireDataFieldDescription nested = getFieldHeader();
+        // paths are matched against the children of the anonymous sub-class
+        parseIoStream(nested, projection, recursionDepth + 1);
+    }
+
+    private void skipSubClass(final WireDataFieldDescription fieldRoot, final WireDataFieldDescription field, final int recursionDepth) {
+        removeLastChild(fieldRoot, field);
+        if (field.getDataSize() < 0) {
+            // size not encoded - need to walk the sub-class
+            parseIoStream(field, recursionDepth + 1);
+        } else {
+            // N.B. start marker dataSize spans up to the corresponding end marker
+            buffer.position(field.getDataStartPosition() + field.getDataSize());
+            final WireDataFieldDescription endMarker = getFieldHeader();
+            if (endMarker.getDataType() != DataType.END_MARKER) {
+                throw new IllegalStateException("expected END_MARKER for '" + field.getFieldName() + "' but found '" + endMarker.getFieldName() + "' type '" + endMarker.getDataType() + "'");
+            }
+        }
+        removeLastChild(fieldRoot, lastFieldHeader);
+    }
+
     @Override
     public <E> void put(final FieldDescription fieldDescription, final Collection<E> collection, final Type valueType) {
         final WireDataFieldDescription fieldHeader = putFieldHeader(fieldDescription);
@@ -1305,6 +1419,15 @@ public class BinarySerialiser implements IoSerialiser {
         updateDataEndMarker(fieldHeader);
     }
 
+    @Override
+    public void putDoubleArrayAsFloat(final String fieldName, final double[] values, final int offset, final int n) {
+        final WireDataFieldDescription fieldHeader = putFieldHeader(fieldName, DataType.FLOAT_ARRAY);
+        final int valuesSize = values == null ? 0 : values.length - offset;
+        final int nElements = putArraySizeDescriptor(n >= 0 ? Math.min(n, valuesSize) : valuesSize);
+        buffer.putDoubleArrayAsFloat(values, offset, nElements);
+        updateDataEndMarker(fieldHeader);
+    }
+
     @Override
     public void put(final String fieldName, final int value) {
         this.putFieldHeader(fieldName, DataType.INT);
@@ -1673,4 +1796,44 @@ public class BinarySerialiser implements IoSerialiser {
 
         throw new IllegalArgumentException("DataType byteValue=" + byteValue + " rawByteValue=" + (byteValue & 0xFF) + " not mapped");
     }
+
+    private static void removeLastChild(final WireDataFieldDescription fieldRoot, final WireDataFieldDescription child) {
+        final List<FieldDescription> children = fieldRoot.getChildren();
+        if (!children.isEmpty() && children.get(children.size() - 1) == child) { // NOPMD - identity check intended
+            children.remove(children.size() - 1);
+        }
+    }
+
+    /**
+     * Trie of selected field names, compiled from dot-separated field paths.
+     */
+    private static class FieldProjection {
+        private final Map<String, FieldProjection> children = new HashMap<>(); // NOPMD - not shared across threads
+        private boolean leaf;
+
+        private FieldProjection get(final String fieldName) {
+            return fieldName == null ? null : children.get(fieldName);
+        }
+
+        private boolean isLeaf() {
+            return leaf;
+        }
+
+        private static FieldProjection compile(final Collection<String> fieldPaths) {
+            final FieldProjection root = new FieldProjection();
+            for (final String path : fieldPaths) {
+                AssertUtils.notNull("fieldPath", path);
+                FieldProjection node = root;
+                for (final String fieldName : path.split("\\.")) {
+                    node = node.children.computeIfAbsent(fieldName, name -> new FieldProjection());
+                    if (node.leaf) {
+                        break;
+                    }
+                }
+                node.leaf = true;
+                node.children.clear();
+            }
+            return root;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package de.gsi.serializer.spi;
 
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -40,6 +41,11 @@ public class ByteBuffer implements IoBuffer {
         nioByteBuffer.mark();
     }
 
+    @Override
+    public ByteOrder byteOrder() {
+        return nioByteBuffer.order();
+    }
+
     @Override
     public int capacity() {
         return nioByteBuffer.capacity();
@@ -371,6 +377,12 @@ public class ByteBuffer implements IoBuffer {
         nioByteBuffer.put(src, 0, nElements);
     }
 
+    @Override
+    public void putRawBytes(final byte[] src, final int offset, final int length) {
+        ensureAdditionalCapacity(length);
+        nioByteBuffer.put(src, offset, length);
+    }
+
     @Override
     public void putChar(final char value) {
         nioByteBuffer.putChar(value);
@@ -45,7 +45,7 @@ public class ClassFieldDescription implements FieldDescription {
     private final List<String> fieldGroups;
     private final boolean annotationPresent;
     private final ClassFieldDescription parent;
-    private final List<FieldDescription> children = new ArrayList<>();
+    private final FieldDescriptionList children = new FieldDescriptionList();
     private final Class<?> classType;
     private final DataType dataType;
     private final String typeName;
@@ -232,17 +232,7 @@ public class ClassFieldDescription implements FieldDescription {
 
     @Override
     public FieldDescription findChildField(final int fieldNameHashCode, final String fieldName) {
-        for (int i = 0; i < children.size(); i++) {
-            final FieldDescription child = children.get(i);
-            final String name = child.getFieldName();
-            if (name == fieldName) { //NOSONAR //NOPMD early return if the same String object reference
-                return child;
-            }
-            if (child.getFieldNameHashCode() == fieldNameHashCode && name.equals(fieldName)) {
-                return child;
-            }
-        }
-        return null;
+        return children.find(fieldNameHashCode, fieldName);
     }
 
     /**
@@ -101,12 +101,29 @@ public class CmwLightSerialiser implements IoSerialiser {
     private WireDataFieldDescription parent;
     private WireDataFieldDescription lastFieldHeader;
     private BiFunction<Type, Type[], FieldSerialiser<Object>> fieldSerialiserLookupFunction;
+    private boolean useCompiledSchema;
 
     public CmwLightSerialiser(final IoBuffer buffer) {
         super();
         this.buffer = buffer;
     }
 
+    /**
+     * Adds to the entry count of the present (enclosing) 'Data' object, i.e. accounts at once for fields that have been
+     * written via {@link #putFieldHeader(FieldHeader)}.
+     *
+     * @param nEntries number of fields to be added
+     */
+    public void addDataEntryCount(final int nEntries) {
+        if (parent == null) {
+            throw new IllegalStateException("no parent");
+        }
+        final int parentDataStart = parent.getDataStartPosition();
+        if (nEntries > 0 && parentDataStart >= 0) { // N.B. same condition as for updateDataEntryCount()
+            buffer.putInt(parentDataStart, buffer.getInt(parentDataStart) + nEntries);
+        }
+    }
+
     @Override
     public ProtocolInfo checkHeaderInfo() {
         final String fieldName = "";
@@ -275,6 +292,12 @@ public class CmwLightSerialiser implements IoSerialiser {
         return buffer.getFloatArray(dst, length);
     }
 
+    @Override
+    public double[] getFloatArrayAsDouble(final double[] dst, final int length) {
+        getArraySizeDescriptor();
+        return buffer.getFloatArrayAsDouble(dst, length);
+    }
+
     @Override
     public int getInt() {
         return buffer.getInt();
@@ -373,6 +396,14 @@ public class CmwLightSerialiser implements IoSerialiser {
         // do nothing -- not implemented for this serialiser
     }
 
+    /**
+     * @return {@code true} if POJOs are written using a once-per-class compiled schema with pre-encoded field headers
+     *         (see {@link #setUseCompiledSchema(boolean)})
+     */
+    public boolean isUseCompiledSchema() {
+        return useCompiledSchema;
+    }
+
     @Override
     public WireDataFieldDescription parseIoStream(final boolean readHeader) {
         final WireDataFieldDescription fieldRoot = getRootElement();
@@ -789,6 +820,15 @@ public class CmwLightSerialiser implements IoSerialiser {
         updateDataEndMarker(fieldHeader);
     }
 
+    @Override
+    public void putDoubleArrayAsFloat(final String fieldName, final double[] values, final int offset, final int n) {
+        final WireDataFieldDescription fieldHeader = putFieldHeader(fieldName, DataType.FLOAT_ARRAY);
+        final int valuesSize = values == null ? 0 : values.length - offset;
+        final int nElements = putArraySizeDescriptor(n >= 0 ? Math.min(n, valuesSize) : valuesSize);
+        buffer.putDoubleArrayAsFloat(values, offset, nElements);
+        updateDataEndMarker(fieldHeader);
+    }
+
     @Override
     public void put(final String fieldName, final int value) {
         this.putFieldHeader(fieldName, DataType.INT);
@@ -1026,6 +1066,111 @@ public class CmwLightSerialiser implements IoSerialiser {
         return lastFieldHeader;
     }
 
+    /**
+     * Writes a pre-encoded field header. N.B. unlike {@link #putFieldHeader(FieldDescription, DataType)} this neither
+     * creates a {@link WireDataFieldDescription} nor updates the entry count of the enclosing 'Data' object, which is
+     * left to {@link #addDataEntryCount(int)}.
+     *
+     * @param header the pre-encoded field name and type
+     */
+    public void putFieldHeader(final FieldHeader header) {
+        buffer.ensureAdditionalCapacity(FastByteBuffer.SIZE_OF_INT + header.encoded.length + 16); // 16+ bytes for a potential array header (safe-bet)
+        buffer.putInt(header.nameLength); // N.B. byte order depends on the IoBuffer implementation
+        buffer.putRawBytes(header.encoded, 0, header.encoded.length);
+    }
+
+    /**
+     * Writes the value of a primitive, {@code String}, one-dimensional primitive or {@code String} array field using
+     * its pre-encoded header. The output is identical to the one of the corresponding {@code put(FieldDescription, ..)}
+     * method except that the entry count of the enclosing 'Data' object is not updated (see
+     * {@link #addDataEntryCount(int)}).
+     *
+     * @param header the pre-encoded field name and type (see {@link FieldHeader#isSupported(ClassFieldDescription)})
+     * @param field the field description
+     * @param parentObject the object containing the field
+     * @return {@code true} if the field has been written, {@code false} for {@code null} references (nothing written)
+     */
+    @SuppressWarnings("PMD.NcssCount") // one case per supported data type
+    public boolean putField(final FieldHeader header, final ClassFieldDescription field, final Object parentObject) { // NOPMD - long switch
+        final ClassFieldDescription.FieldAccess accessor = field.getField();
+        switch (header.dataType) {
+        case BOOL:
+            putFieldHeader(header);
+            buffer.putBoolean(accessor.getBoolean(parentObject));
+            return true;
+        case BYTE:
+            putFieldHeader(header);
+            buffer.putByte(accessor.getByte(parentObject));
+            return true;
+        case SHORT:
+            putFieldHeader(header);
+            buffer.putShort(accessor.getShort(parentObject));
+            return true;
+        case INT:
+            putFieldHeader(header);
+            buffer.putInt(accessor.getInt(parentObject));
+            return true;
+        case LONG:
+            putFieldHeader(header);
+            buffer.putLong(accessor.getLong(parentObject));
+            return true;
+        case FLOAT:
+            putFieldHeader(header);
+            buffer.putFloat(accessor.getFloat(parentObject));
+            return true;
+        case DOUBLE:
+            putFieldHeader(header);
+            buffer.putDouble(accessor.getDouble(parentObject));
+            return true;
+        case CHAR:
+            putFieldHeader(header);
+            buffer.putChar(accessor.getChar(parentObject));
+            return true;
+        default:
+            break;
+        }
+        final Object value = accessor.get(parentObject);
+        if (value == null) {
+            // only serialise non-null references
+            return false;
+        }
+        putFieldHeader(header);
+        switch (header.dataType) {
+        case STRING:
+            buffer.putString((String) value);
+            return true;
+        case BOOL_ARRAY:
+            buffer.putBooleanArray((boolean[]) value, putArraySizeDescriptor(((boolean[]) value).length));
+            return true;
+        case BYTE_ARRAY:
+            buffer.putByteArray((byte[]) value, putArraySizeDescriptor(((byte[]) value).length));
+            return true;
+        case SHORT_ARRAY:
+            buffer.putShortArray((short[]) value, putArraySizeDescriptor(((short[]) value).length));
+            return true;
+        case INT_ARRAY:
+            buffer.putIntArray((int[]) value, putArraySizeDescriptor(((int[]) value).length));
+            return true;
+        case LONG_ARRAY:
+            buffer.putLongArray((long[]) value, putArraySizeDescriptor(((long[]) value).length));
+            return true;
+        case FLOAT_ARRAY:
+            buffer.putFloatArray((float[]) value, putArraySizeDescriptor(((float[]) value).length));
+            return true;
+        case DOUBLE_ARRAY:
+            buffer.putDoubleArray((double[]) value, putArraySizeDescriptor(((double[]) value).length));
+            return true;
+        case CHAR_ARRAY:
+            buffer.putCharArray((char[]) value, putArraySizeDescriptor(((char[]) value).length));
+            return true;
+        case STRING_ARRAY:
+            buffer.putStringArray((String[]) value, putArraySizeDescriptor(((String[]) value).length));
+            return true;
+        default:
+            throw new IllegalArgumentException("data type " + header.dataType + " not supported for pre-encoded field '" + field.getFieldName() + "'");
+        }
+    }
+
     @Override
     public void putHeaderInfo(final FieldDescription... field) {
         parent = lastFieldHeader = getRootElement();
@@ -1045,6 +1190,16 @@ public class CmwLightSerialiser implements IoSerialiser {
         parent = lastFieldHeader;
     }
 
+    /**
+     * @param useCompiledSchema {@code true}: {@link de.gsi.serializer.IoClassSerialiser} writes POJOs using a
+     *            once-per-class compiled schema with pre-encoded field headers (wire-compatible, N.B. fields with
+     *            user-defined {@link FieldSerialiser}s are still written through these), {@code false}: generic
+     *            field-by-field encoding (default)
+     */
+    public void setUseCompiledSchema(final boolean useCompiledSchema) {
+        this.useCompiledSchema = useCompiledSchema;
+    }
+
     @Override
     public void setQueryFieldName(final String fieldName, final int dataStartPosition) {
         if (fieldName == null || fieldName.isBlank()) {
@@ -1108,4 +1263,46 @@ public class CmwLightSerialiser implements IoSerialiser {
     public BiFunction<Type, Type[], FieldSerialiser<Object>> getSerialiserLookupFunction() {
         return fieldSerialiserLookupFunction;
     }
+
+    /**
+     * pre-encoded CMW-light field header, i.e. the ISO-8859-1 field name, its zero termination and the data type tag,
+     * that is written by a bulk copy rather than being re-encoded for every message (see {@link #putFieldHeader(FieldHeader)}).
+     */
+    public static final class FieldHeader {
+        private final DataType dataType;
+        private final int nameLength; // incl. zero termination
+        private final byte[] encoded;
+
+        /**
+         * @param field the field to be encoded (see {@link #isSupported(ClassFieldDescription)})
+         */
+        public FieldHeader(final ClassFieldDescription field) {
+            if (!isSupported(field)) {
+                throw new IllegalArgumentException("field '" + field.getFieldName() + "' of type " + field.getTypeName() + " cannot be pre-encoded");
+            }
+            final String fieldName = field.getFieldName();
+            dataType = field.getDataType();
+            nameLength = fieldName.length() + 1;
+            encoded = new byte[fieldName.length() + 2];
+            for (int i = 0; i < fieldName.length(); i++) {
+                encoded[i] = (byte) (fieldName.charAt(i) & 0xFF); // ISO-8859-1 encoding
+            }
+            encoded[fieldName.length()] = 0; // C++ zero-terminated string
+            encoded[fieldName.length() + 1] = getDataType(dataType);
+        }
+
+        /**
+         * @param field the field description
+         * @return {@code true} if the field is a primitive, {@code String}, one-dimensional primitive or {@code String}
+         *         array field
+         */
+        public static boolean isSupported(final ClassFieldDescription field) {
+            if (!(field.getType() instanceof Class)) {
+                return false;
+            }
+            final Class<?> type = (Class<?>) field.getType();
+            final Class<?> componentType = type.isArray() ? type.getComponentType() : type;
+            return componentType.isPrimitive() || componentType.equals(String.class);
+        }
+    }
 }
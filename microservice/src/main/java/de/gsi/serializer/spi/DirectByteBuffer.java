@@ -0,0 +1,800 @@
+package de.gsi.serializer.spi;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import de.gsi.dataset.utils.AssertUtils;
+import de.gsi.serializer.IoBuffer;
+
+/**
+ * IoBuffer implementation based on off-heap ('direct') memory allocated via {@link java.nio.ByteBuffer#allocateDirect}.
+ * <p>
+ * In contrast to the heap-based {@link FastByteBuffer} and {@link ByteBuffer}, serialised frames can be transferred
+ * to/from {@link java.nio.channels.FileChannel FileChannels} or {@link java.nio.channels.SocketChannel SocketChannels}
+ * without an intermediate copy (see {@link #writeTo(WritableByteChannel)} and {@link #readFrom(ReadableByteChannel)}).
+ * Primitive arrays are copied in bulk via the corresponding nio view buffers. The native byte order is used so that
+ * the binary wire-format is identical to the one of {@link FastByteBuffer}.
+ * <p>
+ * N.B. there is no backing heap byte array, thus {@link #elements()} is not supported and serialisers that rely on it
+ * (e.g. {@link JsonSerialiser}) cannot be used with this buffer.
+ *
+ * @author rstein
+ */
+@SuppressWarnings("PMD.TooManyMethods") // NOPMD - these are short-hand convenience methods
+public class DirectByteBuffer implements IoBuffer {
+    public static final int SIZE_OF_BOOLEAN = 1;
+    public static final int SIZE_OF_BYTE = 1;
+    public static final int SIZE_OF_SHORT = 2;
+    public static final int SIZE_OF_CHAR = 2;
+    public static final int SIZE_OF_INT = 4;
+    public static final int SIZE_OF_LONG = 8;
+    public static final int SIZE_OF_FLOAT = 4;
+    public static final int SIZE_OF_DOUBLE = 8;
+    private static final int DEFAULT_INITIAL_CAPACITY = 1 << 10;
+    private static final int DEFAULT_MIN_CAPACITY_INCREASE = 1 << 10;
+    private static final int DEFAULT_MAX_CAPACITY_INCREASE = 100 * (1 << 10);
+    private static final int CONVERSION_CHUNK_SIZE = 1 << 10; // elements converted per scratch chunk (fits into L1 cache)
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private java.nio.ByteBuffer nioByteBuffer;
+    private byte[] stringBuffer = new byte[100]; // re-used for string decoding
+    private boolean enforceSimpleStringEncoding = false;
+    private float[] conversionBuffer; // lazily allocated scratch for float<->double conversions
+
+    /**
+     * construct new DirectByteBuffer with DEFAULT_INITIAL_CAPACITY
+     */
+    public DirectByteBuffer() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * construct new DirectByteBuffer
+     *
+     * @param size initial capacity of the buffer
+     */
+    public DirectByteBuffer(final int size) {
+        AssertUtils.gtEqThanZero("size", size);
+        nioByteBuffer = java.nio.ByteBuffer.allocateDirect(size).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * construct new DirectByteBuffer sharing the memory of the given direct nio buffer (e.g. a slice or a memory-mapped
+     * file region). N.B. the memory is shared only until the buffer needs to be enlarged.
+     *
+     * @param directBuffer direct nio buffer to wrap
+     */
+    public DirectByteBuffer(final java.nio.ByteBuffer directBuffer) {
+        AssertUtils.notNull("directBuffer", directBuffer);
+        if (!directBuffer.isDirect()) {
+            throw new IllegalArgumentException("buffer is not a direct buffer: " + directBuffer);
+        }
+        nioByteBuffer = directBuffer.order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * @return view of the underlying direct memory. N.B. the view shares position, limit and content with this
+     *         buffer until the buffer is enlarged or trimmed
+     */
+    public java.nio.ByteBuffer asByteBuffer() {
+        return nioByteBuffer;
+    }
+
+    @Override
+    public ByteOrder byteOrder() {
+        return nioByteBuffer.order();
+    }
+
+    @Override
+    public int capacity() {
+        return nioByteBuffer.capacity();
+    }
+
+    @Override
+    public void clear() {
+        nioByteBuffer.clear();
+    }
+
+    /**
+     * @return nothing -- direct buffers have no backing heap array
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public byte[] elements() {
+        throw new UnsupportedOperationException("direct buffers have no backing heap array");
+    }
+
+    @Override
+    public void ensureAdditionalCapacity(final int capacity) {
+        final int neededTotalCapacity = position() + capacity;
+        if (neededTotalCapacity < capacity()) {
+            return;
+        }
+        final int addCapacity = Math.min(Math.max(DEFAULT_MIN_CAPACITY_INCREASE, neededTotalCapacity >> 3), DEFAULT_MAX_CAPACITY_INCREASE);
+        forceCapacity(neededTotalCapacity + addCapacity, capacity());
+    }
+
+    @Override
+    public void ensureCapacity(final int newCapacity) {
+        if (newCapacity <= capacity()) {
+            return;
+        }
+        forceCapacity(newCapacity, capacity());
+    }
+
+    @Override
+    public void flip() {
+        nioByteBuffer.flip();
+    }
+
+    @Override
+    public void forceCapacity(final int length, final int preserve) {
+        if (length == capacity()) {
+            return;
+        }
+        final java.nio.ByteBuffer newBuffer = java.nio.ByteBuffer.allocateDirect(length).order(ByteOrder.nativeOrder());
+        final int bytesToCopy = Math.min(Math.min(preserve, length), capacity());
+        final java.nio.ByteBuffer source = nioByteBuffer.duplicate();
+        source.clear().limit(bytesToCopy);
+        newBuffer.put(source).clear();
+        newBuffer.position(Math.min(nioByteBuffer.position(), length));
+        nioByteBuffer = newBuffer;
+    }
+
+    @Override
+    public boolean getBoolean() { // NOPMD by rstein
+        return nioByteBuffer.get() > 0;
+    }
+
+    @Override
+    public boolean getBoolean(final int position) {
+        return nioByteBuffer.get(position) > 0;
+    }
+
+    @Override
+    public boolean[] getBooleanArray(final boolean[] dst, final int length) {
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final boolean[] ret = initNeeded ? new boolean[arraySize] : dst;
+        for (int i = 0; i < arraySize; i++) {
+            ret[i] = getBoolean();
+        }
+        return ret;
+    }
+
+    @Override
+    public byte getByte() {
+        return nioByteBuffer.get();
+    }
+
+    @Override
+    public byte getByte(final int position) {
+        return nioByteBuffer.get(position);
+    }
+
+    @Override
+    public byte[] getByteArray(final byte[] dst, final int length) {
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final byte[] ret = initNeeded ? new byte[arraySize] : dst;
+        nioByteBuffer.get(ret, 0, arraySize);
+        return ret;
+    }
+
+    @Override
+    public char getChar() {
+        return nioByteBuffer.getChar();
+    }
+
+    @Override
+    public char getChar(final int position) {
+        return nioByteBuffer.getChar(position);
+    }
+
+    @Override
+    public char[] getCharArray(final char[] dst, final int length) {
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final char[] ret = initNeeded ? new char[arraySize] : dst;
+        nioByteBuffer.asCharBuffer().get(ret, 0, arraySize);
+        skip(arraySize * SIZE_OF_CHAR);
+        return ret;
+    }
+
+    @Override
+    public double getDouble() {
+        return nioByteBuffer.getDouble();
+    }
+
+    @Override
+    public double getDouble(final int position) {
+        return nioByteBuffer.getDouble(position);
+    }
+
+    @Override
+    public double[] getDoubleArray(final double[] dst, final int length) {
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final double[] ret = initNeeded ? new double[arraySize] : dst;
+        nioByteBuffer.asDoubleBuffer().get(ret, 0, arraySize);
+        skip(arraySize * SIZE_OF_DOUBLE);
+        return ret;
+    }
+
+    @Override
+    public double[] getDoubleArray(final double[] dst, final int length, final ByteOrder byteOrder) {
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final double[] ret = initNeeded ? new double[arraySize] : dst;
+        nioByteBuffer.duplicate().order(byteOrder).asDoubleBuffer().get(ret, 0, arraySize);
+        skip(arraySize * SIZE_OF_DOUBLE);
+        return ret;
+    }
+
+    @Override
+    public float getFloat() {
+        return nioByteBuffer.getFloat();
+    }
+
+    @Override
+    public float getFloat(final int position) {
+        return nioByteBuffer.getFloat(position);
+    }
+
+    @Override
+    public float[] getFloatArray(final float[] dst, final int length) {
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final float[] ret = initNeeded ? new float[arraySize] : dst;
+        nioByteBuffer.asFloatBuffer().get(ret, 0, arraySize);
+        skip(arraySize * SIZE_OF_FLOAT);
+        return ret;
+    }
+
+    @Override
+    public float[] getFloatArray(final float[] dst, final int length, final ByteOrder byteOrder) {
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final float[] ret = initNeeded ? new float[arraySize] : dst;
+        nioByteBuffer.duplicate().order(byteOrder).asFloatBuffer().get(ret, 0, arraySize);
+        skip(arraySize * SIZE_OF_FLOAT);
+        return ret;
+    }
+
+    @Override
+    public double[] getFloatArrayAsDouble(final double[] dst, final int length) {
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final double[] ret = initNeeded ? new double[arraySize] : dst;
+        final float[] chunk = getConversionBuffer();
+        for (int offset = 0; offset < arraySize; offset += CONVERSION_CHUNK_SIZE) {
+            final int nChunk = Math.min(CONVERSION_CHUNK_SIZE, arraySize - offset);
+            nioByteBuffer.asFloatBuffer().get(chunk, 0, nChunk);
+            skip(nChunk * SIZE_OF_FLOAT);
+            for (int i = 0; i < nChunk; i++) {
+                ret[offset + i] = chunk[i];
+            }
+        }
+        return ret;
+    }
+
+    @Override
+    public int getInt() {
+        return nioByteBuffer.getInt();
+    }
+
+    @Override
+    public int getInt(final int position) {
+        return nioByteBuffer.getInt(position);
+    }
+
+    @Override
+    public int[] getIntArray(final int[] dst, final int length) {
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final int[] ret = initNeeded ? new int[arraySize] : dst;
+        nioByteBuffer.asIntBuffer().get(ret, 0, arraySize);
+        skip(arraySize * SIZE_OF_INT);
+        return ret;
+    }
+
+    @Override
+    public long getLong() {
+        return nioByteBuffer.getLong();
+    }
+
+    @Override
+    public long getLong(final int position) {
+        return nioByteBuffer.getLong(position);
+    }
+
+    @Override
+    public long[] getLongArray(final long[] dst, final int length) {
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final long[] ret = initNeeded ? new long[arraySize] : dst;
+        nioByteBuffer.asLongBuffer().get(ret, 0, arraySize);
+        skip(arraySize * SIZE_OF_LONG);
+        return ret;
+    }
+
+    @Override
+    public short getShort() { // NOPMD by rstein
+        return nioByteBuffer.getShort();
+    }
+
+    @Override
+    public short getShort(final int position) {
+        return nioByteBuffer.getShort(position);
+    }
+
+    @Override
+    public short[] getShortArray(final short[] dst, final int length) { // NOPMD by rstein
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final short[] ret = initNeeded ? new short[arraySize] : dst; // NOPMD by rstein
+        nioByteBuffer.asShortBuffer().get(ret, 0, arraySize);
+        skip(arraySize * SIZE_OF_SHORT);
+        return ret;
+    }
+
+    @Override
+    public String getString() {
+        if (isEnforceSimpleStringEncoding()) {
+            return this.getStringISO8859();
+        }
+        final int arraySize = getInt() - 1; // for C++ zero terminated string
+        final byte[] bytes = getStringBytes(arraySize);
+        getByte(); // For C++ zero terminated string
+        return new String(bytes, 0, arraySize, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getString(final int position) {
+        final int oldPosition = nioByteBuffer.position();
+        nioByteBuffer.position(position);
+        final String ret = getString();
+        nioByteBuffer.position(oldPosition);
+        return ret;
+    }
+
+    @Override
+    public String[] getStringArray(final String[] dst, final int length) {
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final String[] ret = initNeeded ? new String[arraySize] : dst;
+        for (int k = 0; k < arraySize; k++) {
+            ret[k] = getString();
+        }
+        return ret;
+    }
+
+    @Override
+    public String getStringISO8859() {
+        final int arraySize = getInt() - 1; // for C++ zero terminated string
+        final byte[] bytes = getStringBytes(arraySize);
+        getByte(); // For C++ zero terminated string
+        return new String(bytes, 0, arraySize, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public boolean hasRemaining() {
+        return nioByteBuffer.hasRemaining();
+    }
+
+    @Override
+    public boolean isEnforceSimpleStringEncoding() {
+        return enforceSimpleStringEncoding;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return nioByteBuffer.isReadOnly();
+    }
+
+    @Override
+    public int limit() {
+        return nioByteBuffer.limit();
+    }
+
+    @Override
+    public void limit(final int newLimit) {
+        nioByteBuffer.limit(newLimit);
+    }
+
+    @Override
+    public ReadWriteLock lock() {
+        return lock;
+    }
+
+    @Override
+    public int position() {
+        return nioByteBuffer.position();
+    }
+
+    @Override
+    public void position(final int newPosition) {
+        nioByteBuffer.position(newPosition);
+    }
+
+    @Override
+    public void putBoolean(final boolean value) {
+        putByte((byte) (value ? 1 : 0));
+    }
+
+    @Override
+    public void putBoolean(final int position, final boolean value) {
+        nioByteBuffer.put(position, (byte) (value ? 1 : 0));
+    }
+
+    @Override
+    public void putBooleanArray(final boolean[] src, final int n) {
+        final int srcSize = src == null ? 0 : src.length;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(SIZE_OF_INT + nElements);
+        putInt(nElements); // strided-array size
+        for (int i = 0; i < nElements; i++) {
+            putBoolean(src[i]);
+        }
+    }
+
+    @Override
+    public void putByte(final byte b) {
+        nioByteBuffer.put(b);
+    }
+
+    @Override
+    public void putByte(final int position, final byte value) {
+        nioByteBuffer.put(position, value);
+    }
+
+    @Override
+    public void putByteArray(final byte[] src, final int n) {
+        final int srcSize = src == null ? 0 : src.length;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(SIZE_OF_INT + nElements);
+        putInt(nElements); // strided-array size
+        if (src == null) {
+            return;
+        }
+        nioByteBuffer.put(src, 0, nElements);
+    }
+
+    @Override
+    public void putRawBytes(final byte[] src, final int offset, final int length) {
+        ensureAdditionalCapacity(length);
+        nioByteBuffer.put(src, offset, length);
+    }
+
+    @Override
+    public void putChar(final char value) {
+        nioByteBuffer.putChar(value);
+    }
+
+    @Override
+    public void putChar(final int position, final char value) {
+        nioByteBuffer.putChar(position, value);
+    }
+
+    @Override
+    public void putCharArray(final char[] src, final int n) {
+        final int srcSize = src == null ? 0 : src.length;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(SIZE_OF_INT + nElements * SIZE_OF_CHAR);
+        putInt(nElements); // strided-array size
+        if (src == null) {
+            return;
+        }
+        nioByteBuffer.asCharBuffer().put(src, 0, nElements);
+        skip(nElements * SIZE_OF_CHAR);
+    }
+
+    @Override
+    public void putDouble(final double value) {
+        nioByteBuffer.putDouble(value);
+    }
+
+    @Override
+    public void putDouble(final int position, final double value) {
+        nioByteBuffer.putDouble(position, value);
+    }
+
+    @Override
+    public void putDoubleArray(final double[] src, final int n) {
+        final int srcSize = src == null ? 0 : src.length;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(SIZE_OF_INT + nElements * SIZE_OF_DOUBLE);
+        putInt(nElements); // strided-array size
+        if (src == null) {
+            return;
+        }
+        nioByteBuffer.asDoubleBuffer().put(src, 0, nElements);
+        skip(nElements * SIZE_OF_DOUBLE);
+    }
+
+    @Override
+    public void putDoubleArray(final double[] src, final int n, final ByteOrder byteOrder) {
+        final int srcSize = src == null ? 0 : src.length;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(SIZE_OF_INT + nElements * SIZE_OF_DOUBLE);
+        putInt(nElements); // strided-array size
+        if (src == null) {
+            return;
+        }
+        nioByteBuffer.duplicate().order(byteOrder).asDoubleBuffer().put(src, 0, nElements);
+        skip(nElements * SIZE_OF_DOUBLE);
+    }
+
+    @Override
+    public void putDoubleArrayAsFloat(final double[] src, final int offset, final int n) {
+        final int srcSize = src == null ? 0 : src.length - offset;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(SIZE_OF_INT + nElements * SIZE_OF_FLOAT);
+        putInt(nElements); // strided-array size
+        final float[] chunk = getConversionBuffer();
+        for (int index = 0; index < nElements; index += CONVERSION_CHUNK_SIZE) {
+            final int nChunk = Math.min(CONVERSION_CHUNK_SIZE, nElements - index);
+            final int srcOffset = offset + index;
+            for (int i = 0; i < nChunk; i++) {
+                chunk[i] = (float) src[srcOffset + i]; // NOPMD NOSONAR -- null checked via nElements
+            }
+            nioByteBuffer.asFloatBuffer().put(chunk, 0, nChunk);
+            skip(nChunk * SIZE_OF_FLOAT);
+        }
+    }
+
+    @Override
+    public void putFloat(final float value) {
+        nioByteBuffer.putFloat(value);
+    }
+
+    @Override
+    public void putFloat(final int position, final float value) {
+        nioByteBuffer.putFloat(position, value);
+    }
+
+    @Override
+    public void putFloatArray(final float[] src, final int n) {
+        final int srcSize = src == null ? 0 : src.length;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(SIZE_OF_INT + nElements * SIZE_OF_FLOAT);
+        putInt(nElements); // strided-array size
+        if (src == null) {
+            return;
+        }
+        nioByteBuffer.asFloatBuffer().put(src, 0, nElements);
+        skip(nElements * SIZE_OF_FLOAT);
+    }
+
+    @Override
+    public void putFloatArray(final float[] src, final int n, final ByteOrder byteOrder) {
+        final int srcSize = src == null ? 0 : src.length;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(SIZE_OF_INT + nElements * SIZE_OF_FLOAT);
+        putInt(nElements); // strided-array size
+        if (src == null) {
+            return;
+        }
+        nioByteBuffer.duplicate().order(byteOrder).asFloatBuffer().put(src, 0, nElements);
+        skip(nElements * SIZE_OF_FLOAT);
+    }
+
+    @Override
+    public void putInt(final int value) {
+        nioByteBuffer.putInt(value);
+    }
+
+    @Override
+    public void putInt(final int position, final int value) {
+        nioByteBuffer.putInt(position, value);
+    }
+
+    @Override
+    public void putIntArray(final int[] src, final int n) {
+        final int srcSize = src == null ? 0 : src.length;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(SIZE_OF_INT + nElements * SIZE_OF_INT);
+        putInt(nElements); // strided-array size
+        if (src == null) {
+            return;
+        }
+        nioByteBuffer.asIntBuffer().put(src, 0, nElements);
+        skip(nElements * SIZE_OF_INT);
+    }
+
+    @Override
+    public void putLong(final long value) {
+        nioByteBuffer.putLong(value);
+    }
+
+    @Override
+    public void putLong(final int position, final long value) {
+        nioByteBuffer.putLong(position, value);
+    }
+
+    @Override
+    public void putLongArray(final long[] src, final int n) {
+        final int srcSize = src == null ? 0 : src.length;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(SIZE_OF_INT + nElements * SIZE_OF_LONG);
+        putInt(nElements); // strided-array size
+        if (src == null) {
+            return;
+        }
+        nioByteBuffer.asLongBuffer().put(src, 0, nElements);
+        skip(nElements * SIZE_OF_LONG);
+    }
+
+    @Override
+    public void putShort(final short value) { // NOPMD by rstein
+        nioByteBuffer.putShort(value);
+    }
+
+    @Override
+    public void putShort(final int position, final short value) { // NOPMD by rstein
+        nioByteBuffer.putShort(position, value);
+    }
+
+    @Override
+    public void putShortArray(final short[] src, final int n) { // NOPMD by rstein
+        final int srcSize = src == null ? 0 : src.length;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(SIZE_OF_INT + nElements * SIZE_OF_SHORT);
+        putInt(nElements); // strided-array size
+        if (src == null) {
+            return;
+        }
+        nioByteBuffer.asShortBuffer().put(src, 0, nElements);
+        skip(nElements * SIZE_OF_SHORT);
+    }
+
+    @Override
+    public void putString(final String string) {
+        if (string == null) {
+            putString("");
+            return;
+        }
+        if (isEnforceSimpleStringEncoding()) {
+            putStringISO8859(string);
+            return;
+        }
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        ensureAdditionalCapacity(SIZE_OF_INT + bytes.length + 1);
+        putInt(bytes.length + 1); // for C++ zero terminated string
+        nioByteBuffer.put(bytes, 0, bytes.length);
+        putByte((byte) 0); // For C++ zero terminated string
+    }
+
+    @Override
+    public void putString(final int position, final String value) {
+        final int oldPosition = nioByteBuffer.position();
+        nioByteBuffer.position(position);
+        putString(value);
+        nioByteBuffer.position(oldPosition);
+    }
+
+    @Override
+    public void putStringArray(final String[] src, final int n) {
+        final int srcSize = src == null ? 0 : src.length;
+        final int nElements = n >= 0 ? Math.min(n, srcSize) : srcSize;
+        ensureAdditionalCapacity(SIZE_OF_INT + nElements);
+        putInt(nElements); // strided-array size
+        for (int k = 0; k < nElements; k++) {
+            putString(src[k]);
+        }
+    }
+
+    @Override
+    public void putStringISO8859(final String string) {
+        final int strLength = string == null ? 0 : string.length();
+        ensureAdditionalCapacity(SIZE_OF_INT + strLength + 1);
+        putInt(strLength + 1); // for C++ zero terminated string
+        for (int i = 0; i < strLength; ++i) {
+            putByte((byte) (string.charAt(i) & 0xFF)); // ISO-8859-1 encoding
+        }
+        putByte((byte) 0); // For C++ zero terminated string
+    }
+
+    /**
+     * Reads bytes from the given channel into this buffer, starting at the current position up to the limit, without
+     * intermediate heap copies.
+     *
+     * @param channel source channel, e.g. a {@link java.nio.channels.FileChannel} or
+     *        {@link java.nio.channels.SocketChannel}
+     * @return number of bytes read or '-1' if the channel has reached end-of-stream
+     * @throws IOException in case of channel read errors
+     */
+    public int readFrom(final ReadableByteChannel channel) throws IOException {
+        AssertUtils.notNull("channel", channel);
+        return channel.read(nioByteBuffer);
+    }
+
+    @Override
+    public int remaining() {
+        return nioByteBuffer.remaining();
+    }
+
+    @Override
+    public void reset() {
+        nioByteBuffer.clear();
+    }
+
+    @Override
+    public void setEnforceSimpleStringEncoding(final boolean state) {
+        this.enforceSimpleStringEncoding = state;
+    }
+
+    /**
+     * @param offset start of the slice
+     * @param length length of the slice
+     * @return new DirectByteBuffer sharing the memory region [offset, offset + length[ with this buffer (N.B. position
+     *         is set to zero and limit/capacity to 'length')
+     */
+    public DirectByteBuffer slice(final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset + length > capacity()) {
+            throw new IllegalArgumentException(String.format("invalid slice [%d, %d[ for capacity %d", offset, offset + length, capacity()));
+        }
+        final java.nio.ByteBuffer duplicate = nioByteBuffer.duplicate();
+        duplicate.clear().position(offset).limit(offset + length);
+        return new DirectByteBuffer(duplicate.slice());
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + String.format(" - [0, position=%d, limit:%d, capacity:%d]", position(), limit(), capacity());
+    }
+
+    @Override
+    public void trim() {
+        trim(position());
+    }
+
+    @Override
+    public void trim(final int requestedCapacity) {
+        if ((requestedCapacity >= capacity()) || (position() > requestedCapacity)) {
+            return;
+        }
+        forceCapacity(requestedCapacity, requestedCapacity);
+    }
+
+    /**
+     * Writes the bytes between the current position and limit to the given channel without intermediate heap copies.
+     * The position is advanced by the number of bytes written.
+     *
+     * @param channel target channel, e.g. a {@link java.nio.channels.FileChannel} or
+     *        {@link java.nio.channels.SocketChannel}
+     * @return number of bytes written
+     * @throws IOException in case of channel write errors
+     */
+    public int writeTo(final WritableByteChannel channel) throws IOException {
+        AssertUtils.notNull("channel", channel);
+        int nBytes = 0;
+        while (nioByteBuffer.hasRemaining()) {
+            nBytes += channel.write(nioByteBuffer);
+        }
+        return nBytes;
+    }
+
+    private byte[] getStringBytes(final int length) {
+        if (stringBuffer.length < length) {
+            stringBuffer = new byte[length];
+        }
+        nioByteBuffer.get(stringBuffer, 0, length);
+        return stringBuffer;
+    }
+
+    private float[] getConversionBuffer() {
+        if (conversionBuffer == null) {
+            conversionBuffer = new float[CONVERSION_CHUNK_SIZE];
+        }
+        return conversionBuffer;
+    }
+
+    private void skip(final int nBytes) {
+        nioByteBuffer.position(nioByteBuffer.position() + nBytes);
+    }
+}
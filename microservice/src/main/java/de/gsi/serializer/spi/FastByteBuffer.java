@@ -10,6 +10,8 @@ import static sun.misc.Unsafe.ARRAY_LONG_BASE_OFFSET;
 import static sun.misc.Unsafe.ARRAY_SHORT_BASE_OFFSET;
 
 import java.lang.reflect.Field;
+import java.nio.ByteOrder;
+import java.util.Objects;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -41,6 +43,7 @@ public class FastByteBuffer implements IoBuffer {
     private static final int DEFAULT_INITIAL_CAPACITY = 1 << 10;
     private static final int DEFAULT_MIN_CAPACITY_INCREASE = 1 << 10;
     private static final int DEFAULT_MAX_CAPACITY_INCREASE = 100 * (1 << 10);
+    private static final int CONVERSION_CHUNK_SIZE = 1 << 10; // elements converted per scratch chunk (fits into L1 cache)
     private static final Unsafe unsafe; // NOPMD
     static {
         // get an instance of the otherwise private 'Unsafe' class
@@ -64,6 +67,7 @@ public class FastByteBuffer implements IoBuffer {
     private int limit;
     private byte[] buffer;
     private boolean enforceSimpleStringEncoding = false;
+    private float[] conversionBuffer; // lazily allocated scratch for float<->double conversions
 
     /**
      * construct new FastByteBuffer
@@ -100,6 +104,11 @@ public class FastByteBuffer implements IoBuffer {
         limit = buffer.length;
     }
 
+    @Override
+    public ByteOrder byteOrder() {
+        return ByteOrder.nativeOrder();
+    }
+
     @Override
     public int capacity() {
         return buffer.length;
@@ -246,6 +255,24 @@ public class FastByteBuffer implements IoBuffer {
         return values;
     }
 
+    @Override
+    public double[] getDoubleArray(final double[] dst, final int length, final ByteOrder byteOrder) {
+        if (byteOrder == byteOrder()) {
+            return getDoubleArray(dst, length);
+        }
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final double[] values = initNeeded ? new double[arraySize] : dst;
+
+        final long base = (long) ARRAY_BYTE_BASE_OFFSET + position;
+        for (int i = 0; i < arraySize; i++) {
+            values[i] = Double.longBitsToDouble(Long.reverseBytes(unsafe.getLong(buffer, base + (long) i * SIZE_OF_DOUBLE)));
+        }
+        position += arraySize * SIZE_OF_DOUBLE;
+
+        return values;
+    }
+
     @Override
     public float getFloat() {
         final float value = unsafe.getFloat(buffer, (long) ARRAY_BYTE_BASE_OFFSET + position);
@@ -267,6 +294,44 @@ public class FastByteBuffer implements IoBuffer {
         return values;
     }
 
+    @Override
+    public float[] getFloatArray(final float[] dst, final int length, final ByteOrder byteOrder) {
+        if (byteOrder == byteOrder()) {
+            return getFloatArray(dst, length);
+        }
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final float[] values = initNeeded ? new float[arraySize] : dst;
+
+        final long base = (long) ARRAY_BYTE_BASE_OFFSET + position;
+        for (int i = 0; i < arraySize; i++) {
+            values[i] = Float.intBitsToFloat(Integer.reverseBytes(unsafe.getInt(buffer, base + (long) i * SIZE_OF_FLOAT)));
+        }
+        position += arraySize * SIZE_OF_FLOAT;
+
+        return values;
+    }
+
+    @Override
+    public double[] getFloatArrayAsDouble(final double[] dst, final int length) {
+        final int arraySize = getInt(); // strided-array size
+        final boolean initNeeded = dst == null || length < 0 || dst.length != arraySize;
+        final double[] values = initNeeded ? new double[arraySize] : dst;
+
+        final float[] chunk = getConversionBuffer();
+        for (int offset = 0; offset < arraySize; offset += CONVERSION_CHUNK_SIZE) {
+            final int nChunk = Math.min(CONVERSION_CHUNK_SIZE, arraySize - offset);
+            final int bytesToCopy = nChunk * SIZE_OF_FLOAT;
+            copyMemory(buffer, ARRAY_BYTE_BASE_OFFSET + position, chunk, ARRAY_FLOAT_BASE_OFFSET, bytesToCopy);
+            position += bytesToCopy;
+            for (int i = 0; i < nChunk; i++) {
+                values[offset + i] = chunk[i];
+            }
+        }
+
+        return values;
+    }
+
     @Override
     public int getInt() {
         final int value = unsafe.getInt(buffer, (long) ARRAY_BYTE_BASE_OFFSET + position);
@@ -452,6 +517,14 @@ public class FastByteBuffer implements IoBuffer {
         position += nElements;
     }
 
+    @Override
+    public void putRawBytes(final byte[] src, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        ensureAdditionalCapacity(length);
+        copyMemory(src, ARRAY_BYTE_BASE_OFFSET + offset, buffer, ARRAY_BYTE_BASE_OFFSET + position, length);
+        position += length;
+    }
+
     @Override
     public void putChar(final char value) {
         unsafe.putChar(buffer, (long) ARRAY_BYTE_BASE_OFFSET + position, value);
@@ -488,6 +561,44 @@ public class FastByteBuffer implements IoBuffer {
         position += bytesToCopy;
     }
 
+    @Override
+    public void putDoubleArray(final double[] values, final int n, final ByteOrder byteOrder) {
+        if (byteOrder == byteOrder()) {
+            putDoubleArray(values, n);
+            return;
+        }
+        final int valuesSize = values == null ? 0 : values.length;
+        final int nElements = (n >= 0 ? Math.min(n, valuesSize) : valuesSize);
+        final int bytesToCopy = nElements * SIZE_OF_DOUBLE;
+        ensureAdditionalCapacity(bytesToCopy + SIZE_OF_INT);
+        putInt(nElements); // strided-array size
+        final long base = (long) ARRAY_BYTE_BASE_OFFSET + position;
+        for (int i = 0; i < nElements; i++) {
+            unsafe.putLong(buffer, base + (long) i * SIZE_OF_DOUBLE, Long.reverseBytes(Double.doubleToRawLongBits(values[i]))); // NOPMD NOSONAR -- null checked via nElements
+        }
+        position += bytesToCopy;
+    }
+
+    @Override
+    public void putDoubleArrayAsFloat(final double[] values, final int offset, final int n) {
+        final int valuesSize = values == null ? 0 : values.length - offset;
+        final int nElements = (n >= 0 ? Math.min(n, valuesSize) : valuesSize);
+        ensureAdditionalCapacity(nElements * SIZE_OF_FLOAT + SIZE_OF_INT);
+        putInt(nElements); // strided-array size
+
+        final float[] chunk = getConversionBuffer();
+        for (int index = 0; index < nElements; index += CONVERSION_CHUNK_SIZE) {
+            final int nChunk = Math.min(CONVERSION_CHUNK_SIZE, nElements - index);
+            final int srcOffset = offset + index;
+            for (int i = 0; i < nChunk; i++) {
+                chunk[i] = (float) values[srcOffset + i]; // NOPMD NOSONAR -- null checked via nElements
+            }
+            final int bytesToCopy = nChunk * SIZE_OF_FLOAT;
+            copyMemory(chunk, ARRAY_FLOAT_BASE_OFFSET, buffer, ARRAY_BYTE_BASE_OFFSET + position, bytesToCopy);
+            position += bytesToCopy;
+        }
+    }
+
     @Override
     public void putFloat(final float value) {
         unsafe.putFloat(buffer, (long) ARRAY_BYTE_BASE_OFFSET + position, value);
@@ -506,6 +617,24 @@ public class FastByteBuffer implements IoBuffer {
         position += bytesToCopy;
     }
 
+    @Override
+    public void putFloatArray(final float[] values, final int n, final ByteOrder byteOrder) {
+        if (byteOrder == byteOrder()) {
+            putFloatArray(values, n);
+            return;
+        }
+        final int valuesSize = values == null ? 0 : values.length;
+        final int nElements = (n >= 0 ? Math.min(n, valuesSize) : valuesSize);
+        final int bytesToCopy = nElements * SIZE_OF_FLOAT;
+        ensureAdditionalCapacity(bytesToCopy + SIZE_OF_INT);
+        putInt(nElements); // strided-array size
+        final long base = (long) ARRAY_BYTE_BASE_OFFSET + position;
+        for (int i = 0; i < nElements; i++) {
+            unsafe.putInt(buffer, base + (long) i * SIZE_OF_FLOAT, Integer.reverseBytes(Float.floatToRawIntBits(values[i]))); // NOPMD NOSONAR -- null checked via nElements
+        }
+        position += bytesToCopy;
+    }
+
     @Override
     public void putInt(final int value) {
         unsafe.putInt(buffer, (long) ARRAY_BYTE_BASE_OFFSET + position, value);
@@ -701,6 +830,13 @@ public class FastByteBuffer implements IoBuffer {
         return new FastByteBuffer(byteArray, length);
     }
 
+    private float[] getConversionBuffer() {
+        if (conversionBuffer == null) {
+            conversionBuffer = new float[CONVERSION_CHUNK_SIZE];
+        }
+        return conversionBuffer;
+    }
+
     private static void copyMemory(final Object srcBase, final int srcOffset, final Object destBase, final int destOffset, final int nBytes) {
         unsafe.copyMemory(srcBase, srcOffset, destBase, destOffset, nBytes);
     }
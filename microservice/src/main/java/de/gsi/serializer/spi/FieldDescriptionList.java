@@ -0,0 +1,109 @@
+package de.gsi.serializer.spi;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+import de.gsi.serializer.FieldDescription;
+
+/**
+ * Child list of {@link FieldDescription} nodes with an open-addressing, int-keyed (field name hash code) lookup index.
+ * <p>
+ * The index is built lazily on the first lookup once the list exceeds {@link #INDEX_THRESHOLD} entries and is reused
+ * until the list is structurally modified, i.e. effectively once per parsed field tree and per class description.
+ * Small lists are searched linearly since this is faster than hashing for a handful of entries.
+ * N.B. the first matching child in list order is returned, identical to the linear search.
+ *
+ * @author rstein
+ */
+final class FieldDescriptionList extends ArrayList<FieldDescription> {
+    private static final long serialVersionUID = 2961375442536207426L;
+    private static final int INDEX_THRESHOLD = 8;
+    private transient Index index; // NOPMD - lazily (re-)built and immutable once published
+
+    /**
+     * @param fieldNameHashCode hash code of the field name
+     * @param fieldName the clear text field name
+     * @return the first child matching the field name, or {@code null} if not present
+     */
+    FieldDescription find(final int fieldNameHashCode, final String fieldName) {
+        if (size() < INDEX_THRESHOLD) {
+            return findLinear(fieldNameHashCode, fieldName);
+        }
+        Index localIndex = index;
+        if (localIndex == null || localIndex.modCount != modCount) {
+            localIndex = new Index(this, modCount);
+            index = localIndex;
+        }
+        return localIndex.find(fieldNameHashCode, fieldName);
+    }
+
+    @Override
+    public FieldDescription set(final int i, final FieldDescription element) {
+        index = null; // N.B. set(..) does not modify ArrayList's modCount
+        return super.set(i, element);
+    }
+
+    private FieldDescription findLinear(final int fieldNameHashCode, final String fieldName) {
+        for (int i = 0; i < size(); i++) { //NOSONAR
+            final FieldDescription child = get(i);
+            final String name = child.getFieldName();
+            if (name == fieldName) { //NOSONAR //NOPMD early return if the same String object reference
+                return child;
+            }
+            if (child.getFieldNameHashCode() == fieldNameHashCode && Objects.equals(name, fieldName)) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Immutable linear-probing hash table with a load factor &le; 0.5, safely published via its final fields.
+     */
+    private static final class Index {
+        private final int modCount;
+        private final int mask;
+        private final int[] keys;
+        private final FieldDescription[] values;
+
+        private Index(final FieldDescriptionList children, final int modCount) {
+            this.modCount = modCount;
+            final int capacity = Integer.highestOneBit(Math.max(2 * children.size() - 1, 1)) << 1;
+            mask = capacity - 1;
+            keys = new int[capacity];
+            values = new FieldDescription[capacity];
+            for (int i = 0; i < children.size(); i++) {
+                final FieldDescription child = children.get(i);
+                final int key = child.getFieldNameHashCode();
+                int slot = mix(key) & mask;
+                while (values[slot] != null && !(keys[slot] == key && Objects.equals(values[slot].getFieldName(), child.getFieldName()))) {
+                    slot = (slot + 1) & mask;
+                }
+                if (values[slot] == null) { // N.B. keep first occurrence of duplicate field names
+                    keys[slot] = key;
+                    values[slot] = child;
+                }
+            }
+        }
+
+        private FieldDescription find(final int fieldNameHashCode, final String fieldName) {
+            int slot = mix(fieldNameHashCode) & mask;
+            FieldDescription value;
+            while ((value = values[slot]) != null) { // NOPMD NOSONAR - assignment in operand
+                if (keys[slot] == fieldNameHashCode) {
+                    final String name = value.getFieldName();
+                    if (Objects.equals(name, fieldName)) {
+                        return value;
+                    }
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        private static int mix(final int hashCode) {
+            final int h = hashCode * 0x9E3779B9; // Fibonacci hashing to spread clustered String hash codes
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -6,7 +6,9 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -30,6 +32,7 @@ import de.gsi.serializer.FieldDescription;
 import de.gsi.serializer.FieldSerialiser;
 import de.gsi.serializer.IoBuffer;
 import de.gsi.serializer.IoSerialiser;
+import de.gsi.serializer.utils.AsciiNumberUtils;
 
 public class JsonSerialiser implements IoSerialiser {
     public static final String NOT_A_JSON_COMPATIBLE_PROTOCOL = "Not a JSON compatible protocol";
@@ -50,6 +53,9 @@ public class JsonSerialiser implements IoSerialiser {
     private boolean hasFieldBefore = false;
     private String indentation = "";
     private BiFunction<Type, Type[], FieldSerialiser<Object>> fieldSerialiserLookupFunction;
+    private final Map<String, Long> rootFieldIndex = new HashMap<>(); // field name -> (value start << 32 | value end)
+    private boolean rootFieldIndexValid = false;
+    private int[] arrayElementBounds = new int[64]; // (start, end) pairs of the last indexed numeric array
 
     /**
      * @param buffer the backing IoBuffer (see e.g. {@link FastByteBuffer} or{@link ByteBuffer}
@@ -86,6 +92,7 @@ public class JsonSerialiser implements IoSerialiser {
 
         try {
             tempRoot = root = iter.readAny();
+            rootFieldIndexValid = false;
         } catch (IOException e) {
             throw new IllegalStateException(NOT_A_JSON_COMPATIBLE_PROTOCOL, e);
         }
@@ -133,7 +140,16 @@ public class JsonSerialiser implements IoSerialiser {
 
     @Override
     public byte[] getByteArray(final byte[] dst, final int length) {
-        return tempRoot.get(queryFieldName).as(byte[].class);
+        final int nElements = indexNumberArray(queryFieldName);
+        if (nElements < 0) {
+            return tempRoot.get(queryFieldName).as(byte[].class);
+        }
+        final byte[] result = dst != null && dst.length == nElements ? dst : new byte[nElements];
+        final byte[] bytes = buffer.elements();
+        for (int i = 0; i < nElements; i++) {
+            result[i] = (byte) AsciiNumberUtils.parseLong(bytes, arrayElementBounds[2 * i], arrayElementBounds[2 * i + 1]);
+        }
+        return result;
     }
 
     @Override
@@ -165,7 +181,16 @@ public class JsonSerialiser implements IoSerialiser {
 
     @Override
     public double[] getDoubleArray(final double[] dst, final int length) {
-        return tempRoot.get(queryFieldName).as(double[].class);
+        final int nElements = indexNumberArray(queryFieldName);
+        if (nElements < 0) {
+            return tempRoot.get(queryFieldName).as(double[].class);
+        }
+        final double[] result = dst != null && dst.length == nElements ? dst : new double[nElements];
+        final byte[] bytes = buffer.elements();
+        for (int i = 0; i < nElements; i++) {
+            result[i] = AsciiNumberUtils.parseDouble(bytes, arrayElementBounds[2 * i], arrayElementBounds[2 * i + 1]);
+        }
+        return result;
     }
 
     @Override
@@ -190,7 +215,16 @@ public class JsonSerialiser implements IoSerialiser {
 
     @Override
     public float[] getFloatArray(final float[] dst, final int length) {
-        return tempRoot.get(queryFieldName).as(float[].class);
+        final int nElements = indexNumberArray(queryFieldName);
+        if (nElements < 0) {
+            return tempRoot.get(queryFieldName).as(float[].class);
+        }
+        final float[] result = dst != null && dst.length == nElements ? dst : new float[nElements];
+        final byte[] bytes = buffer.elements();
+        for (int i = 0; i < nElements; i++) {
+            result[i] = AsciiNumberUtils.parseFloat(bytes, arrayElementBounds[2 * i], arrayElementBounds[2 * i + 1]);
+        }
+        return result;
     }
 
     @Override
@@ -200,7 +234,16 @@ public class JsonSerialiser implements IoSerialiser {
 
     @Override
     public int[] getIntArray(final int[] dst, final int length) {
-        return tempRoot.get(queryFieldName).as(int[].class);
+        final int nElements = indexNumberArray(queryFieldName);
+        if (nElements < 0) {
+            return tempRoot.get(queryFieldName).as(int[].class);
+        }
+        final int[] result = dst != null && dst.length == nElements ? dst : new int[nElements];
+        final byte[] bytes = buffer.elements();
+        for (int i = 0; i < nElements; i++) {
+            result[i] = (int) AsciiNumberUtils.parseLong(bytes, arrayElementBounds[2 * i], arrayElementBounds[2 * i + 1]);
+        }
+        return result;
     }
 
     @Override
@@ -216,7 +259,16 @@ public class JsonSerialiser implements IoSerialiser {
 
     @Override
     public long[] getLongArray(final long[] dst, final int length) {
-        return tempRoot.get(queryFieldName).as(long[].class);
+        final int nElements = indexNumberArray(queryFieldName);
+        if (nElements < 0) {
+            return tempRoot.get(queryFieldName).as(long[].class);
+        }
+        final long[] result = dst != null && dst.length == nElements ? dst : new long[nElements];
+        final byte[] bytes = buffer.elements();
+        for (int i = 0; i < nElements; i++) {
+            result[i] = AsciiNumberUtils.parseLong(bytes, arrayElementBounds[2 * i], arrayElementBounds[2 * i + 1]);
+        }
+        return result;
     }
 
     @Override
@@ -251,7 +303,16 @@ public class JsonSerialiser implements IoSerialiser {
 
     @Override
     public short[] getShortArray(final short[] dst, final int length) {
-        return tempRoot.get(queryFieldName).as(short[].class);
+        final int nElements = indexNumberArray(queryFieldName);
+        if (nElements < 0) {
+            return tempRoot.get(queryFieldName).as(short[].class);
+        }
+        final short[] result = dst != null && dst.length == nElements ? dst : new short[nElements];
+        final byte[] bytes = buffer.elements();
+        for (int i = 0; i < nElements; i++) {
+            result[i] = (short) AsciiNumberUtils.parseLong(bytes, arrayElementBounds[2 * i], arrayElementBounds[2 * i + 1]);
+        }
+        return result;
     }
 
     @Override
@@ -281,6 +342,7 @@ public class JsonSerialiser implements IoSerialiser {
 
         try {
             tempRoot = root = iter.readAny();
+            rootFieldIndexValid = false;
         } catch (IOException e) {
             throw new IllegalStateException(NOT_A_JSON_COMPATIBLE_PROTOCOL, e);
         }
@@ -540,20 +602,17 @@ public class JsonSerialiser implements IoSerialiser {
 
     @Override
     public void put(final String fieldName, final byte[] values, final int n) {
-        lineBreak();
-        builder.append('\"').append(fieldName).append("\": ").append("[");
-        if (values == null || values.length <= 0) {
-            builder.append(']');
-            return;
-        }
-        builder.append(values[0]);
-        final int valuesSize = values.length;
-        final int nElements = n >= 0 ? Math.min(n, valuesSize) : valuesSize;
-        for (int i = 1; i < nElements; i++) {
-            builder.append(", ").append(values[i]);
+        final int nElements = putNumberArrayStart(fieldName, values == null ? 0 : values.length, n, AsciiNumberUtils.MAX_LONG_LENGTH);
+        final byte[] bytes = buffer.elements();
+        int pos = buffer.position();
+        for (int i = 0; i < nElements; i++) {
+            if (i > 0) {
+                bytes[pos++] = ',';
+                bytes[pos++] = ' ';
+            }
+            pos = AsciiNumberUtils.putLong(bytes, pos, values[i]);
         }
-        builder.append(']');
-        hasFieldBefore = true;
+        putNumberArrayEnd(pos);
     }
 
     @Override
@@ -570,20 +629,17 @@ public class JsonSerialiser implements IoSerialiser {
 
     @Override
     public void put(final String fieldName, final char[] values, final int n) {
-        lineBreak();
-        builder.append('\"').append(fieldName).append("\": ").append("[");
-        if (values == null || values.length <= 0) {
-            builder.append(']');
-            return;
-        }
-        builder.append((int) values[0]);
-        final int valuesSize = values.length;
-        final int nElements = n >= 0 ? Math.min(n, valuesSize) : valuesSize;
-        for (int i = 1; i < nElements; i++) {
-            builder.append(", ").append((int) values[i]);
+        final int nElements = putNumberArrayStart(fieldName, values == null ? 0 : values.length, n, AsciiNumberUtils.MAX_LONG_LENGTH);
+        final byte[] bytes = buffer.elements();
+        int pos = buffer.position();
+        for (int i = 0; i < nElements; i++) {
+            if (i > 0) {
+                bytes[pos++] = ',';
+                bytes[pos++] = ' ';
+            }
+            pos = AsciiNumberUtils.putLong(bytes, pos, values[i]);
         }
-        builder.append(']');
-        hasFieldBefore = true;
+        putNumberArrayEnd(pos);
     }
 
     @Override
@@ -600,20 +656,17 @@ public class JsonSerialiser implements IoSerialiser {
 
     @Override
     public void put(final String fieldName, final double[] values, final int n) {
-        lineBreak();
-        builder.append('\"').append(fieldName).append("\": ").append("[");
-        if (values == null || values.length <= 0) {
-            builder.append(']');
-            return;
-        }
-        builder.append(values[0]);
-        final int valuesSize = values.length;
-        final int nElements = n >= 0 ? Math.min(n, valuesSize) : valuesSize;
-        for (int i = 1; i < nElements; i++) {
-            builder.append(", ").append(values[i]);
+        final int nElements = putNumberArrayStart(fieldName, values == null ? 0 : values.length, n, AsciiNumberUtils.MAX_DOUBLE_LENGTH);
+        final byte[] bytes = buffer.elements();
+        int pos = buffer.position();
+        for (int i = 0; i < nElements; i++) {
+            if (i > 0) {
+                bytes[pos++] = ',';
+                bytes[pos++] = ' ';
+            }
+            pos = AsciiNumberUtils.putDouble(bytes, pos, values[i]);
         }
-        builder.append(']');
-        hasFieldBefore = true;
+        putNumberArrayEnd(pos);
     }
 
     @Override
@@ -630,20 +683,17 @@ public class JsonSerialiser implements IoSerialiser {
 
     @Override
     public void put(final String fieldName, final float[] values, final int n) {
-        lineBreak();
-        builder.append('\"').append(fieldName).append("\": ").append("[");
-        if (values == null || values.length <= 0) {
-            builder.append(']');
-            return;
-        }
-        builder.append(values[0]);
-        final int valuesSize = values.length;
-        final int nElements = n >= 0 ? Math.min(n, valuesSize) : valuesSize;
-        for (int i = 1; i < nElements; i++) {
-            builder.append(", ").append(values[i]);
+        final int nElements = putNumberArrayStart(fieldName, values == null ? 0 : values.length, n, AsciiNumberUtils.MAX_FLOAT_LENGTH);
+        final byte[] bytes = buffer.elements();
+        int pos = buffer.position();
+        for (int i = 0; i < nElements; i++) {
+            if (i > 0) {
+                bytes[pos++] = ',';
+                bytes[pos++] = ' ';
+            }
+            pos = AsciiNumberUtils.putFloat(bytes, pos, values[i]);
         }
-        builder.append(']');
-        hasFieldBefore = true;
+        putNumberArrayEnd(pos);
     }
 
     @Override
@@ -660,20 +710,17 @@ public class JsonSerialiser implements IoSerialiser {
 
     @Override
     public void put(final String fieldName, final int[] values, final int n) {
-        lineBreak();
-        builder.append('\"').append(fieldName).append("\": ").append("[");
-        if (values == null || values.length <= 0) {
-            builder.append(']');
-            return;
-        }
-        builder.append(values[0]);
-        final int valuesSize = values.length;
-        final int nElements = n >= 0 ? Math.min(n, valuesSize) : valuesSize;
-        for (int i = 1; i < nElements; i++) {
-            builder.append(", ").append(values[i]);
+        final int nElements = putNumberArrayStart(fieldName, values == null ? 0 : values.length, n, AsciiNumberUtils.MAX_LONG_LENGTH);
+        final byte[] bytes = buffer.elements();
+        int pos = buffer.position();
+        for (int i = 0; i < nElements; i++) {
+            if (i > 0) {
+                bytes[pos++] = ',';
+                bytes[pos++] = ' ';
+            }
+            pos = AsciiNumberUtils.putLong(bytes, pos, values[i]);
         }
-        builder.append(']');
-        hasFieldBefore = true;
+        putNumberArrayEnd(pos);
     }
 
     @Override
@@ -690,20 +737,17 @@ public class JsonSerialiser implements IoSerialiser {
 
     @Override
     public void put(final String fieldName, final long[] values, final int n) {
-        lineBreak();
-        builder.append('\"').append(fieldName).append("\": ").append("[");
-        if (values == null || values.length <= 0) {
-            builder.append(']');
-            return;
-        }
-        builder.append(values[0]);
-        final int valuesSize = values.length;
-        final int nElements = n >= 0 ? Math.min(n, valuesSize) : valuesSize;
-        for (int i = 1; i < nElements; i++) {
-            builder.append(", ").append(values[i]);
+        final int nElements = putNumberArrayStart(fieldName, values == null ? 0 : values.length, n, AsciiNumberUtils.MAX_LONG_LENGTH);
+        final byte[] bytes = buffer.elements();
+        int pos = buffer.position();
+        for (int i = 0; i < nElements; i++) {
+            if (i > 0) {
+                bytes[pos++] = ',';
+                bytes[pos++] = ' ';
+            }
+            pos = AsciiNumberUtils.putLong(bytes, pos, values[i]);
         }
-        builder.append(']');
-        hasFieldBefore = true;
+        putNumberArrayEnd(pos);
     }
 
     @Override
@@ -720,20 +764,17 @@ public class JsonSerialiser implements IoSerialiser {
 
     @Override
     public void put(final String fieldName, final short[] values, final int n) {
-        lineBreak();
-        builder.append('\"').append(fieldName).append("\": ").append("[");
-        if (values == null || values.length <= 0) {
-            builder.append(']');
-            return;
-        }
-        builder.append(values[0]);
-        final int valuesSize = values.length;
-        final int nElements = n >= 0 ? Math.min(n, valuesSize) : valuesSize;
-        for (int i = 1; i < nElements; i++) {
-            builder.append(", ").append(values[i]);
+        final int nElements = putNumberArrayStart(fieldName, values == null ? 0 : values.length, n, AsciiNumberUtils.MAX_LONG_LENGTH);
+        final byte[] bytes = buffer.elements();
+        int pos = buffer.position();
+        for (int i = 0; i < nElements; i++) {
+            if (i > 0) {
+                bytes[pos++] = ',';
+                bytes[pos++] = ' ';
+            }
+            pos = AsciiNumberUtils.putLong(bytes, pos, values[i]);
         }
-        builder.append(']');
-        hasFieldBefore = true;
+        putNumberArrayEnd(pos);
     }
 
     @Override
@@ -791,10 +832,7 @@ public class JsonSerialiser implements IoSerialiser {
         indentation = indentation.substring(0, Math.max(indentation.length() - DEFAULT_INDENTATION, 0));
         builder.append(LINE_BREAK).append(indentation).append(BRACKET_CLOSE).append(LINE_BREAK);
         hasFieldBefore = true;
-        final byte[] outputStrBytes = builder.toString().getBytes(StandardCharsets.UTF_8);
-        System.arraycopy(outputStrBytes, 0, buffer.elements(), buffer.position(), outputStrBytes.length);
-        buffer.position(buffer.position() + outputStrBytes.length);
-        builder.setLength(0);
+        flushBuilder(0);
     }
 
     @Override
@@ -852,6 +890,7 @@ public class JsonSerialiser implements IoSerialiser {
     @Override
     public void setBuffer(final IoBuffer buffer) {
         this.buffer = buffer;
+        rootFieldIndexValid = false;
     }
 
     @Override
@@ -884,6 +923,98 @@ public class JsonSerialiser implements IoSerialiser {
         return n;
     }
 
+    /**
+     * copies the pending builder content into the IoBuffer
+     *
+     * @param additionalCapacity capacity to be reserved in addition to the builder content
+     */
+    private void flushBuilder(final int additionalCapacity) {
+        final byte[] outputStrBytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        buffer.ensureAdditionalCapacity(outputStrBytes.length + additionalCapacity);
+        System.arraycopy(outputStrBytes, 0, buffer.elements(), buffer.position(), outputStrBytes.length);
+        buffer.position(buffer.position() + outputStrBytes.length);
+        builder.setLength(0);
+    }
+
+    /**
+     * Indexes the name and value range of all fields in the root JSON object. The index is built lazily and directly
+     * on the byte buffer (i.e. without the jsoniter 'Any' tree) to allow numeric arrays to be parsed in place.
+     */
+    private void indexRootFields() {
+        rootFieldIndex.clear();
+        rootFieldIndexValid = true;
+        final byte[] bytes = buffer.elements();
+        final int limit = buffer.limit();
+        int pos = skipWhitespace(bytes, 0, limit);
+        if (pos >= limit || bytes[pos] != BRACKET_OPEN) {
+            return;
+        }
+        pos = skipWhitespace(bytes, pos + 1, limit);
+        while (pos < limit && bytes[pos] == '"') {
+            final int keyEnd = skipString(bytes, pos, limit);
+            final String key = new String(bytes, pos + 1, Math.max(keyEnd - pos - 2, 0), StandardCharsets.UTF_8);
+            pos = skipWhitespace(bytes, keyEnd, limit);
+            if (pos >= limit || bytes[pos] != ':') {
+                // unexpected format -- remaining fields are resolved via the 'Any' tree
+                return;
+            }
+            final int valueStart = skipWhitespace(bytes, pos + 1, limit);
+            final int valueEnd = skipValue(bytes, valueStart, limit);
+            rootFieldIndex.put(key, ((long) valueStart << 32) | valueEnd);
+            pos = skipWhitespace(bytes, valueEnd, limit);
+            if (pos >= limit || bytes[pos] != ',') {
+                return;
+            }
+            pos = skipWhitespace(bytes, pos + 1, limit);
+        }
+    }
+
+    /**
+     * @param fieldName name of the root-level field
+     * @return number of elements of the flat numeric array with the element ranges stored in {@link #arrayElementBounds}
+     *         or '-1' if the field is unknown or not a flat numeric array
+     */
+    private int indexNumberArray(final String fieldName) {
+        if (!rootFieldIndexValid) {
+            indexRootFields();
+        }
+        final Long range = rootFieldIndex.get(fieldName);
+        if (range == null) {
+            return -1;
+        }
+        final byte[] bytes = buffer.elements();
+        final int start = (int) (range >>> 32);
+        final int end = (int) range.longValue();
+        if (end - start < 2 || bytes[start] != '[' || bytes[end - 1] != ']') {
+            return -1;
+        }
+        int nElements = 0;
+        int pos = skipWhitespace(bytes, start + 1, end - 1);
+        while (pos < end - 1) {
+            final int elementStart = pos;
+            while (pos < end - 1 && bytes[pos] != ',' && !isWhitespace(bytes[pos])) {
+                if (bytes[pos] == '[' || bytes[pos] == '{' || bytes[pos] == '"') {
+                    return -1;
+                }
+                pos++;
+            }
+            if (pos == elementStart) {
+                return -1;
+            }
+            if (2 * nElements + 2 > arrayElementBounds.length) {
+                arrayElementBounds = Arrays.copyOf(arrayElementBounds, 2 * arrayElementBounds.length);
+            }
+            arrayElementBounds[2 * nElements] = elementStart;
+            arrayElementBounds[2 * nElements + 1] = pos;
+            nElements++;
+            pos = skipWhitespace(bytes, pos, end - 1);
+            if (pos < end - 1 && bytes[pos] == ',') {
+                pos = skipWhitespace(bytes, pos + 1, end - 1);
+            }
+        }
+        return nElements;
+    }
+
     private void lineBreak() {
         if (hasFieldBefore) {
             builder.append(',');
@@ -921,4 +1052,74 @@ public class JsonSerialiser implements IoSerialiser {
     public BiFunction<Type, Type[], FieldSerialiser<Object>> getSerialiserLookupFunction() {
         return fieldSerialiserLookupFunction;
     }
+
+    private void putNumberArrayEnd(final int position) {
+        buffer.elements()[position] = ']';
+        buffer.position(position + 1);
+    }
+
+    /**
+     * writes the field name and opening bracket and reserves sufficient buffer capacity for the subsequent in-place
+     * formatting of the array elements
+     *
+     * @return number of elements to be written
+     */
+    private int putNumberArrayStart(final String fieldName, final int valuesSize, final int n, final int maxElementLength) {
+        lineBreak();
+        builder.append('\"').append(fieldName).append("\": [");
+        hasFieldBefore = true;
+        final int nElements = n >= 0 ? Math.min(n, valuesSize) : valuesSize;
+        flushBuilder(2 + nElements * (maxElementLength + 2));
+        return nElements;
+    }
+
+    private static boolean isWhitespace(final byte c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    private static int skipString(final byte[] bytes, final int start, final int limit) {
+        int pos = start + 1;
+        while (pos < limit && bytes[pos] != '"') {
+            pos += bytes[pos] == '\\' ? 2 : 1;
+        }
+        return Math.min(pos + 1, limit);
+    }
+
+    private static int skipValue(final byte[] bytes, final int start, final int limit) {
+        int depth = 0;
+        int pos = start;
+        while (pos < limit) {
+            final byte c = bytes[pos];
+            if (c == '"') {
+                pos = skipString(bytes, pos, limit);
+                if (depth == 0) {
+                    return pos;
+                }
+                continue;
+            }
+            if (c == '[' || c == BRACKET_OPEN) {
+                depth++;
+            } else if (c == ']' || c == BRACKET_CLOSE) {
+                if (depth == 0) {
+                    return pos;
+                }
+                depth--;
+                if (depth == 0) {
+                    return pos + 1;
+                }
+            } else if (depth == 0 && (c == ',' || isWhitespace(c))) {
+                return pos;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int skipWhitespace(final byte[] bytes, final int start, final int limit) {
+        int pos = start;
+        while (pos < limit && (isWhitespace(bytes[pos]) || bytes[pos] == 0)) {
+            pos++;
+        }
+        return pos;
+    }
 }
@@ -0,0 +1,184 @@
+package de.gsi.serializer.spi;
+
+import java.util.Arrays;
+
+import de.gsi.dataset.utils.AssertUtils;
+import de.gsi.serializer.DataType;
+import de.gsi.serializer.IoBuffer;
+
+/**
+ * Read-only, lazy view onto a primitive array that is encoded in an {@link IoBuffer} by the {@link BinarySerialiser}.
+ * <p>
+ * Elements are decoded on access via the absolute (position-based) {@link IoBuffer} getters, i.e. neither the buffer
+ * position is changed nor is the array copied. Use {@link #toDoubleArray(double[])} et al. to materialise the values
+ * if needed. The view is only valid as long as the underlying buffer content is not modified or reused.
+ *
+ * @author rstein
+ * @see BinarySerialiser#getArrayView(WireDataFieldDescription)
+ */
+public class PrimitiveArrayView {
+    private static final int SIZE_OF_FLOAT = 4;
+    private static final int SIZE_OF_DOUBLE = 8;
+    private final IoBuffer buffer;
+    private final DataType dataType;
+    private final int[] dimensions;
+    private final int elementStart;
+    private final int elementSize;
+    private final int nElements;
+
+    PrimitiveArrayView(final IoBuffer buffer, final DataType dataType, final int[] dimensions, final int elementStart, final int nElements) {
+        this.buffer = buffer;
+        this.dataType = dataType;
+        this.dimensions = dimensions;
+        this.elementStart = elementStart;
+        this.elementSize = dataType.getPrimitiveSize();
+        this.nElements = nElements;
+    }
+
+    public boolean getBoolean(final int index) {
+        checkIndex(index);
+        if (dataType != DataType.BOOL_ARRAY) {
+            throw new IllegalStateException("cannot read boolean from " + dataType);
+        }
+        return buffer.getBoolean(elementStart + index);
+    }
+
+    /**
+     * @return the array dimensions as encoded on the wire (N.B. copy)
+     */
+    public int[] getDimensions() {
+        return Arrays.copyOf(dimensions, dimensions.length);
+    }
+
+    /**
+     * @param index element index
+     * @return element value converted to double (supported for all numeric and char arrays)
+     */
+    public double getDouble(final int index) {
+        checkIndex(index);
+        final int position = elementStart + index * elementSize;
+        switch (dataType) {
+        case BYTE_ARRAY:
+            return buffer.getByte(position);
+        case SHORT_ARRAY:
+            return buffer.getShort(position);
+        case CHAR_ARRAY:
+            return buffer.getChar(position);
+        case INT_ARRAY:
+            return buffer.getInt(position);
+        case LONG_ARRAY:
+            return buffer.getLong(position);
+        case FLOAT_ARRAY:
+            return buffer.getFloat(position);
+        case DOUBLE_ARRAY:
+            return buffer.getDouble(position);
+        default:
+            throw new IllegalStateException("cannot read double from " + dataType);
+        }
+    }
+
+    /**
+     * @param index element index
+     * @return element value converted to long (supported for all integral and char arrays)
+     */
+    public long getLong(final int index) {
+        checkIndex(index);
+        final int position = elementStart + index * elementSize;
+        switch (dataType) {
+        case BYTE_ARRAY:
+            return buffer.getByte(position);
+        case SHORT_ARRAY:
+            return buffer.getShort(position);
+        case CHAR_ARRAY:
+            return buffer.getChar(position);
+        case INT_ARRAY:
+            return buffer.getInt(position);
+        case LONG_ARRAY:
+            return buffer.getLong(position);
+        default:
+            throw new IllegalStateException("cannot read long from " + dataType);
+        }
+    }
+
+    public DataType getDataType() {
+        return dataType;
+    }
+
+    /**
+     * @return absolute buffer position of the first array element
+     */
+    public int getElementStart() {
+        return elementStart;
+    }
+
+    public int size() {
+        return nElements;
+    }
+
+    /**
+     * @param dst optional destination array (re-used if large enough)
+     * @return the view's values converted to double
+     */
+    public double[] toDoubleArray(final double[] dst) {
+        final double[] ret = dst == null || dst.length < nElements ? new double[nElements] : dst;
+        if (dataType == DataType.DOUBLE_ARRAY) {
+            for (int i = 0; i < nElements; i++) {
+                ret[i] = buffer.getDouble(elementStart + i * SIZE_OF_DOUBLE);
+            }
+            return ret;
+        }
+        for (int i = 0; i < nElements; i++) {
+            ret[i] = getDouble(i);
+        }
+        return ret;
+    }
+
+    /**
+     * @param dst optional destination array (re-used if large enough)
+     * @return the view's values converted to float
+     */
+    public float[] toFloatArray(final float[] dst) {
+        final float[] ret = dst == null || dst.length < nElements ? new float[nElements] : dst;
+        if (dataType == DataType.FLOAT_ARRAY) {
+            for (int i = 0; i < nElements; i++) {
+                ret[i] = buffer.getFloat(elementStart + i * SIZE_OF_FLOAT);
+            }
+            return ret;
+        }
+        for (int i = 0; i < nElements; i++) {
+            ret[i] = (float) getDouble(i);
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return "PrimitiveArrayView{" + dataType + ", dims=" + Arrays.toString(dimensions) + ", nElements=" + nElements + ", elementStart=" + elementStart + '}';
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= nElements) {
+            throw new IndexOutOfBoundsException("index " + index + " out of range [0, " + nElements + ")");
+        }
+    }
+
+    static PrimitiveArrayView wrap(final IoBuffer buffer, final WireDataFieldDescription fieldDescription) {
+        AssertUtils.notNull("buffer", buffer);
+        AssertUtils.notNull("fieldDescription", fieldDescription);
+        final DataType dataType = fieldDescription.getDataType();
+        if (!dataType.isArray() || dataType == DataType.STRING_ARRAY) {
+            throw new IllegalArgumentException("field '" + fieldDescription.getFieldName() + "' is not a primitive array but " + dataType);
+        }
+        int position = fieldDescription.getDataStartPosition();
+        final int nDims = buffer.getInt(position);
+        position += Integer.BYTES;
+        final int[] dims = new int[nDims];
+        for (int i = 0; i < nDims; i++) {
+            dims[i] = buffer.getInt(position);
+            position += Integer.BYTES;
+        }
+        final int nElements = buffer.getInt(position); // (strided) array length
+        position += Integer.BYTES;
+        return new PrimitiveArrayView(buffer, dataType, dims, position, nElements);
+    }
+}
@@ -1,7 +1,6 @@
 package de.gsi.serializer.spi;
 
 import java.nio.CharBuffer;
-import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -22,7 +21,7 @@ public class WireDataFieldDescription implements FieldDescription {
     private final String fieldName;
     private final int fieldNameHashCode;
     private final DataType dataType;
-    private final List<FieldDescription> children = new ArrayList<>();
+    private final FieldDescriptionList children = new FieldDescriptionList();
     private final FieldDescription parent;
     private final int fieldStart;
     private final int fieldDataStart;
@@ -93,17 +92,7 @@ public class WireDataFieldDescription implements FieldDescription {
 
     @Override
     public FieldDescription findChildField(final int fieldNameHashCode, final String fieldName) {
-        for (int i = 0; i < children.size(); i++) { //NOSONAR
-            final FieldDescription field = children.get(i);
-            final String name = field.getFieldName();
-            if (name == fieldName) { //NOSONAR //NOPMD early return if the same String object reference
-                return field;
-            }
-            if (field.hashCode() == fieldNameHashCode && name.equals(fieldName)) {
-                return field;
-            }
-        }
-        return null;
+        return children.find(fieldNameHashCode, fieldName);
     }
 
     @Override
@@ -12,7 +12,6 @@ import org.slf4j.LoggerFactory;
 import de.gsi.dataset.*;
 import de.gsi.dataset.spi.AbstractDataSet;
 import de.gsi.dataset.spi.DataSetBuilder;
-import de.gsi.dataset.spi.utils.MathUtils;
 import de.gsi.dataset.spi.utils.StringHashMapList;
 import de.gsi.dataset.utils.AssertUtils;
 import de.gsi.dataset.utils.GenericsHelper;
@@ -28,6 +27,7 @@ import de.gsi.serializer.spi.WireDataFieldDescription;
  * <li>using floats (ie. memory-IO vs network-IO bound serialisation), or</li>
  * <li>via {@link #setDataLablesSerialised(boolean)} (default: true) to control whether data labels and styles shall be processed</li>
  * <li>via {@link #setMetaDataSerialised(boolean)} (default: true) to control whether meta data shall be processed</li>
+ * <li>via {@link #writeDelta(DataSet, long, long, boolean)} to transmit only the appended/modified tail of streamed data sets</li>
  * </ul>
  *
  * @author rstein
@@ -50,9 +50,14 @@ public class DataSetSerialiser { // NOPMD
     private static final String INFO_LIST = "infoList";
     private static final String DATA_STYLES = "dataStyles";
     private static final String DATA_LABELS = "dataLabels";
+    private static final String DELTA_FIRST_SEQUENCE = "deltaFirstSequence";
+    private static final String DELTA_ACK_SEQUENCE = "deltaAckSequence";
+    private static final String DELTA_FROM_SEQUENCE = "deltaFromSequence";
+    private static final String DATA_COUNT = "dataCount";
     private final IoSerialiser ioSerialiser;
     private boolean transmitDataLabels = true;
     private boolean transmitMetaData = true;
+    private double[] deltaBuffer; // re-used read buffer for the samples of delta updates
 
     private DataSetSerialiser(final IoSerialiser ioSerialiser) {
         this.ioSerialiser = ioSerialiser;
@@ -82,6 +87,10 @@ public class DataSetSerialiser { // NOPMD
      * The data format is a custom extension of csv with an additional #-commented Metadata Header and a $-commented
      * column header. Expects the following columns in this order to be present: index, x, y, eyn, eyp.
      *
+     * Incremental updates written by {@link #writeDelta(DataSet, long, long, boolean)} are merged with the samples, data
+     * labels and styles of the given in-place DataSet, which thus must reflect the acknowledged state the update is based
+     * on (otherwise an {@link IllegalStateException} is thrown and a full update should be requested).
+     *
      * @param dataSet inplace DataSet that is being overwritten if non-null and {@link DataSet#set(DataSet, boolean)} is implemented
      * @return DataSet with the data and metadata read from the file
      */
@@ -92,17 +101,31 @@ public class DataSetSerialiser { // NOPMD
         // parsed until end of buffer
 
         parseHeaders(ioSerialiser, builder, fieldRoot);
+        final DeltaHeader delta = parseDeltaHeader(fieldRoot, dataSet);
 
         if (isMetaDataSerialised()) {
             parseMetaData(ioSerialiser, builder, fieldRoot);
         }
 
-        if (isDataLablesSerialised()) {
-            parseDataLabels(builder, fieldRoot);
-        }
-
-        parseNumericData(ioSerialiser, builder, dataSet, fieldRoot);
+        if (delta == null) {
+            if (isDataLablesSerialised()) {
+                parseDataLabels(builder, fieldRoot);
+            }
+            parseNumericData(ioSerialiser, builder, dataSet, fieldRoot, null);
+            return finishRead(root, fieldRoot, builder, dataSet);
+        }
+        // N.B. delta updates are merged in place into the arrays of the given DataSet -> guard against concurrent readers
+        return dataSet.lock().writeLockGuard(() -> {
+            delta.retainDataLabels(builder, dataSet);
+            if (isDataLablesSerialised()) {
+                parseDataLabels(builder, fieldRoot); // labels and styles of the transmitted samples
+            }
+            parseNumericData(ioSerialiser, builder, dataSet, fieldRoot, delta);
+            return finishRead(root, fieldRoot, builder, dataSet);
+        });
+    }
 
+    private DataSet finishRead(final FieldDescription root, final FieldDescription fieldRoot, final DataSetBuilder builder, final DataSet dataSet) {
         if (root.getChildren().size() != 2) {
             throw new IllegalArgumentException("fieldRoot children-count != 2: " + fieldRoot.getChildren().size());
         }
@@ -141,25 +164,97 @@ public class DataSetSerialiser { // NOPMD
     public void write(final DataSet dataSet, final boolean asFloat) {
         AssertUtils.notNull("dataSet", dataSet);
         AssertUtils.notNull("ioSerialiser", ioSerialiser);
+        writeDataSet(dataSet, asFloat, -1, -1, -1);
+    }
+
+    /**
+     * Write an incremental ('delta') update of a data set into the byte buffer, i.e. only the samples (including their
+     * data labels and styles if enabled) that the receiver has not yet acknowledged, the header (name, axis descriptions
+     * and ranges) and (if enabled) the meta data.
+     * <p>
+     * Samples are identified by monotonically increasing sequence numbers (e.g. {@code RingBufferDataSet#getSnapshotSequence()}
+     * or the number of samples dropped so far for rolling/FIFO buffers): the sample at index {@code i} has the sequence
+     * {@code firstSequence + i}. The receiver applies the update in place to its copy of the data set via
+     * {@link #read(DataSet)}: its samples preceding {@code firstSequence} are dropped, the remaining ones kept and the
+     * new samples appended. The index ranges are derived from the sequences on either side, thus remain valid if the
+     * sender's storage wraps around (ring buffers). If the acknowledged samples are no longer retained by the data set
+     * (or {@code ackSequence} is negative, i.e. unknown) a full update is written instead.
+     *
+     * @param dataSet The DataSet to export
+     * @param firstSequence sequence number of the first sample (index '0') of the data set
+     * @param ackSequence sequence following the last sample the receiver has acknowledged, i.e.
+     *            {@code firstSequence + getDataCount()} at the time of the receiver's last (full or delta) update
+     * @param asFloat {@code true}: encode data as binary floats (smaller size, performance), or {@code false} as double
+     *            (better precision)
+     */
+    public void writeDelta(final DataSet dataSet, final long firstSequence, final long ackSequence, final boolean asFloat) {
+        writeDelta(dataSet, firstSequence, ackSequence, ackSequence, asFloat);
+    }
+
+    /**
+     * Write an incremental ('delta') update as {@link #writeDelta(DataSet, long, long, boolean)} that additionally
+     * re-transmits the samples from {@code fromSequence} onwards (e.g. modified after the receiver's last update).
+     *
+     * @param dataSet The DataSet to export
+     * @param firstSequence sequence number of the first sample (index '0') of the data set
+     * @param ackSequence sequence following the last sample the receiver has acknowledged
+     * @param fromSequence sequence of the first sample to be transmitted ({@code firstSequence <= fromSequence <= ackSequence})
+     * @param asFloat {@code true}: encode data as binary floats (smaller size, performance), or {@code false} as double
+     *            (better precision)
+     */
+    public void writeDelta(final DataSet dataSet, final long firstSequence, final long ackSequence, final long fromSequence, final boolean asFloat) {
+        AssertUtils.notNull("dataSet", dataSet);
+        AssertUtils.notNull("ioSerialiser", ioSerialiser);
+        AssertUtils.gtEqThanZero("firstSequence", firstSequence);
+        if (dataSet instanceof GridDataSet) {
+            throw new IllegalArgumentException("delta encoding is not supported for GridDataSet: " + dataSet.getName());
+        }
+        final long endSequence = firstSequence + dataSet.getDataCount();
+        if (ackSequence > endSequence || fromSequence > ackSequence) {
+            throw new IllegalArgumentException("acknowledged sequence " + ackSequence + " (from " + fromSequence + ") exceeds end sequence " + endSequence + " of " + dataSet.getName());
+        }
+        if (fromSequence < firstSequence) {
+            writeDataSet(dataSet, asFloat, -1, -1, -1); // acknowledged samples are no longer retained -> full update
+            return;
+        }
+        writeDataSet(dataSet, asFloat, firstSequence, ackSequence, fromSequence);
+    }
+
+    /**
+     * @param dataSet The DataSet to export
+     * @param asFloat {@code true}: encode data as binary floats, or {@code false} as double
+     * @param firstSequence sequence number of the first sample of the data set (negative: full update)
+     * @param ackSequence sequence following the last sample the receiver has acknowledged (only for delta updates)
+     * @param fromSequence sequence of the first transmitted sample (only for delta updates)
+     */
+    protected void writeDataSet(final DataSet dataSet, final boolean asFloat, final long firstSequence, final long ackSequence, final long fromSequence) {
         final String dataStartMarkerName = "START_MARKER_DATASET:" + dataSet.getName();
         final WireDataFieldDescription dataStartMarker = new WireDataFieldDescription(ioSerialiser, null, dataStartMarkerName.hashCode(), dataStartMarkerName, DataType.OTHER, -1, -1, -1);
         ioSerialiser.putStartMarker(dataStartMarker);
 
         writeHeaderDataToStream(dataSet);
+        final boolean isDelta = firstSequence >= 0;
+        final int fromIndex = isDelta ? (int) (fromSequence - firstSequence) : 0;
+        if (isDelta) {
+            ioSerialiser.put(DELTA_ACK_SEQUENCE, ackSequence);
+            ioSerialiser.put(DELTA_FIRST_SEQUENCE, firstSequence);
+            ioSerialiser.put(DELTA_FROM_SEQUENCE, fromSequence);
+            ioSerialiser.put(DATA_COUNT, dataSet.getDataCount());
+        }
 
         if (isMetaDataSerialised()) {
             writeMetaDataToStream(dataSet);
         }
 
         if (isDataLablesSerialised()) {
-            writeDataLabelsToStream(dataSet);
+            writeDataLabelsToStream(dataSet, fromIndex);
         }
 
         if (asFloat) {
-            writeNumericBinaryDataToBufferFloat(dataSet);
+            writeNumericBinaryDataToBufferFloat(dataSet, fromIndex);
 
         } else {
-            writeNumericBinaryDataToBufferDouble(dataSet);
+            writeNumericBinaryDataToBufferDouble(dataSet, fromIndex);
         }
 
         final String dataEndMarkerName = "END_MARKER_DATASET:" + dataSet.getName();
@@ -210,7 +305,7 @@ public class DataSetSerialiser { // NOPMD
         case LONG_ARRAY:
             return GenericsHelper.toDoublePrimitive(ioSerialiser.getLongArray());
         case FLOAT_ARRAY:
-            return GenericsHelper.toDoublePrimitive(ioSerialiser.getFloatArray());
+            return ioSerialiser.getFloatArrayAsDouble(origArray);
         case DOUBLE_ARRAY:
             return ioSerialiser.getDoubleArray(origArray);
         case CHAR_ARRAY:
@@ -272,7 +367,41 @@ public class DataSetSerialiser { // NOPMD
         }
     }
 
+    protected DeltaHeader parseDeltaHeader(final FieldDescription fieldRoot, final DataSet origDataSet) {
+        if (checkFieldCompatibility(fieldRoot, DELTA_ACK_SEQUENCE.hashCode(), DELTA_ACK_SEQUENCE, DataType.LONG) == null) {
+            return null; // full update
+        }
+        final long ackSequence = ioSerialiser.getBuffer().getLong();
+        if (checkFieldCompatibility(fieldRoot, DELTA_FIRST_SEQUENCE.hashCode(), DELTA_FIRST_SEQUENCE, DataType.LONG) == null) {
+            throw new InputMismatchException("delta update without '" + DELTA_FIRST_SEQUENCE + "' field");
+        }
+        final long firstSequence = ioSerialiser.getBuffer().getLong();
+        if (checkFieldCompatibility(fieldRoot, DELTA_FROM_SEQUENCE.hashCode(), DELTA_FROM_SEQUENCE, DataType.LONG) == null) {
+            throw new InputMismatchException("delta update without '" + DELTA_FROM_SEQUENCE + "' field");
+        }
+        final long fromSequence = ioSerialiser.getBuffer().getLong();
+        if (checkFieldCompatibility(fieldRoot, DATA_COUNT.hashCode(), DATA_COUNT, DataType.INT) == null) {
+            throw new InputMismatchException("delta update without '" + DATA_COUNT + "' field");
+        }
+        final int dataCount = ioSerialiser.getBuffer().getInt();
+        if (origDataSet == null) {
+            throw new IllegalStateException("delta update requires the previously received DataSet - request full update");
+        }
+        // N.B. the local copy holds the samples [ackSequence - localCount, ackSequence)
+        final long removed = origDataSet.getDataCount() - (ackSequence - firstSequence);
+        final long retained = fromSequence - firstSequence;
+        if (removed < 0 || retained < 0 || retained > dataCount || fromSequence > ackSequence) {
+            throw new IllegalStateException("delta update (first sequence = " + firstSequence + ", acknowledged sequence = " + ackSequence + ", dataCount = " + dataCount //
+                                            + ") does not match local data count " + origDataSet.getDataCount() + " - request full update");
+        }
+        return new DeltaHeader((int) removed, (int) retained, dataCount);
+    }
+
     protected void parseNumericData(final IoSerialiser ioSerialiser, final DataSetBuilder builder, final DataSet origDataSet, final FieldDescription rootField) {
+        parseNumericData(ioSerialiser, builder, origDataSet, rootField, null);
+    }
+
+    protected void parseNumericData(final IoSerialiser ioSerialiser, final DataSetBuilder builder, final DataSet origDataSet, final FieldDescription rootField, final DeltaHeader delta) {
         // check for numeric data
         for (FieldDescription fieldDescription : rootField.getChildren()) {
             final String fieldName = fieldDescription.getFieldName();
@@ -280,31 +409,33 @@ public class DataSetSerialiser { // NOPMD
                 continue;
             }
             if (fieldName.startsWith(ARRAY_PREFIX)) {
-                readValues(ioSerialiser, builder, origDataSet, fieldDescription, fieldName);
+                readValues(ioSerialiser, builder, origDataSet, fieldDescription, fieldName, delta);
             } else if (fieldName.startsWith(EP_PREFIX)) {
-                readPosError(ioSerialiser, builder, origDataSet, fieldDescription, fieldName);
+                readPosError(ioSerialiser, builder, origDataSet, fieldDescription, fieldName, delta);
             } else if (fieldName.startsWith(EN_PREFIX)) {
-                readNegError(ioSerialiser, builder, origDataSet, fieldDescription, fieldName);
+                readNegError(ioSerialiser, builder, origDataSet, fieldDescription, fieldName, delta);
             }
         }
     }
 
     protected void writeDataLabelsToStream(final DataSet dataSet) {
+        writeDataLabelsToStream(dataSet, 0);
+    }
+
+    /**
+     * @param dataSet The DataSet to export
+     * @param fromIndex first sample index the data labels and styles are written for
+     */
+    protected void writeDataLabelsToStream(final DataSet dataSet, final int fromIndex) {
         if (dataSet instanceof AbstractDataSet) {
-            final StringHashMapList labelMap = ((AbstractDataSet<?>) dataSet).getDataLabelMap();
-            if (!labelMap.isEmpty()) {
-                ioSerialiser.put(DATA_LABELS, labelMap, Integer.class, String.class);
-            }
-            final StringHashMapList styleMap = ((AbstractDataSet<?>) dataSet).getDataStyleMap();
-            if (!styleMap.isEmpty()) {
-                ioSerialiser.put(DATA_STYLES, styleMap, Integer.class, String.class);
-            }
+            putIndexedStrings(DATA_LABELS, ((AbstractDataSet<?>) dataSet).getDataLabelMap(), fromIndex);
+            putIndexedStrings(DATA_STYLES, ((AbstractDataSet<?>) dataSet).getDataStyleMap(), fromIndex);
             return;
         }
 
         final int dataCount = dataSet.getDataCount();
         final Map<Integer, String> labelMap = new HashMap<>();
-        for (int index = 0; index < dataCount; index++) {
+        for (int index = fromIndex; index < dataCount; index++) {
             final String label = dataSet.getDataLabel(index);
             if ((label != null) && !label.isEmpty()) {
                 labelMap.put(index, label);
@@ -315,7 +446,7 @@ public class DataSetSerialiser { // NOPMD
         }
 
         final Map<Integer, String> styleMap = new HashMap<>();
-        for (int index = 0; index < dataCount; index++) {
+        for (int index = fromIndex; index < dataCount; index++) {
             final String style = dataSet.getStyle(index);
             if ((style != null) && !style.isEmpty()) {
                 styleMap.put(index, style);
@@ -367,6 +498,14 @@ public class DataSetSerialiser { // NOPMD
      * @param dataSet to be exported
      */
     protected void writeNumericBinaryDataToBufferDouble(final DataSet dataSet) {
+        writeNumericBinaryDataToBufferDouble(dataSet, 0);
+    }
+
+    /**
+     * @param dataSet to be exported
+     * @param fromIndex first sample index to be exported (N.B. ignored for GridDataSets)
+     */
+    protected void writeNumericBinaryDataToBufferDouble(final DataSet dataSet, final int fromIndex) {
         final int nDim = dataSet.getDimension();
         if (dataSet instanceof GridDataSet) {
             GridDataSet gridDataSet = (GridDataSet) dataSet;
@@ -378,23 +517,23 @@ public class DataSetSerialiser { // NOPMD
             }
             return; // GridDataSet does not provide errors
         }
+        final int dataCount = dataSet.getDataCount();
+        final int nsamples = dataCount - fromIndex;
         for (int dimIndex = 0; dimIndex < nDim; dimIndex++) {
-            final int nsamples = dataSet.getDataCount();
-            ioSerialiser.put(ARRAY_PREFIX + dimIndex, dataSet.getValues(dimIndex), nsamples);
+            ioSerialiser.put(ARRAY_PREFIX + dimIndex, range(dataSet.getValues(dimIndex), fromIndex, dataCount), nsamples);
         }
         if (!(dataSet instanceof DataSetError)) {
             return; // data set does not have any error definition
         }
         final DataSetError ds = (DataSetError) dataSet;
         for (int dimIndex = 0; dimIndex < nDim; dimIndex++) {
-            final int nsamples = dataSet.getDataCount();
             switch (ds.getErrorType(dimIndex)) {
             case SYMMETRIC:
-                ioSerialiser.put(EP_PREFIX + dimIndex, ds.getErrorsPositive(dimIndex), nsamples);
+                ioSerialiser.put(EP_PREFIX + dimIndex, range(ds.getErrorsPositive(dimIndex), fromIndex, dataCount), nsamples);
                 break;
             case ASYMMETRIC:
-                ioSerialiser.put(EN_PREFIX + dimIndex, ds.getErrorsNegative(dimIndex), nsamples);
-                ioSerialiser.put(EP_PREFIX + dimIndex, ds.getErrorsPositive(dimIndex), nsamples);
+                ioSerialiser.put(EN_PREFIX + dimIndex, range(ds.getErrorsNegative(dimIndex), fromIndex, dataCount), nsamples);
+                ioSerialiser.put(EP_PREFIX + dimIndex, range(ds.getErrorsPositive(dimIndex), fromIndex, dataCount), nsamples);
                 break;
             case NO_ERROR:
             default:
@@ -407,20 +546,29 @@ public class DataSetSerialiser { // NOPMD
      * @param dataSet to be exported
      */
     protected void writeNumericBinaryDataToBufferFloat(final DataSet dataSet) {
+        writeNumericBinaryDataToBufferFloat(dataSet, 0);
+    }
+
+    /**
+     * @param dataSet to be exported
+     * @param fromIndex first sample index to be exported (N.B. ignored for GridDataSets)
+     */
+    protected void writeNumericBinaryDataToBufferFloat(final DataSet dataSet, final int fromIndex) {
         final int nDim = dataSet.getDimension();
         if (dataSet instanceof GridDataSet) {
             GridDataSet gridDataSet = (GridDataSet) dataSet;
             for (int dimIndex = 0; dimIndex < nDim; dimIndex++) {
                 final boolean gridDimension = dimIndex < gridDataSet.getNGrid();
                 final int nsamples = gridDimension ? gridDataSet.getShape(dimIndex) : dataSet.getDataCount();
-                final float[] values = MathUtils.toFloats(gridDimension ? gridDataSet.getGridValues(dimIndex) : dataSet.getValues(dimIndex));
-                ioSerialiser.put(ARRAY_PREFIX + dimIndex, values, nsamples);
+                final double[] values = gridDimension ? gridDataSet.getGridValues(dimIndex) : dataSet.getValues(dimIndex);
+                ioSerialiser.putDoubleArrayAsFloat(ARRAY_PREFIX + dimIndex, values, 0, nsamples);
             }
             return; // GridDataSet does not provide errors
         }
+        final int dataCount = dataSet.getDataCount();
+        final int nsamples = dataCount - fromIndex;
         for (int dimIndex = 0; dimIndex < nDim; dimIndex++) {
-            final int nsamples = dataSet.getDataCount();
-            ioSerialiser.put(ARRAY_PREFIX + dimIndex, MathUtils.toFloats(dataSet.getValues(dimIndex)), nsamples);
+            ioSerialiser.putDoubleArrayAsFloat(ARRAY_PREFIX + dimIndex, dataSet.getValues(dimIndex), fromIndex, nsamples);
         }
 
         if (!(dataSet instanceof DataSetError)) {
@@ -429,17 +577,16 @@ public class DataSetSerialiser { // NOPMD
 
         final DataSetError ds = (DataSetError) dataSet;
         for (int dimIndex = 0; dimIndex < nDim; dimIndex++) {
-            final int nsamples = dataSet.getDataCount();
             switch (ds.getErrorType(dimIndex)) {
             default:
             case NO_ERROR:
                 break;
             case SYMMETRIC:
-                ioSerialiser.put(EP_PREFIX + dimIndex, MathUtils.toFloats(ds.getErrorsPositive(dimIndex)), nsamples);
+                ioSerialiser.putDoubleArrayAsFloat(EP_PREFIX + dimIndex, ds.getErrorsPositive(dimIndex), fromIndex, nsamples);
                 break;
             case ASYMMETRIC:
-                ioSerialiser.put(EN_PREFIX + dimIndex, MathUtils.toFloats(ds.getErrorsNegative(dimIndex)), nsamples);
-                ioSerialiser.put(EP_PREFIX + dimIndex, MathUtils.toFloats(ds.getErrorsPositive(dimIndex)), nsamples);
+                ioSerialiser.putDoubleArrayAsFloat(EN_PREFIX + dimIndex, ds.getErrorsNegative(dimIndex), fromIndex, nsamples);
+                ioSerialiser.putDoubleArrayAsFloat(EP_PREFIX + dimIndex, ds.getErrorsPositive(dimIndex), fromIndex, nsamples);
                 break;
             }
         }
@@ -478,35 +625,142 @@ public class DataSetSerialiser { // NOPMD
         }
     }
 
-    private void readNegError(final IoSerialiser ioSerialiser, final DataSetBuilder builder, final DataSet origDataSet, FieldDescription fieldDescription, final String fieldName) {
+    private void readNegError(final IoSerialiser ioSerialiser, final DataSetBuilder builder, final DataSet origDataSet, FieldDescription fieldDescription, final String fieldName, final DeltaHeader delta) {
         int dimIndex = getDimIndex(fieldName, EN_PREFIX);
         if (dimIndex >= 0) {
             ioSerialiser.getBuffer().position(fieldDescription.getDataStartPosition());
             final double[] origErrorArray = (origDataSet instanceof DataSetError) ? ((DataSetError) origDataSet).getErrorsNegative(dimIndex) : null;
-            builder.setNegErrorNoCopy(dimIndex, getDoubleArray(ioSerialiser, origErrorArray, fieldDescription.getDataType()));
+            builder.setNegErrorNoCopy(dimIndex, readArray(ioSerialiser, origErrorArray, fieldDescription.getDataType(), delta));
         }
     }
 
     private void readPosError(final IoSerialiser ioSerialiser, final DataSetBuilder builder, final DataSet origDataSet, FieldDescription fieldDescription,
-            final String fieldName) {
+            final String fieldName, final DeltaHeader delta) {
         int dimIndex = getDimIndex(fieldName, EP_PREFIX);
         if (dimIndex >= 0) {
             ioSerialiser.getBuffer().position(fieldDescription.getDataStartPosition());
             final double[] origErrorArray = (origDataSet instanceof DataSetError) ? ((DataSetError) origDataSet).getErrorsPositive(dimIndex) : null;
-            builder.setPosErrorNoCopy(dimIndex, getDoubleArray(ioSerialiser, origErrorArray, fieldDescription.getDataType()));
+            builder.setPosErrorNoCopy(dimIndex, readArray(ioSerialiser, origErrorArray, fieldDescription.getDataType(), delta));
         }
     }
 
     private void readValues(final IoSerialiser ioSerialiser, final DataSetBuilder builder, final DataSet origDataSet, FieldDescription fieldDescription,
-            final String fieldName) {
+            final String fieldName, final DeltaHeader delta) {
         int dimIndex = getDimIndex(fieldName, ARRAY_PREFIX);
         if (dimIndex >= 0) {
             ioSerialiser.getBuffer().position(fieldDescription.getDataStartPosition());
-            builder.setValuesNoCopy(dimIndex, getDoubleArray(ioSerialiser, origDataSet == null ? null : origDataSet.getValues(dimIndex), fieldDescription.getDataType()));
+            final double[] origArray = origDataSet == null || dimIndex >= origDataSet.getDimension() ? null : origDataSet.getValues(dimIndex);
+            builder.setValuesNoCopy(dimIndex, readArray(ioSerialiser, origArray, fieldDescription.getDataType(), delta));
         }
     }
 
+    private void putIndexedStrings(final String fieldName, final StringHashMapList map, final int fromIndex) {
+        if (fromIndex == 0) {
+            if (!map.isEmpty()) {
+                ioSerialiser.put(fieldName, map, Integer.class, String.class);
+            }
+            return;
+        }
+        final Map<Integer, String> range = new HashMap<>();
+        map.forEach((index, value) -> {
+            if (index >= fromIndex) {
+                range.put(index, value);
+            }
+        });
+        if (!range.isEmpty()) {
+            ioSerialiser.put(fieldName, range, Integer.class, String.class);
+        }
+    }
+
+    private static double[] range(final double[] values, final int fromIndex, final int toIndex) {
+        return fromIndex == 0 ? values : Arrays.copyOfRange(values, fromIndex, toIndex);
+    }
+
+    private double[] readArray(final IoSerialiser ioSerialiser, final double[] origArray, final DataType dataType, final DeltaHeader delta) {
+        if (delta == null) {
+            return getDoubleArray(ioSerialiser, origArray, dataType);
+        }
+        // N.B. origArray must not be re-used as read target since its retained samples are needed for the merge
+        deltaBuffer = getDoubleArray(ioSerialiser, deltaBuffer, dataType);
+        return delta.merge(origArray, deltaBuffer);
+    }
+
     public static DataSetSerialiser withIoSerialiser(final IoSerialiser ioSerialiser) {
         return new DataSetSerialiser(ioSerialiser);
     }
+
+    /**
+     * decoded header of an incremental update as written by {@link #writeDelta(DataSet, long, long, boolean)}, i.e. the
+     * number of samples to be dropped at the front of the local copy, retained and in total
+     */
+    protected static class DeltaHeader {
+        private final int removed;
+        private final int offset;
+        private final int dataCount;
+
+        protected DeltaHeader(final int removed, final int offset, final int dataCount) {
+            this.removed = removed;
+            this.offset = offset;
+            this.dataCount = dataCount;
+        }
+
+        /**
+         * Copies the data labels and styles of the retained samples (shifted to their new index) into the builder.
+         *
+         * @param builder builder of the updated data set
+         * @param origDataSet previously received data set
+         */
+        protected void retainDataLabels(final DataSetBuilder builder, final DataSet origDataSet) {
+            final Map<Integer, String> labels = new HashMap<>();
+            final Map<Integer, String> styles = new HashMap<>();
+            if (origDataSet instanceof AbstractDataSet) {
+                retain(((AbstractDataSet<?>) origDataSet).getDataLabelMap(), labels);
+                retain(((AbstractDataSet<?>) origDataSet).getDataStyleMap(), styles);
+            } else {
+                for (int index = removed; index < removed + offset; index++) {
+                    final String label = origDataSet.getDataLabel(index);
+                    if ((label != null) && !label.isEmpty()) {
+                        labels.put(index - removed, label);
+                    }
+                    final String style = origDataSet.getStyle(index);
+                    if ((style != null) && !style.isEmpty()) {
+                        styles.put(index - removed, style);
+                    }
+                }
+            }
+            builder.setDataLabelMap(labels);
+            builder.setDataStyleMap(styles);
+        }
+
+        private void retain(final Map<Integer, String> source, final Map<Integer, String> target) {
+            source.forEach((index, value) -> {
+                if (index >= removed && index < removed + offset) {
+                    target.put(index - removed, value);
+                }
+            });
+        }
+
+        /**
+         * Merges the update with the retained samples. If the length of the previous array matches the new data count
+         * (e.g. a sliding window of constant size) the retained samples are shifted in place and the previous array is
+         * returned, otherwise a new array is allocated.
+         *
+         * @param origArray previously received samples (may be {@code null}, e.g. errors that were not present before)
+         * @param update transmitted samples starting at {@code offset}
+         * @return merged array with {@code dataCount} samples
+         */
+        protected double[] merge(final double[] origArray, final double[] update) {
+            if (origArray != null && origArray.length == dataCount) {
+                System.arraycopy(origArray, removed, origArray, 0, offset); // N.B. handles overlapping ranges
+                System.arraycopy(update, 0, origArray, offset, Math.min(update.length, dataCount - offset));
+                return origArray;
+            }
+            final double[] merged = new double[dataCount];
+            if (origArray != null) {
+                System.arraycopy(origArray, removed, merged, 0, Math.min(offset, Math.max(0, origArray.length - removed)));
+            }
+            System.arraycopy(update, 0, merged, offset, Math.min(update.length, dataCount - offset));
+            return merged;
+        }
+    }
 }
@@ -0,0 +1,556 @@
+package de.gsi.serializer.utils;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Allocation-free formatting and parsing of numbers directly from/into ASCII byte arrays (e.g. the backing array of an
+ * {@link de.gsi.serializer.IoBuffer}) as used by the text-based serialisers.
+ * <p>
+ * Doubles are formatted to the shortest decimal representation that parses back to the identical value
+ * (Schubfach algorithm, R. Giulietti, "The Schubfach way to render doubles", 2020) and parsed using Clinger's exact
+ * fast-path and the Eisel-Lemire algorithm (D. Lemire, "Number Parsing at a Gigabyte per Second", 2021). The rare cases
+ * that cannot be decided by the latter fall back to {@link Double#parseDouble(String)}.
+ *
+ * @author rstein
+ */
+public final class AsciiNumberUtils { // NOPMD - nomen est omen
+    /** maximum number of bytes written by {@link #putDouble(byte[], int, double)} */
+    public static final int MAX_DOUBLE_LENGTH = 25;
+    /** maximum number of bytes written by {@link #putFloat(byte[], int, float)} */
+    public static final int MAX_FLOAT_LENGTH = 16;
+    /** maximum number of bytes written by {@link #putLong(byte[], int, long)} */
+    public static final int MAX_LONG_LENGTH = 20;
+    // binary64 constants
+    private static final int P = 53; // precision
+    private static final int Q_MIN = -1074; // minimum binary exponent
+    private static final long C_MIN = 1L << (P - 1);
+    private static final long C_TINY = 3;
+    private static final int BQ_MASK = 0x7FF;
+    private static final long T_MASK = (1L << (P - 1)) - 1;
+    private static final long MASK_63 = (1L << 63) - 1;
+    private static final int MAX_DIGITS = 19; // max. number of decimal digits that fit into an (unsigned) long
+    private static final long[] POW10 = new long[MAX_DIGITS];
+    private static final double[] POW10_DOUBLE = new double[23]; // exactly representable powers of ten
+    private static final float[] POW10_FLOAT = new float[11]; // exactly representable powers of ten
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = 10 * POW10[i - 1];
+        }
+        for (int i = 0; i < POW10_DOUBLE.length; i++) {
+            POW10_DOUBLE[i] = Double.parseDouble("1e" + i);
+        }
+        for (int i = 0; i < POW10_FLOAT.length; i++) {
+            POW10_FLOAT[i] = Float.parseFloat("1e" + i);
+        }
+    }
+
+    private AsciiNumberUtils() {
+        // utility class
+    }
+
+    /**
+     * @param src source byte array containing the ASCII-encoded number
+     * @param start index of the first character (inclusive)
+     * @param end index of the last character (exclusive)
+     * @return the parsed value (N.B. identical to {@link Double#parseDouble(String)} of the same string)
+     * @throws NumberFormatException if the string does not contain a parsable number
+     */
+    public static double parseDouble(final byte[] src, final int start, final int end) {
+        int pos = start;
+        final boolean negative = pos < end && src[pos] == '-';
+        if (negative || (pos < end && src[pos] == '+')) {
+            pos++;
+        }
+        long mantissa = 0;
+        int nDigits = 0; // number of significant digits
+        int nDigitsTotal = 0;
+        int exponent = 0;
+        for (; pos < end && isDigit(src[pos]); pos++, nDigitsTotal++) {
+            if (mantissa != 0 || src[pos] != '0') {
+                mantissa = 10 * mantissa + (src[pos] - '0');
+                nDigits++;
+            }
+        }
+        if (pos < end && src[pos] == '.') {
+            for (pos++; pos < end && isDigit(src[pos]); pos++, nDigitsTotal++) {
+                if (mantissa != 0 || src[pos] != '0') {
+                    mantissa = 10 * mantissa + (src[pos] - '0');
+                    nDigits++;
+                }
+                exponent--;
+            }
+        }
+        if (nDigitsTotal > 0 && pos < end && (src[pos] == 'e' || src[pos] == 'E')) {
+            pos++;
+            final boolean negativeExponent = pos < end && src[pos] == '-';
+            if (negativeExponent || (pos < end && src[pos] == '+')) {
+                pos++;
+            }
+            int exp = 0;
+            final int expStart = pos;
+            for (; pos < end && isDigit(src[pos]); pos++) {
+                if (exp < 100_000) {
+                    exp = 10 * exp + (src[pos] - '0');
+                }
+            }
+            if (pos == expStart) {
+                return fallbackParseDouble(src, start, end);
+            }
+            exponent += negativeExponent ? -exp : exp;
+        }
+        if (nDigitsTotal == 0 || pos != end || nDigits > MAX_DIGITS) {
+            // NaN, Infinity, too many digits or illegal format
+            return fallbackParseDouble(src, start, end);
+        }
+        if (mantissa == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+
+        // Clinger's fast-path: mantissa and power of ten are both exactly representable
+        if (mantissa > 0 && mantissa <= (1L << P) && exponent >= -22 && exponent <= 22) {
+            final double value = exponent < 0 ? mantissa / POW10_DOUBLE[-exponent] : mantissa * POW10_DOUBLE[exponent];
+            return negative ? -value : value;
+        }
+        final long bits = EiselLemire.toBits(mantissa, exponent);
+        if (bits < 0) {
+            return fallbackParseDouble(src, start, end);
+        }
+        final double value = Double.longBitsToDouble(bits);
+        return negative ? -value : value;
+    }
+
+    /**
+     * @param src source byte array containing the ASCII-encoded number
+     * @param start index of the first character (inclusive)
+     * @param end index of the last character (exclusive)
+     * @return the parsed value (N.B. identical to {@link Float#parseFloat(String)} of the same string)
+     * @throws NumberFormatException if the string does not contain a parsable number
+     */
+    public static float parseFloat(final byte[] src, final int start, final int end) {
+        int pos = start;
+        final boolean negative = pos < end && src[pos] == '-';
+        if (negative || (pos < end && src[pos] == '+')) {
+            pos++;
+        }
+        long mantissa = 0;
+        int nDigits = 0;
+        int exponent = 0;
+        for (; pos < end && isDigit(src[pos]); pos++) {
+            mantissa = 10 * mantissa + (src[pos] - '0');
+            nDigits++;
+        }
+        if (pos < end && src[pos] == '.') {
+            for (pos++; pos < end && isDigit(src[pos]); pos++) {
+                mantissa = 10 * mantissa + (src[pos] - '0');
+                nDigits++;
+                exponent--;
+            }
+        }
+        // Clinger's fast-path in single precision -- all other cases (e.g. exponents) are left to the JDK
+        if (pos != end || nDigits == 0 || nDigits > 8 || mantissa > (1L << 24) || exponent < -10) {
+            return Float.parseFloat(new String(src, start, end - start, StandardCharsets.ISO_8859_1));
+        }
+        final float value = exponent < 0 ? mantissa / POW10_FLOAT[-exponent] : mantissa;
+        return negative ? -value : value;
+    }
+
+    /**
+     * @param src source byte array containing the ASCII-encoded integer number
+     * @param start index of the first character (inclusive)
+     * @param end index of the last character (exclusive)
+     * @return the parsed value
+     * @throws NumberFormatException if the string does not contain a parsable long integer
+     */
+    public static long parseLong(final byte[] src, final int start, final int end) {
+        int pos = start;
+        final boolean negative = pos < end && src[pos] == '-';
+        if (negative || (pos < end && src[pos] == '+')) {
+            pos++;
+        }
+        if (pos == end || end - pos >= MAX_DIGITS) {
+            // empty or potential overflow
+            return Long.parseLong(new String(src, start, end - start, StandardCharsets.ISO_8859_1));
+        }
+        long value = 0;
+        for (; pos < end; pos++) {
+            if (!isDigit(src[pos])) {
+                return Long.parseLong(new String(src, start, end - start, StandardCharsets.ISO_8859_1)); // throws
+            }
+            value = 10 * value + (src[pos] - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Writes the shortest decimal representation that uniquely identifies the given double. The notation follows
+     * {@link Double#toString(double)}, i.e. plain decimal notation for 10<sup>-3</sup> &le; |value| &lt; 10<sup>7</sup>
+     * and computerised scientific notation (e.g. '1.25E-5') otherwise.
+     *
+     * @param dst destination byte array (needs to have at least {@link #MAX_DOUBLE_LENGTH} free bytes)
+     * @param offset index of the first byte to be written
+     * @param value the value to be formatted
+     * @return index after the last written byte
+     */
+    public static int putDouble(final byte[] dst, final int offset, final double value) {
+        final long bits = Double.doubleToRawLongBits(value);
+        final long t = bits & T_MASK;
+        final int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+        if (bq == BQ_MASK) {
+            // NaN or infinite
+            return putAscii(dst, offset, Double.toString(value));
+        }
+        int pos = offset;
+        if (bits < 0) {
+            dst[pos++] = '-';
+        }
+        if (bq != 0) {
+            // normal value
+            final int mq = -Q_MIN + 1 - bq;
+            final long c = C_MIN | t;
+            if (0 < mq && mq < P) {
+                // fast-path for integer values
+                final long f = c >> mq;
+                if (f << mq == c) {
+                    return putDecimal(dst, pos, f, 0);
+                }
+            }
+            return Schubfach.toDecimal(dst, pos, -mq, c, 0);
+        }
+        if (t != 0) {
+            // sub-normal value
+            return t < C_TINY ? Schubfach.toDecimal(dst, pos, Q_MIN, 10 * t, -1) : Schubfach.toDecimal(dst, pos, Q_MIN, t, 0);
+        }
+        dst[pos++] = '0';
+        dst[pos++] = '.';
+        dst[pos++] = '0';
+        return pos;
+    }
+
+    /**
+     * Writes the decimal representation of the given float (notation as {@link Float#toString(float)}).
+     *
+     * @param dst destination byte array (needs to have at least {@link #MAX_FLOAT_LENGTH} free bytes)
+     * @param offset index of the first byte to be written
+     * @param value the value to be formatted
+     * @return index after the last written byte
+     */
+    public static int putFloat(final byte[] dst, final int offset, final float value) {
+        final int intValue = (int) value;
+        if (intValue == value && intValue != 0 && Math.abs(intValue) < 10_000_000) {
+            // fast-path for integer values
+            final int pos = putLong(dst, offset, intValue);
+            dst[pos] = '.';
+            dst[pos + 1] = '0';
+            return pos + 2;
+        }
+        return putAscii(dst, offset, Float.toString(value));
+    }
+
+    /**
+     * @param dst destination byte array (needs to have at least {@link #MAX_LONG_LENGTH} free bytes)
+     * @param offset index of the first byte to be written
+     * @param value the value to be formatted
+     * @return index after the last written byte
+     */
+    public static int putLong(final byte[] dst, final int offset, final long value) {
+        if (value == Long.MIN_VALUE) {
+            return putAscii(dst, offset, Long.toString(value));
+        }
+        int pos = offset;
+        long abs = value;
+        if (value < 0) {
+            dst[pos++] = '-';
+            abs = -value;
+        }
+        final int nDigits = getNumberOfDigits(abs);
+        putDigits(dst, pos, abs, nDigits);
+        return pos + nDigits;
+    }
+
+    private static double fallbackParseDouble(final byte[] src, final int start, final int end) {
+        return Double.parseDouble(new String(src, start, end - start, StandardCharsets.ISO_8859_1));
+    }
+
+    private static int getNumberOfDigits(final long value) {
+        int nDigits = 1;
+        while (nDigits < MAX_DIGITS && value >= POW10[nDigits]) {
+            nDigits++;
+        }
+        return nDigits;
+    }
+
+    private static boolean isDigit(final byte c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int putAscii(final byte[] dst, final int offset, final String string) {
+        final int length = string.length();
+        for (int i = 0; i < length; i++) {
+            dst[offset + i] = (byte) string.charAt(i);
+        }
+        return offset + length;
+    }
+
+    /**
+     * writes {@code f 10^e} with the digits of {@code f > 0} in either plain or scientific notation
+     */
+    private static int putDecimal(final byte[] dst, final int offset, final long significand, final int exponent) {
+        long f = significand;
+        int e = exponent;
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        final int len = getNumberOfDigits(f);
+        final int exp10 = e + len; // value = 0.d_1 d_2 ... d_len 10^exp10
+        int pos = offset;
+        if (exp10 > -3 && exp10 <= 7) {
+            // plain notation, i.e. 10^-3 <= value < 10^7
+            if (exp10 <= 0) {
+                dst[pos++] = '0';
+                dst[pos++] = '.';
+                for (int i = exp10; i < 0; i++) {
+                    dst[pos++] = '0';
+                }
+                putDigits(dst, pos, f, len);
+                return pos + len;
+            }
+            if (exp10 >= len) {
+                putDigits(dst, pos, f, len);
+                pos += len;
+                for (int i = len; i < exp10; i++) {
+                    dst[pos++] = '0';
+                }
+                dst[pos++] = '.';
+                dst[pos++] = '0';
+                return pos;
+            }
+            putDigits(dst, pos + 1, f, len);
+            System.arraycopy(dst, pos + 1, dst, pos, exp10);
+            dst[pos + exp10] = '.';
+            return pos + len + 1;
+        }
+
+        // scientific notation
+        putDigits(dst, pos + 1, f, len);
+        dst[pos] = dst[pos + 1];
+        dst[pos + 1] = '.';
+        pos += len + 1;
+        if (len == 1) {
+            dst[pos++] = '0';
+        }
+        dst[pos++] = 'E';
+        return putLong(dst, pos, exp10 - 1L);
+    }
+
+    private static void putDigits(final byte[] dst, final int offset, final long value, final int nDigits) {
+        long remainder = value;
+        for (int i = offset + nDigits - 1; i >= offset; i--) {
+            final long quotient = remainder / 10;
+            dst[i] = (byte) ('0' + (remainder - 10 * quotient));
+            remainder = quotient;
+        }
+    }
+
+    /**
+     * floor(log10(2^e))
+     */
+    private static int flog10pow2(final int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * floor(log10(3/4 2^e))
+     */
+    private static int flog10threeQuartersPow2(final int e) {
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    /**
+     * floor(log2(10^e))
+     */
+    private static int flog2pow10(final int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+
+    /**
+     * lazily initialised look-up tables and implementation of the Schubfach double-to-decimal conversion
+     */
+    private static final class Schubfach {
+        private static final int K_MIN = -324;
+        private static final int K_MAX = 292;
+        private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)]; // g1(k), g0(k) pairs
+        static {
+            // g = floor(10^-k 2^(125 - flog2pow10(-k))) + 1, with 2^125 <= g < 2^126 and g = g1 2^63 + g0
+            final BigInteger mask63 = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+            for (int k = K_MIN; k <= K_MAX; k++) {
+                final int shift = 125 - flog2pow10(-k);
+                BigInteger g;
+                if (k <= 0) {
+                    g = BigInteger.TEN.pow(-k);
+                    g = shift >= 0 ? g.shiftLeft(shift) : g.shiftRight(-shift);
+                } else {
+                    g = BigInteger.ONE.shiftLeft(shift).divide(BigInteger.TEN.pow(k));
+                }
+                g = g.add(BigInteger.ONE);
+                G[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+                G[2 * (k - K_MIN) + 1] = g.and(mask63).longValue();
+            }
+        }
+
+        private Schubfach() {
+            // utility class
+        }
+
+        private static long rop(final long g1, final long g0, final long cp) {
+            final long x1 = Math.multiplyHigh(g0, cp);
+            final long y0 = g1 * cp;
+            final long y1 = Math.multiplyHigh(g1, cp);
+            final long z = (y0 >>> 1) + x1;
+            final long vbp = y1 + (z >>> 63);
+            return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+        }
+
+        private static int toDecimal(final byte[] dst, final int offset, final int q, final long c, final int dk) {
+            final int out = (int) c & 0x1;
+            final long cb = c << 2;
+            final long cbr = cb + 2;
+            final long cbl;
+            final int k;
+            if (c != C_MIN || q == Q_MIN) {
+                cbl = cb - 2;
+                k = flog10pow2(q);
+            } else {
+                cbl = cb - 1;
+                k = flog10threeQuartersPow2(q);
+            }
+            final int h = q + flog2pow10(-k) + 2;
+            final long g1 = G[2 * (k - K_MIN)];
+            final long g0 = G[2 * (k - K_MIN) + 1];
+
+            final long vb = rop(g1, g0, cb << h);
+            final long vbl = rop(g1, g0, cbl << h);
+            final long vbr = rop(g1, g0, cbr << h);
+
+            final long s = vb >> 2;
+            if (s >= 100) {
+                // s' = floor(s / 10), sp10 = 10 s', tp10 = 10 t'
+                final long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+                final long tp10 = sp10 + 10;
+                final boolean upin = vbl + out <= sp10 << 2;
+                final boolean wpin = (tp10 << 2) + out <= vbr;
+                if (upin != wpin) {
+                    return putDecimal(dst, offset, upin ? sp10 : tp10, k);
+                }
+            }
+            final long t = s + 1;
+            final boolean uin = vbl + out <= s << 2;
+            final boolean win = (t << 2) + out <= vbr;
+            if (uin != win) {
+                // exactly one of u or w lies in the rounding interval
+                return putDecimal(dst, offset, uin ? s : t, k + dk);
+            }
+            // both u and w lie in the rounding interval: pick the one closest to v
+            final long cmp = vb - (s + t << 1);
+            return putDecimal(dst, offset, cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk);
+        }
+    }
+
+    /**
+     * lazily initialised look-up tables and implementation of the Eisel-Lemire decimal-to-double conversion
+     */
+    private static final class EiselLemire {
+        private static final int Q_MIN_POW5 = -342;
+        private static final int Q_MAX_POW5 = 308;
+        private static final long[] POW5_128 = new long[2 * (Q_MAX_POW5 - Q_MIN_POW5 + 1)]; // 128-bit truncated/normalised 5^q
+        static {
+            final BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+            final BigInteger two127 = BigInteger.ONE.shiftLeft(127);
+            final BigInteger mask64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+            for (int q = Q_MIN_POW5; q <= Q_MAX_POW5; q++) {
+                BigInteger c;
+                if (q < 0) {
+                    final BigInteger power5 = BigInteger.valueOf(5).pow(-q);
+                    final int z = power5.subtract(BigInteger.ONE).bitLength(); // smallest z with 2^z >= 5^-q
+                    final int b = q >= -27 ? z + 127 : 2 * z + 128;
+                    c = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+                } else {
+                    c = BigInteger.valueOf(5).pow(q);
+                    if (c.compareTo(two127) < 0) {
+                        c = c.shiftLeft(127 - c.bitLength() + 1);
+                    }
+                }
+                while (c.compareTo(two128) >= 0) {
+                    c = c.shiftRight(1);
+                }
+                POW5_128[2 * (q - Q_MIN_POW5)] = c.shiftRight(64).longValue();
+                POW5_128[2 * (q - Q_MIN_POW5) + 1] = c.and(mask64).longValue();
+            }
+        }
+
+        private EiselLemire() {
+            // utility class
+        }
+
+        /**
+         * @param significand non-zero decimal significand w (N.B. interpreted as unsigned)
+         * @param exponent decimal exponent q
+         * @return IEEE754 bits of the positive double nearest to w 10^q or '-1' if this cannot be decided exactly
+         */
+        private static long toBits(final long significand, final int exponent) {
+            if (exponent < Q_MIN_POW5) {
+                return 0L;
+            }
+            if (exponent > Q_MAX_POW5) {
+                return Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+            }
+            final int lz = Long.numberOfLeadingZeros(significand);
+            final long w = significand << lz;
+            final int index = 2 * (exponent - Q_MIN_POW5);
+            long hi = unsignedMultiplyHigh(w, POW5_128[index]);
+            long lo = w * POW5_128[index];
+            if ((hi & 0x1FF) == 0x1FF) {
+                // refine with the lower 64 bits of the power of five
+                final long hi2 = unsignedMultiplyHigh(w, POW5_128[index + 1]);
+                final long sum = lo + hi2;
+                if (Long.compareUnsigned(hi2, sum) > 0) {
+                    hi++;
+                }
+                lo = sum;
+                if ((hi & 0x1FF) == 0x1FF && lo == -1L) {
+                    // cannot decide -- product is too close to a rounding boundary
+                    return -1L;
+                }
+            }
+            final int upperBit = (int) (hi >>> 63);
+            final int shift = upperBit + 9;
+            long mantissa = hi >>> shift;
+            int power2 = (((152_170 + 65_536) * exponent) >> 16) + 63 + upperBit - lz + 1023;
+            if (power2 <= 0) {
+                // sub-normal numbers
+                return -1L;
+            }
+            if (Long.compareUnsigned(lo, 1) <= 0 && exponent >= -4 && exponent <= 23 && (mantissa & 3) == 1 && (mantissa << shift) == hi) {
+                // exact half-way case: round to even
+                mantissa &= ~1L;
+            }
+            mantissa += mantissa & 1;
+            mantissa >>>= 1;
+            if (mantissa >= (2L << 52)) {
+                mantissa = 1L << 52;
+                power2++;
+            }
+            mantissa &= ~(1L << 52);
+            if (power2 >= BQ_MASK) {
+                return Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+            }
+            return mantissa | ((long) power2 << 52);
+        }
+
+        private static long unsignedMultiplyHigh(final long x, final long y) {
+            return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ_WRITE;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -30,7 +31,10 @@ import de.gsi.dataset.spi.utils.MultiArrayInt;
 import de.gsi.dataset.spi.utils.MultiArrayLong;
 import de.gsi.dataset.spi.utils.MultiArrayObject;
 import de.gsi.dataset.spi.utils.MultiArrayShort;
+import de.gsi.dataset.utils.ArrayPool;
+import de.gsi.serializer.helper.TestDataClass;
 import de.gsi.serializer.spi.*;
+import de.gsi.serializer.utils.ClassUtils;
 
 /**
  * @author rstein
@@ -58,8 +62,42 @@ class IoClassSerialiserTests {
         assertEquals(classUnderTest, classAfterTest);
     }
 
+    @ParameterizedTest(name = "Serialiser class - {0}")
+    @ValueSource(classes = { CmwLightSerialiser.class, BinarySerialiser.class })
+    @ResourceLock(value = GLOBAL_LOCK, mode = READ_WRITE)
+    void testFinaliseBuffer(final Class<? extends IoSerialiser> serialiserClass) {
+        final CustomClass2 classUnderTest = new CustomClass2(1.337, 42, "pi equals exactly three!");
+        final byte[] pooledArray = ArrayPool.BYTE.acquire(2 * BUFFER_SIZE);
+        final IoClassSerialiser serialiser = new IoClassSerialiser(FastByteBuffer.wrap(pooledArray), serialiserClass);
+        serialiser.serialiseObject(classUnderTest);
+
+        final long releases = ArrayPool.BYTE.getReleases();
+        serialiser.finaliseBuffer();
+        assertNull(serialiser.getDataBuffer());
+        assertEquals(releases + 1, ArrayPool.BYTE.getReleases(), "backing array returned to pool");
+        assertDoesNotThrow(() -> serialiser.finaliseBuffer(), "repeated finalise is a no-op");
+        assertEquals(releases + 1, ArrayPool.BYTE.getReleases());
+
+        // re-use with a new (pooled) buffer
+        serialiser.setDataBuffer(FastByteBuffer.wrap(ArrayPool.BYTE.acquire(2 * BUFFER_SIZE)));
+        serialiser.serialiseObject(classUnderTest);
+        serialiser.getDataBuffer().flip();
+        final CustomClass2 classAfterTest = new CustomClass2();
+        serialiser.deserialiseObject(classAfterTest);
+        assertEquals(classUnderTest, classAfterTest);
+        serialiser.finaliseBuffer();
+
+        // off-heap buffers have no backing array: detached but not returned to the pool
+        serialiser.setDataBuffer(new DirectByteBuffer(2 * BUFFER_SIZE));
+        serialiser.serialiseObject(classUnderTest);
+        final long directReleases = ArrayPool.BYTE.getReleases();
+        serialiser.finaliseBuffer();
+        assertNull(serialiser.getDataBuffer(), "direct buffer detached");
+        assertEquals(directReleases, ArrayPool.BYTE.getReleases(), "nothing returned to pool");
+    }
+
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     @ResourceLock(value = GLOBAL_LOCK, mode = READ_WRITE)
     void testCustomSerialiserIdentity(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
@@ -138,7 +176,7 @@ class IoClassSerialiserTests {
     }
 
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testGenericSerialiserIdentity(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -287,6 +325,157 @@ class IoClassSerialiserTests {
         assertArrayEquals(sourceClass.multiArrayString.elements(), destinationClass.multiArrayString.elements());
     }
 
+    @ParameterizedTest(name = "Serialiser class - {0}")
+    @ValueSource(classes = { CmwLightSerialiser.class, BinarySerialiser.class })
+    void testFieldProjection(final Class<? extends IoSerialiser> serialiserClass) {
+        final TestDataClass sourceClass = new TestDataClass(10, 10, 2);
+        final IoBuffer buffer = new FastByteBuffer(2 * BUFFER_SIZE);
+        final IoClassSerialiser serialiser = new IoClassSerialiser(buffer, serialiserClass);
+        serialiser.serialiseObject(sourceClass);
+
+        buffer.reset();
+        final TestDataClass destinationClass = new TestDataClass();
+        serialiser.deserialiseObject(destinationClass, List.of("int1", "doubleArray", "nestedData.nestedData.string1"));
+        assertEquals(sourceClass.int1, destinationClass.int1);
+        assertArrayEquals(sourceClass.doubleArray, destinationClass.doubleArray);
+        assertEquals(sourceClass.nestedData.nestedData.string1, destinationClass.nestedData.nestedData.string1);
+        assertNotEquals(sourceClass.int2, destinationClass.int2, "non-selected field must not be deserialised");
+        assertNull(destinationClass.floatArray, "non-selected field must not be deserialised");
+        assertNull(destinationClass.nestedData.doubleArray, "non-selected field must not be deserialised");
+        assertNull(destinationClass.nestedData.nestedData.intArray, "non-selected field must not be deserialised");
+
+        buffer.reset();
+        final TestDataClass nestedClass = new TestDataClass();
+        serialiser.deserialiseObject(nestedClass, List.of("nestedData"));
+        assertEquals(sourceClass.nestedData, nestedClass.nestedData);
+        assertNull(nestedClass.doubleArray, "non-selected field must not be deserialised");
+    }
+
+    @ParameterizedTest(name = "IoBuffer class - {0}")
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
+    void testFieldProjectionIntoDataSet(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
+        final double[] yValues = { 4.0, 5.0, 6.0 };
+        final ProjectionTestClass sourceClass = new ProjectionTestClass();
+        sourceClass.dataSet = new DefaultErrorDataSet("test", new double[] { 1.0, 2.0, 3.0 }, yValues, new double[3], new double[3], 3, true);
+        sourceClass.name = "changed";
+        sourceClass.trailer = 42.0;
+        final IoBuffer buffer = bufferClass.getConstructor(int.class).newInstance(2 * BUFFER_SIZE);
+        final IoClassSerialiser serialiser = new IoClassSerialiser(buffer, BinarySerialiser.class);
+        serialiser.serialiseObject(sourceClass);
+
+        buffer.reset();
+        final FieldDescription classRoot = serialiser.parseWireFormat(List.of("dataSet.array1", "trailer")).getChildren().get(0);
+        assertNull(classRoot.findChildField("name"));
+        assertNotNull(classRoot.findChildField("trailer"));
+        final FieldDescription dataSetStart = classRoot.findChildField("dataSet").getChildren().get(0);
+        assertNull(dataSetStart.findChildField("array0"));
+        final WireDataFieldDescription yField = (WireDataFieldDescription) dataSetStart.findChildField("array1");
+        assertNotNull(yField);
+        final PrimitiveArrayView yView = ((BinarySerialiser) serialiser.getMatchedIoSerialiser()).getArrayView(yField);
+        assertArrayEquals(yValues, yView.toDoubleArray(null));
+
+        buffer.reset();
+        final ProjectionTestClass destinationClass = new ProjectionTestClass();
+        serialiser.deserialiseObject(destinationClass, List.of("dataSet", "trailer"));
+        assertEquals(sourceClass.trailer, destinationClass.trailer);
+        assertEquals(sourceClass.dataSet, destinationClass.dataSet);
+        assertEquals("unchanged", destinationClass.name);
+    }
+
+    @ParameterizedTest(name = "Serialiser class - {0}")
+    @ValueSource(classes = { CmwLightSerialiser.class, BinarySerialiser.class })
+    void testWriterPlanIdentity(final Class<? extends IoSerialiser> serialiserClass) {
+        final TestDataClass sourceClass = new TestDataClass(10, 10, 2); // N.B. innermost nested class reference is 'null'
+        final IoBuffer buffer = new FastByteBuffer(2 * BUFFER_SIZE);
+        final IoClassSerialiser serialiser = new IoClassSerialiser(buffer, serialiserClass);
+        assertTrue(serialiser.isUseWriterPlan(), "writer plan enabled by default");
+
+        serialiser.setUseWriterPlan(false);
+        serialiser.serialiseObject(sourceClass);
+        final byte[] recursiveBytes = Arrays.copyOf(buffer.elements(), buffer.position());
+
+        serialiser.setUseWriterPlan(true);
+        for (int i = 0; i < 2; i++) { // second iteration re-uses the cached writer plan
+            buffer.reset();
+            serialiser.serialiseObject(sourceClass);
+            assertArrayEquals(recursiveBytes, Arrays.copyOf(buffer.elements(), buffer.position()), "iteration " + i);
+        }
+
+        buffer.reset();
+        final TestDataClass destinationClass = new TestDataClass();
+        serialiser.deserialiseObject(destinationClass);
+        assertEquals(sourceClass, destinationClass);
+    }
+
+    @ParameterizedTest(name = "IoBuffer class - {0}")
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
+    void testCompiledSchemaIdentity(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
+        final TestDataClass sourceClass = new TestDataClass(10, 10, 2); // N.B. innermost nested class reference is 'null'
+        sourceClass.string2 = null;
+        sourceClass.nestedData.doubleArray = null;
+        final IoBuffer buffer = bufferClass.getConstructor(int.class).newInstance(2 * BUFFER_SIZE);
+        final IoClassSerialiser serialiser = new IoClassSerialiser(buffer, CmwLightSerialiser.class);
+        final CmwLightSerialiser cmwLightSerialiser = (CmwLightSerialiser) serialiser.getMatchedIoSerialiser();
+        assertFalse(cmwLightSerialiser.isUseCompiledSchema(), "compiled schema disabled by default");
+
+        serialiser.serialiseObject(sourceClass);
+        final byte[] genericBytes = getBytes(buffer);
+
+        cmwLightSerialiser.setUseCompiledSchema(true);
+        for (int i = 0; i < 2; i++) { // second iteration re-uses the compiled schema
+            buffer.reset();
+            serialiser.serialiseObject(sourceClass);
+            assertArrayEquals(genericBytes, getBytes(buffer), "iteration " + i);
+        }
+
+        buffer.reset();
+        final TestDataClass destinationClass = new TestDataClass();
+        destinationClass.string2 = null;
+        serialiser.deserialiseObject(destinationClass);
+        assertEquals(sourceClass, destinationClass);
+    }
+
+    @ParameterizedTest(name = "IoBuffer class - {0}")
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
+    void testCompiledSchemaFieldSerialiserOverride(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
+        // user-defined serialiser for a primitive field: must not be bypassed by the pre-encoded fields
+        final ClassFieldDescription scaledField = (ClassFieldDescription) ClassUtils.getFieldDescription(OverrideTestClass.class).findChildField("scaled");
+        assertNotNull(scaledField);
+        scaledField.setFieldSerialiser(new FieldSerialiser<>( //
+                (io, obj, field) -> field.getField().setDouble(obj, 0.5 * io.getDouble()), // reader
+                (io, obj, field) -> { throw new UnsupportedOperationException("return function not supported for primitive types"); }, // return
+                (io, obj, field) -> io.put(field, 2.0 * field.getField().getDouble(obj)), // writer
+                double.class));
+
+        final OverrideTestClass sourceClass = new OverrideTestClass();
+        final IoBuffer buffer = bufferClass.getConstructor(int.class).newInstance(BUFFER_SIZE);
+        final IoClassSerialiser serialiser = new IoClassSerialiser(buffer, CmwLightSerialiser.class);
+        serialiser.serialiseObject(sourceClass);
+        final byte[] genericBytes = getBytes(buffer);
+
+        ((CmwLightSerialiser) serialiser.getMatchedIoSerialiser()).setUseCompiledSchema(true);
+        buffer.reset();
+        serialiser.serialiseObject(sourceClass);
+        assertArrayEquals(genericBytes, getBytes(buffer));
+
+        buffer.reset();
+        final WireDataFieldDescription root = serialiser.parseWireFormat();
+        final FieldDescription scaled = root.getChildren().get(0).findChildField("scaled");
+        assertNotNull(scaled);
+        buffer.position(scaled.getDataStartPosition());
+        assertEquals(2.0 * sourceClass.scaled, buffer.getDouble(), "written by the user-defined serialiser");
+
+        buffer.reset();
+        final OverrideTestClass destinationClass = new OverrideTestClass();
+        destinationClass.name = null;
+        destinationClass.scaled = 0.0;
+        destinationClass.values = null;
+        serialiser.deserialiseObject(destinationClass);
+        assertEquals(sourceClass.name, destinationClass.name);
+        assertEquals(sourceClass.scaled, destinationClass.scaled);
+        assertArrayEquals(sourceClass.values, destinationClass.values);
+    }
+
     static class CustomClass {
         public double testDouble;
         public int testInt;
@@ -360,6 +549,24 @@ class IoClassSerialiserTests {
         }
     }
 
+    /**
+     * small test class with a user-defined serialiser for its 'scaled' field
+     */
+    static class OverrideTestClass {
+        public String name = "override";
+        public double scaled = 1.5;
+        public double[] values = { 1.0, 2.0, 3.0 };
+    }
+
+    /**
+     * small test class for field-projected deserialisation
+     */
+    static class ProjectionTestClass {
+        public String name = "unchanged";
+        public DataSet dataSet;
+        public double trailer;
+    }
+
     /**
      * small test class to test (de-)serialisation of wrapped and/or compound object types
      */
@@ -388,4 +595,12 @@ class IoClassSerialiserTests {
         public MultiArrayBoolean multiArrayBoolean;
         public MultiArrayObject<String> multiArrayString;
     }
+
+    private static byte[] getBytes(final IoBuffer buffer) {
+        final byte[] bytes = new byte[buffer.position()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.getByte(i);
+        }
+        return bytes;
+    }
 }
@@ -25,6 +25,7 @@ import de.gsi.serializer.helper.TestDataClass;
 import de.gsi.serializer.spi.BinarySerialiser;
 import de.gsi.serializer.spi.ByteBuffer;
 import de.gsi.serializer.spi.CmwLightSerialiser;
+import de.gsi.serializer.spi.DirectByteBuffer;
 import de.gsi.serializer.spi.FastByteBuffer;
 import de.gsi.serializer.spi.JsonSerialiser;
 import de.gsi.serializer.spi.WireDataFieldDescription;
@@ -316,7 +317,13 @@ class IoSerialiserTests {
                     Arguments.of(FastByteBuffer.class, 2),
                     Arguments.of(FastByteBuffer.class, 3),
                     Arguments.of(FastByteBuffer.class, 4),
-                    Arguments.of(FastByteBuffer.class, 5));
+                    Arguments.of(FastByteBuffer.class, 5),
+                    Arguments.of(DirectByteBuffer.class, 0),
+                    Arguments.of(DirectByteBuffer.class, 1),
+                    Arguments.of(DirectByteBuffer.class, 2),
+                    Arguments.of(DirectByteBuffer.class, 3),
+                    Arguments.of(DirectByteBuffer.class, 4),
+                    Arguments.of(DirectByteBuffer.class, 5));
         }
     }
 
@@ -328,11 +335,15 @@ class IoSerialiserTests {
                     Arguments.of(BinarySerialiser.class, ByteBuffer.class, 1),
                     Arguments.of(BinarySerialiser.class, FastByteBuffer.class, 0),
                     Arguments.of(BinarySerialiser.class, FastByteBuffer.class, 1),
+                    Arguments.of(BinarySerialiser.class, DirectByteBuffer.class, 0),
+                    Arguments.of(BinarySerialiser.class, DirectByteBuffer.class, 1),
 
                     Arguments.of(CmwLightSerialiser.class, ByteBuffer.class, 0),
                     Arguments.of(CmwLightSerialiser.class, ByteBuffer.class, 1),
                     Arguments.of(CmwLightSerialiser.class, FastByteBuffer.class, 0),
                     Arguments.of(CmwLightSerialiser.class, FastByteBuffer.class, 1),
+                    Arguments.of(CmwLightSerialiser.class, DirectByteBuffer.class, 0),
+                    Arguments.of(CmwLightSerialiser.class, DirectByteBuffer.class, 1),
 
                     Arguments.of(JsonSerialiser.class, ByteBuffer.class, 0),
                     Arguments.of(JsonSerialiser.class, ByteBuffer.class, 1),
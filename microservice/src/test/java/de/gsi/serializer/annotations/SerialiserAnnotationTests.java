@@ -17,6 +17,7 @@ import de.gsi.serializer.IoClassSerialiser;
 import de.gsi.serializer.spi.BinarySerialiser;
 import de.gsi.serializer.spi.ByteBuffer;
 import de.gsi.serializer.spi.ClassFieldDescription;
+import de.gsi.serializer.spi.DirectByteBuffer;
 import de.gsi.serializer.spi.FastByteBuffer;
 import de.gsi.serializer.spi.WireDataFieldDescription;
 import de.gsi.serializer.utils.ClassUtils;
@@ -52,7 +53,7 @@ class SerialiserAnnotationTests {
 
     @DisplayName("basic custom serialisation/deserialisation identity")
     @ParameterizedTest(name = "IoBuffer class - {0} recursion level {1}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testCustomSerialiserIdentity(final Class<? extends IoBuffer> bufferClass) throws NoSuchMethodException, SecurityException, InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
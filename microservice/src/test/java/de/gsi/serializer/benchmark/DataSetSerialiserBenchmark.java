@@ -2,7 +2,10 @@ package de.gsi.serializer.benchmark;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
@@ -10,72 +13,63 @@ import org.openjdk.jmh.infra.Blackhole;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.spi.DoubleDataSet;
 import de.gsi.dataset.testdata.spi.GaussFunction;
+import de.gsi.serializer.IoBuffer;
 import de.gsi.serializer.IoClassSerialiser;
 import de.gsi.serializer.spi.BinarySerialiser;
 import de.gsi.serializer.spi.ByteBuffer;
+import de.gsi.serializer.spi.DirectByteBuffer;
 import de.gsi.serializer.spi.FastByteBuffer;
 
 /**
  * Simple benchmark to verify that the in-place DataSet (de-)serialiser is not significantly slower than creating a new DataSet
+ * and to compare the heap-based ({@link ByteBuffer}, {@link FastByteBuffer}) with the off-heap ({@link DirectByteBuffer})
+ * IoBuffer implementations.
  *
- * Benchmark                                                                Mode  Cnt     Score     Error  Units
- * DataSetSerialiserBenchmark.serialiserRoundTripByteBufferInplace         thrpt   10  5971.023 ± 100.145  ops/s
- * DataSetSerialiserBenchmark.serialiserRoundTripByteBufferNewDataSet      thrpt   10  5652.462 ± 114.474  ops/s
- * DataSetSerialiserBenchmark.serialiserRoundTripFastByteBufferInplace     thrpt   10  7468.360 ± 126.494  ops/s
- * DataSetSerialiserBenchmark.serialiserRoundTripFastByteBufferNewDataSet  thrpt   10  7272.097 ± 170.991  ops/s
+ * <pre>
+ * JDK 11.0.21, 1 fork, 2 x 5 s warm-up, 5 x 5 s measurement, single-CPU host (N.B. large errors, ranking of the heap-based buffers not significant):
+ * Benchmark                                                    (bufferClass)   Mode  Cnt      Score      Error  Units
+ * DataSetSerialiserBenchmark.serialiserRoundTripInplace           ByteBuffer  thrpt    5   6883.162 ± 3717.971  ops/s
+ * DataSetSerialiserBenchmark.serialiserRoundTripInplace       FastByteBuffer  thrpt    5   7462.392 ± 2561.782  ops/s
+ * DataSetSerialiserBenchmark.serialiserRoundTripInplace     DirectByteBuffer  thrpt    5  11542.247 ± 2659.867  ops/s
+ * DataSetSerialiserBenchmark.serialiserRoundTripNewDataSet        ByteBuffer  thrpt    5   6329.696 ± 3211.551  ops/s
+ * DataSetSerialiserBenchmark.serialiserRoundTripNewDataSet    FastByteBuffer  thrpt    5   5640.731 ± 1969.426  ops/s
+ * DataSetSerialiserBenchmark.serialiserRoundTripNewDataSet  DirectByteBuffer  thrpt    5   7878.453 ±  720.849  ops/s
+ * </pre>
  *
  * @author rstein
  */
 @State(Scope.Benchmark)
 public class DataSetSerialiserBenchmark {
-    private static final IoClassSerialiser serialiserFastByteBuffer = new IoClassSerialiser(new FastByteBuffer(200_000), BinarySerialiser.class);
-    private static final IoClassSerialiser serialiserByteBuffer = new IoClassSerialiser(new ByteBuffer(200_000), BinarySerialiser.class);
     private static final DataSet srcDataSet = new DoubleDataSet(new GaussFunction("Gauss-function", 10_000));
     private static final DataSet copyDataSet = new DoubleDataSet(srcDataSet);
     private static final TestClass source = new TestClass();
     private static final TestClass copy = new TestClass();
-
-    @Benchmark
-    @Warmup(iterations = 1)
-    @Fork(value = 2, warmups = 2)
-    public void serialiserRoundTripByteBufferInplace(Blackhole blackhole) {
-        final IoClassSerialiser classSerialiser = serialiserByteBuffer;
-        source.dataSet = srcDataSet;
-        copy.dataSet = copyDataSet;
-
-        // serialise-deserialise DataSet
-        classSerialiser.getDataBuffer().reset(); // '0' writing at start of buffer
-        classSerialiser.serialiseObject(source);
-
-        classSerialiser.getDataBuffer().flip(); // reset to read position (==0)
-        classSerialiser.deserialiseObject(copy);
-
-        blackhole.consume(copy);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1)
-    @Fork(value = 2, warmups = 2)
-    public void serialiserRoundTripByteBufferNewDataSet(Blackhole blackhole) {
-        final IoClassSerialiser classSerialiser = serialiserByteBuffer;
-        source.dataSet = srcDataSet;
-        copy.dataSet = null;
-
-        // serialise-deserialise DataSet
-        classSerialiser.getDataBuffer().reset(); // '0' writing at start of buffer
-        classSerialiser.serialiseObject(source);
-
-        classSerialiser.getDataBuffer().flip(); // reset to read position (==0)
-        classSerialiser.deserialiseObject(copy);
-
-        blackhole.consume(copy);
+    @Param({ "ByteBuffer", "FastByteBuffer", "DirectByteBuffer" })
+    private String bufferClass;
+    private IoClassSerialiser classSerialiser;
+
+    @Setup(Level.Trial)
+    public void initialize() {
+        final IoBuffer buffer;
+        switch (bufferClass) {
+        case "ByteBuffer":
+            buffer = new ByteBuffer(200_000);
+            break;
+        case "DirectByteBuffer":
+            buffer = new DirectByteBuffer(200_000);
+            break;
+        case "FastByteBuffer":
+        default:
+            buffer = new FastByteBuffer(200_000);
+            break;
+        }
+        classSerialiser = new IoClassSerialiser(buffer, BinarySerialiser.class);
     }
 
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void serialiserRoundTripFastByteBufferInplace(Blackhole blackhole) {
-        final IoClassSerialiser classSerialiser = serialiserFastByteBuffer;
+    public void serialiserRoundTripInplace(Blackhole blackhole) {
         source.dataSet = srcDataSet;
         copy.dataSet = copyDataSet;
 
@@ -92,8 +86,7 @@ public class DataSetSerialiserBenchmark {
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void serialiserRoundTripFastByteBufferNewDataSet(Blackhole blackhole) {
-        final IoClassSerialiser classSerialiser = serialiserFastByteBuffer;
+    public void serialiserRoundTripNewDataSet(Blackhole blackhole) {
         source.dataSet = srcDataSet;
         copy.dataSet = null;
 
@@ -2,6 +2,7 @@ package de.gsi.serializer.benchmark;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -14,6 +15,11 @@ import org.openjdk.jmh.infra.Blackhole;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.gsi.dataset.spi.utils.MathUtils;
+import de.gsi.serializer.IoBuffer;
+import de.gsi.serializer.spi.DirectByteBuffer;
+import de.gsi.serializer.spi.FastByteBuffer;
+
 import sun.misc.Unsafe;
 
 /**
@@ -40,6 +46,9 @@ import sun.misc.Unsafe;
  SerialiserAssumptionsBenchmark.stringAllocationWithOutCharsetUTF8        thrpt   10   49503339.953 ±  2376939.023  ops/s
  SerialiserAssumptionsBenchmark.stringAllocationWithOutCharsetUTF8_UTF8   thrpt   10   13860025.901 ±   244519.585  ops/s
  *
+ * The 'narrowDoubles*' and 'swapDoubles*' benchmarks compare the former element-wise/temporary-copy paths for
+ * double-to-float narrowing and byte-order swapping with the corresponding bulk {@link IoBuffer} primitives.
+ *
  * @author rstein
  */
 @State(Scope.Benchmark)
@@ -100,6 +109,34 @@ public class SerialiserAssumptionsBenchmark {
         return f1(blackhole, data.a);
     }
 
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public int narrowDoublesBulkDirectByteBuffer(final MyData data) {
+        return narrowDoublesBulk(data.directByteBuffer, data.doubles);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public int narrowDoublesBulkFastByteBuffer(final MyData data) {
+        return narrowDoublesBulk(data.fastByteBuffer, data.doubles);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public int narrowDoublesCopyDirectByteBuffer(final MyData data) {
+        return narrowDoublesCopy(data.directByteBuffer, data.doubles);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public int narrowDoublesCopyFastByteBuffer(final MyData data) {
+        return narrowDoublesCopy(data.fastByteBuffer, data.doubles);
+    }
+
     @Setup()
     public void initialize() {
         // add variables to initialise here
@@ -175,6 +212,34 @@ public class SerialiserAssumptionsBenchmark {
         return new String(data.byteUTF8, 0, data.byteUTF8.length);
     }
 
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public int swapDoublesBulkDirectByteBuffer(final MyData data) {
+        return swapDoublesBulk(data.directByteBuffer, data.doubles);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public int swapDoublesBulkFastByteBuffer(final MyData data) {
+        return swapDoublesBulk(data.fastByteBuffer, data.doubles);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public int swapDoublesElementWiseDirectByteBuffer(final MyData data) {
+        return swapDoublesElementWise(data.directByteBuffer, data.doubles);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public int swapDoublesElementWiseFastByteBuffer(final MyData data) {
+        return swapDoublesElementWise(data.fastByteBuffer, data.doubles);
+    }
+
     private int[] f1(Blackhole blackhole, int... array) {
         blackhole.consume(array);
         return array;
@@ -199,9 +264,41 @@ public class SerialiserAssumptionsBenchmark {
         return this;
     }
 
+    private static int narrowDoublesBulk(final IoBuffer buffer, final double[] values) {
+        buffer.reset();
+        buffer.putDoubleArrayAsFloat(values, 0, values.length);
+        return buffer.position();
+    }
+
+    private static int narrowDoublesCopy(final IoBuffer buffer, final double[] values) {
+        buffer.reset();
+        buffer.putFloatArray(MathUtils.toFloats(values), values.length);
+        return buffer.position();
+    }
+
+    private static ByteOrder swappedOrder(final IoBuffer buffer) {
+        return buffer.byteOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+    }
+
+    private static int swapDoublesBulk(final IoBuffer buffer, final double[] values) {
+        buffer.reset();
+        buffer.putDoubleArray(values, values.length, swappedOrder(buffer));
+        return buffer.position();
+    }
+
+    private static int swapDoublesElementWise(final IoBuffer buffer, final double[] values) {
+        buffer.reset();
+        buffer.putInt(values.length);
+        for (final double value : values) {
+            buffer.putLong(Long.reverseBytes(Double.doubleToRawLongBits(value)));
+        }
+        return buffer.position();
+    }
+
     @State(Scope.Thread)
     public static class MyData {
         private static final int ARRAY_SIZE = 10;
+        private static final int N_SAMPLES = 100_000;
         public int a = 1;
         public int b = 2;
         public int c = 2;
@@ -214,12 +311,18 @@ public class SerialiserAssumptionsBenchmark {
         public byte[] byteUTF8 = stringUTF8.getBytes(StandardCharsets.UTF_8);
         public String[] arrayISO8859 = new String[ARRAY_SIZE];
         public String[] arrayUTF8 = new String[ARRAY_SIZE];
+        public double[] doubles = new double[N_SAMPLES];
+        public IoBuffer fastByteBuffer = new FastByteBuffer(2 * N_SAMPLES * Double.BYTES);
+        public IoBuffer directByteBuffer = new DirectByteBuffer(2 * N_SAMPLES * Double.BYTES);
 
         public MyData() {
             for (int i = 0; i < ARRAY_SIZE; i++) {
                 arrayISO8859[i] = stringISO8859;
                 arrayUTF8[i] = stringUTF8;
             }
+            for (int i = 0; i < N_SAMPLES; i++) {
+                doubles[i] = Math.sin(0.001 * i);
+            }
         }
     }
 
@@ -2,8 +2,10 @@ package de.gsi.serializer.benchmark;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
@@ -13,11 +15,16 @@ import com.jsoniter.output.EncodingMode;
 import com.jsoniter.output.JsonStream;
 import com.jsoniter.spi.DecodingMode;
 
+import de.gsi.serializer.IoBuffer;
 import de.gsi.serializer.helper.CmwLightHelper;
 import de.gsi.serializer.helper.FlatBuffersHelper;
 import de.gsi.serializer.helper.JsonHelper;
 import de.gsi.serializer.helper.SerialiserHelper;
 import de.gsi.serializer.helper.TestDataClass;
+import de.gsi.serializer.spi.ByteBuffer;
+import de.gsi.serializer.spi.CmwLightSerialiser;
+import de.gsi.serializer.spi.DirectByteBuffer;
+import de.gsi.serializer.spi.FastByteBuffer;
 
 /**
  * More thorough (JMH-based)) benchmark of various internal and external serialiser protocols.
@@ -54,6 +61,44 @@ import de.gsi.serializer.helper.TestDataClass;
  * SerialiserBenchmark.pojoJsonCodeGen            string-heavy  thrpt   10   23586.818 ±  470.233  ops/s
  * SerialiserBenchmark.pojoJsonCodeGen           numeric-heavy  thrpt   10     163.250 ±    1.254  ops/s
  *
+ * The IoBuffer implementation is selected via the 'bufferClass' parameter (default above: FastByteBuffer). Short
+ * indicative run (JDK 11.0.21, 1 fork, 1 x 3 s warm-up, 3 x 3 s measurement, single-CPU host). N.B. the errors are of the
+ * order of the scores, i.e. none of the differences between the buffer implementations is significant in this run:
+ * <pre>
+ * Benchmark                                  (bufferClass)  (testClassId)   Mode  Cnt      Score       Error  Units
+ * SerialiserBenchmark.customIoSerialiser    FastByteBuffer   string-heavy  thrpt    3  38244.611 ± 59389.899  ops/s
+ * SerialiserBenchmark.customIoSerialiser        ByteBuffer   string-heavy  thrpt    3  22297.003 ± 29339.946  ops/s
+ * SerialiserBenchmark.customIoSerialiser  DirectByteBuffer   string-heavy  thrpt    3  30955.374 ± 39466.423  ops/s
+ * SerialiserBenchmark.customIoSerialiser    FastByteBuffer  numeric-heavy  thrpt    3  11092.190 ±  8446.647  ops/s
+ * SerialiserBenchmark.customIoSerialiser        ByteBuffer  numeric-heavy  thrpt    3   5547.501 ±  8680.893  ops/s
+ * SerialiserBenchmark.customIoSerialiser  DirectByteBuffer  numeric-heavy  thrpt    3   7145.485 ±  5620.586  ops/s
+ * SerialiserBenchmark.pojoCmwLight          FastByteBuffer   string-heavy  thrpt    3   2939.997 ±  1073.518  ops/s
+ * SerialiserBenchmark.pojoCmwLight              ByteBuffer   string-heavy  thrpt    3   1205.725 ±  3784.691  ops/s
+ * SerialiserBenchmark.pojoCmwLight        DirectByteBuffer   string-heavy  thrpt    3    955.475 ±  2218.736  ops/s
+ * SerialiserBenchmark.pojoCmwLight          FastByteBuffer  numeric-heavy  thrpt    3   8022.483 ±  7065.402  ops/s
+ * SerialiserBenchmark.pojoCmwLight              ByteBuffer  numeric-heavy  thrpt    3    447.402 ±   800.455  ops/s
+ * SerialiserBenchmark.pojoCmwLight        DirectByteBuffer  numeric-heavy  thrpt    3   3090.534 ± 12402.770  ops/s
+ * SerialiserBenchmark.pojoIoSerialiser      FastByteBuffer   string-heavy  thrpt    3   2742.989 ±  5432.670  ops/s
+ * SerialiserBenchmark.pojoIoSerialiser          ByteBuffer   string-heavy  thrpt    3   2087.322 ±  8017.613  ops/s
+ * SerialiserBenchmark.pojoIoSerialiser    DirectByteBuffer   string-heavy  thrpt    3   1295.596 ±  4678.295  ops/s
+ * SerialiserBenchmark.pojoIoSerialiser      FastByteBuffer  numeric-heavy  thrpt    3   9070.278 ± 18303.814  ops/s
+ * SerialiserBenchmark.pojoIoSerialiser          ByteBuffer  numeric-heavy  thrpt    3    663.530 ±   748.820  ops/s
+ * SerialiserBenchmark.pojoIoSerialiser    DirectByteBuffer  numeric-heavy  thrpt    3   5287.310 ± 18505.481  ops/s
+ * </pre>
+ * N.B. 'pojoIoSerialiser' uses the flat, once-per-class compiled writer plan (default) of {@link de.gsi.serializer.IoClassSerialiser},
+ * 'pojoIoSerialiserRecursive' the recursive walk of the class field description tree.
+ * 'pojoCmwLightCompiled' is 'pojoCmwLight' with {@link CmwLightSerialiser#setUseCompiledSchema(boolean)} enabled, i.e. the
+ * same bytes on the wire but pre-encoded field headers and one entry-count update per nesting level (JDK 11.0.21, 1 fork,
+ * 3 x 5 s warm-up, 5 x 5 s measurement, single-CPU host). Since the round-trip is dominated by the de-serialisation,
+ * the difference is within the errors in this run:
+ * <pre>
+ * Benchmark                                  (bufferClass)  (testClassId)   Mode  Cnt     Score     Error  Units
+ * SerialiserBenchmark.pojoCmwLight          FastByteBuffer   string-heavy  thrpt    5  1080.056 ± 259.867  ops/s
+ * SerialiserBenchmark.pojoCmwLight          FastByteBuffer  numeric-heavy  thrpt    5  1168.318 ± 488.303  ops/s
+ * SerialiserBenchmark.pojoCmwLightCompiled  FastByteBuffer   string-heavy  thrpt    5  1013.223 ± 390.257  ops/s
+ * SerialiserBenchmark.pojoCmwLightCompiled  FastByteBuffer  numeric-heavy  thrpt    5  1252.846 ± 676.407  ops/s
+ * </pre>
+ *
  * @author rstein
  */
 @State(Scope.Benchmark)
@@ -77,7 +122,7 @@ public class SerialiserBenchmark {
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void mapCmwLight(Blackhole blackhole) {
+    public void mapCmwLight(Blackhole blackhole, BufferState bufferState) {
         CmwLightHelper.testSerialiserPerformanceMap(1, getTestClass(testClassId));
         blackhole.consume(getTestClass(testClassId));
     }
@@ -85,7 +130,7 @@ public class SerialiserBenchmark {
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void mapIoSerialiser(Blackhole blackhole) {
+    public void mapIoSerialiser(Blackhole blackhole, BufferState bufferState) {
         SerialiserHelper.testSerialiserPerformanceMap(1, getTestClass(testClassId));
         blackhole.consume(getTestClass(testClassId));
     }
@@ -93,7 +138,7 @@ public class SerialiserBenchmark {
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void mapIoSerialiserOptimized(Blackhole blackhole) {
+    public void mapIoSerialiserOptimized(Blackhole blackhole, BufferState bufferState) {
         SerialiserHelper.getBinarySerialiser().setEnforceSimpleStringEncoding(true);
         SerialiserHelper.getBinarySerialiser().setPutFieldMetaData(false);
         SerialiserHelper.testSerialiserPerformanceMap(1, getTestClass(testClassId));
@@ -121,7 +166,7 @@ public class SerialiserBenchmark {
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void customCmwLight(Blackhole blackhole) {
+    public void customCmwLight(Blackhole blackhole, BufferState bufferState) {
         CmwLightHelper.testCustomSerialiserPerformance(1, getTestClass(testClassId), outputObject);
         blackhole.consume(outputObject);
     }
@@ -129,7 +174,7 @@ public class SerialiserBenchmark {
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void customIoSerialiser(Blackhole blackhole) {
+    public void customIoSerialiser(Blackhole blackhole, BufferState bufferState) {
         SerialiserHelper.testCustomSerialiserPerformance(1, getTestClass(testClassId), outputObject);
         blackhole.consume(outputObject);
     }
@@ -137,7 +182,7 @@ public class SerialiserBenchmark {
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void customIoSerialiserOptim(Blackhole blackhole) {
+    public void customIoSerialiserOptim(Blackhole blackhole, BufferState bufferState) {
         SerialiserHelper.getBinarySerialiser().setEnforceSimpleStringEncoding(true);
         SerialiserHelper.getBinarySerialiser().setPutFieldMetaData(false);
         SerialiserHelper.testCustomSerialiserPerformance(1, getTestClass(testClassId), outputObject);
@@ -167,7 +212,17 @@ public class SerialiserBenchmark {
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void pojoCmwLight(Blackhole blackhole) {
+    public void pojoCmwLight(Blackhole blackhole, BufferState bufferState) {
+        ((CmwLightSerialiser) CmwLightHelper.getIoClassSerialiser().getMatchedIoSerialiser()).setUseCompiledSchema(false);
+        CmwLightHelper.testPerformancePojo(1, getTestClass(testClassId), outputObject);
+        blackhole.consume(outputObject);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void pojoCmwLightCompiled(Blackhole blackhole, BufferState bufferState) {
+        ((CmwLightSerialiser) CmwLightHelper.getIoClassSerialiser().getMatchedIoSerialiser()).setUseCompiledSchema(true);
         CmwLightHelper.testPerformancePojo(1, getTestClass(testClassId), outputObject);
         blackhole.consume(outputObject);
     }
@@ -175,7 +230,8 @@ public class SerialiserBenchmark {
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void pojoIoSerialiser(Blackhole blackhole) {
+    public void pojoIoSerialiser(Blackhole blackhole, BufferState bufferState) {
+        SerialiserHelper.getIoClassSerialiser().setUseWriterPlan(true);
         SerialiserHelper.testPerformancePojo(1, getTestClass(testClassId), outputObject);
         blackhole.consume(outputObject);
     }
@@ -183,7 +239,17 @@ public class SerialiserBenchmark {
     @Benchmark
     @Warmup(iterations = 1)
     @Fork(value = 2, warmups = 2)
-    public void pojoIoSerialiserOptim(Blackhole blackhole) {
+    public void pojoIoSerialiserRecursive(Blackhole blackhole, BufferState bufferState) {
+        SerialiserHelper.getIoClassSerialiser().setUseWriterPlan(false);
+        SerialiserHelper.testPerformancePojo(1, getTestClass(testClassId), outputObject);
+        blackhole.consume(outputObject);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void pojoIoSerialiserOptim(Blackhole blackhole, BufferState bufferState) {
+        SerialiserHelper.getIoClassSerialiser().setUseWriterPlan(true);
         SerialiserHelper.getBinarySerialiser().setEnforceSimpleStringEncoding(true);
         SerialiserHelper.getBinarySerialiser().setPutFieldMetaData(false);
         SerialiserHelper.testPerformancePojo(1, getTestClass(testClassId), outputObject);
@@ -193,4 +259,33 @@ public class SerialiserBenchmark {
     private static TestDataClass getTestClass(final String arg) {
         return INPUT_OBJECT_NAME_1.equals(arg) ? inputObject1 : inputObject2;
     }
+
+    /**
+     * IoBuffer implementation used by the IoSerialiser- and CmwLight-based benchmarks. N.B. the state is passed to these
+     * benchmarks only to have JMH set up (and parameterise) the helpers' buffers.
+     */
+    @State(Scope.Benchmark)
+    public static class BufferState {
+        private static final int BUFFER_SIZE = 1 << 20; // N.B. ByteBuffer cannot grow: sized for the numeric-heavy case
+        @Param({ "FastByteBuffer", "ByteBuffer", "DirectByteBuffer" })
+        private String bufferClass;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            SerialiserHelper.setByteBuffer(newBuffer(bufferClass));
+            CmwLightHelper.setByteBuffer(newBuffer(bufferClass));
+        }
+
+        private static IoBuffer newBuffer(final String bufferClass) {
+            switch (bufferClass) {
+            case "ByteBuffer":
+                return new ByteBuffer(BUFFER_SIZE);
+            case "DirectByteBuffer":
+                return new DirectByteBuffer(BUFFER_SIZE);
+            case "FastByteBuffer":
+            default:
+                return new FastByteBuffer(BUFFER_SIZE);
+            }
+        }
+    }
 }
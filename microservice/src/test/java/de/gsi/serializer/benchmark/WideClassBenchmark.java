@@ -0,0 +1,109 @@
+package de.gsi.serializer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.gsi.serializer.FieldDescription;
+import de.gsi.serializer.IoBuffer;
+import de.gsi.serializer.IoClassSerialiser;
+import de.gsi.serializer.spi.BinarySerialiser;
+import de.gsi.serializer.spi.ClassFieldDescription;
+import de.gsi.serializer.spi.FastByteBuffer;
+import de.gsi.serializer.utils.ClassUtils;
+
+/**
+ * Benchmark of the field name look-up in wide (i.e. 500-field) classes, comparing the hash-indexed
+ * {@link FieldDescription#findChildField(int, String)} with the former linear search of the children as well as the
+ * resulting POJO-&gt;serialised-&gt;POJO round-trip performance that relies on this look-up for the wire-to-class field matching.
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+public class WideClassBenchmark {
+    private static final int N_FIELDS = 500;
+    private final IoBuffer byteBuffer = new FastByteBuffer(20_000);
+    private final IoClassSerialiser ioSerialiser = new IoClassSerialiser(byteBuffer, BinarySerialiser.class);
+    private final WideDataClass inputObject = new WideDataClass();
+    private final WideDataClass outputObject = new WideDataClass();
+    private final ClassFieldDescription classDescription = ClassUtils.getFieldDescription(WideDataClass.class);
+    private final String[] fieldNames = new String[N_FIELDS];
+
+    public WideClassBenchmark() {
+        for (int i = 0; i < N_FIELDS; i++) {
+            fieldNames[i] = String.format("field%03d", i); // N.B. new String instances to avoid the identity short-cut
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void findChildFieldIndexed(Blackhole blackhole) {
+        for (final String fieldName : fieldNames) {
+            blackhole.consume(classDescription.findChildField(fieldName.hashCode(), fieldName));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void findChildFieldLinear(Blackhole blackhole) {
+        for (final String fieldName : fieldNames) {
+            blackhole.consume(findChildFieldLinear(classDescription, fieldName.hashCode(), fieldName));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public Object pojoIoSerialiser() {
+        byteBuffer.reset();
+        ioSerialiser.serialiseObject(inputObject);
+        byteBuffer.flip();
+        return ioSerialiser.deserialiseObject(outputObject);
+    }
+
+    private static FieldDescription findChildFieldLinear(final FieldDescription root, final int fieldNameHashCode, final String fieldName) {
+        for (final FieldDescription child : root.getChildren()) {
+            if (child.getFieldNameHashCode() == fieldNameHashCode && child.getFieldName().equals(fieldName)) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * wide POJO with 500 (numbered) primitive fields
+     */
+    @SuppressWarnings("PMD")
+    public static class WideDataClass {
+        public int field000, field001, field002, field003, field004, field005, field006, field007, field008, field009, field010, field011, field012, field013, field014, field015, field016, field017, field018, field019; // NOPMD
+        public int field020, field021, field022, field023, field024, field025, field026, field027, field028, field029, field030, field031, field032, field033, field034, field035, field036, field037, field038, field039; // NOPMD
+        public int field040, field041, field042, field043, field044, field045, field046, field047, field048, field049, field050, field051, field052, field053, field054, field055, field056, field057, field058, field059; // NOPMD
+        public int field060, field061, field062, field063, field064, field065, field066, field067, field068, field069, field070, field071, field072, field073, field074, field075, field076, field077, field078, field079; // NOPMD
+        public int field080, field081, field082, field083, field084, field085, field086, field087, field088, field089, field090, field091, field092, field093, field094, field095, field096, field097, field098, field099; // NOPMD
+        public int field100, field101, field102, field103, field104, field105, field106, field107, field108, field109, field110, field111, field112, field113, field114, field115, field116, field117, field118, field119; // NOPMD
+        public int field120, field121, field122, field123, field124, field125, field126, field127, field128, field129, field130, field131, field132, field133, field134, field135, field136, field137, field138, field139; // NOPMD
+        public int field140, field141, field142, field143, field144, field145, field146, field147, field148, field149, field150, field151, field152, field153, field154, field155, field156, field157, field158, field159; // NOPMD
+        public int field160, field161, field162, field163, field164, field165, field166, field167, field168, field169, field170, field171, field172, field173, field174, field175, field176, field177, field178, field179; // NOPMD
+        public int field180, field181, field182, field183, field184, field185, field186, field187, field188, field189, field190, field191, field192, field193, field194, field195, field196, field197, field198, field199; // NOPMD
+        public int field200, field201, field202, field203, field204, field205, field206, field207, field208, field209, field210, field211, field212, field213, field214, field215, field216, field217, field218, field219; // NOPMD
+        public int field220, field221, field222, field223, field224, field225, field226, field227, field228, field229, field230, field231, field232, field233, field234, field235, field236, field237, field238, field239; // NOPMD
+        public int field240, field241, field242, field243, field244, field245, field246, field247, field248, field249, field250, field251, field252, field253, field254, field255, field256, field257, field258, field259; // NOPMD
+        public int field260, field261, field262, field263, field264, field265, field266, field267, field268, field269, field270, field271, field272, field273, field274, field275, field276, field277, field278, field279; // NOPMD
+        public int field280, field281, field282, field283, field284, field285, field286, field287, field288, field289, field290, field291, field292, field293, field294, field295, field296, field297, field298, field299; // NOPMD
+        public int field300, field301, field302, field303, field304, field305, field306, field307, field308, field309, field310, field311, field312, field313, field314, field315, field316, field317, field318, field319; // NOPMD
+        public int field320, field321, field322, field323, field324, field325, field326, field327, field328, field329, field330, field331, field332, field333, field334, field335, field336, field337, field338, field339; // NOPMD
+        public int field340, field341, field342, field343, field344, field345, field346, field347, field348, field349, field350, field351, field352, field353, field354, field355, field356, field357, field358, field359; // NOPMD
+        public int field360, field361, field362, field363, field364, field365, field366, field367, field368, field369, field370, field371, field372, field373, field374, field375, field376, field377, field378, field379; // NOPMD
+        public int field380, field381, field382, field383, field384, field385, field386, field387, field388, field389, field390, field391, field392, field393, field394, field395, field396, field397, field398, field399; // NOPMD
+        public int field400, field401, field402, field403, field404, field405, field406, field407, field408, field409, field410, field411, field412, field413, field414, field415, field416, field417, field418, field419; // NOPMD
+        public int field420, field421, field422, field423, field424, field425, field426, field427, field428, field429, field430, field431, field432, field433, field434, field435, field436, field437, field438, field439; // NOPMD
+        public int field440, field441, field442, field443, field444, field445, field446, field447, field448, field449, field450, field451, field452, field453, field454, field455, field456, field457, field458, field459; // NOPMD
+        public int field460, field461, field462, field463, field464, field465, field466, field467, field468, field469, field470, field471, field472, field473, field474, field475, field476, field477, field478, field479; // NOPMD
+        public int field480, field481, field482, field483, field484, field485, field486, field487, field488, field489, field490, field491, field492, field493, field494, field495, field496, field497, field498, field499; // NOPMD
+    }
+}
@@ -19,7 +19,7 @@ import de.gsi.serializer.spi.WireDataFieldDescription;
 
 public class CmwLightHelper {
     private static final Logger LOGGER = LoggerFactory.getLogger(SerialiserQuickBenchmark.class); // N.B. SerialiserQuickBenchmark reference on purpose
-    private static final IoBuffer byteBuffer = new FastByteBuffer(100000);
+    private static IoBuffer byteBuffer = new FastByteBuffer(100000); // N.B. may be replaced via setByteBuffer(..)
     // private static final IoBuffer byteBuffer = new ByteBuffer(20000);
     private static final CmwLightSerialiser cmwLightSerialiser = new CmwLightSerialiser(byteBuffer);
     private static final IoClassSerialiser ioSerialiser = new IoClassSerialiser(byteBuffer, CmwLightSerialiser.class);
@@ -273,6 +273,10 @@ public class CmwLightHelper {
         return cmwLightSerialiser;
     }
 
+    public static IoClassSerialiser getIoClassSerialiser() {
+        return ioSerialiser;
+    }
+
     public static void serialiseCustom(IoSerialiser ioSerialiser, final TestDataClass pojo) {
         serialiseCustom(ioSerialiser, pojo, true);
     }
@@ -346,6 +350,15 @@ public class CmwLightHelper {
         }
     }
 
+    /**
+     * @param buffer IoBuffer implementation to be used by the helper's serialisers (e.g. for benchmarking different buffer types)
+     */
+    public static void setByteBuffer(final IoBuffer buffer) {
+        byteBuffer = buffer;
+        cmwLightSerialiser.setBuffer(buffer);
+        ioSerialiser.setDataBuffer(buffer);
+    }
+
     public static void testCustomSerialiserPerformance(final int iterations, final TestDataClass inputObject, final TestDataClass outputObject) {
         final long startTime = System.nanoTime();
 
@@ -20,7 +20,7 @@ import de.gsi.serializer.spi.WireDataFieldDescription;
 @SuppressWarnings("PMD") // complexity is part of the very large use-case surface that is being tested
 public final class SerialiserHelper {
     private static final Logger LOGGER = LoggerFactory.getLogger(SerialiserQuickBenchmark.class); // N.B. SerialiserQuickBenchmark reference on purpose
-    private static final IoBuffer byteBuffer = new FastByteBuffer(100000);
+    private static IoBuffer byteBuffer = new FastByteBuffer(100000); // N.B. may be replaced via setByteBuffer(..)
 
     // private static final IoBuffer byteBuffer = new ByteBuffer(20000);
     private static final BinarySerialiser binarySerialiser = new BinarySerialiser(byteBuffer);
@@ -187,6 +187,10 @@ public final class SerialiserHelper {
         return byteBuffer;
     }
 
+    public static IoClassSerialiser getIoClassSerialiser() {
+        return ioSerialiser;
+    }
+
     public static void serialiseCustom(IoSerialiser ioSerialiser, final TestDataClass pojo) {
         serialiseCustom(ioSerialiser, pojo, true);
     }
@@ -252,6 +256,15 @@ public final class SerialiserHelper {
         }
     }
 
+    /**
+     * @param buffer IoBuffer implementation to be used by the helper's serialisers (e.g. for benchmarking different buffer types)
+     */
+    public static void setByteBuffer(final IoBuffer buffer) {
+        byteBuffer = buffer;
+        binarySerialiser.setBuffer(buffer);
+        ioSerialiser.setDataBuffer(buffer);
+    }
+
     public static void testCustomSerialiserPerformance(final int iterations, final TestDataClass inputObject, final TestDataClass outputObject) {
         final long startTime = System.nanoTime();
 
@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.InvocationTargetException;
@@ -26,6 +29,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import de.gsi.dataset.utils.AssertUtils;
 import de.gsi.serializer.DataType;
+import de.gsi.serializer.FieldDescription;
 import de.gsi.serializer.IoBuffer;
 import de.gsi.serializer.spi.helper.MyGenericClass;
 
@@ -53,7 +57,7 @@ class BinarySerialiserTests {
 
     @DisplayName("basic primitive array writer tests")
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testBasicInterfacePrimitiveArrays(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -259,7 +263,7 @@ class BinarySerialiserTests {
 
     @DisplayName("basic primitive writer tests")
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testBasicInterfacePrimitives(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -395,7 +399,7 @@ class BinarySerialiserTests {
 
     @DisplayName("basic tests")
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testHeaderAndSpecialItems(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -615,7 +619,7 @@ class BinarySerialiserTests {
 
     @DisplayName("basic primitive array writer tests")
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testParseIoStream(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -683,9 +687,131 @@ class BinarySerialiserTests {
         // objectRoot.printFieldStructure();
     }
 
+    @DisplayName("projected parsing and lazy primitive array views")
+    @ParameterizedTest(name = "IoBuffer class - {0}")
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
+    void testParseIoStreamProjection(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
+        final IoBuffer buffer = bufferClass.getConstructor(int.class).newInstance(2 * BUFFER_SIZE);
+        final BinarySerialiser ioSerialiser = new BinarySerialiser(buffer);
+        final double[] values = { 1.0, 2.0, 3.0, 4.0 };
+
+        ioSerialiser.putHeaderInfo();
+        ioSerialiser.put("int", 42);
+        ioSerialiser.put("string", "string");
+        ioSerialiser.put("map", Map.of(1, "one"), Integer.class, String.class);
+        ioSerialiser.put("double[]", values, values.length);
+        final String skippedContextName = "skipped context";
+        final WireDataFieldDescription skippedContextMarker = new WireDataFieldDescription(ioSerialiser, null, skippedContextName.hashCode(), skippedContextName, DataType.START_MARKER, -1, -1, -1);
+        ioSerialiser.putStartMarker(skippedContextMarker);
+        ioSerialiser.put("int", 43);
+        ioSerialiser.putStartMarker(new WireDataFieldDescription(ioSerialiser, null, "inner".hashCode(), "inner", DataType.START_MARKER, -1, -1, -1));
+        ioSerialiser.put("float[]", new float[] { 1.0f }, 1);
+        ioSerialiser.putEndMarker(new WireDataFieldDescription(ioSerialiser, null, "inner".hashCode(), "inner", DataType.START_MARKER, -1, -1, -1));
+        ioSerialiser.putEndMarker(skippedContextMarker);
+        final String nestedContextName = "nested context";
+        final WireDataFieldDescription nestedContextMarker = new WireDataFieldDescription(ioSerialiser, null, nestedContextName.hashCode(), nestedContextName, DataType.START_MARKER, -1, -1, -1);
+        ioSerialiser.putStartMarker(nestedContextMarker);
+        ioSerialiser.put("booleanArray", new boolean[] { true }, 1);
+        ioSerialiser.put("int[]", new int[] { 1, -2, 3 }, new int[] { 3, 1 });
+        ioSerialiser.putEndMarker(nestedContextMarker);
+        ioSerialiser.put("long", 42L);
+        final String dataEndMarkerName = "Life is good!";
+        ioSerialiser.putEndMarker(new WireDataFieldDescription(ioSerialiser, null, dataEndMarkerName.hashCode(), dataEndMarkerName, DataType.START_MARKER, -1, -1, -1));
+        buffer.flip();
+
+        final WireDataFieldDescription root = ioSerialiser.parseIoStream(true, List.of("double[]", "nested context.int[]", "long"));
+        final FieldDescription classRoot = root.getChildren().get(0);
+        assertNull(classRoot.findChildField("int"));
+        assertNull(classRoot.findChildField("string"));
+        assertNull(classRoot.findChildField("map"));
+        assertNull(classRoot.findChildField(skippedContextName));
+        assertNotNull(classRoot.findChildField("long"));
+        final FieldDescription nestedContext = classRoot.findChildField(nestedContextName);
+        assertNotNull(nestedContext);
+        assertNull(nestedContext.findChildField("booleanArray"));
+
+        final PrimitiveArrayView doubleView = ioSerialiser.getArrayView((WireDataFieldDescription) classRoot.findChildField("double[]"));
+        assertEquals(DataType.DOUBLE_ARRAY, doubleView.getDataType());
+        assertEquals(values.length, doubleView.size());
+        assertEquals(3.0, doubleView.getDouble(2));
+        assertArrayEquals(values, doubleView.toDoubleArray(null));
+        assertArrayEquals(new float[] { 1.0f, 2.0f, 3.0f, 4.0f }, doubleView.toFloatArray(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> doubleView.getDouble(values.length));
+        assertThrows(IllegalStateException.class, () -> doubleView.getLong(0));
+
+        final PrimitiveArrayView intView = ioSerialiser.getArrayView((WireDataFieldDescription) nestedContext.findChildField("int[]"));
+        assertArrayEquals(new int[] { 3, 1 }, intView.getDimensions());
+        assertEquals(-2L, intView.getLong(1));
+        assertArrayEquals(new double[] { 1.0, -2.0, 3.0 }, intView.toDoubleArray(new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> ioSerialiser.getArrayView((WireDataFieldDescription) classRoot.findChildField("long")));
+
+        // selecting a whole sub-class retains all of its (nested) fields
+        buffer.reset();
+        final FieldDescription classRoot2 = ioSerialiser.parseIoStream(true, List.of(skippedContextName)).getChildren().get(0);
+        final FieldDescription skippedContext = classRoot2.findChildField(skippedContextName);
+        assertNotNull(skippedContext);
+        assertNotNull(skippedContext.findChildField("int"));
+        assertNotNull(skippedContext.findChildField("inner").findChildField("float[]"));
+        assertNull(classRoot2.findChildField("long"));
+    }
+
+    @Test
+    void testWideFieldTreeLookup() {
+        final BinarySerialiser ioSerialiser = new BinarySerialiser(new FastByteBuffer(20 * BUFFER_SIZE));
+        final int nFields = 500;
+        ioSerialiser.putHeaderInfo();
+        for (int i = 0; i < nFields; i++) {
+            ioSerialiser.put("field" + i, i);
+        }
+        ioSerialiser.put("Aa", 1); // N.B. "Aa" and "BB" share the same String hash code
+        ioSerialiser.put("BB", 2);
+        ioSerialiser.put("field7", -1); // duplicate field name -> first occurrence wins
+        final String dataEndMarkerName = "Life is good!";
+        ioSerialiser.putEndMarker(new WireDataFieldDescription(ioSerialiser, null, dataEndMarkerName.hashCode(), dataEndMarkerName, DataType.START_MARKER, -1, -1, -1));
+        ioSerialiser.getBuffer().flip();
+
+        final FieldDescription classRoot = ioSerialiser.parseIoStream(true).getChildren().get(0);
+        for (int i = 0; i < nFields; i++) {
+            final WireDataFieldDescription field = (WireDataFieldDescription) classRoot.findChildField("field" + i);
+            assertNotNull(field, "field" + i);
+            assertEquals(i, field.data());
+        }
+        assertEquals(1, ((WireDataFieldDescription) classRoot.findChildField("Aa")).data());
+        assertEquals(2, ((WireDataFieldDescription) classRoot.findChildField("BB")).data());
+        assertNull(classRoot.findChildField("C#"));
+        assertNull(classRoot.findChildField("field" + nFields));
+
+        // index must follow structural modifications of the child list
+        classRoot.getChildren().removeIf(child -> "field42".equals(child.getFieldName()));
+        assertNull(classRoot.findChildField("field42"));
+        assertNotNull(classRoot.findChildField("field43"));
+        final FieldDescription replacement = classRoot.getChildren().get(0);
+        classRoot.getChildren().set(1, replacement);
+        assertSame(replacement, classRoot.findChildField(replacement.getFieldName()));
+        classRoot.getChildren().clear();
+        assertNull(classRoot.findChildField("field0"));
+    }
+
+    @Test
+    void testFieldTreeLookupWithNullNames() {
+        for (final int nFields : new int[] { 3, 20 }) { // linear search and hash index
+            final WireDataFieldDescription root = new WireDataFieldDescription(null, null, 0, "root", DataType.START_MARKER, -1, -1, -1);
+            final WireDataFieldDescription unnamed = new WireDataFieldDescription(null, root, 0, null, DataType.INT, -1, -1, -1);
+            for (int i = 0; i < nFields; i++) {
+                new WireDataFieldDescription(null, root, ("field" + i).hashCode(), "field" + i, DataType.INT, -1, -1, -1); // NOPMD - registers itself with the parent
+            }
+            final WireDataFieldDescription empty = new WireDataFieldDescription(null, root, 0, "", DataType.INT, -1, -1, -1);
+
+            assertSame(unnamed, root.findChildField(0, null));
+            assertSame(empty, root.findChildField(0, ""));
+            assertSame(root.getChildren().get(1), root.findChildField("field0"));
+            assertNull(root.findChildField("field" + nFields));
+        }
+    }
+
     @DisplayName("test getGenericArrayAsBoxedPrimitive(...) helper method")
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testGetGenericArrayAsBoxedPrimitiveHelper(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -5,14 +5,23 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import de.gsi.dataset.spi.utils.MathUtils;
 import de.gsi.serializer.IoBuffer;
 
 /**
@@ -31,7 +40,7 @@ class IoBufferTests {
     private static final int BUFFER_SIZE = 1000;
 
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     @SuppressWarnings("PMD.ExcessiveMethodLength")
     void primitivesArrays(final Class<? extends IoBuffer> bufferClass) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         assertNotNull(bufferClass, "bufferClass being not null");
@@ -176,7 +185,7 @@ class IoBufferTests {
     }
 
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void primitivesMixed(final Class<? extends IoBuffer> bufferClass) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -216,7 +225,7 @@ class IoBufferTests {
     }
 
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void primitivesSimple(final Class<? extends IoBuffer> bufferClass) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -279,7 +288,59 @@ class IoBufferTests {
     }
 
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
+    void primitivesBulkConversion(final Class<? extends IoBuffer> bufferClass) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        final int nSamples = 2500; // N.B. not a multiple of the internal conversion chunk size
+        final IoBuffer buffer = bufferClass.getConstructor(int.class).newInstance(4 * nSamples * Double.BYTES);
+        final double[] doubles = new double[nSamples];
+        final float[] floats = new float[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            doubles[i] = Math.sin(0.01 * i) * 1e5 + i;
+            floats[i] = (float) doubles[i];
+        }
+
+        // narrowing is wire-compatible to the float[] array copy
+        final float[] expectedOffset = new float[nSamples - 3];
+        System.arraycopy(floats, 3, expectedOffset, 0, expectedOffset.length);
+        buffer.reset();
+        buffer.putDoubleArrayAsFloat(doubles, 0, -1);
+        buffer.putDoubleArrayAsFloat(doubles, 3, nSamples);
+        buffer.putDoubleArrayAsFloat(null, 0, 5);
+        buffer.putFloatArray(floats, -1);
+        buffer.flip();
+        assertArrayEquals(floats, buffer.getFloatArray());
+        assertArrayEquals(expectedOffset, buffer.getFloatArray());
+        assertEquals(0, buffer.getFloatArray().length);
+        final double[] widened = new double[nSamples];
+        assertArrayEquals(floats, MathUtils.toFloats(buffer.getFloatArrayAsDouble(widened, widened.length)));
+        assertEquals(nSamples, widened.length);
+
+        // byte-order conversion: native, own and opposite order must round-trip and match the reference encoding
+        for (final ByteOrder byteOrder : new ByteOrder[] { buffer.byteOrder(), ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            buffer.reset();
+            buffer.putDoubleArray(doubles, -1, byteOrder);
+            buffer.putFloatArray(floats, 7, byteOrder);
+            buffer.putDoubleArray(null, 3, byteOrder);
+            final int endPosition = buffer.position();
+            buffer.flip();
+            assertArrayEquals(doubles, buffer.getDoubleArray(null, -1, byteOrder), byteOrder.toString());
+            assertArrayEquals(Arrays.copyOf(floats, 7), buffer.getFloatArray(new float[7], 7, byteOrder), byteOrder.toString());
+            assertEquals(0, buffer.getDoubleArray(null, -1, byteOrder).length);
+            assertEquals(endPosition, buffer.position());
+
+            final java.nio.ByteBuffer reference = java.nio.ByteBuffer.allocate(nSamples * Double.BYTES).order(byteOrder);
+            reference.asDoubleBuffer().put(doubles);
+            final byte[] encoded = new byte[nSamples * Double.BYTES];
+            buffer.position(Integer.BYTES);
+            for (int i = 0; i < encoded.length; i++) {
+                encoded[i] = buffer.getByte();
+            }
+            assertArrayEquals(reference.array(), encoded, byteOrder.toString());
+        }
+    }
+
+    @ParameterizedTest(name = "IoBuffer class - {0}")
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void primitivesSimpleInPlace(final Class<? extends IoBuffer> bufferClass) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -322,6 +383,39 @@ class IoBufferTests {
         assertEquals("Hello World!", buffer.getString(8));
     }
 
+    @Test
+    void testDirectByteBufferChannelTransfer(@TempDir final Path tmpDir) throws IOException {
+        final DirectByteBuffer buffer = new DirectByteBuffer(10); // N.B. deliberately small to test buffer growth
+        buffer.putDoubleArray(doubleTestArrray, doubleTestArrray.length);
+        buffer.putString("Hello World!");
+        final int nBytes = buffer.position();
+        assertTrue(buffer.capacity() >= nBytes);
+        assertThrows(UnsupportedOperationException.class, buffer::elements);
+
+        final Path file = tmpDir.resolve("directBuffer.bin");
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            assertEquals(nBytes, buffer.writeTo(channel));
+        }
+
+        final DirectByteBuffer readBack = new DirectByteBuffer(nBytes);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertEquals(nBytes, readBack.readFrom(channel));
+        }
+        readBack.flip();
+        assertArrayEquals(doubleTestArrray, readBack.getDoubleArray());
+        assertEquals("Hello World!", readBack.getString());
+
+        // slices share the memory with the original buffer
+        final DirectByteBuffer slice = readBack.slice(0, nBytes);
+        assertEquals(nBytes, slice.capacity());
+        assertArrayEquals(doubleTestArrray, slice.getDoubleArray());
+        readBack.putInt(0, 2);
+        slice.reset();
+        assertEquals(2, slice.getDoubleArray().length);
+        assertThrows(IllegalArgumentException.class, () -> readBack.slice(1, nBytes));
+    }
+
     @Test
     void testFastByteBufferAllocators() {
         {
@@ -0,0 +1,86 @@
+package de.gsi.serializer.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import de.gsi.serializer.IoBuffer;
+
+/**
+ * Unit testing for the numeric-array fast-path of the {@link de.gsi.serializer.spi.JsonSerialiser} implementation.
+ *
+ * @author rstein
+ */
+class JsonSerialiserTests {
+    private static final int BUFFER_SIZE = 100; // N.B. deliberately small to test buffer growth
+    private static final int N_SAMPLES = 1000;
+
+    @ParameterizedTest
+    @ValueSource(classes = { FastByteBuffer.class })
+    void testNumericArrayRoundTrip(final Class<? extends IoBuffer> bufferClass) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        final IoBuffer buffer = bufferClass.getConstructor(int.class).newInstance(BUFFER_SIZE);
+        final double[] doubleArray = new double[N_SAMPLES];
+        final float[] floatArray = new float[N_SAMPLES];
+        final long[] longArray = new long[N_SAMPLES];
+        final int[] intArray = new int[N_SAMPLES];
+        final short[] shortArray = new short[N_SAMPLES];
+        final byte[] byteArray = new byte[N_SAMPLES];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            doubleArray[i] = i % 10 == 0 ? i : Math.sin(0.01 * i) * Math.pow(10, i % 40 - 20);
+            floatArray[i] = (float) doubleArray[i];
+            longArray[i] = Long.MAX_VALUE / (i + 1) * (i % 2 == 0 ? 1 : -1);
+            intArray[i] = (int) longArray[i];
+            shortArray[i] = (short) longArray[i];
+            byteArray[i] = (byte) longArray[i];
+        }
+
+        final JsonSerialiser serialiser = new JsonSerialiser(buffer);
+        serialiser.putHeaderInfo();
+        serialiser.put("doubleArray", doubleArray, doubleArray.length);
+        serialiser.put("emptyArray", new double[0], 0);
+        serialiser.put("floatArray", floatArray, floatArray.length);
+        serialiser.put("longArray", longArray, longArray.length);
+        serialiser.put("intArray", intArray, intArray.length);
+        serialiser.put("shortArray", shortArray, shortArray.length);
+        serialiser.put("byteArray", byteArray, byteArray.length);
+        serialiser.put("partialArray", doubleArray, 3);
+        serialiser.put("string", "some text with [brackets], {braces} and: colons");
+        serialiser.put("lastArray", doubleArray, 1);
+        serialiser.putEndMarker(null);
+
+        final String json = new String(buffer.elements(), 0, buffer.position(), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"doubleArray\": [0.0, "), json);
+        assertTrue(json.contains("\"emptyArray\": [],"));
+
+        buffer.flip();
+        assertNotNull(serialiser.checkHeaderInfo());
+        serialiser.setQueryFieldName("doubleArray", -1);
+        final double[] doubleDst = new double[N_SAMPLES];
+        assertSame(doubleDst, serialiser.getDoubleArray(doubleDst, N_SAMPLES), "in-place deserialisation");
+        assertArrayEquals(doubleArray, doubleDst);
+        serialiser.setQueryFieldName("emptyArray", -1);
+        assertEquals(0, serialiser.getDoubleArray(null, 0).length);
+        serialiser.setQueryFieldName("floatArray", -1);
+        assertArrayEquals(floatArray, serialiser.getFloatArray(null, 0));
+        serialiser.setQueryFieldName("longArray", -1);
+        assertArrayEquals(longArray, serialiser.getLongArray(null, 0));
+        serialiser.setQueryFieldName("intArray", -1);
+        assertArrayEquals(intArray, serialiser.getIntArray(null, 0));
+        serialiser.setQueryFieldName("shortArray", -1);
+        assertArrayEquals(shortArray, serialiser.getShortArray(null, 0));
+        serialiser.setQueryFieldName("byteArray", -1);
+        assertArrayEquals(byteArray, serialiser.getByteArray(null, 0));
+        serialiser.setQueryFieldName("partialArray", -1);
+        assertArrayEquals(new double[] { doubleArray[0], doubleArray[1], doubleArray[2] }, serialiser.getDoubleArray(null, 0));
+        serialiser.setQueryFieldName("lastArray", -1);
+        assertArrayEquals(new double[] { doubleArray[0] }, serialiser.getDoubleArray(null, 0));
+    }
+}
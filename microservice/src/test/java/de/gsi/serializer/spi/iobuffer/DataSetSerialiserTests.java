@@ -23,12 +23,14 @@ import de.gsi.dataset.spi.DefaultErrorDataSet;
 import de.gsi.dataset.spi.DoubleDataSet;
 import de.gsi.dataset.spi.DoubleErrorDataSet;
 import de.gsi.dataset.spi.DoubleGridDataSet;
+import de.gsi.dataset.spi.RingBufferDataSet;
 import de.gsi.dataset.testdata.spi.TriangleFunction;
 import de.gsi.serializer.DataType;
 import de.gsi.serializer.IoBuffer;
 import de.gsi.serializer.IoClassSerialiser;
 import de.gsi.serializer.spi.BinarySerialiser;
 import de.gsi.serializer.spi.ByteBuffer;
+import de.gsi.serializer.spi.DirectByteBuffer;
 import de.gsi.serializer.spi.FastByteBuffer;
 
 /**
@@ -41,7 +43,7 @@ class DataSetSerialiserTests {
     private static final double DELTA = 1e-3;
 
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testDataSet(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -85,11 +87,13 @@ class DataSetSerialiserTests {
                 Arguments.arguments(ByteBuffer.class, true),
                 Arguments.arguments(ByteBuffer.class, false),
                 Arguments.arguments(FastByteBuffer.class, true),
-                Arguments.arguments(FastByteBuffer.class, false));
+                Arguments.arguments(FastByteBuffer.class, false),
+                Arguments.arguments(DirectByteBuffer.class, true),
+                Arguments.arguments(DirectByteBuffer.class, false));
     }
 
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testDataSetErrorSymmetric(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -120,7 +124,7 @@ class DataSetSerialiserTests {
 
     @DisplayName("test getDoubleArray([boolean[], byte[], ..., String[]) helper method")
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testGetDoubleArrayHelper(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -159,7 +163,7 @@ class DataSetSerialiserTests {
     }
 
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testDataSetFloatError(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -180,7 +184,7 @@ class DataSetSerialiserTests {
     }
 
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testDataSetFloatErrorSymmetric(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -211,7 +215,7 @@ class DataSetSerialiserTests {
     }
 
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testErrorDataSet(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -231,7 +235,7 @@ class DataSetSerialiserTests {
     }
 
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testGenericSerialiserIdentity(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -281,7 +285,7 @@ class DataSetSerialiserTests {
     }
 
     @ParameterizedTest(name = "IoBuffer class - {0}")
-    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class })
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
     void testGenericSerialiserInplaceIdentity(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
         assertNotNull(bufferClass, "bufferClass being not null");
         assertNotNull(bufferClass.getConstructor(int.class), "Constructor(Integer) present");
@@ -343,6 +347,156 @@ class DataSetSerialiserTests {
         assertEquals(dsOrig.source, test);
     }
 
+    @ParameterizedTest(name = "IoBuffer class - {0}, asFloat - {1}")
+    @MethodSource("buffersAndFloatParameters")
+    void testDeltaUpdate(final Class<? extends IoBuffer> bufferClass, final boolean asFloat32) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
+        final IoBuffer buffer = bufferClass.getConstructor(int.class).newInstance(4 * BUFFER_SIZE);
+        final DataSetSerialiser ioSerialiser = DataSetSerialiser.withIoSerialiser(new BinarySerialiser(buffer));
+        final DoubleErrorDataSet source = new DoubleErrorDataSet("test", 2000);
+        for (int i = 0; i < 1000; i++) {
+            source.add(i, Math.sin(0.01 * i), 0.1, 0.2);
+        }
+        source.addDataLabel(5, "label5");
+        source.addDataLabel(500, "label500");
+        source.addDataStyle(999, "style999");
+        addMetaData(source, false);
+
+        ioSerialiser.write(source, asFloat32);
+        final int fullSize = buffer.position();
+        buffer.reset();
+        final DataSet receiver = ioSerialiser.read();
+        assertEquals(source.getDataCount(), receiver.getDataCount());
+        long firstSequence = 0; // sequence of the first sample in 'source'
+        long ackSequence = firstSequence + receiver.getDataCount();
+
+        // rolling update: drop the oldest samples, modify the last one and append a few new samples
+        final int nRemoved = 10;
+        source.remove(0, nRemoved);
+        firstSequence += nRemoved;
+        final int modifiedIndex = source.getDataCount() - 1;
+        source.set(modifiedIndex, modifiedIndex + nRemoved, -1.0, 0.3, 0.4);
+        for (int i = 1000; i < 1050; i++) {
+            source.add(i, Math.sin(0.01 * i), 0.1, 0.2);
+        }
+        // N.B. DoubleErrorDataSet#remove does not shift labels and styles -> re-assign to the new indices
+        source.getDataLabelMap().clear();
+        source.getDataStyleMap().clear();
+        source.addDataLabel(490, "label500");
+        source.addDataStyle(modifiedIndex, "modified");
+        source.addDataLabel(1030, "appended");
+        source.addDataStyle(1035, "appendedStyle");
+        source.getAxisDescription(DataSet.DIM_X).set(10, 1049);
+
+        buffer.reset();
+        ioSerialiser.writeDelta(source, firstSequence, ackSequence, firstSequence + modifiedIndex, asFloat32);
+        assertTrue(buffer.position() < fullSize / 4, "delta size " + buffer.position() + " vs. full size " + fullSize);
+        buffer.reset();
+        assertSame(receiver, ioSerialiser.read(receiver));
+        ackSequence = firstSequence + receiver.getDataCount();
+
+        assertEquals(source.getDataCount(), receiver.getDataCount());
+        for (int i = 0; i < source.getDataCount(); i++) {
+            assertEquals(source.get(DataSet.DIM_X, i), receiver.get(DataSet.DIM_X, i), asFloat32 ? DELTA : 0.0, "x[" + i + "]");
+            assertEquals(source.get(DataSet.DIM_Y, i), receiver.get(DataSet.DIM_Y, i), asFloat32 ? DELTA : 0.0, "y[" + i + "]");
+            assertEquals(source.getErrorNegative(DataSet.DIM_Y, i), ((DataSetError) receiver).getErrorNegative(DataSet.DIM_Y, i), asFloat32 ? DELTA : 0.0, "eyn[" + i + "]");
+            assertEquals(source.getErrorPositive(DataSet.DIM_Y, i), ((DataSetError) receiver).getErrorPositive(DataSet.DIM_Y, i), asFloat32 ? DELTA : 0.0, "eyp[" + i + "]");
+            assertEquals(source.getDataLabel(i), receiver.getDataLabel(i), "label[" + i + "]");
+            assertEquals(source.getStyle(i), receiver.getStyle(i), "style[" + i + "]");
+        }
+        assertEquals("label500", receiver.getDataLabel(490), "retained label shifted to its new index");
+        assertEquals("modified", receiver.getStyle(modifiedIndex), "style of the re-transmitted sample");
+        assertEquals("appended", receiver.getDataLabel(1030), "label of an appended sample");
+        assertEquals("appendedStyle", receiver.getStyle(1035), "style of an appended sample");
+        assertEquals(10, receiver.getAxisDescription(DataSet.DIM_X).getMin());
+        assertEquals(1049, receiver.getAxisDescription(DataSet.DIM_X).getMax());
+
+        // sliding window of constant size: samples are shifted in place in the receiver's arrays
+        final double[] receiverX = receiver.getValues(DataSet.DIM_X);
+        final double[] receiverErrors = ((DataSetError) receiver).getErrorsPositive(DataSet.DIM_Y);
+        assertEquals(source.getDataCount(), receiverX.length);
+        source.remove(0, nRemoved);
+        firstSequence += nRemoved;
+        for (int i = 1050; i < 1060; i++) {
+            source.add(i, Math.sin(0.01 * i), 0.1, 0.2);
+        }
+        buffer.reset();
+        ioSerialiser.writeDelta(source, firstSequence, ackSequence, asFloat32);
+        buffer.reset();
+        assertSame(receiver, ioSerialiser.read(receiver));
+        assertSame(receiverX, receiver.getValues(DataSet.DIM_X), "x-values updated in place");
+        assertSame(receiverErrors, ((DataSetError) receiver).getErrorsPositive(DataSet.DIM_Y), "errors updated in place");
+        assertEquals(source.getDataCount(), receiver.getDataCount());
+        for (int i = 0; i < source.getDataCount(); i++) {
+            assertEquals(source.get(DataSet.DIM_X, i), receiver.get(DataSet.DIM_X, i), asFloat32 ? DELTA : 0.0, "x[" + i + "]");
+            assertEquals(source.get(DataSet.DIM_Y, i), receiver.get(DataSet.DIM_Y, i), asFloat32 ? DELTA : 0.0, "y[" + i + "]");
+            assertEquals(source.getErrorPositive(DataSet.DIM_Y, i), ((DataSetError) receiver).getErrorPositive(DataSet.DIM_Y, i), asFloat32 ? DELTA : 0.0, "eyp[" + i + "]");
+        }
+        assertEquals("label500", receiver.getDataLabel(480), "retained label shifted to its new index");
+        assertEquals("appended", receiver.getDataLabel(1020), "retained label shifted to its new index");
+
+        // unknown or no longer retained acknowledged state -> full update that needs no previous state
+        buffer.reset();
+        ioSerialiser.writeDelta(source, firstSequence, -1, asFloat32);
+        buffer.reset();
+        final DataSet fullUpdate = ioSerialiser.read();
+        assertEquals(source.getDataCount(), fullUpdate.getDataCount());
+        assertEquals(source.getDataLabel(1020), fullUpdate.getDataLabel(1020));
+
+        // delta updates cannot be applied without (or to a non-matching) previous state
+        buffer.reset();
+        ioSerialiser.writeDelta(source, firstSequence, firstSequence + source.getDataCount() - 1, asFloat32);
+        buffer.reset();
+        assertThrows(IllegalStateException.class, ioSerialiser::read);
+        buffer.reset();
+        assertThrows(IllegalStateException.class, () -> ioSerialiser.read(new DoubleErrorDataSet("empty")));
+
+        final long lastFirstSequence = firstSequence;
+        assertThrows(IllegalArgumentException.class, () -> ioSerialiser.writeDelta(source, lastFirstSequence, lastFirstSequence + source.getDataCount() + 1, asFloat32));
+        assertThrows(IllegalArgumentException.class, () -> ioSerialiser.writeDelta(source, 0, 10, 11, asFloat32));
+        assertThrows(IllegalArgumentException.class, () -> ioSerialiser.writeDelta(new DoubleGridDataSet("grid", false, new double[][] { { 1.0, 2.0 } }, new double[] { 3.0, 4.0 }), 0, 0, asFloat32));
+    }
+
+    @ParameterizedTest(name = "IoBuffer class - {0}")
+    @ValueSource(classes = { ByteBuffer.class, FastByteBuffer.class, DirectByteBuffer.class })
+    void testDeltaUpdateRingBuffer(final Class<? extends IoBuffer> bufferClass) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
+        final IoBuffer buffer = bufferClass.getConstructor(int.class).newInstance(BUFFER_SIZE);
+        final DataSetSerialiser ioSerialiser = DataSetSerialiser.withIoSerialiser(new BinarySerialiser(buffer));
+        final RingBufferDataSet source = new RingBufferDataSet("ring", 100);
+        for (int i = 0; i < 150; i++) {
+            source.add(i, -i);
+        }
+
+        // initial (full) update: acknowledged state unknown
+        final long ackSequence = source.lock().readLockGuard(() -> {
+            ioSerialiser.writeDelta(source, source.getSnapshotSequence(), -1, false);
+            return source.getSnapshotSequence() + source.getDataCount();
+        });
+        assertEquals(150, ackSequence);
+        buffer.reset();
+        final DataSet receiver = ioSerialiser.read();
+        assertEquals(100, receiver.getDataCount());
+        assertEquals(50, receiver.get(DataSet.DIM_X, 0));
+
+        // N.B. the ring wraps around: raw storage indices differ from the data set indices
+        for (int i = 150; i < 180; i++) {
+            source.add(i, -i);
+        }
+        buffer.reset();
+        source.lock().readLockGuard(() -> ioSerialiser.writeDelta(source, source.getSnapshotSequence(), ackSequence, false));
+        final int deltaSize = buffer.position();
+        buffer.reset();
+        assertSame(receiver, ioSerialiser.read(receiver));
+        assertEquals(100, receiver.getDataCount());
+        for (int i = 0; i < receiver.getDataCount(); i++) {
+            assertEquals(80 + i, receiver.get(DataSet.DIM_X, i), "x[" + i + "]");
+            assertEquals(-80 - i, receiver.get(DataSet.DIM_Y, i), "y[" + i + "]");
+        }
+
+        buffer.reset();
+        source.lock().readLockGuard(() -> ioSerialiser.write(source, false));
+        assertTrue(deltaSize < buffer.position(), "delta size " + deltaSize + " vs. full size " + buffer.position());
+    }
+
     @Test
     void testMiscellaneous() {
         assertEquals(0, DataSetSerialiser.getDimIndex("axis0", "axis"));
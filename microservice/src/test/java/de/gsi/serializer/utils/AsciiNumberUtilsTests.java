@@ -0,0 +1,133 @@
+package de.gsi.serializer.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit testing for {@link de.gsi.serializer.utils.AsciiNumberUtils} implementation.
+ *
+ * @author rstein
+ */
+class AsciiNumberUtilsTests {
+    private static final int N_SAMPLES = 100_000;
+
+    @ParameterizedTest
+    @ValueSource(doubles = { 0.0, -0.0, 1.0, -1.0, 0.1, 0.3, 1e-3, 9.999e-4, 1e7, 9999999.0, 123.456, 1e22, 1e23, 2.5e-5, Math.PI, Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE, 2.2250738585072014E-308, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY })
+    void testDoubleEdgeCases(final double value) {
+        final byte[] bytes = new byte[AsciiNumberUtils.MAX_DOUBLE_LENGTH];
+        final int length = AsciiNumberUtils.putDouble(bytes, 0, value);
+        final String string = new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+        assertEquals(value, AsciiNumberUtils.parseDouble(bytes, 0, length), string);
+        assertEquals(value, Double.parseDouble(string), string);
+        // N.B. Double.toString(..) is guaranteed to be the shortest representation only since JDK 19
+        assertTrue(string.length() <= Double.toString(value).length(), string);
+    }
+
+    @Test
+    void testDoubleFormat() {
+        final byte[] bytes = new byte[AsciiNumberUtils.MAX_DOUBLE_LENGTH];
+        assertEquals("0.0", new String(bytes, 0, AsciiNumberUtils.putDouble(bytes, 0, 0.0), StandardCharsets.ISO_8859_1));
+        assertEquals("-0.0", new String(bytes, 0, AsciiNumberUtils.putDouble(bytes, 0, -0.0), StandardCharsets.ISO_8859_1));
+        assertEquals("1.0", new String(bytes, 0, AsciiNumberUtils.putDouble(bytes, 0, 1.0), StandardCharsets.ISO_8859_1));
+        assertEquals("0.001", new String(bytes, 0, AsciiNumberUtils.putDouble(bytes, 0, 1e-3), StandardCharsets.ISO_8859_1));
+        assertEquals("9.999E-4", new String(bytes, 0, AsciiNumberUtils.putDouble(bytes, 0, 9.999e-4), StandardCharsets.ISO_8859_1));
+        assertEquals("9999999.0", new String(bytes, 0, AsciiNumberUtils.putDouble(bytes, 0, 9999999.0), StandardCharsets.ISO_8859_1));
+        assertEquals("1.0E7", new String(bytes, 0, AsciiNumberUtils.putDouble(bytes, 0, 1e7), StandardCharsets.ISO_8859_1));
+        assertEquals("1.0E23", new String(bytes, 0, AsciiNumberUtils.putDouble(bytes, 0, 1e23), StandardCharsets.ISO_8859_1));
+        assertEquals("-123.456", new String(bytes, 0, AsciiNumberUtils.putDouble(bytes, 0, -123.456), StandardCharsets.ISO_8859_1));
+        assertEquals("4.9E-324", new String(bytes, 0, AsciiNumberUtils.putDouble(bytes, 0, Double.MIN_VALUE), StandardCharsets.ISO_8859_1));
+        assertEquals("1.7976931348623157E308", new String(bytes, 0, AsciiNumberUtils.putDouble(bytes, 0, Double.MAX_VALUE), StandardCharsets.ISO_8859_1));
+        assertEquals("NaN", new String(bytes, 0, AsciiNumberUtils.putDouble(bytes, 0, Double.NaN), StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void testDoubleRoundTrip() {
+        final Random random = new Random(42);
+        final byte[] bytes = new byte[AsciiNumberUtils.MAX_DOUBLE_LENGTH + 3];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            final double value = i % 2 == 0 ? Double.longBitsToDouble(random.nextLong()) : random.nextGaussian() * Math.pow(10, random.nextInt(40) - 20);
+            if (!Double.isFinite(value)) {
+                continue;
+            }
+            final int length = AsciiNumberUtils.putDouble(bytes, 3, value);
+            final String string = new String(bytes, 3, length - 3, StandardCharsets.ISO_8859_1);
+            assertEquals(value, AsciiNumberUtils.parseDouble(bytes, 3, length), string);
+            assertEquals(value, Double.parseDouble(string), string);
+            assertTrue(string.length() <= Double.toString(value).length(), string);
+        }
+    }
+
+    @Test
+    void testDoubleParsing() {
+        final Random random = new Random(42);
+        for (int i = 0; i < N_SAMPLES; i++) {
+            final StringBuilder builder = new StringBuilder();
+            if (random.nextBoolean()) {
+                builder.append('-');
+            }
+            final int nDigits = 1 + random.nextInt(22);
+            for (int digit = 0; digit < nDigits; digit++) {
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            if (random.nextBoolean()) {
+                builder.insert(builder.length() - random.nextInt(nDigits), '.');
+            }
+            if (random.nextBoolean()) {
+                builder.append('E').append(random.nextInt(700) - 350);
+            }
+            final String string = builder.toString();
+            final byte[] bytes = string.getBytes(StandardCharsets.ISO_8859_1);
+            assertEquals(Double.parseDouble(string), AsciiNumberUtils.parseDouble(bytes, 0, bytes.length), string);
+        }
+
+        for (final String string : new String[] { "NaN", "Infinity", "-Infinity", "1e400", "-1e-400", ".5", "5.", "+1.5e+3" }) {
+            final byte[] bytes = string.getBytes(StandardCharsets.ISO_8859_1);
+            assertEquals(Double.parseDouble(string), AsciiNumberUtils.parseDouble(bytes, 0, bytes.length), string);
+        }
+        for (final String string : new String[] { "", "-", "1e", "abc", "1.2.3" }) {
+            final byte[] bytes = string.getBytes(StandardCharsets.ISO_8859_1);
+            assertThrows(NumberFormatException.class, () -> AsciiNumberUtils.parseDouble(bytes, 0, bytes.length), string);
+        }
+    }
+
+    @Test
+    void testFloatRoundTrip() {
+        final Random random = new Random(42);
+        final byte[] bytes = new byte[AsciiNumberUtils.MAX_FLOAT_LENGTH];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            final float value = i % 2 == 0 ? Float.intBitsToFloat(random.nextInt()) : (float) (random.nextGaussian() * Math.pow(10, random.nextInt(10) - 3));
+            if (!Float.isFinite(value)) {
+                continue;
+            }
+            final int length = AsciiNumberUtils.putFloat(bytes, 0, value);
+            assertEquals(Float.toString(value), new String(bytes, 0, length, StandardCharsets.ISO_8859_1));
+            assertEquals(value, AsciiNumberUtils.parseFloat(bytes, 0, length));
+        }
+    }
+
+    @Test
+    void testLongRoundTrip() {
+        final Random random = new Random(42);
+        final byte[] bytes = new byte[AsciiNumberUtils.MAX_LONG_LENGTH];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            final long value = random.nextLong() >> random.nextInt(64);
+            final int length = AsciiNumberUtils.putLong(bytes, 0, value);
+            assertEquals(Long.toString(value), new String(bytes, 0, length, StandardCharsets.ISO_8859_1));
+            assertEquals(value, AsciiNumberUtils.parseLong(bytes, 0, length));
+        }
+        for (final long value : new long[] { 0, Long.MIN_VALUE, Long.MAX_VALUE }) {
+            final int length = AsciiNumberUtils.putLong(bytes, 0, value);
+            assertEquals(value, AsciiNumberUtils.parseLong(bytes, 0, length));
+        }
+        final byte[] illegal = "12a".getBytes(StandardCharsets.ISO_8859_1);
+        assertThrows(NumberFormatException.class, () -> AsciiNumberUtils.parseLong(illegal, 0, illegal.length));
+    }
+}